@@ -0,0 +1,104 @@
+package org.openmaptiles.benchmarks;
+
+import com.onthegomap.planetiler.FeatureCollector;
+import com.onthegomap.planetiler.config.PlanetilerConfig;
+import com.onthegomap.planetiler.geo.GeoUtils;
+import com.onthegomap.planetiler.reader.SimpleFeature;
+import com.onthegomap.planetiler.reader.SourceFeature;
+import com.onthegomap.planetiler.stats.Stats;
+import com.onthegomap.planetiler.util.Translations;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.locationtech.jts.geom.Coordinate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openmaptiles.OpenMapTilesProfile;
+
+/**
+ * Measures throughput of the lake centerline source stage, where {@link org.openmaptiles.layers.WaterName} collects the
+ * centerlines of every lake from all worker threads into one shared map.
+ * <p>
+ * Each invocation processes {@value #SAMPLE_SIZE} centerlines into a fresh profile using {@code threads} threads.
+ * About 1 in 10 centerlines belongs to a lake that has more than one, so those merge with an existing one. Scores are
+ * per centerline feature:
+ *
+ * <pre>{@code
+ * java -jar benchmarks/target/benchmarks.jar LakeCenterlineBenchmark -p threads=64
+ * }</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class LakeCenterlineBenchmark {
+
+  static final int SAMPLE_SIZE = 100_000;
+
+  @Param({"1", "8", "32"})
+  public int threads;
+
+  private final PlanetilerConfig config = PlanetilerConfig.defaults();
+  private final Stats stats = Stats.inMemory();
+  private final FeatureCollector.Factory featureCollectors = new FeatureCollector.Factory(config, stats);
+  private ForkJoinPool pool;
+  private List<SourceFeature> centerlines;
+  private OpenMapTilesProfile profile;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    pool = new ForkJoinPool(threads);
+    Random random = new Random(0);
+    centerlines = new ArrayList<>();
+    for (int i = 0; i < SAMPLE_SIZE; i++) {
+      double lon = random.nextDouble(-180, 180), lat = random.nextDouble(-80, 80);
+      long osmId = random.nextInt(10) == 0 ? 1 + random.nextInt(SAMPLE_SIZE / 100) : SAMPLE_SIZE + i;
+      centerlines.add(SimpleFeature.create(
+        GeoUtils.JTS_FACTORY.createLineString(new Coordinate[]{
+          new Coordinate(lon, lat), new Coordinate(lon + 0.01, lat + 0.01), new Coordinate(lon + 0.02, lat)
+        }),
+        Map.of("OSM_ID", -osmId),
+        OpenMapTilesProfile.LAKE_CENTERLINE_SOURCE,
+        null,
+        i
+      ));
+    }
+  }
+
+  /** Each invocation starts from an empty profile, otherwise lakes with several centerlines would keep growing. */
+  @Setup(Level.Invocation)
+  public void newProfile() {
+    profile = new OpenMapTilesProfile(Translations.nullProvider(List.of()), config, stats);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    pool.shutdown();
+  }
+
+  /** Cost of processing one lake centerline feature through the profile, with all threads sharing the profile. */
+  @Benchmark
+  @OperationsPerInvocation(SAMPLE_SIZE)
+  public void processLakeCenterlines() {
+    pool.submit(() -> centerlines.parallelStream()
+      .forEach(centerline -> profile.processFeature(centerline, featureCollectors.get(centerline)))
+    ).join();
+  }
+}
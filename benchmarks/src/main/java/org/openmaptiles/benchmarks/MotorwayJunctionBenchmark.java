@@ -0,0 +1,90 @@
+package org.openmaptiles.benchmarks;
+
+import com.onthegomap.planetiler.config.PlanetilerConfig;
+import com.onthegomap.planetiler.reader.osm.OsmElement;
+import com.onthegomap.planetiler.stats.Stats;
+import com.onthegomap.planetiler.util.Translations;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openmaptiles.OpenMapTilesProfile;
+
+/**
+ * Measures way throughput of the first pass {@code preprocessOsmWay} handlers, dominated by
+ * {@link org.openmaptiles.layers.TransportationName} checking every node of every highway for motorway junctions, with
+ * all threads sharing one profile like the OSM reader does.
+ * <p>
+ * Ways have {@value #NODES_PER_WAY} random node IDs, and {@code junctionsPerMillion} of the node IDs are motorway
+ * junctions. Scores are per way. Change the thread count with {@code -t}:
+ *
+ * <pre>{@code
+ * java -jar benchmarks/target/benchmarks.jar MotorwayJunctionBenchmark -t 64
+ * }</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(32)
+public class MotorwayJunctionBenchmark {
+
+  static final int SAMPLE_SIZE = 10_000;
+  static final int NODES_PER_WAY = 20;
+  private static final long NODE_ID_RANGE = 100_000_000;
+  private static final String[] HIGHWAYS = {"motorway", "trunk", "primary", "secondary", "residential", "service"};
+
+  /** How many node IDs out of every million are motorway junctions, ~300k in a ~10 billion node planet is 30. */
+  @Param({"30", "10000"})
+  public int junctionsPerMillion;
+
+  private OpenMapTilesProfile profile;
+  private List<OsmElement.Way> ways;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    profile = new OpenMapTilesProfile(Translations.nullProvider(List.of()), PlanetilerConfig.defaults(),
+      Stats.inMemory());
+    Random random = new Random(0);
+    long junctions = NODE_ID_RANGE * junctionsPerMillion / 1_000_000;
+    for (long i = 0; i < junctions; i++) {
+      var node = new OsmElement.Node(i * (NODE_ID_RANGE / junctions), 0, 0);
+      node.setTag("highway", "motorway_junction");
+      profile.preprocessOsmNode(node);
+    }
+    ways = new ArrayList<>();
+    for (int i = 0; i < SAMPLE_SIZE; i++) {
+      var way = new OsmElement.Way(i);
+      way.setTag("highway", HIGHWAYS[random.nextInt(HIGHWAYS.length)]);
+      for (int j = 0; j < NODES_PER_WAY; j++) {
+        way.nodes().add(random.nextLong(NODE_ID_RANGE));
+      }
+      ways.add(way);
+    }
+  }
+
+  /** Cost of every layer's {@code preprocessOsmWay} handler. */
+  @Benchmark
+  @OperationsPerInvocation(SAMPLE_SIZE)
+  public void preprocessOsmWay() {
+    for (OsmElement.Way way : ways) {
+      profile.preprocessOsmWay(way);
+    }
+  }
+}
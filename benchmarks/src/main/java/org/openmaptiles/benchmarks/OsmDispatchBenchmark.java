@@ -0,0 +1,145 @@
+package org.openmaptiles.benchmarks;
+
+import com.onthegomap.planetiler.FeatureCollector;
+import com.onthegomap.planetiler.config.Arguments;
+import com.onthegomap.planetiler.config.PlanetilerConfig;
+import com.onthegomap.planetiler.reader.SourceFeature;
+import com.onthegomap.planetiler.reader.osm.OsmElement;
+import com.onthegomap.planetiler.stats.Stats;
+import com.onthegomap.planetiler.util.Translations;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openmaptiles.OpenMapTilesProfile;
+import org.openmaptiles.TableMatcher;
+import org.openmaptiles.generated.Tables;
+
+/**
+ * Measures the per-element cost of the OSM source handler that {@link OpenMapTilesProfile} registers: finding the
+ * imposm3 tables an element belongs to, constructing the table rows, and running them through every layer.
+ * <p>
+ * Each invocation processes {@value #SAMPLE_SIZE} elements so scores are per OSM element. Run with
+ * {@code -prof gc} to get allocation rates:
+ *
+ * <pre>{@code
+ * java -jar benchmarks/target/benchmarks.jar OsmDispatchBenchmark -prof gc -p pbf=data/sources/monaco.osm.pbf
+ * }</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class OsmDispatchBenchmark {
+
+  static final int SAMPLE_SIZE = 10_000;
+
+  /** Path to an OSM extract to sample element tags from, or empty to use a built-in distribution. */
+  @Param("")
+  public String pbf;
+
+  /** Whether the profile matches tables with the generated decision tree or by evaluating mapping expressions. */
+  @Param({"true", "false"})
+  public boolean compiledMappings;
+
+  private OpenMapTilesProfile profile;
+  private FeatureCollector.Factory featureCollectors;
+  private List<SourceFeature> elements;
+  private List<OsmElement> osmElements;
+  private TableMatcher.Matches<OpenMapTilesProfile.RowDispatch> matches;
+  private final Tables.RowPool rows = new Tables.RowPool();
+
+  @Setup(Level.Trial)
+  public void setup() {
+    var config = PlanetilerConfig.from(Arguments.of("osm_compiled_mappings", Boolean.toString(compiledMappings)));
+    var stats = Stats.inMemory();
+    profile = new OpenMapTilesProfile(Translations.nullProvider(List.of()), config, stats);
+    featureCollectors = new FeatureCollector.Factory(config, stats);
+    elements = OsmSample.load(pbf, SAMPLE_SIZE, 0);
+    matches = profile.newTableMatches();
+    osmElements = new ArrayList<>();
+    for (SourceFeature element : elements) {
+      OsmElement osmElement = element.isPoint() ? new OsmElement.Node(element.id(), 0, 0) :
+        element.canBeLine() ? new OsmElement.Way(element.id()) : new OsmElement.Relation(element.id());
+      element.tags().forEach(osmElement::setTag);
+      osmElements.add(osmElement);
+    }
+  }
+
+  /** Cost of {@code getMatchesWithTriggers} on the generic OSM mapping index. */
+  @Benchmark
+  @OperationsPerInvocation(SAMPLE_SIZE)
+  public void getTableMatches(Blackhole bh) {
+    for (SourceFeature element : elements) {
+      bh.consume(profile.getTableMatches(element));
+    }
+  }
+
+  /** Cost of matching plus {@link Tables.Constructor#create} for every matching table. */
+  @Benchmark
+  @OperationsPerInvocation(SAMPLE_SIZE)
+  public void createRows(Blackhole bh) {
+    for (SourceFeature element : elements) {
+      for (var match : profile.getTableMatches(element)) {
+        bh.consume(match.match().constructor().create(element, match.keys().getFirst()));
+      }
+    }
+  }
+
+  /** Cost of the allocation-free table matcher that the OSM source handler uses, compiled or generic. */
+  @Benchmark
+  @OperationsPerInvocation(SAMPLE_SIZE)
+  public void getTableMatchesReused(Blackhole bh) {
+    for (SourceFeature element : elements) {
+      profile.getTableMatches(element, matches);
+      bh.consume(matches.size());
+    }
+  }
+
+  /** Cost of matching plus reusing a row from a {@link Tables.RowPool} for every matching table. */
+  @Benchmark
+  @OperationsPerInvocation(SAMPLE_SIZE)
+  public void reuseRows(Blackhole bh) {
+    for (SourceFeature element : elements) {
+      profile.getTableMatches(element, matches);
+      for (int i = 0; i < matches.size(); i++) {
+        bh.consume(matches.value(i).reuse().reuse(rows, element, matches.key(i)));
+      }
+    }
+  }
+
+  /** Cost of deciding which elements to fetch wikidata translations for in the first pass over the OSM input. */
+  @Benchmark
+  @OperationsPerInvocation(SAMPLE_SIZE)
+  public void caresAboutWikidataTranslation(Blackhole bh) {
+    for (OsmElement element : osmElements) {
+      bh.consume(profile.caresAboutWikidataTranslation(element));
+    }
+  }
+
+  /** Cost of the whole OSM source handler loop, including every layer's row handlers. */
+  @Benchmark
+  @OperationsPerInvocation(SAMPLE_SIZE)
+  public void processFeature(Blackhole bh) {
+    for (SourceFeature element : elements) {
+      var features = featureCollectors.get(element);
+      profile.processFeature(element, features);
+      bh.consume(features);
+    }
+  }
+}
@@ -0,0 +1,178 @@
+package org.openmaptiles.benchmarks;
+
+import com.onthegomap.planetiler.geo.GeoUtils;
+import com.onthegomap.planetiler.reader.SimpleFeature;
+import com.onthegomap.planetiler.reader.SourceFeature;
+import com.onthegomap.planetiler.reader.osm.OsmElement;
+import com.onthegomap.planetiler.reader.osm.OsmInputFile;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Consumer;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.openmaptiles.OpenMapTilesProfile;
+
+/**
+ * Builds a reproducible list of OSM source features to drive the profile with in benchmarks.
+ * <p>
+ * When {@code pbf} points to an OSM extract, the tags of elements are sampled from it using reservoir sampling so the
+ * tag distribution matches the input. Otherwise a small built-in distribution that approximates the share of the most
+ * common element types on the planet is used.
+ * <p>
+ * Geometries are synthetic (ways are not resolved against node locations) since benchmarks only need to exercise tag
+ * matching and the row handlers, but closed ways still produce features that can be lines or polygons like they would
+ * from a real OSM file.
+ */
+public class OsmSample {
+
+  private static final double[] RING = {0, 0, 1, 0, 1, 1, 0, 1, 0, 0};
+
+  /** Approximate planet-wide distribution of tagged elements: weight followed by key/value pairs. */
+  private static final Object[][] BUILTIN = {
+    {300, "way", "building", "yes"},
+    {40, "way", "building", "house", "addr:housenumber", "12", "addr:street", "Main Street"},
+    {180, "open", "highway", "residential", "name", "Main Street"},
+    {90, "open", "highway", "service"},
+    {60, "open", "highway", "track", "tracktype", "grade2"},
+    {50, "open", "highway", "footway", "surface", "paved"},
+    {25, "open", "highway", "unclassified"},
+    {20, "open", "highway", "tertiary", "name", "High Street", "ref", "B 12", "surface", "asphalt"},
+    {10, "open", "highway", "secondary", "ref", "A 10", "maxspeed", "50", "oneway", "yes"},
+    {5, "open", "highway", "primary", "ref", "A 1", "lanes", "2", "bridge", "yes", "layer", "1"},
+    {3, "open", "highway", "motorway", "ref", "M 1", "oneway", "yes", "lanes", "3"},
+    {10, "open", "waterway", "stream"},
+    {2, "open", "waterway", "river", "name", "River", "name:en", "River"},
+    {8, "open", "railway", "rail", "usage", "main", "service", "siding"},
+    {40, "way", "natural", "wood"},
+    {30, "way", "landuse", "residential"},
+    {20, "way", "landuse", "farmland"},
+    {15, "way", "natural", "water", "water", "pond"},
+    {10, "way", "leisure", "park", "name", "Park"},
+    {10, "way", "amenity", "parking"},
+    {60, "node", "addr:housenumber", "3", "addr:street", "Main Street"},
+    {15, "node", "amenity", "bench"},
+    {10, "node", "highway", "bus_stop", "name", "Main Street", "public_transport", "platform"},
+    {8, "node", "amenity", "restaurant", "name", "Restaurant", "cuisine", "italian"},
+    {8, "node", "shop", "convenience", "name", "Shop", "brand", "Brand"},
+    {5, "node", "natural", "tree"},
+    {2, "node", "natural", "peak", "name", "Peak", "ele", "1234"},
+    {1, "node", "place", "village", "name", "Village", "population", "1000"},
+    {200, "node", "created_by", "JOSM"},
+    {100, "way", "source", "survey"},
+  };
+
+  private OsmSample() {}
+
+  /** Returns {@code count} features sampled from {@code pbf}, or the built-in distribution when it is empty. */
+  public static List<SourceFeature> load(String pbf, int count, long seed) {
+    Random random = new Random(seed);
+    if (pbf != null && !pbf.isBlank()) {
+      Path path = Path.of(pbf);
+      if (!Files.exists(path)) {
+        throw new IllegalArgumentException("OSM input file not found: " + path.toAbsolutePath());
+      }
+      return sampleFromPbf(path, count, random);
+    }
+    return sampleFromBuiltin(count, random);
+  }
+
+  private static List<SourceFeature> sampleFromPbf(Path path, int count, Random random) {
+    List<SourceFeature> reservoir = new ArrayList<>(count);
+    long[] seen = {0};
+    Consumer<OsmElement> sampler = element -> {
+      if (element.tags().isEmpty()) {
+        return;
+      }
+      long n = seen[0]++;
+      if (n < count) {
+        reservoir.add(toFeature(element, random));
+      } else {
+        long slot = (long) (random.nextDouble() * (n + 1));
+        if (slot < count) {
+          reservoir.set((int) slot, toFeature(element, random));
+        }
+      }
+    };
+    try (var blocks = new OsmInputFile(path).get()) {
+      blocks.forEachBlock(block -> {
+        for (var element : block.decodeElements()) {
+          sampler.accept(element);
+        }
+      });
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return reservoir;
+  }
+
+  private static SourceFeature toFeature(OsmElement element, Random random) {
+    return switch (element) {
+      case OsmElement.Node node -> create("node", node.id(), node.tags(), random);
+      case OsmElement.Way way -> create(
+        way.nodes().size() > 3 && way.nodes().get(0) == way.nodes().get(way.nodes().size() - 1) ? "way" : "open",
+        way.id(), way.tags(), random);
+      case OsmElement.Relation relation -> create("relation", relation.id(), relation.tags(), random);
+      default -> throw new IllegalArgumentException("Unexpected element: " + element);
+    };
+  }
+
+  private static List<SourceFeature> sampleFromBuiltin(int count, Random random) {
+    int totalWeight = 0;
+    for (Object[] entry : BUILTIN) {
+      totalWeight += (int) entry[0];
+    }
+    List<SourceFeature> result = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      int target = random.nextInt(totalWeight);
+      for (Object[] entry : BUILTIN) {
+        target -= (int) entry[0];
+        if (target < 0) {
+          Map<String, Object> tags = new HashMap<>();
+          for (int j = 2; j < entry.length; j += 2) {
+            tags.put((String) entry[j], entry[j + 1]);
+          }
+          result.add(create((String) entry[1], i + 1L, tags, random));
+          break;
+        }
+      }
+    }
+    return result;
+  }
+
+  private static SourceFeature create(String type, long id, Map<String, Object> tags, Random random) {
+    // spread features around a 1km box somewhere on earth so length/area based logic sees realistic values
+    double x = 0.1 + random.nextDouble() * 0.8;
+    double y = 0.3 + random.nextDouble() * 0.4;
+    double size = GeoUtils.metersToPixelAtEquator(0, 100 + random.nextDouble() * 900);
+    Map<String, Object> copy = new HashMap<>(tags);
+    return switch (type) {
+      case "node" -> SimpleFeature.create(GeoUtils.worldToLatLonCoords(GeoUtils.point(x, y)), copy,
+        OpenMapTilesProfile.OSM_SOURCE, null, id);
+      case "open" -> SimpleFeature.createFakeOsmFeature(
+        GeoUtils.worldToLatLonCoords(
+          GeoUtils.JTS_FACTORY.createLineString(GeoUtils.coordinateSequence(x, y, x + size, y + size / 2))),
+        copy, OpenMapTilesProfile.OSM_SOURCE, null, id, List.of());
+      case "relation" -> SimpleFeature.createFakeOsmFeature(
+        GeoUtils.worldToLatLonCoords(GeoUtils.JTS_FACTORY.createPolygon(ring(x, y, size))),
+        copy, OpenMapTilesProfile.OSM_SOURCE, null, id, List.of());
+      default -> SimpleFeature.createFakeOsmFeature(
+        GeoUtils.worldToLatLonCoords(GeoUtils.JTS_FACTORY.createLineString(ring(x, y, size))),
+        copy, OpenMapTilesProfile.OSM_SOURCE, null, id, List.of());
+    };
+  }
+
+  private static CoordinateSequence ring(double x, double y, double size) {
+    double[] coords = new double[RING.length];
+    for (int i = 0; i < RING.length; i += 2) {
+      coords[i] = x + RING[i] * size;
+      coords[i + 1] = y + RING[i + 1] * size;
+    }
+    return GeoUtils.coordinateSequence(coords);
+  }
+}
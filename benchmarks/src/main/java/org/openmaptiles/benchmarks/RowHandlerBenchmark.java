@@ -0,0 +1,122 @@
+package org.openmaptiles.benchmarks;
+
+import com.onthegomap.planetiler.FeatureCollector;
+import com.onthegomap.planetiler.config.PlanetilerConfig;
+import com.onthegomap.planetiler.stats.Stats;
+import com.onthegomap.planetiler.util.Translations;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openmaptiles.OpenMapTilesProfile;
+import org.openmaptiles.generated.OpenMapTilesSchema;
+import org.openmaptiles.generated.Tables;
+import org.openmaptiles.layers.Transportation;
+import org.openmaptiles.layers.TransportationName;
+
+/**
+ * Measures a single layer's {@link Tables.RowHandler} on rows built from the elements of a sample that match one
+ * imposm3 table.
+ * <p>
+ * {@code tableAndHandler} is the row class simple name (i.e. {@code OsmHighwayLinestring}) and the simple name of the
+ * layer class that handles it (i.e. {@code Transportation}) separated by a colon. Scores are per row. Pass other
+ * combinations with {@code -p tableAndHandler=OsmAerowayPolygon:Aeroway}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class RowHandlerBenchmark {
+
+  /** Path to an OSM extract to sample element tags from, or empty to use a built-in distribution. */
+  @Param("")
+  public String pbf;
+
+  @Param({
+    "OsmHighwayLinestring:Transportation",
+    "OsmHighwayLinestring:TransportationName",
+    "OsmBuildingPolygon:Building",
+    "OsmHousenumberPoint:Housenumber",
+    "OsmLandcoverPolygon:Landcover",
+    "OsmLandusePolygon:Landuse",
+    "OsmWaterPolygon:Water",
+    "OsmWaterwayLinestring:Waterway",
+    "OsmPoiPoint:Poi",
+    "OsmPoiPolygon:Poi",
+  })
+  public String tableAndHandler;
+
+  private FeatureCollector.Factory featureCollectors;
+  private Tables.RowHandler<Tables.Row> handler;
+  private final List<Tables.Row> rows = new ArrayList<>();
+  private int next = 0;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    var config = PlanetilerConfig.defaults();
+    var stats = Stats.inMemory();
+    var translations = Translations.nullProvider(List.of());
+    var profile = new OpenMapTilesProfile(translations, config, stats);
+    featureCollectors = new FeatureCollector.Factory(config, stats);
+    String[] parts = tableAndHandler.split(":", 2);
+    String table = parts[0], handlerName = parts[1];
+
+    // build standalone layer instances so handlers can be looked up by the class that implements them
+    var layers = OpenMapTilesSchema.createInstances(translations, config, stats);
+    Transportation transportation = null;
+    for (var layer : layers) {
+      if (layer instanceof Transportation t) {
+        transportation = t;
+      }
+    }
+    for (var layer : layers) {
+      if (layer instanceof TransportationName transportationName) {
+        transportationName.needsTransportationLayer(transportation);
+      }
+    }
+    for (var entry : Tables.generateDispatchMap(layers).entrySet()) {
+      if (entry.getKey().getSimpleName().equals(table)) {
+        for (var candidate : entry.getValue()) {
+          if (candidate.handlerClass().getSimpleName().equals(handlerName)) {
+            @SuppressWarnings("unchecked") var typed = (Tables.RowHandler<Tables.Row>) candidate.handler();
+            handler = typed;
+          }
+        }
+      }
+    }
+
+    for (var element : OsmSample.load(pbf, OsmDispatchBenchmark.SAMPLE_SIZE * 10, 0)) {
+      for (var match : profile.getTableMatches(element)) {
+        var row = match.match().constructor().create(element, match.keys().getFirst());
+        if (row.getClass().getSimpleName().equals(table)) {
+          rows.add(row);
+        }
+      }
+    }
+    if (rows.isEmpty() || handler == null) {
+      throw new IllegalArgumentException("No " + table + " rows handled by " + handlerName + " in sample");
+    }
+  }
+
+  @Benchmark
+  public FeatureCollector process() {
+    Tables.Row row = rows.get(next);
+    next = next + 1 == rows.size() ? 0 : next + 1;
+    var features = featureCollectors.get(row.source());
+    handler.process(row, features);
+    return features;
+  }
+}
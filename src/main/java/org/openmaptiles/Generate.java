@@ -20,6 +20,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -29,6 +30,8 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.commonmark.parser.Parser;
 import org.commonmark.renderer.html.HtmlRenderer;
@@ -176,6 +179,8 @@ public class Generate {
 
     emitLayerSchemaDefinitions(config.tileset, layers, packageName, output, tag);
     emitTableDefinitions(tables, packageName, output, tag);
+    emitCompiledMappings(tables, packageName, output);
+    emitTagDictionary(layers, tables, packageName, output);
     LOGGER.info("Done!");
   }
 
@@ -280,7 +285,7 @@ public class Generate {
 
       List<String> values = valuesNode == null ? List.of() : valuesNode.isArray() ?
         iterToList(valuesNode.elements()).stream().filter(JsonNode::isTextual).map(JsonNode::textValue)
-          .map(t -> t.replaceAll(" .*", "")).toList() :
+          .map(Generate::stripValueAnnotation).toList() :
         iterToList(valuesNode.fieldNames());
       if (values.size() > 0) {
         fieldValues.append(values.stream()
@@ -369,6 +374,7 @@ public class Generate {
         import java.util.HashSet;
         import java.util.List;
         import java.util.Map;
+        import java.util.Objects;
         import java.util.Set;
 
         /**
@@ -387,6 +393,12 @@ public class Generate {
 
               /** Returns the original OSM element. */
               SourceFeature source();
+
+              /**
+               * Returns a new row for the same element that is safe to hold onto after the handler returns, since the
+               * profile passes rows from a {@link RowPool} to handlers and reuses them for the next element.
+               */
+              Row copy();
             }
 
             /** A functional interface that the constructor of a new table row can be coerced to. */
@@ -396,10 +408,23 @@ public class Generate {
               Row create(SourceFeature source, String mappingKey);
             }
 
-            /** The {@code rowClass} of an imposm3 table row and its constructor coerced to a {@link Constructor}. */
+            /** A functional interface that a {@link RowPool} method to reuse a table row can be coerced to. */
+            @FunctionalInterface
+            public interface Reuser {
+
+              Row reuse(RowPool pool, SourceFeature source, String mappingKey);
+            }
+
+            /**
+             * The {@code rowClass} of an imposm3 table row, its constructor coerced to a {@link Constructor}, the
+             * {@link RowPool} method that reuses a row coerced to a {@link Reuser}, and the keys that an element needs at
+             * least one of to appear in the table.
+             */
             public record RowClassAndConstructor(
               Class<? extends Row> rowClass,
-              Constructor create
+              Constructor create,
+              Reuser reuse,
+              List<String> mappingKeys
             ) {}
 
             /** A functional interface that the typed handler method that a layer implementation can be coerced to. */
@@ -420,11 +445,15 @@ public class Generate {
 
     List<String> classNames = new ArrayList<>();
     Map<String, String> fieldNameToType = new TreeMap<>();
+    Set<String> internedKeys = tables.values().stream()
+      .filter(table -> !"relation_member".equals(table.type))
+      .flatMap(table -> condStrings(parseImposm3MappingCond(table), true))
+      .collect(Collectors.toSet());
     for (var entry : tables.entrySet()) {
       String key = entry.getKey();
       Imposm3Table table = entry.getValue();
       if (!"relation_member".equals(table.type)) {
-        List<OsmTableField> fields = parseTableFields(table);
+        List<OsmTableField> fields = parseTableFields(table, internedKeys);
         for (var field : fields) {
           String existing = fieldNameToType.get(field.name);
           if (existing == null) {
@@ -438,18 +467,55 @@ public class Generate {
         String mapping = """
           /** Imposm3 "mapping" to filter OSM elements that should appear in this "table". */
           public static final Expression MAPPING = %s;
+
+          /** Tag keys that an element needs at least one of to match {@link #MAPPING}. */
+          public static final List<String> MAPPING_KEYS = List.of(%s);
           """.formatted(
-          mappingExpression.generateJavaCode()
+          mappingExpression.generateJavaCode(),
+          parseImposm3MappingKeys(table).stream().map(Format::quote).collect(joining(", "))
         );
         String tableName = "osm_" + key;
         String className = lowerUnderscoreToUpperCamel(tableName);
         classNames.add(className);
 
         tablesClass.append("""
-          /** An OSM element that would appear in the {@code %s} table generated by imposm3. */
-          public record %s(%s) implements Row, %s {
+          /**
+           * An OSM element that would appear in the {@code %s} table generated by imposm3.
+           * <p>
+           * Columns are parsed from the source element the first time they are accessed, so instances must not be
+           * shared between threads while they are still being read.
+           */
+          public static final class %s implements Row, %s {
+            %s
             public %s(SourceFeature source, String mappingKey) {
-              this(%s);
+              this.source = source;
+              this.mappingKey = mappingKey;
+            }
+
+            private void reset(SourceFeature source, String mappingKey) {
+              this.source = source;
+              this.mappingKey = mappingKey;%s
+            }
+
+            @Override
+            public %s copy() {
+              return new %s(source, mappingKey);
+            }
+            %s
+            @Override
+            public boolean equals(Object o) {
+              return o instanceof %s other && source == other.source &&
+                Objects.equals(mappingKey, other.mappingKey);
+            }
+
+            @Override
+            public int hashCode() {
+              return Objects.hash(source, mappingKey);
+            }
+
+            @Override
+            public String toString() {
+              return "%s[%s]";
             }
             %s
             /**
@@ -462,13 +528,19 @@ public class Generate {
           }
           """.formatted(
           tableName,
-          escapeJavadoc(className),
-          fields.stream().map(c -> "@Override " + c.clazz + " " + lowerUnderscoreToLowerCamel(c.name))
-            .collect(joining(", ")),
+          className,
           fields.stream().map(c -> lowerUnderscoreToUpperCamel("with_" + c.name))
             .collect(joining(", ")),
+          generateLazyRowFields(fields),
+          className,
+          fields.stream().anyMatch(f -> !isConstructorArgument(f)) ? LINE_SEPARATOR + "resolved = 0;" : "",
+          className,
+          className,
+          generateLazyRowAccessors(fields),
           className,
-          fields.stream().map(c -> c.extractCode).collect(joining(", ")),
+          className,
+          fields.stream().map(c -> "%s=\" + %s() + \"".formatted(lowerUnderscoreToLowerCamel(c.name),
+            lowerUnderscoreToLowerCamel(c.name))).collect(joining(", ")),
           mapping,
           escapeJavadoc(className),
           className
@@ -493,6 +565,26 @@ public class Generate {
         attrName);
     }).collect(joining(LINE_SEPARATOR)).indent(2));
 
+    tablesClass.append("""
+      /**
+       * One reusable row for each table that a single worker thread can parse elements into instead of allocating a
+       * new row for every element. A row returned from this pool is only valid until the next call for the same table.
+       */
+      public static final class RowPool {
+        %s
+      }
+      """.formatted(classNames.stream().map(className -> {
+      String method = CaseFormat.UPPER_CAMEL.to(CaseFormat.LOWER_CAMEL, className);
+      return """
+        private final %s %s = new %s(null, null);
+
+        public %s %s(SourceFeature source, String mappingKey) {
+          %s.reset(source, mappingKey);
+          return %s;
+        }
+        """.formatted(className, method, className, className, method, method, method);
+    }).collect(joining(LINE_SEPARATOR)).indent(2).strip()).indent(2));
+
     tablesClass.append("""
       /** Index to efficiently choose which imposm3 "tables" an element should appear in based on its attributes. */
       public static final MultiExpression<RowClassAndConstructor> MAPPINGS = MultiExpression.of(List.of(
@@ -500,8 +592,9 @@ public class Generate {
       ));
       """.formatted(
       classNames.stream().map(
-        className -> "MultiExpression.entry(new RowClassAndConstructor(%s.class, %s::new), %s.MAPPING)".formatted(
-          className, className, className))
+        className -> ("MultiExpression.entry(new RowClassAndConstructor(%s.class, %s::new, RowPool::%s, " +
+          "%s.MAPPING_KEYS), %s.MAPPING)").formatted(className, className,
+            CaseFormat.UPPER_CAMEL.to(CaseFormat.LOWER_CAMEL, className), className, className))
         .collect(joining("," + LINE_SEPARATOR)).indent(2).strip()
     ).indent(2));
 
@@ -530,6 +623,609 @@ public class Generate {
     Files.writeString(output.resolve("Tables.java"), tablesClass);
   }
 
+  /**
+   * Generates {@code CompiledMappings.java} with each table's imposm3 mapping compiled to a java method that switches on
+   * tag values, and a switch on tag keys to find the tables an element could match.
+   */
+  private static void emitCompiledMappings(Map<String, Imposm3Table> tables, String packageName, Path output)
+    throws IOException {
+    List<String> classNames = new ArrayList<>();
+    List<Cond> conditions = new ArrayList<>();
+    Map<String, Long> tablesByKey = new TreeMap<>();
+    Map<String, Long> tablesByType = new LinkedHashMap<>();
+    long fallbackTables = 0;
+    for (var entry : tables.entrySet()) {
+      Imposm3Table table = entry.getValue();
+      if (!"relation_member".equals(table.type)) {
+        int id = classNames.size();
+        if (id >= Long.SIZE) {
+          throw new IllegalArgumentException("Cannot compile more than " + Long.SIZE + " tables");
+        }
+        Cond condition = parseImposm3MappingCond(table);
+        classNames.add(lowerUnderscoreToUpperCamel("osm_" + entry.getKey()));
+        conditions.add(condition);
+        for (String key : parseImposm3MappingKeys(table)) {
+          tablesByKey.merge(key, 1L << id, (a, b) -> a | b);
+        }
+        for (String type : condTypes(condition).toList()) {
+          tablesByType.merge(type, 1L << id, (a, b) -> a | b);
+        }
+        if (!isCompilable(condition)) {
+          LOGGER.warn("Unable to compile mapping for {}, callers will need to evaluate its expression", entry.getKey());
+          fallbackTables |= 1L << id;
+        }
+      }
+    }
+
+    StringBuilder tableMethods = new StringBuilder();
+    StringBuilder matchCases = new StringBuilder();
+    for (int id = 0; id < classNames.size(); id++) {
+      if ((fallbackTables & (1L << id)) == 0) {
+        String method = CaseFormat.UPPER_CAMEL.to(CaseFormat.LOWER_CAMEL, classNames.get(id));
+        matchCases.append("case %d -> %s(element, isPoint, canBeLine, canBePolygon);".formatted(id, method))
+          .append(LINE_SEPARATOR);
+        tableMethods.append(LINE_SEPARATOR)
+          .append("/** Compiled {@link Tables.%s#MAPPING}. */".formatted(classNames.get(id)))
+          .append(LINE_SEPARATOR)
+          .append(generateCompiledMapping(method, conditions.get(id)));
+      }
+    }
+
+    List<String> mappingKeys = List.copyOf(tablesByKey.keySet());
+    // start with at least 8 slots per key so a collision-free multiplier is quick to find
+    int mappingKeyBits = Integer.SIZE - Integer.numberOfLeadingZeros(Math.max(mappingKeys.size(), 1) * 8 - 1);
+    Integer mappingKeyMultiplier;
+    while ((mappingKeyMultiplier = perfectHashMultiplier(mappingKeys, mappingKeyBits)) == null) {
+      mappingKeyBits++;
+    }
+
+    String compiledClass = """
+      %s
+      package %s;
+
+      import com.onthegomap.planetiler.reader.WithTags;
+
+      /**
+       * The imposm3 table mappings from {@link Tables} compiled into a decision tree that switches on tag keys, then tag
+       * values, then geometry type to find the tables an element appears in without evaluating the generic
+       * {@link Tables#MAPPINGS} expressions.
+       * <p>
+       * Tables are identified by their index in {@link Tables#MAPPINGS}, and geometry type flags are passed in
+       * explicitly so that callers can match tags before creating a source feature.
+       */
+      @SuppressWarnings("unused")
+      public class CompiledMappings {
+
+        /** Number of tables in {@link Tables#MAPPINGS}. */
+        public static final int NUM_TABLES = %d;
+        /** Bitmask of the tables that point elements can appear in. */
+        public static final long POINT_TABLES = %s;
+        /** Bitmask of the tables that elements which can be lines can appear in. */
+        public static final long LINE_TABLES = %s;
+        /** Bitmask of the tables that elements which can be polygons can appear in. */
+        public static final long POLYGON_TABLES = %s;
+        /**
+         * Bitmask of the tables with mappings that could not be compiled, callers need to evaluate their {@code MAPPING}
+         * expression instead.
+         */
+        public static final long FALLBACK_TABLES = %s;
+        /** Multiplier that gives every tag key in {@link #tablesWithKey} a distinct slot in {@link #MAPPING_KEYS}. */
+        private static final int MAPPING_KEY_MULTIPLIER = 0x%08x;
+        private static final int MAPPING_KEY_BITS = %d;
+        /** Perfect hash set of every tag key that appears in a table mapping. */
+        private static final String[] MAPPING_KEYS = new String[1 << MAPPING_KEY_BITS];
+
+        static {
+          for (String key : new String[]{
+            %s
+          }) {
+            MAPPING_KEYS[mappingKeySlot(key)] = key;
+          }
+        }
+
+        private CompiledMappings() {}
+
+        private static int mappingKeySlot(String key) {
+          return (key.hashCode() * MAPPING_KEY_MULTIPLIER) >>> (Integer.SIZE - MAPPING_KEY_BITS);
+        }
+
+        /**
+         * Returns {@code true} if {@code key} appears in any table mapping, using a single probe into a collision-free hash
+         * table instead of the {@link #tablesWithKey} switch.
+         */
+        public static boolean isMappingKey(String key) {
+          String candidate = MAPPING_KEYS[mappingKeySlot(key)];
+          return candidate != null && (candidate == key || candidate.equals(key));
+        }
+
+        /** Returns {@code false} if none of an element's tag keys appear in a table mapping, so it cannot match any table. */
+        public static boolean hasMappingKey(WithTags element) {
+          for (String key : element.tags().keySet()) {
+            if (isMappingKey(key)) {
+              return true;
+            }
+          }
+          return false;
+        }
+
+        /** Returns a bitmask of the tables that reference tag {@code key} in their mapping. */
+        public static long tablesWithKey(String key) {
+          return switch (key) {
+            %s
+            default -> 0L;
+          };
+        }
+
+        /** Returns a bitmask of the tables that an element with these tags and geometry type might appear in. */
+        public static long candidates(WithTags element, boolean isPoint, boolean canBeLine, boolean canBePolygon) {
+          long geometryTables = (isPoint ? POINT_TABLES : 0L) | (canBeLine ? LINE_TABLES : 0L) |
+            (canBePolygon ? POLYGON_TABLES : 0L);
+          if (geometryTables == 0L) {
+            return 0L;
+          }
+          long result = 0L;
+          for (String key : element.tags().keySet()) {
+            result |= tablesWithKey(key);
+          }
+          return result & geometryTables;
+        }
+
+        /**
+         * Returns the tag key that causes an element to appear in {@code table}, or {@code null} if it does not match
+         * the table's mapping.
+         */
+        public static String match(int table, WithTags element, boolean isPoint, boolean canBeLine, boolean canBePolygon) {
+          return switch (table) {
+            %s
+            default -> null;
+          };
+        }
+
+        private static String value(WithTags element, String key) {
+          Object value = element.getTag(key);
+          return value == null ? "" : value.toString();
+        }
+        %s
+      }
+      """.formatted(
+      GENERATED_FILE_HEADER,
+      packageName,
+      classNames.size(),
+      hexMask(tablesByType.getOrDefault("point", 0L)),
+      hexMask(tablesByType.getOrDefault("linestring", 0L)),
+      hexMask(tablesByType.getOrDefault("polygon", 0L)),
+      hexMask(fallbackTables),
+      mappingKeyMultiplier,
+      mappingKeyBits,
+      mappingKeys.stream().map(key -> Format.quote(key) + ",").collect(joining(LINE_SEPARATOR)).indent(6).strip(),
+      tablesByKey.entrySet().stream()
+        .map(e -> "case %s -> %s;".formatted(Format.quote(e.getKey()), hexMask(e.getValue())))
+        .collect(joining(LINE_SEPARATOR)).indent(6).strip(),
+      matchCases.toString().indent(6).strip(),
+      tableMethods.toString().indent(2)
+    );
+    Files.writeString(output.resolve("CompiledMappings.java"), compiledClass);
+  }
+
+  /**
+   * Generates {@code TagDictionary.java} with every attribute value from the layer schemas and every tag key and value
+   * from the imposm3 mappings.
+   */
+  private static void emitTagDictionary(List<LayerConfig> layers, Map<String, Imposm3Table> tables, String packageName,
+    Path output) throws IOException {
+    Set<String> strings = new TreeSet<>();
+    for (LayerConfig layer : layers) {
+      layer.layer.fields.values().forEach(value -> {
+        JsonNode valuesNode = value.get("values");
+        if (valuesNode != null && valuesNode.isArray()) {
+          iterToList(valuesNode.elements()).stream().filter(JsonNode::isTextual).map(JsonNode::textValue)
+            .map(Generate::stripValueAnnotation).forEach(strings::add);
+        } else if (valuesNode != null && valuesNode.isObject()) {
+          valuesNode.fields().forEachRemaining(entry -> {
+            strings.add(entry.getKey());
+            parseFieldMappingCond(entry.getValue()).flatMap(cond -> condStrings(cond, false)).forEach(strings::add);
+          });
+        }
+      });
+    }
+    for (Imposm3Table table : tables.values()) {
+      if (!"relation_member".equals(table.type)) {
+        condStrings(parseImposm3MappingCond(table), false).forEach(strings::add);
+      }
+    }
+    strings.removeIf(string -> string.isEmpty() || string.contains("%"));
+
+    Files.writeString(output.resolve("TagDictionary.java"), """
+      %s
+      package %s;
+
+      import org.openmaptiles.util.InternedStrings;
+
+      /**
+       * Attribute values from the OpenMapTiles schema and tag keys and values from the imposm3 table mappings, interned
+       * so that table rows and layers share one canonical {@link String} instance for each known value.
+       */
+      public class TagDictionary {
+
+        /** Every schema-known string. */
+        private static final InternedStrings STRINGS = new InternedStrings(
+          %s
+        );
+
+        private TagDictionary() {}
+
+        /** Returns the canonical instance equal to {@code value}, or {@code value} if it is not a schema-known string. */
+        public static String intern(String value) {
+          return STRINGS.intern(value);
+        }
+      }
+      """.formatted(
+      GENERATED_FILE_HEADER,
+      packageName,
+      strings.stream().map(Format::quote).collect(joining(", "))
+    ));
+  }
+
+  /**
+   * Returns {@code value} from a schema field's list of values without the note some of them have after a space, like
+   * {@code "road (default)"} or {@code "ferry (DEPRECATED - use class)"}.
+   */
+  private static String stripValueAnnotation(String value) {
+    int space = value.indexOf(' ');
+    return space < 0 ? value : value.substring(0, space);
+  }
+
+  /** Returns the tag keys (and values unless {@code keysWithValuesOnly}) that {@code cond} references. */
+  private static Stream<String> condStrings(Cond cond, boolean keysWithValuesOnly) {
+    return switch (cond) {
+      case Cond.All all -> all.children().stream().flatMap(child -> condStrings(child, keysWithValuesOnly));
+      case Cond.Any any -> any.children().stream().flatMap(child -> condStrings(child, keysWithValuesOnly));
+      case Cond.Not not -> condStrings(not.child(), keysWithValuesOnly);
+      case Cond.Values values -> keysWithValuesOnly ? Stream.of(values.field()) :
+        Stream.concat(Stream.of(values.field()), values.values().stream());
+      case Cond.Field field -> keysWithValuesOnly ? Stream.empty() : Stream.of(field.field());
+      case Cond.Type type -> Stream.empty();
+    };
+  }
+
+  /**
+   * Returns a multiplier that maps the hash code of each of {@code keys} to a distinct {@code bits}-bit slot with
+   * {@code (hashCode * multiplier) >>> (32 - bits)}, or {@code null} if none of the candidates tried work.
+   */
+  private static Integer perfectHashMultiplier(List<String> keys, int bits) {
+    BitSet used = new BitSet(1 << bits);
+    for (int i = 0; i < (1 << 20); i++) {
+      int multiplier = 0x9E3779B9 * (2 * i + 1);
+      used.clear();
+      boolean collision = false;
+      for (String key : keys) {
+        int slot = (key.hashCode() * multiplier) >>> (Integer.SIZE - bits);
+        if (used.get(slot)) {
+          collision = true;
+          break;
+        }
+        used.set(slot);
+      }
+      if (!collision) {
+        return multiplier;
+      }
+    }
+    return null;
+  }
+
+  private static String hexMask(long bits) {
+    return bits == 0 ? "0L" : "0x" + Long.toHexString(bits) + "L";
+  }
+
+  /**
+   * A boolean expression over OSM tags parsed from an imposm3 table mapping that {@link #emitCompiledMappings} can
+   * compile to java code.
+   */
+  sealed interface Cond {
+
+    record All(List<Cond> children) implements Cond {}
+
+    record Any(List<Cond> children) implements Cond {}
+
+    record Not(Cond child) implements Cond {}
+
+    record Values(String field, List<String> values) implements Cond {}
+
+    record Field(String field) implements Cond {}
+
+    record Type(String type) implements Cond {}
+  }
+
+  /** Returns a {@link Cond} that implements the same logic as {@link #parseImposm3MappingExpression(Imposm3Table)}. */
+  static Cond parseImposm3MappingCond(Imposm3Table table) {
+    if (table.type_mappings != null) {
+      return simplify(new Cond.Any(
+        table.type_mappings.entrySet().stream()
+          .map(entry -> parseImposm3MappingCond(entry.getKey(), entry.getValue(), table.filters))
+          .toList()
+      ));
+    } else {
+      return parseImposm3MappingCond(table.type, table.mapping, table.filters);
+    }
+  }
+
+  private static Cond parseImposm3MappingCond(String type, JsonNode mapping, Imposm3Filters filters) {
+    return simplify(new Cond.All(List.of(
+      new Cond.Any(parseFieldMappingCond(mapping).toList()),
+      new Cond.All(
+        filters == null || filters.require == null ? List.of() : parseFieldMappingCond(filters.require).toList()),
+      new Cond.Not(new Cond.Any(
+        filters == null || filters.reject == null ? List.of() : parseFieldMappingCond(filters.reject).toList())),
+      new Cond.Type(type.replaceAll("s$", ""))
+    )));
+  }
+
+  private static Stream<Cond> parseFieldMappingCond(JsonNode node) {
+    if (node.isObject()) {
+      List<String> keys = iterToList(node.fieldNames());
+      if (keys.contains("__AND__")) {
+        if (keys.size() > 1) {
+          throw new IllegalArgumentException("Cannot combine __AND__ with others");
+        }
+        return Stream.of(new Cond.All(parseFieldMappingCond(node.get("__AND__")).toList()));
+      } else if (keys.contains("__OR__")) {
+        if (keys.size() > 1) {
+          throw new IllegalArgumentException("Cannot combine __OR__ with others");
+        }
+        return Stream.of(new Cond.Any(parseFieldMappingCond(node.get("__OR__")).toList()));
+      } else {
+        return iterToList(node.fields()).stream().map(entry -> {
+          String field = entry.getKey();
+          List<String> value = toFlatList(entry.getValue()).map(JsonNode::textValue).filter(Objects::nonNull)
+            .distinct().toList();
+          return value.isEmpty() || value.contains("__any__") ? new Cond.Field(field) : new Cond.Values(field, value);
+        });
+      }
+    } else if (node.isArray()) {
+      return iterToList(node.elements()).stream().flatMap(Generate::parseFieldMappingCond);
+    } else if (node.isNull()) {
+      return Stream.empty();
+    } else {
+      throw new IllegalArgumentException("parseFieldMappingCond input not handled: " + node);
+    }
+  }
+
+  /**
+   * Flattens nested and single-child {@link Cond.All}/{@link Cond.Any} conditions and pushes {@link Cond.Not} into
+   * {@link Cond.Any}, the same way {@link Expression#simplify()} does.
+   */
+  static Cond simplify(Cond cond) {
+    return switch (cond) {
+      case Cond.All all -> {
+        List<Cond> children = new ArrayList<>();
+        for (Cond child : all.children()) {
+          Cond simplified = simplify(child);
+          if (simplified instanceof Cond.All nested) {
+            children.addAll(nested.children());
+          } else {
+            children.add(simplified);
+          }
+        }
+        yield children.size() == 1 ? children.getFirst() : new Cond.All(children);
+      }
+      case Cond.Any any -> {
+        List<Cond> children = new ArrayList<>();
+        for (Cond child : any.children()) {
+          Cond simplified = simplify(child);
+          if (simplified instanceof Cond.Any nested) {
+            children.addAll(nested.children());
+          } else {
+            children.add(simplified);
+          }
+        }
+        yield children.size() == 1 ? children.getFirst() : new Cond.Any(children);
+      }
+      case Cond.Not(Cond.Any any) -> simplify(new Cond.All(any.children().stream().<Cond>map(Cond.Not::new).toList()));
+      case Cond.Not(Cond.Not not) -> simplify(not.child());
+      case Cond.Not not -> new Cond.Not(simplify(not.child()));
+      default -> cond;
+    };
+  }
+
+  private static Stream<String> condTypes(Cond cond) {
+    return switch (cond) {
+      case Cond.Type type -> Stream.of(type.type());
+      case Cond.All all -> all.children().stream().flatMap(Generate::condTypes);
+      case Cond.Any any -> any.children().stream().flatMap(Generate::condTypes);
+      default -> Stream.empty();
+    };
+  }
+
+  private static boolean isCompilableValues(Cond cond) {
+    return cond instanceof Cond.Values values &&
+      values.values().stream().noneMatch(value -> value.isEmpty() || value.contains("%"));
+  }
+
+  /** Returns true for the conditions that can trigger a match: a tag key, a tag value, or a list of those. */
+  private static boolean isCompilableKeyPart(Cond cond) {
+    return cond instanceof Cond.Field || isCompilableValues(cond) || (cond instanceof Cond.Any any &&
+      any.children().stream().allMatch(child -> child instanceof Cond.Field || isCompilableValues(child)));
+  }
+
+  /** Returns true for the conditions that can filter out a match once a key has triggered it. */
+  private static boolean isCompilableGuard(Cond cond) {
+    return cond instanceof Cond.Type || cond instanceof Cond.Field || isCompilableValues(cond) ||
+      (cond instanceof Cond.Not(Cond child) && (child instanceof Cond.Field || isCompilableValues(child)));
+  }
+
+  private static boolean isCompilableAll(Cond cond) {
+    List<Cond> children = cond instanceof Cond.All all ? all.children() : List.of(cond);
+    return !children.isEmpty() && isCompilableKeyPart(children.getFirst()) &&
+      children.stream().filter(Cond.Type.class::isInstance).count() <= 1 &&
+      children.stream().skip(1).allMatch(Generate::isCompilableGuard);
+  }
+
+  private static boolean isCompilable(Cond cond) {
+    if (cond instanceof Cond.Any any && any.children().stream().anyMatch(Cond.All.class::isInstance)) {
+      return any.children().stream().allMatch(Generate::isCompilableAll);
+    }
+    return isCompilableAll(cond);
+  }
+
+  /** Returns private methods named {@code method} that return the key that triggers {@code cond}, or null. */
+  private static String generateCompiledMapping(String method, Cond cond) {
+    String params = "WithTags element, boolean isPoint, boolean canBeLine, boolean canBePolygon";
+    String args = "element, isPoint, canBeLine, canBePolygon";
+    if (cond instanceof Cond.Any any && any.children().stream().anyMatch(Cond.All.class::isInstance)) {
+      StringBuilder result = new StringBuilder();
+      StringBuilder body = new StringBuilder();
+      for (int i = 0; i < any.children().size(); i++) {
+        body.append(i == 0 ? "String key = %s%d(%s);".formatted(method, i, args) : """
+          if (key == null) {
+            key = %s%d(%s);
+          }""".formatted(method, i, args)).append(LINE_SEPARATOR);
+        result.append(LINE_SEPARATOR).append("""
+          private static String %s%d(%s) {
+          %s}
+          """.formatted(method, i, params, generateCompiledMappingBody(any.children().get(i)).indent(2)));
+      }
+      return """
+        private static String %s(%s) {
+        %s  return key;
+        }
+        """.formatted(method, params, body.toString().indent(2)) + result;
+    }
+    return """
+      private static String %s(%s) {
+      %s}
+      """.formatted(method, params, generateCompiledMappingBody(cond).indent(2));
+  }
+
+  private static String generateCompiledMappingBody(Cond cond) {
+    List<Cond> children = cond instanceof Cond.All all ? all.children() : List.of(cond);
+    StringBuilder result = new StringBuilder();
+    for (Cond child : children) {
+      if (child instanceof Cond.Type(String type)) {
+        result.append("""
+          if (!%s) {
+            return null;
+          }
+          """.formatted(switch (type) {
+          case "point" -> "isPoint";
+          case "linestring" -> "canBeLine";
+          case "polygon" -> "canBePolygon";
+          default -> throw new IllegalArgumentException("Unhandled geometry type: " + type);
+        }));
+      }
+    }
+    List<Cond> keyParts = children.getFirst() instanceof Cond.Any any ? any.children() : List.of(children.getFirst());
+    for (int i = 0; i < keyParts.size(); i++) {
+      String assign = generateKeyAssignment(i == 0 ? "String key" : "key", keyParts.get(i));
+      result.append(i == 0 ? assign : """
+        if (key == null) {
+        %s}
+        """.formatted(assign.indent(2)));
+    }
+    List<Cond> guards = children.stream().skip(1).filter(child -> !(child instanceof Cond.Type)).toList();
+    if (!guards.isEmpty()) {
+      result.append("""
+        if (key == null) {
+          return null;
+        }
+        """);
+    }
+    for (Cond guard : guards) {
+      result.append(switch (guard) {
+        case Cond.Field(String field) -> """
+          if (!element.hasTag(%s)) {
+            return null;
+          }
+          """.formatted(Format.quote(field));
+        case Cond.Not(Cond.Field(String field)) -> """
+          if (element.hasTag(%s)) {
+            return null;
+          }
+          """.formatted(Format.quote(field));
+        case Cond.Values values -> generateValueSwitch("key", values, "key", "null");
+        case Cond.Not(Cond.Values values) -> generateValueSwitch("key", values, "null", "key");
+        default -> throw new IllegalArgumentException("Unhandled condition: " + guard);
+      });
+    }
+    return result.append("return key;").append(LINE_SEPARATOR).toString();
+  }
+
+  private static String generateKeyAssignment(String target, Cond cond) {
+    return switch (cond) {
+      case Cond.Field(String field) -> "%s = element.hasTag(%s) ? %s : null;".formatted(target, Format.quote(field),
+        Format.quote(field)) + LINE_SEPARATOR;
+      case Cond.Values values -> generateValueSwitch(target, values, Format.quote(values.field()), "null");
+      default -> throw new IllegalArgumentException("Unhandled condition: " + cond);
+    };
+  }
+
+  private static String generateValueSwitch(String target, Cond.Values values, String match, String noMatch) {
+    return """
+      %s = switch (value(element, %s)) {
+        case %s -> %s;
+        default -> %s;
+      };
+      """.formatted(target, Format.quote(values.field()),
+      values.values().stream().map(Format::quote).collect(joining(", ")), match, noMatch);
+  }
+
+  /** Columns that are passed to the row constructor and returned as-is instead of being parsed lazily. */
+  private static boolean isConstructorArgument(OsmTableField field) {
+    return "source".equals(field.extractCode) || "mappingKey".equals(field.extractCode);
+  }
+
+  /** Returns the fields that hold memoized column values and a bitmask of which ones have been resolved. */
+  private static String generateLazyRowFields(List<OsmTableField> fields) {
+    List<OsmTableField> lazyFields = fields.stream().filter(f -> !isConstructorArgument(f)).toList();
+    StringBuilder result = new StringBuilder("""
+      private SourceFeature source;
+      private String mappingKey;
+      """);
+    if (!lazyFields.isEmpty()) {
+      result.append("/** Bit {@code i} is set once the {@code i}th lazy column has been parsed. */")
+        .append(LINE_SEPARATOR)
+        .append("private %s resolved;".formatted(lazyFields.size() > Integer.SIZE ? "long" : "int"))
+        .append(LINE_SEPARATOR);
+      for (var field : lazyFields) {
+        result.append("private %s %s;".formatted(field.clazz, lowerUnderscoreToLowerCamel(field.name)))
+          .append(LINE_SEPARATOR);
+      }
+    }
+    return result.toString();
+  }
+
+  /** Returns record-style accessors for each column that parse and memoize the value on first access. */
+  private static String generateLazyRowAccessors(List<OsmTableField> fields) {
+    long numLazy = fields.stream().filter(f -> !isConstructorArgument(f)).count();
+    String one = numLazy > Integer.SIZE ? "1L" : "1";
+    StringBuilder result = new StringBuilder();
+    int bit = 0;
+    for (var field : fields) {
+      String name = lowerUnderscoreToLowerCamel(field.name);
+      result.append(LINE_SEPARATOR);
+      if (isConstructorArgument(field)) {
+        result.append("""
+          @Override
+          public %s %s() {
+            return %s;
+          }
+          """.formatted(field.clazz, name, field.extractCode));
+      } else {
+        result.append("""
+          @Override
+          public %s %s() {
+            if ((resolved & (%s << %d)) == 0) {
+              %s = %s;
+              resolved |= (%s << %d);
+            }
+            return %s;
+          }
+          """.formatted(field.clazz, name, one, bit, name, field.extractCode, one, bit, name));
+        bit++;
+      }
+    }
+    return result.toString();
+  }
+
   /**
    * Returns an {@link Expression} that implements the same logic as the
    * <a href="https://imposm.org/docs/imposm3/latest/mapping.html">Imposm3 Data Mapping</a> definition for a table.
@@ -546,6 +1242,29 @@ public class Generate {
     }
   }
 
+  /**
+   * Returns the tag keys referenced from the <a href="https://imposm.org/docs/imposm3/latest/mapping.html">Imposm3 Data
+   * Mapping</a> definition for a table, ignoring filters. Elements must have at least one of these keys to match.
+   */
+  static List<String> parseImposm3MappingKeys(Imposm3Table table) {
+    Stream<JsonNode> mappings = table.type_mappings != null ? table.type_mappings.values().stream() :
+      Stream.of(table.mapping);
+    return mappings.flatMap(Generate::parseFieldMappingKeys).distinct().toList();
+  }
+
+  private static Stream<String> parseFieldMappingKeys(JsonNode node) {
+    if (node.isObject()) {
+      return iterToList(node.fields()).stream().flatMap(entry -> switch (entry.getKey()) {
+        case "__AND__", "__OR__" -> parseFieldMappingKeys(entry.getValue());
+        default -> Stream.of(entry.getKey());
+      });
+    } else if (node.isArray()) {
+      return iterToList(node.elements()).stream().flatMap(Generate::parseFieldMappingKeys);
+    } else {
+      return Stream.empty();
+    }
+  }
+
   /**
    * Returns an {@link Expression} that implements the same logic as the
    * <a href="https://imposm.org/docs/imposm3/latest/mapping.html#filters">Imposm3 Data Mapping filters</a> for a table.
@@ -561,7 +1280,11 @@ public class Generate {
     ).simplify();
   }
 
-  private static List<OsmTableField> parseTableFields(Imposm3Table tableDefinition) {
+  /**
+   * Returns the columns for a table, where {@code internedKeys} are the tags with values that the mappings enumerate so
+   * their string columns are worth looking up in {@link #emitTagDictionary the tag dictionary}.
+   */
+  private static List<OsmTableField> parseTableFields(Imposm3Table tableDefinition, Set<String> internedKeys) {
     List<OsmTableField> result = new ArrayList<>();
     boolean relationMember = "relation_member".equals(tableDefinition.type);
     for (Imposm3Column col : tableDefinition.columns) {
@@ -579,10 +1302,12 @@ public class Generate {
         case "mapping_key" -> result
           .add(new OsmTableField("String", col.name, "mappingKey"));
         case "mapping_value" -> result
-          .add(new OsmTableField("String", col.name, "source.getString(mappingKey)"));
-        case "string" -> result
-          .add(new OsmTableField("String", col.name,
-            "source.getString(\"%s\")".formatted(Objects.requireNonNull(col.key, col.toString()))));
+          .add(new OsmTableField("String", col.name, "TagDictionary.intern(source.getString(mappingKey))"));
+        case "string" -> {
+          String extract = "source.getString(%s)".formatted(Format.quote(Objects.requireNonNull(col.key, col.toString())));
+          result.add(new OsmTableField("String", col.name,
+            internedKeys.contains(col.key) ? "TagDictionary.intern(%s)".formatted(extract) : extract));
+        }
         case "bool" -> result
           .add(new OsmTableField("boolean", col.name,
             "source.getBoolean(\"%s\")".formatted(Objects.requireNonNull(col.key, col.toString()))));
@@ -0,0 +1,261 @@
+package org.openmaptiles;
+
+import com.onthegomap.planetiler.FeatureCollector;
+import com.onthegomap.planetiler.ForwardingProfile;
+import com.onthegomap.planetiler.VectorTile;
+import com.onthegomap.planetiler.geo.GeometryException;
+import com.onthegomap.planetiler.stats.Counter;
+import com.onthegomap.planetiler.stats.Stats;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
+import org.openmaptiles.generated.Tables;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Records wall time, allocated bytes and emitted feature counts for a random sample of the layer handler invocations
+ * that {@link OpenMapTilesProfile} dispatches to.
+ * <p>
+ * Every invocation increments a counter, but only 1 out of every {@code sampleInterval} invocations is timed, since
+ * reading the clock and the thread's allocated bytes costs more than many handlers do. Totals are estimated by scaling
+ * the sampled values up by the number of invocations.
+ * <p>
+ * Results are exposed through {@link Stats} counters labeled with {@code layer/handler} so they show up in prometheus
+ * output, and {@link #logSummary()} prints a table of the estimated totals at the end of a run. Together
+ * {@code omt_handler_sampled_nanos} and {@code omt_handler_sampled_invocations} are the sum and count of a prometheus
+ * summary, so {@code rate(omt_handler_sampled_nanos[5m]) / rate(omt_handler_sampled_invocations[5m])} is the average
+ * time per call over any window.
+ */
+public class HandlerProfiler {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(HandlerProfiler.class);
+  private static final com.sun.management.ThreadMXBean THREADS =
+    ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads &&
+      threads.isThreadAllocatedMemorySupported() ? threads : null;
+
+  private final int sampleInterval;
+  private final Map<String, Handler> handlers = new ConcurrentSkipListMap<>();
+
+  public HandlerProfiler(Stats stats, int sampleInterval) {
+    if (sampleInterval < 1) {
+      throw new IllegalArgumentException("sampleInterval must be at least 1, got " + sampleInterval);
+    }
+    this.sampleInterval = sampleInterval;
+    if (THREADS != null && !THREADS.isThreadAllocatedMemoryEnabled()) {
+      THREADS.setThreadAllocatedMemoryEnabled(true);
+    }
+    register(stats, "omt_handler_invocations", h -> h.invocations);
+    register(stats, "omt_handler_sampled_invocations", h -> h.samples);
+    register(stats, "omt_handler_sampled_nanos", h -> h.nanos);
+    register(stats, "omt_handler_sampled_allocated_bytes", h -> h.allocatedBytes);
+    register(stats, "omt_handler_sampled_features", h -> h.features);
+  }
+
+  private void register(Stats stats, String name, Function<Handler, Counter.Readable> counter) {
+    stats.counter(name, "handler", () -> {
+      Map<String, Counter.Readable> result = new TreeMap<>();
+      handlers.forEach((key, handler) -> result.put(key, counter.apply(handler)));
+      return result;
+    });
+  }
+
+  private static long allocatedBytes() {
+    return THREADS == null ? 0 : THREADS.getCurrentThreadAllocatedBytes();
+  }
+
+  private static long count(Iterable<?> items) {
+    long result = 0;
+    for (Object ignored : items) {
+      result++;
+    }
+    return result;
+  }
+
+  /** Returns the stats for {@code handler} in {@code layer}, creating them if this is the first time it is used. */
+  public Handler handler(String layer, String handler) {
+    return handlers.computeIfAbsent(layer + "/" + handler, key -> new Handler(layer, handler));
+  }
+
+  /** A call to the handler being profiled. */
+  @FunctionalInterface
+  private interface HandlerCall<T, E extends Exception> {
+
+    T call() throws E;
+  }
+
+  /**
+   * Runs {@code call}, and if this invocation is sampled records its time, allocated bytes and the number of features
+   * it emitted, which is {@code featuresAfter} of its result minus {@code featuresBefore}.
+   */
+  private static <T, E extends Exception> T measure(Handler stats, HandlerCall<T, E> call,
+    LongSupplier featuresBefore, ToLongFunction<T> featuresAfter) throws E {
+    if (!stats.sample()) {
+      return call.call();
+    }
+    long before = featuresBefore.getAsLong();
+    long bytesBefore = allocatedBytes();
+    long start = System.nanoTime();
+    T result = call.call();
+    long nanos = System.nanoTime() - start;
+    long bytes = allocatedBytes() - bytesBefore;
+    stats.record(nanos, bytes, featuresAfter.applyAsLong(result) - before);
+    return result;
+  }
+
+  /** Runs {@code call} with {@link #measure}, counting the features it adds to {@code features}. */
+  private static void measure(Handler stats, FeatureCollector features, Runnable call) {
+    measure(stats, () -> {
+      call.run();
+      return null;
+    }, () -> count(features), ignored -> count(features));
+  }
+
+  /** Returns {@code delegate} wrapped with a handler that records stats for a sample of invocations. */
+  public <T extends Tables.Row> Tables.RowHandler<T> wrap(String layer, String handler,
+    Tables.RowHandler<T> delegate) {
+    var stats = handler(layer, handler);
+    return (row, features) -> measure(stats, features, () -> delegate.process(row, features));
+  }
+
+  /** Returns {@code delegate} wrapped with a handler that records stats for a sample of invocations. */
+  public OpenMapTilesProfile.OsmAllProcessor wrap(String layer, OpenMapTilesProfile.OsmAllProcessor delegate) {
+    var stats = handler(layer, "OsmAllProcessor");
+    return (source, features) -> measure(stats, features, () -> delegate.processAllOsm(source, features));
+  }
+
+  /** Returns {@code delegate} wrapped with a handler that records stats for a sample of invocations. */
+  public OpenMapTilesProfile.NaturalEarthProcessor wrap(String layer,
+    OpenMapTilesProfile.NaturalEarthProcessor delegate) {
+    var stats = handler(layer, "NaturalEarthProcessor");
+    return (table, source, features) -> measure(stats, features,
+      () -> delegate.processNaturalEarth(table, source, features));
+  }
+
+  /** Returns {@code delegate} wrapped with a handler that records stats for a sample of invocations. */
+  public ForwardingProfile.LayerPostProcessor wrap(ForwardingProfile.LayerPostProcessor delegate) {
+    var stats = handler(delegate.name(), "LayerPostProcessor");
+    return new ForwardingProfile.LayerPostProcessor() {
+      @Override
+      public List<VectorTile.Feature> postProcess(int zoom, List<VectorTile.Feature> items) throws GeometryException {
+        return measure(stats, () -> delegate.postProcess(zoom, items), () -> 0,
+          result -> result == null ? items.size() : result.size());
+      }
+
+      @Override
+      public String name() {
+        return delegate.name();
+      }
+    };
+  }
+
+  /** Returns the stats for every handler that has been profiled so far, sorted by layer then handler. */
+  public List<Handler> handlers() {
+    return List.copyOf(handlers.values());
+  }
+
+  /** Logs a table with the estimated totals for each handler, most expensive first. */
+  public void logSummary() {
+    List<Handler> sorted = new ArrayList<>(handlers.values());
+    sorted.removeIf(handler -> handler.invocations.get() == 0);
+    sorted.sort(Comparator.comparingDouble(Handler::estimatedNanos).reversed());
+    StringBuilder table = new StringBuilder();
+    table.append("Handler profile (sampled 1 in ").append(sampleInterval).append(" invocations):");
+    table.append(System.lineSeparator()).append("%-20s %-28s %14s %10s %10s %12s %10s".formatted(
+      "layer", "handler", "invocations", "total s", "us/call", "bytes/call", "feat/call"));
+    for (Handler handler : sorted) {
+      table.append(System.lineSeparator()).append("%-20s %-28s %14d %10.1f %10.2f %12.0f %10.2f".formatted(
+        handler.layer,
+        handler.handler,
+        handler.invocations.get(),
+        handler.estimatedNanos() / 1e9,
+        handler.nanosPerInvocation() / 1e3,
+        handler.allocatedBytesPerInvocation(),
+        handler.featuresPerInvocation()
+      ));
+    }
+    LOGGER.info("{}", table);
+  }
+
+  /** Counters for one handler in one layer. */
+  public final class Handler {
+
+    private final String layer;
+    private final String handler;
+    private final Counter.MultiThreadCounter invocations = Counter.newMultiThreadCounter();
+    private final Counter.MultiThreadCounter samples = Counter.newMultiThreadCounter();
+    private final Counter.MultiThreadCounter nanos = Counter.newMultiThreadCounter();
+    private final Counter.MultiThreadCounter allocatedBytes = Counter.newMultiThreadCounter();
+    private final Counter.MultiThreadCounter features = Counter.newMultiThreadCounter();
+
+    private Handler(String layer, String handler) {
+      this.layer = layer;
+      this.handler = handler;
+    }
+
+    /** Counts an invocation and returns {@code true} if it should be timed. */
+    public boolean sample() {
+      invocations.incBy(1);
+      return sampleInterval == 1 || ThreadLocalRandom.current().nextInt(sampleInterval) == 0;
+    }
+
+    /** Records the cost of a sampled invocation. */
+    public void record(long nanos, long allocatedBytes, long features) {
+      this.samples.incBy(1);
+      this.nanos.incBy(nanos);
+      this.allocatedBytes.incBy(allocatedBytes);
+      this.features.incBy(features);
+    }
+
+    private double perSample(Counter.Readable counter) {
+      long sampled = samples.get();
+      return sampled == 0 ? 0 : counter.get() / (double) sampled;
+    }
+
+    public String layer() {
+      return layer;
+    }
+
+    public String handler() {
+      return handler;
+    }
+
+    public long invocations() {
+      return invocations.get();
+    }
+
+    public long samples() {
+      return samples.get();
+    }
+
+    public double nanosPerInvocation() {
+      return perSample(nanos);
+    }
+
+    public double allocatedBytesPerInvocation() {
+      return perSample(allocatedBytes);
+    }
+
+    public double featuresPerInvocation() {
+      return perSample(features);
+    }
+
+    /** Returns the total time spent in this handler, extrapolated from the sampled invocations. */
+    public double estimatedNanos() {
+      return nanosPerInvocation() * invocations.get();
+    }
+
+    /** Returns the total features this handler emitted, extrapolated from the sampled invocations. */
+    public double estimatedFeatures() {
+      return featuresPerInvocation() * invocations.get();
+    }
+  }
+}
@@ -1,8 +1,40 @@
 package org.openmaptiles;
 
 import com.onthegomap.planetiler.ForwardingProfile;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import org.openmaptiles.generated.Tables;
 
 /** Interface for all vector tile layer implementations that {@link OpenMapTilesProfile} delegates to. */
 public interface Layer extends
   ForwardingProfile.Handler,
-  ForwardingProfile.HandlerForLayer {}
+  ForwardingProfile.HandlerForLayer {
+
+  /**
+   * Returns the IDs of the {@link OpenMapTilesProfile} input sources this layer reads, so that sources no layer reads
+   * can be skipped.
+   * <p>
+   * By default this is the source for each processor interface the layer implements. Override it if a layer reads
+   * another source some other way.
+   */
+  default Set<String> requiredSources() {
+    Set<String> result = new TreeSet<>();
+    if (this instanceof OpenMapTilesProfile.NaturalEarthProcessor ||
+      this instanceof OpenMapTilesProfile.UsesRegionLookup) {
+      result.add(OpenMapTilesProfile.NATURAL_EARTH_SOURCE);
+    }
+    if (this instanceof OpenMapTilesProfile.OsmWaterPolygonProcessor) {
+      result.add(OpenMapTilesProfile.WATER_POLYGON_SOURCE);
+    }
+    if (this instanceof OpenMapTilesProfile.LakeCenterlineProcessor) {
+      result.add(OpenMapTilesProfile.LAKE_CENTERLINE_SOURCE);
+    }
+    if (this instanceof OpenMapTilesProfile.OsmAllProcessor ||
+      this instanceof ForwardingProfile.OsmRelationPreprocessor ||
+      !Tables.generateDispatchMap(List.of(this)).isEmpty()) {
+      result.add(OpenMapTilesProfile.OSM_SOURCE);
+    }
+    return result;
+  }
+}
@@ -3,6 +3,9 @@ package org.openmaptiles;
 import com.onthegomap.planetiler.Planetiler;
 import com.onthegomap.planetiler.config.Arguments;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 import org.openmaptiles.generated.OpenMapTilesSchema;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -28,28 +31,50 @@ public class OpenMapTilesMain {
       "name of the extract to download if osm_url/osm_path not specified (i.e. 'monaco' 'rhode island' 'australia' or 'planet')",
       "monaco"
     );
+    AtomicReference<OpenMapTilesProfile> profile = new AtomicReference<>();
 
-    Planetiler.create(arguments)
+    Planetiler planetiler = Planetiler.create(arguments)
       .setDefaultLanguages(OpenMapTilesSchema.LANGUAGES)
       .fetchWikidataNameTranslations(sourcesDir.resolve("wikidata_names.json"))
       // defer creation of the profile because it depends on data from the runner
-      .setProfile(OpenMapTilesProfile::new)
-      // override any of these with arguments: --osm_path=... or --osm_url=...
-      // or OSM_PATH=... OSM_URL=... environmental argument
-      // or osm_path=... osm_url=... in a config file
-      .addShapefileSource("EPSG:3857", OpenMapTilesProfile.LAKE_CENTERLINE_SOURCE,
+      .setProfile(runner -> {
+        profile.set(new OpenMapTilesProfile(runner));
+        return profile.get();
+      });
+
+    // skip downloading and reading sources that none of the layers being generated use, i.e. with --only-layers=poi
+    Set<String> requiredSources = profile.get().requiredSources();
+    for (String source : List.of(OpenMapTilesProfile.LAKE_CENTERLINE_SOURCE, OpenMapTilesProfile.WATER_POLYGON_SOURCE,
+      OpenMapTilesProfile.NATURAL_EARTH_SOURCE)) {
+      if (!requiredSources.contains(source)) {
+        LOGGER.info("Skipping {} source since no layers use it", source);
+      }
+    }
+
+    // override any of these with arguments: --osm_path=... or --osm_url=...
+    // or OSM_PATH=... OSM_URL=... environmental argument
+    // or osm_path=... osm_url=... in a config file
+    if (requiredSources.contains(OpenMapTilesProfile.LAKE_CENTERLINE_SOURCE)) {
+      planetiler.addShapefileSource("EPSG:3857", OpenMapTilesProfile.LAKE_CENTERLINE_SOURCE,
         sourcesDir.resolve("lake_centerline.shp.zip"),
         // upstream is at https://github.com/acalcutt/osm-lakelines/releases/download/latest/lake_centerline.shp.zip ,
         // following is same URL as used in the OpenMapTiles (but SHP format), a mirror maintained by MapTiler
-        "https://dev.maptiler.download/geodata/omt/lake_centerline.shp.zip")
-      .addShapefileSource(OpenMapTilesProfile.WATER_POLYGON_SOURCE,
+        "https://dev.maptiler.download/geodata/omt/lake_centerline.shp.zip");
+    }
+    if (requiredSources.contains(OpenMapTilesProfile.WATER_POLYGON_SOURCE)) {
+      planetiler.addShapefileSource(OpenMapTilesProfile.WATER_POLYGON_SOURCE,
         sourcesDir.resolve("water-polygons-split-3857.zip"),
-        "https://osmdata.openstreetmap.de/download/water-polygons-split-3857.zip")
-      .addNaturalEarthSource(OpenMapTilesProfile.NATURAL_EARTH_SOURCE,
+        "https://osmdata.openstreetmap.de/download/water-polygons-split-3857.zip");
+    }
+    if (requiredSources.contains(OpenMapTilesProfile.NATURAL_EARTH_SOURCE)) {
+      planetiler.addNaturalEarthSource(OpenMapTilesProfile.NATURAL_EARTH_SOURCE,
         sourcesDir.resolve("natural_earth_vector.sqlite.zip"),
         // upstream is at https://naciscdn.org/naturalearth/packages/natural_earth_vector.sqlite.zip ,
         // following is same URL as used in the OpenMapTiles, a mirror maintained by MapTiler
-        "https://dev.maptiler.download/geodata/omt/natural_earth_vector.sqlite.zip")
+        "https://dev.maptiler.download/geodata/omt/natural_earth_vector.sqlite.zip");
+    }
+    // always read OSM data, every layer uses it and it determines the default bounds of the output
+    planetiler
       .addOsmSource(OpenMapTilesProfile.OSM_SOURCE,
         sourcesDir.resolve(area.replaceAll("[^a-zA-Z]+", "_") + ".osm.pbf"),
         "planet".equalsIgnoreCase(area) ? ("aws:latest") : ("geofabrik:" + area))
@@ -57,6 +82,7 @@ public class OpenMapTilesMain {
       .setOutput("mbtiles", dataDir.resolve("output.mbtiles"))
       .run();
 
+    profile.get().logHandlerProfile();
     LOGGER.info("""
       Acknowledgments
       Generated vector tiles are produced work of OpenStreetMap data.
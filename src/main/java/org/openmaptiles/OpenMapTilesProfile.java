@@ -8,20 +8,28 @@ import com.onthegomap.planetiler.FeatureCollector;
 import com.onthegomap.planetiler.ForwardingProfile;
 import com.onthegomap.planetiler.Planetiler;
 import com.onthegomap.planetiler.Profile;
+import com.onthegomap.planetiler.VectorTile;
 import com.onthegomap.planetiler.config.PlanetilerConfig;
 import com.onthegomap.planetiler.expression.MultiExpression;
+import com.onthegomap.planetiler.geo.GeometryException;
 import com.onthegomap.planetiler.reader.SimpleFeature;
 import com.onthegomap.planetiler.reader.SourceFeature;
 import com.onthegomap.planetiler.reader.osm.OsmElement;
 import com.onthegomap.planetiler.stats.Stats;
 import com.onthegomap.planetiler.util.Translations;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.stream.Stream;
 import org.openmaptiles.addons.ExtraLayers;
+import org.openmaptiles.generated.CompiledMappings;
 import org.openmaptiles.generated.OpenMapTilesSchema;
 import org.openmaptiles.generated.Tables;
+import org.openmaptiles.layers.Boundary;
 import org.openmaptiles.layers.Transportation;
 import org.openmaptiles.layers.TransportationName;
 
@@ -42,7 +50,14 @@ import org.openmaptiles.layers.TransportationName;
  * </ul>
  * Layers can also subscribe to notifications when we finished processing an input source by implementing
  * {@link FinishHandler} or post-process features in that layer before rendering the output tile by implementing
- * {@link LayerPostProcessor}.
+ * {@link LayerPostProcessor}. Layers with rules that depend on the country or state a feature is in implement
+ * {@link UsesRegionLookup} to share one {@link RegionLookup} instead of loading natural earth polygons themselves.
+ * <p>
+ * Handlers see one element at a time because planetiler renders the features in each element's
+ * {@link FeatureCollector} as soon as {@link #processFeature(SourceFeature, FeatureCollector)} returns, and features
+ * take their geometry and ID from the element that collector was created for. Layers that need to look at many elements
+ * together should store what they need while processing each one and emit features from
+ * {@link FinishHandler#finish}, like {@link org.openmaptiles.layers.Poi} does for {@code agg_stop} groups.
  */
 public class OpenMapTilesProfile extends ForwardingProfile {
 
@@ -53,8 +68,28 @@ public class OpenMapTilesProfile extends ForwardingProfile {
   public static final String OSM_SOURCE = "osm";
   /** Index to efficiently find the imposm3 "table row" constructor from an OSM element based on its tags. */
   private final MultiExpression.Index<RowDispatch> osmMappings;
+  /**
+   * Allocation-free equivalent of {@link #osmMappings} used while processing each OSM element, backed by the generated
+   * {@link org.openmaptiles.generated.CompiledMappings} decision tree unless {@code osm_compiled_mappings=false}.
+   */
+  private final TableMatcher<RowDispatch> osmTableMatcher;
+  /** Reusable rows and match buffer for each worker thread. */
+  private final ThreadLocal<OsmDispatchState> dispatchState;
   /** Index variant that filters out any table only used by layers that implement IgnoreWikidata class. */
   private final MultiExpression.Index<Boolean> wikidataMappings;
+  /** Bitmask of {@link CompiledMappings} table IDs in {@link #wikidataMappings}. */
+  private final long wikidataTables;
+  private final boolean compiledMappings;
+  /** Skips OSM elements without any mapping key, or {@code null} if {@code osm_key_prefilter=false}. */
+  private final OsmKeyPrefilter keyPrefilter;
+  /** Sampled per-handler stats, or {@code null} unless {@code profile_handlers=true}. */
+  private final HandlerProfiler profiler;
+  /** IDs of the input sources that the layers this profile generates read. */
+  private final Set<String> requiredSources = new TreeSet<>();
+  /** The boundary layer if this profile generates it, to account for where it stores country boundary lines. */
+  private final Boundary boundaryLayer;
+  /** Post-processing for each layer wrapped with {@link #profiler}. */
+  private final Map<String, LayerPostProcessor> profiledPostProcessors = new HashMap<>();
 
   public OpenMapTilesProfile(Planetiler runner) {
     this(runner.translations(), runner.config(), runner.stats());
@@ -62,6 +97,16 @@ public class OpenMapTilesProfile extends ForwardingProfile {
 
   public OpenMapTilesProfile(Translations translations, PlanetilerConfig config, Stats stats) {
     super(config);
+    boolean profileHandlers = config.arguments().getBoolean(
+      "profile_handlers",
+      "record wall time, allocated bytes and features emitted by each layer handler and log a summary at the end",
+      false
+    );
+    profiler = profileHandlers ? new HandlerProfiler(stats, config.arguments().getInteger(
+      "profile_handlers_sample_interval",
+      "with profile_handlers, only measure 1 out of every N handler invocations to limit overhead",
+      100
+    )) : null;
 
     // register release/finish/feature postprocessor/osm relationship handler methods...
     List<Handler> layers = new ArrayList<>();
@@ -92,11 +137,37 @@ public class OpenMapTilesProfile extends ForwardingProfile {
       }
     }
 
+    // layers with per-country rules share one index of natural earth country and state polygons
+    if (layers.stream().anyMatch(UsesRegionLookup.class::isInstance)) {
+      var regions = new RegionLookup(stats);
+      for (Handler handler : layers) {
+        if (handler instanceof UsesRegionLookup consumer) {
+          consumer.setRegionLookup(regions);
+        }
+      }
+      layers.add(regions);
+      registerHandler(regions);
+    }
+
+    boundaryLayer = layers.stream()
+      .filter(Boundary.class::isInstance)
+      .map(Boundary.class::cast)
+      .findFirst()
+      .orElse(null);
+
     // register per-source input element handlers
+    Map<Class<?>, String> layerNames = new HashMap<>();
     for (Handler handler : layers) {
+      if (handler instanceof Layer layer) {
+        requiredSources.addAll(layer.requiredSources());
+      }
+      String layerName = handler instanceof HandlerForLayer forLayer ? forLayer.name() :
+        handler.getClass().getSimpleName();
+      layerNames.put(handler.getClass(), layerName);
       if (handler instanceof NaturalEarthProcessor processor) {
+        var profiled = profiler == null ? processor : profiler.wrap(layerName, processor);
         registerSourceHandler(NATURAL_EARTH_SOURCE,
-          (source, features) -> processor.processNaturalEarth(source.getSourceLayer(), source, features));
+          (source, features) -> profiled.processNaturalEarth(source.getSourceLayer(), source, features));
       }
       if (handler instanceof OsmWaterPolygonProcessor processor) {
         registerSourceHandler(WATER_POLYGON_SOURCE, processor::processOsmWater);
@@ -105,43 +176,117 @@ public class OpenMapTilesProfile extends ForwardingProfile {
         registerSourceHandler(LAKE_CENTERLINE_SOURCE, processor::processLakeCenterline);
       }
       if (handler instanceof OsmAllProcessor processor) {
-        registerSourceHandler(OSM_SOURCE, processor::processAllOsm);
+        var profiled = profiler == null ? processor : profiler.wrap(layerName, processor);
+        registerSourceHandler(OSM_SOURCE, profiled::processAllOsm);
+      }
+      if (profiler != null && handler instanceof LayerPostProcessor) {
+        profiledPostProcessors.put(layerName, profiler.wrap(new LayerPostProcessor() {
+          @Override
+          public List<VectorTile.Feature> postProcess(int zoom, List<VectorTile.Feature> items)
+            throws GeometryException {
+            return OpenMapTilesProfile.super.postProcessLayerFeatures(layerName, zoom, items);
+          }
+
+          @Override
+          public String name() {
+            return layerName;
+          }
+        }));
       }
     }
 
     // pre-process layers to build efficient indexes for matching OSM elements based on matching expressions
     // Map from imposm3 table row class to the layers that implement its handler.
     var handlerMap = Tables.generateDispatchMap(layers);
-    osmMappings = Tables.MAPPINGS
-      .mapResults(constructor -> {
-        var handlers = handlerMap.getOrDefault(constructor.rowClass(), List.of()).stream()
-          .map(r -> {
-            @SuppressWarnings("unchecked") var handler = (Tables.RowHandler<Tables.Row>) r.handler();
-            return handler;
-          })
-          .toList();
-        return new RowDispatch(constructor.create(), handlers);
-      }).simplify().indexAndWarn();
+    List<MultiExpression.Entry<RowDispatch>> dispatchMappings = new ArrayList<>();
+    List<TableMatcher.Table<RowDispatch>> dispatchTables = new ArrayList<>();
+    long wikidataTableIds = 0;
+    var tableMappings = Tables.MAPPINGS.expressions();
+    for (int id = 0; id < tableMappings.size(); id++) {
+      var entry = tableMappings.get(id);
+      var constructor = entry.result();
+      var tableHandlers = handlerMap.getOrDefault(constructor.rowClass(), List.of());
+      var handlers = tableHandlers.stream()
+        .map(r -> {
+          @SuppressWarnings("unchecked") var handler = (Tables.RowHandler<Tables.Row>) r.handler();
+          return profiler == null ? handler : profiler.wrap(layerNames.get(r.handlerClass()),
+            constructor.rowClass().getSimpleName(), handler);
+        })
+        .toList();
+      var rowDispatch = new RowDispatch(constructor.create(), constructor.reuse(), handlers);
+      dispatchMappings.add(MultiExpression.entry(rowDispatch, entry.expression()));
+      if (usesWikidata(tableHandlers)) {
+        wikidataTableIds |= 1L << id;
+      }
+      if (!handlers.isEmpty()) {
+        dispatchTables.add(new TableMatcher.Table<>(id, rowDispatch, entry.expression(), constructor.mappingKeys()));
+      }
+    }
+    osmMappings = MultiExpression.of(dispatchMappings).simplify().indexAndWarn();
+    compiledMappings = config.arguments().getBoolean(
+      "osm_compiled_mappings",
+      "set to false to match OSM elements to imposm3 tables by evaluating mapping expressions instead of generated code",
+      true
+    );
+    osmTableMatcher = new TableMatcher<>(dispatchTables, compiledMappings);
+    dispatchState = ThreadLocal.withInitial(() -> new OsmDispatchState(new Tables.RowPool(),
+      osmTableMatcher.newMatches()));
     wikidataMappings = Tables.MAPPINGS
-      .mapResults(constructor -> handlerMap.getOrDefault(constructor.rowClass(), List.of()).stream()
-        .anyMatch(handler -> !IgnoreWikidata.class.isAssignableFrom(handler.handlerClass()))
-      ).filterResults(b -> b).simplify().index();
+      .mapResults(constructor -> usesWikidata(handlerMap.getOrDefault(constructor.rowClass(), List.of())))
+      .filterResults(b -> b).simplify().index();
+    wikidataTables = wikidataTableIds;
+    keyPrefilter = config.arguments().getBoolean(
+      "osm_key_prefilter",
+      "skip OSM elements without any tag key from an imposm3 table mapping before matching them to tables",
+      true
+    ) ? new OsmKeyPrefilter(stats, source -> getTableMatches(source, dispatchState.get().matches())) : null;
 
     // register a handler for all OSM elements that forwards to imposm3 "table row" handler methods
     // based on efficient pre-processed index
     if (!osmMappings.isEmpty()) {
       registerSourceHandler(OSM_SOURCE, (source, features) -> {
-        for (var match : getTableMatches(source)) {
-          RowDispatch rowDispatch = match.match();
-          var row = rowDispatch.constructor.create(source, match.keys().getFirst());
-          for (Tables.RowHandler<Tables.Row> handler : rowDispatch.handlers()) {
-            handler.process(row, features);
+        if (keyPrefilter != null && !keyPrefilter.test(source)) {
+          return;
+        }
+        // reuse this worker's rows and match buffer instead of allocating new ones for every element
+        var state = dispatchState.get();
+        var matches = state.matches();
+        getTableMatches(source, matches);
+        for (int i = 0; i < matches.size(); i++) {
+          RowDispatch rowDispatch = matches.value(i);
+          var row = rowDispatch.reuse.reuse(state.rows(), source, matches.key(i));
+          var handlers = rowDispatch.handlers;
+          for (int j = 0; j < handlers.size(); j++) {
+            handlers.get(j).process(row, features);
           }
         }
       });
     }
   }
 
+  private static boolean usesWikidata(List<Tables.RowHandlerAndClass<?>> handlers) {
+    return handlers.stream().anyMatch(handler -> !IgnoreWikidata.class.isAssignableFrom(handler.handlerClass()));
+  }
+
+  @Override
+  public List<VectorTile.Feature> postProcessLayerFeatures(String layer, int zoom, List<VectorTile.Feature> items)
+    throws GeometryException {
+    var profiled = profiledPostProcessors.get(layer);
+    return profiled == null ? super.postProcessLayerFeatures(layer, zoom, items) : profiled.postProcess(zoom, items);
+  }
+
+  /** Returns the IDs of the input sources that any layer being generated reads, other sources can be skipped. */
+  public Set<String> requiredSources() {
+    return Collections.unmodifiableSet(requiredSources);
+  }
+
+  /** Logs the per-handler summary table if {@code profile_handlers=true}, should be called once the run finishes. */
+  public void logHandlerProfile() {
+    if (profiler != null) {
+      profiler.logSummary();
+    }
+  }
+
   @Override
   public Map<String, List<String>> dependsOnLayer() {
     return Map.of("transportation_name", List.of("transportation"));
@@ -152,8 +297,46 @@ public class OpenMapTilesProfile extends ForwardingProfile {
     return osmMappings.getMatchesWithTriggers(input);
   }
 
+  /** Returns a new buffer for a single thread to pass to {@link #getTableMatches(SourceFeature, TableMatcher.Matches)}. */
+  public TableMatcher.Matches<RowDispatch> newTableMatches() {
+    return osmTableMatcher.newMatches();
+  }
+
+  /**
+   * Replaces the contents of {@code matches} with the imposm3 tables that an input element's tags match without
+   * allocating, skipping tables that no layer handles.
+   */
+  public void getTableMatches(SourceFeature input, TableMatcher.Matches<RowDispatch> matches) {
+    osmTableMatcher.match(input, matches);
+  }
+
   @Override
   public boolean caresAboutWikidataTranslation(OsmElement elem) {
+    if (!compiledMappings) {
+      return caresAboutWikidataTranslationGeneric(elem);
+    }
+    // a way can match as either a line or polygon, and no compiled mapping requires both
+    boolean isPoint = elem instanceof OsmElement.Node;
+    boolean canBeLine = elem instanceof OsmElement.Way;
+    boolean canBePolygon = canBeLine || elem instanceof OsmElement.Relation;
+    // prune elements without any key from a relevant table before looking at tag values
+    long candidates = CompiledMappings.candidates(elem, isPoint, canBeLine, canBePolygon) & wikidataTables;
+    if (candidates == 0) {
+      return false;
+    } else if ((candidates & CompiledMappings.FALLBACK_TABLES) != 0) {
+      return caresAboutWikidataTranslationGeneric(elem);
+    }
+    while (candidates != 0) {
+      int id = Long.numberOfTrailingZeros(candidates);
+      candidates &= candidates - 1;
+      if (CompiledMappings.match(id, elem, isPoint, canBeLine, canBePolygon) != null) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private boolean caresAboutWikidataTranslationGeneric(OsmElement elem) {
     var tags = elem.tags();
     return switch (elem) {
       case OsmElement.Node ignored -> wikidataMappings.getOrElse(SimpleFeature.create(EMPTY_POINT, tags), false);
@@ -191,7 +374,7 @@ public class OpenMapTilesProfile extends ForwardingProfile {
   @Override
   public long estimateIntermediateDiskBytes(long osmFileSize) {
     // in late 2021, a 60gb OSM file used 200GB for intermediate storage
-    return osmFileSize * 200 / 60;
+    return osmFileSize * 200 / 60 + (boundaryLayer == null ? 0 : boundaryLayer.estimateSpilledBytes(osmFileSize));
   }
 
   @Override
@@ -202,8 +385,9 @@ public class OpenMapTilesProfile extends ForwardingProfile {
 
   @Override
   public long estimateRamRequired(long osmFileSize) {
-    // 20gb for a 67gb OSM file is safe, although less might be OK too
-    return osmFileSize * 20 / 67;
+    // 20gb for a 67gb OSM file is safe, although less might be OK too, and includes country boundary lines
+    // that boundary_spill_to_disk keeps on disk instead
+    return osmFileSize * 20 / 67 - (boundaryLayer == null ? 0 : boundaryLayer.estimateSpilledBytes(osmFileSize));
   }
 
   /**
@@ -220,6 +404,16 @@ public class OpenMapTilesProfile extends ForwardingProfile {
     void processNaturalEarth(String table, SourceFeature feature, FeatureCollector features);
   }
 
+  /**
+   * Layers should implement this interface to look up the natural earth country or state that features are in from a
+   * {@link RegionLookup} shared with other layers.
+   */
+  public interface UsesRegionLookup {
+
+    /** Called once before processing any elements with the lookup that is populated while reading natural earth. */
+    void setRegionLookup(RegionLookup regions);
+  }
+
   /**
    * Layers should implement this interface to subscribe to elements from
    * <a href="https://github.com/openmaptiles/osm-lakelines">OSM lake centerlines source</a>.
@@ -269,6 +463,13 @@ public class OpenMapTilesProfile extends ForwardingProfile {
 
   public record RowDispatch(
     Tables.Constructor constructor,
+    Tables.Reuser reuse,
     List<Tables.RowHandler<Tables.Row>> handlers
   ) {}
+
+  /** Per-worker state that lets the OSM element handler run without allocating rows or match lists. */
+  private record OsmDispatchState(
+    Tables.RowPool rows,
+    TableMatcher.Matches<RowDispatch> matches
+  ) {}
 }
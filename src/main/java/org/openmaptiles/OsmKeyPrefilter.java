@@ -0,0 +1,65 @@
+package org.openmaptiles;
+
+import com.onthegomap.planetiler.reader.SourceFeature;
+import com.onthegomap.planetiler.stats.Counter;
+import com.onthegomap.planetiler.stats.Stats;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import org.openmaptiles.generated.CompiledMappings;
+
+/**
+ * Rejects OSM elements without any tag key from an imposm3 table mapping, like untagged nodes or ways with only
+ * {@code source} tags, using the perfect hash set in {@link CompiledMappings#hasMappingKey} before any table matching
+ * work.
+ * <p>
+ * Counts how many elements it checks and rejects, and estimates the time saved by running the full table match on a
+ * random sample of rejected elements.
+ */
+final class OsmKeyPrefilter {
+
+  private static final int SAMPLE_INTERVAL = 1_000;
+
+  private final Consumer<SourceFeature> match;
+  private final Counter.MultiThreadCounter checked;
+  private final Counter.MultiThreadCounter rejected;
+  private final Counter.MultiThreadCounter sampled = Counter.newMultiThreadCounter();
+  private final Counter.MultiThreadCounter sampledSavedNanos = Counter.newMultiThreadCounter();
+
+  /**
+   * Creates a prefilter that reports stats to {@code stats}.
+   *
+   * @param match the table matching work that rejected elements avoid, only run on a sample of them to measure it
+   */
+  OsmKeyPrefilter(Stats stats, Consumer<SourceFeature> match) {
+    this.match = match;
+    checked = stats.longCounter("omt_osm_prefilter_checked");
+    rejected = stats.longCounter("omt_osm_prefilter_rejected");
+    stats.counter("omt_osm_prefilter_saved_nanos", this::estimatedSavedNanos);
+  }
+
+  /** Returns {@code true} if {@code element} might match a table, or {@code false} if it can be skipped. */
+  boolean test(SourceFeature element) {
+    checked.incBy(1);
+    if (CompiledMappings.hasMappingKey(element)) {
+      return true;
+    }
+    rejected.incBy(1);
+    if (ThreadLocalRandom.current().nextInt(SAMPLE_INTERVAL) == 0) {
+      long start = System.nanoTime();
+      CompiledMappings.hasMappingKey(element);
+      long filterNanos = System.nanoTime() - start;
+      start = System.nanoTime();
+      match.accept(element);
+      long matchNanos = System.nanoTime() - start;
+      sampled.incBy(1);
+      sampledSavedNanos.incBy(matchNanos - filterNanos);
+    }
+    return false;
+  }
+
+  /** Returns the time that matching rejected elements would have taken, extrapolated from the sampled elements. */
+  long estimatedSavedNanos() {
+    long samples = sampled.get();
+    return samples == 0 ? 0 : sampledSavedNanos.get() * rejected.get() / samples;
+  }
+}
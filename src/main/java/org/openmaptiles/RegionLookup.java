@@ -0,0 +1,401 @@
+package org.openmaptiles;
+
+import com.onthegomap.planetiler.FeatureCollector;
+import com.onthegomap.planetiler.ForwardingProfile;
+import com.onthegomap.planetiler.geo.GeoUtils;
+import com.onthegomap.planetiler.geo.GeometryException;
+import com.onthegomap.planetiler.reader.SourceFeature;
+import com.onthegomap.planetiler.stats.Stats;
+import com.onthegomap.planetiler.util.Parse;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.prep.PreparedGeometry;
+import org.locationtech.jts.geom.prep.PreparedGeometryFactory;
+import org.locationtech.jts.index.strtree.STRtree;
+
+/**
+ * Shared index of natural earth country and state polygons for layers with rules that depend on the region a feature is
+ * in, so each layer doesn't keep its own copy of the polygons and repeat the same geometry tests.
+ * <p>
+ * Polygons are loaded from {@value #COUNTRIES_TABLE} and {@value #STATES_TABLE} while reading natural earth, then
+ * indexed in an {@link STRtree} the first time they are queried. Each admin level also caches the regions that fully
+ * cover or partially overlap each grid cell at zoom {@value #CELL_ZOOM} that a query touches, so a lookup for a feature
+ * away from any border is a single hash lookup instead of a point-in-polygon test.
+ * <p>
+ * {@link OpenMapTilesProfile} creates one instance and hands it to every layer that implements
+ * {@link OpenMapTilesProfile.UsesRegionLookup}. It is safe to query from multiple threads once natural earth has been
+ * read.
+ * <p>
+ * Natural earth features are read on several threads, so results are ordered by their {@code ogc_fid} instead of the
+ * order they were loaded, and don't change from one run to the next.
+ */
+public class RegionLookup implements OpenMapTilesProfile.NaturalEarthProcessor, ForwardingProfile.Handler {
+
+  public static final String COUNTRIES_TABLE = "ne_10m_admin_0_countries";
+  public static final String STATES_TABLE = "ne_10m_admin_1_states_provinces";
+  /** Cells at z9 are about 80km wide, small enough that most are entirely inside or outside of each country. */
+  static final int CELL_ZOOM = 9;
+
+  private final Stats stats;
+  private final Level countries = new Level();
+  private final Level states = new Level();
+  private final Map<BufferedCountry, PreparedGeometry> bufferedCountries = new ConcurrentHashMap<>();
+
+  public RegionLookup(Stats stats) {
+    this.stats = stats;
+    stats.counter("omt_region_lookup_cached_cells", () -> countries.cachedCells() + states.cachedCells());
+  }
+
+  private static String isoA2(SourceFeature feature) {
+    // natural earth sets iso_a2=-99 for a few countries like France and Norway and puts the code in iso_a2_eh instead
+    String result = feature.getString("iso_a2");
+    return result == null || "-99".equals(result) ? feature.getString("iso_a2_eh") : result;
+  }
+
+  private static Double parseDouble(SourceFeature feature, String key) {
+    return Parse.parseDoubleOrNull(feature.getTag(key));
+  }
+
+  @Override
+  public void processNaturalEarth(String table, SourceFeature feature, FeatureCollector features) {
+    Level level = switch (table) {
+      case COUNTRIES_TABLE -> countries;
+      case STATES_TABLE -> states;
+      default -> null;
+    };
+    if (level == null || !feature.canBePolygon()) {
+      return;
+    }
+    try {
+      level.put(Parse.parseLongOrNull(feature.getTag("ogc_fid")), new Region(
+        isoA2(feature),
+        feature.getString("name"),
+        parseDouble(feature, "scalerank"),
+        parseDouble(feature, "labelrank"),
+        parseDouble(feature, "datarank")
+      ), feature.polygon());
+    } catch (GeometryException e) {
+      e.log(stats, "omt_region_lookup_ne",
+        "Error getting polygon for natural earth feature " + table + " " + feature.getTag("ogc_fid"));
+    }
+    if (level == countries) {
+      bufferedCountries.clear();
+    }
+  }
+
+  @Override
+  public void release() {
+    countries.release();
+    states.release();
+    bufferedCountries.clear();
+  }
+
+  /** Returns {@code true} if a country polygon with ISO 3166-1 alpha-2 code {@code isoA2} has been loaded. */
+  public boolean hasCountry(String isoA2) {
+    return !countries.withCode(isoA2).isEmpty();
+  }
+
+  /** Returns the countries whose polygons intersect {@code worldGeometry}, ordered by natural earth id. */
+  public List<Region> countries(Geometry worldGeometry) {
+    return countries.intersecting(worldGeometry);
+  }
+
+  /**
+   * Returns the ISO 3166-1 alpha-2 code of the country that intersects {@code worldGeometry}, or {@code null} if none
+   * do. If it intersects several, returns the one with the lowest natural earth id.
+   */
+  public String countryCode(Geometry worldGeometry) {
+    var result = countries(worldGeometry);
+    return result.isEmpty() ? null : result.getFirst().isoA2();
+  }
+
+  /**
+   * Returns {@code true} if {@code worldGeometry} intersects the country with ISO 3166-1 alpha-2 code {@code isoA2}.
+   */
+  public boolean inCountry(Geometry worldGeometry, String isoA2) {
+    return countries.intersects(worldGeometry, isoA2);
+  }
+
+  /**
+   * Returns {@code true} if {@code worldGeometry} intersects the country with ISO 3166-1 alpha-2 code {@code isoA2}
+   * expanded by {@code buffer} world units, for rules that should also apply to features just outside the country.
+   */
+  public boolean nearCountry(Geometry worldGeometry, String isoA2, double buffer) {
+    if (buffer <= 0) {
+      return inCountry(worldGeometry, isoA2);
+    }
+    var entries = countries.withCode(isoA2);
+    if (entries.isEmpty()) {
+      return false;
+    }
+    // most features are well inside the country, so try the cell cache before the buffered polygon
+    if (countries.intersects(worldGeometry, isoA2)) {
+      return true;
+    }
+    PreparedGeometry prepared = bufferedCountries.computeIfAbsent(new BufferedCountry(isoA2, buffer), key -> {
+      List<Geometry> buffered = new ArrayList<>(entries.size());
+      for (Entry entry : entries) {
+        buffered.add(entry.geometry.buffer(buffer));
+      }
+      return PreparedGeometryFactory.prepare(GeoUtils.JTS_FACTORY.buildGeometry(buffered).union());
+    });
+    return prepared.intersects(worldGeometry);
+  }
+
+  /**
+   * Returns the country containing {@code worldPoint}, or if none do then the nearest country with a bounding box that
+   * contains it, or {@code null} if there isn't one.
+   */
+  public Region countryContainingOrNearest(Point worldPoint) {
+    return countries.containingOrNearest(worldPoint);
+  }
+
+  /** Returns the states and provinces whose polygons intersect {@code worldGeometry}, ordered by natural earth id. */
+  public List<Region> states(Geometry worldGeometry) {
+    return states.intersecting(worldGeometry);
+  }
+
+  /**
+   * Attributes of a country or state polygon from natural earth.
+   *
+   * @param isoA2     ISO 3166-1 alpha-2 code of the country, or that the state is in
+   * @param name      natural earth {@code name} tag
+   * @param scalerank natural earth {@code scalerank} tag, or {@code null} if missing
+   * @param labelrank natural earth {@code labelrank} tag, or {@code null} if missing
+   * @param datarank  natural earth {@code datarank} tag, or {@code null} if missing
+   */
+  public record Region(String isoA2, String name, Double scalerank, Double labelrank, Double datarank) {}
+
+  private record BufferedCountry(String isoA2, double buffer) {}
+
+  /**
+   * A region and its polygon, ordered by natural earth id so results don't depend on the index's internal order or the
+   * order threads loaded them in. Regions without an id sort last, by when they were loaded.
+   */
+  private record Entry(long id, int loadOrder, Region region, Geometry geometry, PreparedGeometry prepared) {
+
+    static final Comparator<Entry> ORDER = Comparator.comparingLong(Entry::id).thenComparingInt(Entry::loadOrder);
+  }
+
+  /**
+   * The spatial index and grid cells built from one set of loaded regions. Loading another region replaces the whole
+   * index, so a cell computed from the old one can't end up in the new one.
+   */
+  private record Index(STRtree tree, Map<Long, Cell> cells) {}
+
+  /**
+   * Regions that fully cover a grid cell, and the regions that only cover part of it and need a geometry test.
+   *
+   * @param fullRegions {@code full} as an unmodifiable list of regions to return without allocating
+   */
+  private record Cell(Entry[] full, Entry[] partial, List<Region> fullRegions) {
+
+    static final Cell EMPTY = new Cell(new Entry[0], new Entry[0], List.of());
+
+    boolean fullyCovers(Entry entry) {
+      for (Entry e : full) {
+        if (e == entry) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    boolean partiallyCovers(Entry entry) {
+      for (Entry e : partial) {
+        if (e == entry) {
+          return true;
+        }
+      }
+      return false;
+    }
+  }
+
+  /** Polygons and cached grid cells for one admin level. */
+  private static class Level {
+
+    private static final double CELL_SIZE = 1d / (1 << CELL_ZOOM);
+    private final List<Entry> entries = new ArrayList<>();
+    private final Map<String, List<Entry>> byCode = new ConcurrentHashMap<>();
+    private volatile Index index = null;
+
+    private static int cell(double worldCoord) {
+      return (int) Math.floor(Math.clamp(worldCoord, 0, 1 - CELL_SIZE / 2) / CELL_SIZE);
+    }
+
+    private static long key(int x, int y) {
+      return ((long) x << 32) | y;
+    }
+
+    synchronized void put(Long id, Region region, Geometry geometry) {
+      var entry = new Entry(id == null ? Long.MAX_VALUE : id, entries.size(), region, geometry,
+        PreparedGeometryFactory.prepare(geometry));
+      entries.add(entry);
+      if (region.isoA2() != null) {
+        byCode.computeIfAbsent(region.isoA2(), code -> new ArrayList<>()).add(entry);
+      }
+      // regions are normally all loaded before the first query, but rebuild the index if one shows up later
+      index = null;
+    }
+
+    synchronized void release() {
+      entries.clear();
+      byCode.clear();
+      index = null;
+    }
+
+    int cachedCells() {
+      Index result = index;
+      return result == null ? 0 : result.cells.size();
+    }
+
+    List<Entry> withCode(String isoA2) {
+      return byCode.getOrDefault(isoA2, List.of());
+    }
+
+    private Index index() {
+      Index result = index;
+      if (result == null) {
+        synchronized (this) {
+          result = index;
+          if (result == null) {
+            STRtree tree = new STRtree();
+            for (Entry entry : entries) {
+              tree.insert(entry.geometry.getEnvelopeInternal(), entry);
+            }
+            tree.build();
+            result = new Index(tree, new ConcurrentHashMap<>());
+            index = result;
+          }
+        }
+      }
+      return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Entry> candidates(Index index, Envelope envelope) {
+      List<Entry> result = new ArrayList<>(index.tree.query(envelope));
+      result.sort(Entry.ORDER);
+      return result;
+    }
+
+    private List<Entry> candidates(Envelope envelope) {
+      return candidates(index(), envelope);
+    }
+
+    /** Returns the cell containing {@code envelope}, or {@code null} if it spans more than one. */
+    private Cell cell(Envelope envelope) {
+      int x = cell(envelope.getMinX());
+      int y = cell(envelope.getMinY());
+      if (x != cell(envelope.getMaxX()) || y != cell(envelope.getMaxY())) {
+        return null;
+      }
+      Index index = index();
+      long key = key(x, y);
+      Cell result = index.cells.get(key);
+      if (result == null) {
+        // compute outside of the map so no lock is held while querying the index, and keep whichever thread wins
+        result = computeCell(index, x, y);
+        Cell existing = index.cells.putIfAbsent(key, result);
+        if (existing != null) {
+          result = existing;
+        }
+      }
+      return result;
+    }
+
+    private static Cell computeCell(Index index, int x, int y) {
+      var envelope = new Envelope(x * CELL_SIZE, (x + 1) * CELL_SIZE, y * CELL_SIZE, (y + 1) * CELL_SIZE);
+      Geometry box = GeoUtils.JTS_FACTORY.toGeometry(envelope);
+      List<Entry> full = new ArrayList<>();
+      List<Entry> partial = new ArrayList<>();
+      for (Entry entry : candidates(index, envelope)) {
+        if (entry.prepared.contains(box)) {
+          full.add(entry);
+        } else if (entry.prepared.intersects(box)) {
+          partial.add(entry);
+        }
+      }
+      if (full.isEmpty() && partial.isEmpty()) {
+        return Cell.EMPTY;
+      }
+      return new Cell(full.toArray(Entry[]::new), partial.toArray(Entry[]::new),
+        full.stream().map(Entry::region).toList());
+    }
+
+    List<Region> intersecting(Geometry geometry) {
+      Envelope envelope = geometry.getEnvelopeInternal();
+      if (envelope.isNull()) {
+        return List.of();
+      }
+      Cell cell = cell(envelope);
+      List<Entry> candidates;
+      if (cell != null) {
+        if (cell.partial.length == 0) {
+          return cell.fullRegions;
+        }
+        candidates = new ArrayList<>(cell.full.length + cell.partial.length);
+        candidates.addAll(List.of(cell.full));
+        for (Entry entry : cell.partial) {
+          if (entry.prepared.intersects(geometry)) {
+            candidates.add(entry);
+          }
+        }
+        candidates.sort(Entry.ORDER);
+      } else {
+        candidates = candidates(envelope);
+        candidates.removeIf(entry -> !entry.prepared.intersects(geometry));
+      }
+      List<Region> result = new ArrayList<>(candidates.size());
+      for (Entry entry : candidates) {
+        result.add(entry.region);
+      }
+      return result;
+    }
+
+    boolean intersects(Geometry geometry, String isoA2) {
+      var entries = withCode(isoA2);
+      if (entries.isEmpty()) {
+        return false;
+      }
+      Envelope envelope = geometry.getEnvelopeInternal();
+      if (envelope.isNull()) {
+        return false;
+      }
+      Cell cell = cell(envelope);
+      for (Entry entry : entries) {
+        if (cell == null) {
+          if (entry.prepared.intersects(geometry)) {
+            return true;
+          }
+        } else if (cell.fullyCovers(entry) || (cell.partiallyCovers(entry) && entry.prepared.intersects(geometry))) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    Region containingOrNearest(Point point) {
+      var containing = intersecting(point);
+      if (!containing.isEmpty()) {
+        return containing.getFirst();
+      }
+      Entry nearest = null;
+      double nearestDistance = Double.POSITIVE_INFINITY;
+      for (Entry entry : candidates(point.getEnvelopeInternal())) {
+        double distance = entry.geometry.distance(point);
+        if (distance < nearestDistance) {
+          nearest = entry;
+          nearestDistance = distance;
+        }
+      }
+      return nearest == null ? null : nearest.region;
+    }
+  }
+}
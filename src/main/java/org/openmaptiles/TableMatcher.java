@@ -0,0 +1,198 @@
+package org.openmaptiles;
+
+import com.onthegomap.planetiler.expression.Expression;
+import com.onthegomap.planetiler.reader.SourceFeature;
+import com.onthegomap.planetiler.reader.WithTags;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.openmaptiles.generated.CompiledMappings;
+
+/**
+ * Finds the imposm3 tables that an element belongs to without allocating, as an alternative to
+ * {@link com.onthegomap.planetiler.expression.MultiExpression.Index#getMatchesWithTriggers(WithTags)} for the per-element
+ * hot path.
+ * <p>
+ * By default, candidate tables come from the switch on tag keys in {@link CompiledMappings} and each one is matched
+ * using its generated decision tree. The generic fallback looks tables up by the keys on the element that appear in
+ * their mapping, then evaluates each candidate table's mapping expression. Either way, tables are matched in table
+ * order and results go into a reusable {@link Matches} buffer that must be confined to a single worker thread.
+ *
+ * @param <T> the value associated with each table
+ */
+public class TableMatcher<T> {
+
+  private final List<Table<T>> tables;
+  private final Map<String, int[]> tablesByKey = new HashMap<>();
+  /** Index into {@link #tables} by {@link CompiledMappings} table ID, or {@code null} to use the generic fallback. */
+  private final int[] tablesById;
+  /** Bitmask of {@link CompiledMappings} table IDs in {@link #tables}. */
+  private final long compiledTables;
+
+  /**
+   * Creates a matcher over {@code tables}.
+   *
+   * @param tables              the ID, value, mapping expression, and keys an element needs at least one of to match
+   *                            for each table
+   * @param useCompiledMappings {@code true} to match using {@link CompiledMappings}, which requires every table to have
+   *                            an ID, or {@code false} to evaluate each table's mapping expression instead
+   */
+  public TableMatcher(List<Table<T>> tables, boolean useCompiledMappings) {
+    this.tables = List.copyOf(tables);
+    for (int i = 0; i < this.tables.size(); i++) {
+      for (String key : this.tables.get(i).mappingKeys()) {
+        int[] ids = tablesByKey.getOrDefault(key, new int[0]);
+        if (ids.length == 0 || ids[ids.length - 1] != i) {
+          ids = Arrays.copyOf(ids, ids.length + 1);
+          ids[ids.length - 1] = i;
+          tablesByKey.put(key, ids);
+        }
+      }
+    }
+    if (useCompiledMappings) {
+      long mask = 0;
+      tablesById = new int[CompiledMappings.NUM_TABLES];
+      int lastId = -1;
+      for (int i = 0; i < this.tables.size(); i++) {
+        int id = this.tables.get(i).id();
+        if (id <= lastId || id >= CompiledMappings.NUM_TABLES) {
+          throw new IllegalArgumentException(
+            "Tables must have ascending IDs in Tables.MAPPINGS to use compiled mappings, got " + id + " after " + lastId);
+        }
+        tablesById[id] = i;
+        mask |= 1L << id;
+        lastId = id;
+      }
+      compiledTables = mask;
+    } else {
+      tablesById = null;
+      compiledTables = 0;
+    }
+  }
+
+  /** Returns a new reusable match buffer that a single worker thread can pass to {@link #match}. */
+  public Matches<T> newMatches() {
+    return new Matches<>(tables.size());
+  }
+
+  /** Replaces the contents of {@code out} with the tables that {@code element} matches, in table order. */
+  public void match(SourceFeature element, Matches<T> out) {
+    if (tablesById != null) {
+      matchCompiled(element, out);
+    } else {
+      matchGeneric(element, out);
+    }
+  }
+
+  private void matchCompiled(SourceFeature element, Matches<T> out) {
+    out.size = 0;
+    boolean isPoint = element.isPoint();
+    boolean canBeLine = element.canBeLine();
+    boolean canBePolygon = element.canBePolygon();
+    long candidates = CompiledMappings.candidates(element, isPoint, canBeLine, canBePolygon) & compiledTables;
+    while (candidates != 0) {
+      int id = Long.numberOfTrailingZeros(candidates);
+      candidates &= candidates - 1;
+      Table<T> table = tables.get(tablesById[id]);
+      if ((CompiledMappings.FALLBACK_TABLES & (1L << id)) != 0) {
+        evaluate(table, element, out);
+      } else {
+        String key = CompiledMappings.match(id, element, isPoint, canBeLine, canBePolygon);
+        if (key != null) {
+          out.add(table.value(), key);
+        }
+      }
+    }
+  }
+
+  private void matchGeneric(WithTags element, Matches<T> out) {
+    out.size = 0;
+    int generation = out.nextGeneration();
+    int numCandidates = 0;
+    int[] candidates = out.candidates;
+    for (String key : element.tags().keySet()) {
+      int[] ids = tablesByKey.get(key);
+      if (ids != null) {
+        for (int id : ids) {
+          if (out.seen[id] != generation) {
+            out.seen[id] = generation;
+            candidates[numCandidates++] = id;
+          }
+        }
+      }
+    }
+    if (numCandidates > 1) {
+      Arrays.sort(candidates, 0, numCandidates);
+    }
+    for (int i = 0; i < numCandidates; i++) {
+      evaluate(tables.get(candidates[i]), element, out);
+    }
+  }
+
+  private static <T> void evaluate(Table<T> table, WithTags element, Matches<T> out) {
+    List<String> matchKeys = out.matchKeys;
+    matchKeys.clear();
+    if (table.mapping().evaluate(element, matchKeys)) {
+      out.add(table.value(), matchKeys.isEmpty() ? null : matchKeys.getFirst());
+    }
+  }
+
+  /**
+   * A table that elements can match.
+   *
+   * @param id the index of this table in {@link org.openmaptiles.generated.Tables#MAPPINGS} that identifies it in
+   *           {@link CompiledMappings}, or {@code -1} for tables that only the generic fallback can match
+   */
+  public record Table<T>(int id, T value, Expression mapping, List<String> mappingKeys) {}
+
+  /** Reusable buffer of the tables that an element matched and the key that triggered each match. */
+  public static final class Matches<T> {
+
+    private final int[] candidates;
+    private final int[] seen;
+    private final List<String> matchKeys = new ArrayList<>();
+    private int generation = 0;
+    private final Object[] values;
+    private final String[] keys;
+    private int size = 0;
+
+    private Matches(int numTables) {
+      candidates = new int[numTables];
+      seen = new int[numTables];
+      values = new Object[numTables];
+      keys = new String[numTables];
+    }
+
+    private int nextGeneration() {
+      if (++generation == 0) {
+        Arrays.fill(seen, 0);
+        generation = 1;
+      }
+      return generation;
+    }
+
+    private void add(T value, String key) {
+      values[size] = value;
+      keys[size] = key;
+      size++;
+    }
+
+    /** Returns the number of tables matched. */
+    public int size() {
+      return size;
+    }
+
+    /** Returns the value for the {@code i}th matching table. */
+    @SuppressWarnings("unchecked")
+    public T value(int i) {
+      return (T) values[i];
+    }
+
+    /** Returns the tag key that caused the {@code i}th table to match, for {@code mapping_key} columns. */
+    public String key(int i) {
+      return keys[i];
+    }
+  }
+}
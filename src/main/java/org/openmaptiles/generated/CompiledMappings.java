@@ -0,0 +1,1088 @@
+/*
+Copyright (c) 2024, MapTiler.com & OpenMapTiles contributors.
+All rights reserved.
+
+Code license: BSD 3-Clause License
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+* Redistributions of source code must retain the above copyright notice, this
+  list of conditions and the following disclaimer.
+
+* Redistributions in binary form must reproduce the above copyright notice,
+  this list of conditions and the following disclaimer in the documentation
+  and/or other materials provided with the distribution.
+
+* Neither the name of the copyright holder nor the names of its
+  contributors may be used to endorse or promote products derived from
+  this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+Design license: CC-BY 4.0
+
+See https://github.com/openmaptiles/openmaptiles/blob/master/LICENSE.md for details on usage
+*/
+// AUTOGENERATED BY Generate.java -- DO NOT MODIFY
+
+package org.openmaptiles.generated;
+
+import com.onthegomap.planetiler.reader.WithTags;
+
+/**
+ * The imposm3 table mappings from {@link Tables} compiled into a decision tree that switches on tag keys, then tag
+ * values, then geometry type to find the tables an element appears in without evaluating the generic
+ * {@link Tables#MAPPINGS} expressions.
+ * <p>
+ * Tables are identified by their index in {@link Tables#MAPPINGS}, and geometry type flags are passed in explicitly
+ * so that callers can match tags before creating a source feature.
+ */
+@SuppressWarnings("unused")
+public class CompiledMappings {
+
+  /** Number of tables in {@link Tables#MAPPINGS}. */
+  public static final int NUM_TABLES = 29;
+  /** Bitmask of the tables that point elements can appear in. */
+  public static final long POINT_TABLES = 0x17dd0410L;
+  /** Bitmask of the tables that elements which can be lines can appear in. */
+  public static final long LINE_TABLES = 0x7a22L;
+  /** Bitmask of the tables that elements which can be polygons can appear in. */
+  public static final long POLYGON_TABLES = 0x1a2281cdL;
+  /**
+   * Bitmask of the tables with mappings that could not be compiled, callers need to evaluate their {@code MAPPING}
+   * expression instead.
+   */
+  public static final long FALLBACK_TABLES = 0L;
+  /** Multiplier that gives every tag key in {@link #tablesWithKey} a distinct slot in {@link #MAPPING_KEYS}. */
+  private static final int MAPPING_KEY_MULTIPLIER = 0x9e3779b9;
+  private static final int MAPPING_KEY_BITS = 8;
+  /** Perfect hash set of every tag key that appears in a table mapping. */
+  private static final String[] MAPPING_KEYS = new String[1 << MAPPING_KEY_BITS];
+
+  static {
+    for (String key : new String[]{
+      "addr:housenumber",
+      "aerialway",
+      "aeroway",
+      "amenity",
+      "area:aeroway",
+      "barrier",
+      "boundary",
+      "building",
+      "building:part",
+      "highway",
+      "historic",
+      "landuse",
+      "leisure",
+      "location",
+      "man_made",
+      "natural",
+      "office",
+      "place",
+      "public_transport",
+      "railway",
+      "route",
+      "service",
+      "shop",
+      "sport",
+      "tourism",
+      "water",
+      "waterway",
+      "wetland",
+      "zoo",
+    }) {
+      MAPPING_KEYS[mappingKeySlot(key)] = key;
+    }
+  }
+
+  private CompiledMappings() {}
+
+  private static int mappingKeySlot(String key) {
+    return (key.hashCode() * MAPPING_KEY_MULTIPLIER) >>> (Integer.SIZE - MAPPING_KEY_BITS);
+  }
+
+  /**
+   * Returns {@code true} if {@code key} appears in any table mapping, using a single probe into a collision-free hash
+   * table instead of the {@link #tablesWithKey} switch.
+   */
+  public static boolean isMappingKey(String key) {
+    String candidate = MAPPING_KEYS[mappingKeySlot(key)];
+    return candidate != null && (candidate == key || candidate.equals(key));
+  }
+
+  /** Returns {@code false} if none of an element's tag keys appear in a table mapping, so it cannot match any table. */
+  public static boolean hasMappingKey(WithTags element) {
+    for (String key : element.tags().keySet()) {
+      if (isMappingKey(key)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /** Returns a bitmask of the tables that reference tag {@code key} in their mapping. */
+  public static long tablesWithKey(String key) {
+    return switch (key) {
+      case "addr:housenumber" -> 0x2000000L;
+      case "aerialway" -> 0xc002000L;
+      case "aeroway" -> 0x10020700L;
+      case "amenity" -> 0xc000008L;
+      case "area:aeroway" -> 0x100L;
+      case "barrier" -> 0xc000000L;
+      case "boundary" -> 0xc0L;
+      case "building" -> 0xc020000L;
+      case "building:part" -> 0x20000L;
+      case "highway" -> 0xc018800L;
+      case "historic" -> 0xc000040L;
+      case "landuse" -> 0xc00000dL;
+      case "leisure" -> 0xc00004dL;
+      case "location" -> 0x20000L;
+      case "man_made" -> 0x8800L;
+      case "natural" -> 0x40035L;
+      case "office" -> 0xc000000L;
+      case "place" -> 0x1fc0008L;
+      case "public_transport" -> 0x8800L;
+      case "railway" -> 0xc001000L;
+      case "route" -> 0x4000L;
+      case "service" -> 0x800L;
+      case "shop" -> 0xc000000L;
+      case "sport" -> 0xc000000L;
+      case "tourism" -> 0xc000008L;
+      case "water" -> 0x1L;
+      case "waterway" -> 0xc00000bL;
+      case "wetland" -> 0x4L;
+      case "zoo" -> 0xc000000L;
+      default -> 0L;
+    };
+  }
+
+  /** Returns a bitmask of the tables that an element with these tags and geometry type might appear in. */
+  public static long candidates(WithTags element, boolean isPoint, boolean canBeLine, boolean canBePolygon) {
+    long geometryTables = (isPoint ? POINT_TABLES : 0L) | (canBeLine ? LINE_TABLES : 0L) |
+      (canBePolygon ? POLYGON_TABLES : 0L);
+    if (geometryTables == 0L) {
+      return 0L;
+    }
+    long result = 0L;
+    for (String key : element.tags().keySet()) {
+      result |= tablesWithKey(key);
+    }
+    return result & geometryTables;
+  }
+
+  /**
+   * Returns the tag key that causes an element to appear in {@code table}, or {@code null} if it does not match the
+   * table's mapping.
+   */
+  public static String match(int table, WithTags element, boolean isPoint, boolean canBeLine, boolean canBePolygon) {
+    return switch (table) {
+      case 0 -> osmWaterPolygon(element, isPoint, canBeLine, canBePolygon);
+      case 1 -> osmWaterwayLinestring(element, isPoint, canBeLine, canBePolygon);
+      case 2 -> osmLandcoverPolygon(element, isPoint, canBeLine, canBePolygon);
+      case 3 -> osmLandusePolygon(element, isPoint, canBeLine, canBePolygon);
+      case 4 -> osmPeakPoint(element, isPoint, canBeLine, canBePolygon);
+      case 5 -> osmMountainLinestring(element, isPoint, canBeLine, canBePolygon);
+      case 6 -> osmParkPolygon(element, isPoint, canBeLine, canBePolygon);
+      case 7 -> osmBoundaryPolygon(element, isPoint, canBeLine, canBePolygon);
+      case 8 -> osmAerowayPolygon(element, isPoint, canBeLine, canBePolygon);
+      case 9 -> osmAerowayLinestring(element, isPoint, canBeLine, canBePolygon);
+      case 10 -> osmAerowayPoint(element, isPoint, canBeLine, canBePolygon);
+      case 11 -> osmHighwayLinestring(element, isPoint, canBeLine, canBePolygon);
+      case 12 -> osmRailwayLinestring(element, isPoint, canBeLine, canBePolygon);
+      case 13 -> osmAerialwayLinestring(element, isPoint, canBeLine, canBePolygon);
+      case 14 -> osmShipwayLinestring(element, isPoint, canBeLine, canBePolygon);
+      case 15 -> osmHighwayPolygon(element, isPoint, canBeLine, canBePolygon);
+      case 16 -> osmHighwayPoint(element, isPoint, canBeLine, canBePolygon);
+      case 17 -> osmBuildingPolygon(element, isPoint, canBeLine, canBePolygon);
+      case 18 -> osmMarinePoint(element, isPoint, canBeLine, canBePolygon);
+      case 19 -> osmContinentPoint(element, isPoint, canBeLine, canBePolygon);
+      case 20 -> osmCountryPoint(element, isPoint, canBeLine, canBePolygon);
+      case 21 -> osmIslandPolygon(element, isPoint, canBeLine, canBePolygon);
+      case 22 -> osmIslandPoint(element, isPoint, canBeLine, canBePolygon);
+      case 23 -> osmStatePoint(element, isPoint, canBeLine, canBePolygon);
+      case 24 -> osmCityPoint(element, isPoint, canBeLine, canBePolygon);
+      case 25 -> osmHousenumberPoint(element, isPoint, canBeLine, canBePolygon);
+      case 26 -> osmPoiPoint(element, isPoint, canBeLine, canBePolygon);
+      case 27 -> osmPoiPolygon(element, isPoint, canBeLine, canBePolygon);
+      case 28 -> osmAerodromeLabelPoint(element, isPoint, canBeLine, canBePolygon);
+      default -> null;
+    };
+  }
+
+  private static String value(WithTags element, String key) {
+    Object value = element.getTag(key);
+    return value == null ? "" : value.toString();
+  }
+
+  /** Compiled {@link Tables.OsmWaterPolygon#MAPPING}. */
+  private static String osmWaterPolygon(WithTags element, boolean isPoint, boolean canBeLine, boolean canBePolygon) {
+    if (!canBePolygon) {
+      return null;
+    }
+    String key = switch (value(element, "landuse")) {
+      case "reservoir", "basin", "salt_pond" -> "landuse";
+      default -> null;
+    };
+    if (key == null) {
+      key = switch (value(element, "leisure")) {
+        case "swimming_pool" -> "leisure";
+        default -> null;
+      };
+    }
+    if (key == null) {
+      key = switch (value(element, "natural")) {
+        case "water", "bay", "spring" -> "natural";
+        default -> null;
+      };
+    }
+    if (key == null) {
+      key = switch (value(element, "waterway")) {
+        case "dock" -> "waterway";
+        default -> null;
+      };
+    }
+    if (key == null) {
+      key = switch (value(element, "water")) {
+        case "river", "stream", "canal", "ditch", "drain", "pond", "basin", "wastewater" -> "water";
+        default -> null;
+      };
+    }
+    if (key == null) {
+      return null;
+    }
+    key = switch (value(element, "covered")) {
+      case "yes" -> null;
+      default -> key;
+    };
+    return key;
+  }
+
+  /** Compiled {@link Tables.OsmWaterwayLinestring#MAPPING}. */
+  private static String osmWaterwayLinestring(WithTags element, boolean isPoint, boolean canBeLine,
+    boolean canBePolygon) {
+    if (!canBeLine) {
+      return null;
+    }
+    String key = switch (value(element, "waterway")) {
+      case "stream", "river", "canal", "drain", "ditch" -> "waterway";
+      default -> null;
+    };
+    return key;
+  }
+
+  /** Compiled {@link Tables.OsmLandcoverPolygon#MAPPING}. */
+  private static String osmLandcoverPolygon(WithTags element, boolean isPoint, boolean canBeLine,
+    boolean canBePolygon) {
+    if (!canBePolygon) {
+      return null;
+    }
+    String key = switch (value(element, "landuse")) {
+      case "allotments", "farm", "farmland", "orchard", "flowerbed", "plant_nursery", "vineyard", "grass", "grassland",
+        "meadow", "forest", "village_green", "recreation_ground" -> "landuse";
+      default -> null;
+    };
+    if (key == null) {
+      key = switch (value(element, "natural")) {
+        case "wood", "wetland", "fell", "grassland", "heath", "scrub", "shrubbery", "tundra", "glacier", "bare_rock",
+          "scree", "beach", "sand", "dune" -> "natural";
+        default -> null;
+      };
+    }
+    if (key == null) {
+      key = switch (value(element, "leisure")) {
+        case "park", "garden", "golf_course" -> "leisure";
+        default -> null;
+      };
+    }
+    if (key == null) {
+      key = switch (value(element, "wetland")) {
+        case "bog", "swamp", "wet_meadow", "marsh", "reedbed", "saltern", "tidalflat", "saltmarsh",
+          "mangrove" -> "wetland";
+        default -> null;
+      };
+    }
+    return key;
+  }
+
+  /** Compiled {@link Tables.OsmLandusePolygon#MAPPING}. */
+  private static String osmLandusePolygon(WithTags element, boolean isPoint, boolean canBeLine, boolean canBePolygon) {
+    if (!canBePolygon) {
+      return null;
+    }
+    String key = switch (value(element, "landuse")) {
+      case "railway", "cemetery", "military", "quarry", "residential", "commercial", "industrial", "garages",
+        "retail" -> "landuse";
+      default -> null;
+    };
+    if (key == null) {
+      key = switch (value(element, "amenity")) {
+        case "bus_station", "school", "university", "kindergarten", "college", "library", "hospital",
+          "grave_yard" -> "amenity";
+        default -> null;
+      };
+    }
+    if (key == null) {
+      key = switch (value(element, "leisure")) {
+        case "stadium", "pitch", "playground", "track" -> "leisure";
+        default -> null;
+      };
+    }
+    if (key == null) {
+      key = switch (value(element, "tourism")) {
+        case "theme_park", "zoo" -> "tourism";
+        default -> null;
+      };
+    }
+    if (key == null) {
+      key = switch (value(element, "place")) {
+        case "suburb", "quarter", "neighbourhood" -> "place";
+        default -> null;
+      };
+    }
+    if (key == null) {
+      key = switch (value(element, "waterway")) {
+        case "dam" -> "waterway";
+        default -> null;
+      };
+    }
+    return key;
+  }
+
+  /** Compiled {@link Tables.OsmPeakPoint#MAPPING}. */
+  private static String osmPeakPoint(WithTags element, boolean isPoint, boolean canBeLine, boolean canBePolygon) {
+    if (!isPoint) {
+      return null;
+    }
+    String key = switch (value(element, "natural")) {
+      case "peak", "volcano", "saddle" -> "natural";
+      default -> null;
+    };
+    return key;
+  }
+
+  /** Compiled {@link Tables.OsmMountainLinestring#MAPPING}. */
+  private static String osmMountainLinestring(WithTags element, boolean isPoint, boolean canBeLine,
+    boolean canBePolygon) {
+    if (!canBeLine) {
+      return null;
+    }
+    String key = switch (value(element, "natural")) {
+      case "ridge", "cliff", "arete" -> "natural";
+      default -> null;
+    };
+    return key;
+  }
+
+  /** Compiled {@link Tables.OsmParkPolygon#MAPPING}. */
+  private static String osmParkPolygon(WithTags element, boolean isPoint, boolean canBeLine, boolean canBePolygon) {
+    if (!canBePolygon) {
+      return null;
+    }
+    String key = switch (value(element, "leisure")) {
+      case "nature_reserve" -> "leisure";
+      default -> null;
+    };
+    if (key == null) {
+      key = switch (value(element, "boundary")) {
+        case "national_park", "protected_area", "aboriginal_lands" -> "boundary";
+        default -> null;
+      };
+    }
+    if (key == null) {
+      key = switch (value(element, "historic")) {
+        case "archaeological_site", "battlefield", "district" -> "historic";
+        default -> null;
+      };
+    }
+    return key;
+  }
+
+  /** Compiled {@link Tables.OsmBoundaryPolygon#MAPPING}. */
+  private static String osmBoundaryPolygon(WithTags element, boolean isPoint, boolean canBeLine, boolean canBePolygon) {
+    if (!canBePolygon) {
+      return null;
+    }
+    String key = switch (value(element, "boundary")) {
+      case "aboriginal_lands" -> "boundary";
+      default -> null;
+    };
+    if (key == null) {
+      return null;
+    }
+    key = switch (value(element, "type")) {
+      case "boundary" -> key;
+      default -> null;
+    };
+    return key;
+  }
+
+  /** Compiled {@link Tables.OsmAerowayPolygon#MAPPING}. */
+  private static String osmAerowayPolygon(WithTags element, boolean isPoint, boolean canBeLine, boolean canBePolygon) {
+    if (!canBePolygon) {
+      return null;
+    }
+    String key = switch (value(element, "aeroway")) {
+      case "aerodrome", "heliport", "runway", "helipad", "taxiway", "apron" -> "aeroway";
+      default -> null;
+    };
+    if (key == null) {
+      key = switch (value(element, "area:aeroway")) {
+        case "aerodrome", "heliport", "runway", "helipad", "taxiway", "apron" -> "area:aeroway";
+        default -> null;
+      };
+    }
+    return key;
+  }
+
+  /** Compiled {@link Tables.OsmAerowayLinestring#MAPPING}. */
+  private static String osmAerowayLinestring(WithTags element, boolean isPoint, boolean canBeLine,
+    boolean canBePolygon) {
+    if (!canBeLine) {
+      return null;
+    }
+    String key = switch (value(element, "aeroway")) {
+      case "runway", "taxiway" -> "aeroway";
+      default -> null;
+    };
+    return key;
+  }
+
+  /** Compiled {@link Tables.OsmAerowayPoint#MAPPING}. */
+  private static String osmAerowayPoint(WithTags element, boolean isPoint, boolean canBeLine, boolean canBePolygon) {
+    if (!isPoint) {
+      return null;
+    }
+    String key = switch (value(element, "aeroway")) {
+      case "gate" -> "aeroway";
+      default -> null;
+    };
+    return key;
+  }
+
+  /** Compiled {@link Tables.OsmHighwayLinestring#MAPPING}. */
+  private static String osmHighwayLinestring(WithTags element, boolean isPoint, boolean canBeLine,
+    boolean canBePolygon) {
+    if (!canBeLine) {
+      return null;
+    }
+    String key = switch (value(element, "highway")) {
+      case "motorway", "motorway_link", "trunk", "trunk_link", "primary", "primary_link", "secondary", "secondary_link",
+        "tertiary", "tertiary_link", "unclassified", "residential", "living_street", "road", "pedestrian", "path",
+        "footway", "cycleway", "steps", "bridleway", "corridor", "service", "track", "raceway", "busway",
+        "bus_guideway", "construction" -> "highway";
+      default -> null;
+    };
+    if (key == null) {
+      key = switch (value(element, "public_transport")) {
+        case "platform" -> "public_transport";
+        default -> null;
+      };
+    }
+    if (key == null) {
+      key = switch (value(element, "man_made")) {
+        case "pier" -> "man_made";
+        default -> null;
+      };
+    }
+    if (key == null) {
+      key = switch (value(element, "service")) {
+        case "driveway", "parking_aisle" -> "service";
+        default -> null;
+      };
+    }
+    return key;
+  }
+
+  /** Compiled {@link Tables.OsmRailwayLinestring#MAPPING}. */
+  private static String osmRailwayLinestring(WithTags element, boolean isPoint, boolean canBeLine,
+    boolean canBePolygon) {
+    if (!canBeLine) {
+      return null;
+    }
+    String key = switch (value(element, "railway")) {
+      case "rail", "narrow_gauge", "preserved", "funicular", "subway", "light_rail", "monorail", "tram" -> "railway";
+      default -> null;
+    };
+    return key;
+  }
+
+  /** Compiled {@link Tables.OsmAerialwayLinestring#MAPPING}. */
+  private static String osmAerialwayLinestring(WithTags element, boolean isPoint, boolean canBeLine,
+    boolean canBePolygon) {
+    if (!canBeLine) {
+      return null;
+    }
+    String key = switch (value(element, "aerialway")) {
+      case "chair_lift", "drag_lift", "platter", "t-bar", "gondola", "cable_car", "j-bar", "mixed_lift" -> "aerialway";
+      default -> null;
+    };
+    return key;
+  }
+
+  /** Compiled {@link Tables.OsmShipwayLinestring#MAPPING}. */
+  private static String osmShipwayLinestring(WithTags element, boolean isPoint, boolean canBeLine,
+    boolean canBePolygon) {
+    if (!canBeLine) {
+      return null;
+    }
+    String key = switch (value(element, "route")) {
+      case "ferry" -> "route";
+      default -> null;
+    };
+    return key;
+  }
+
+  /** Compiled {@link Tables.OsmHighwayPolygon#MAPPING}. */
+  private static String osmHighwayPolygon(WithTags element, boolean isPoint, boolean canBeLine, boolean canBePolygon) {
+    if (!canBePolygon) {
+      return null;
+    }
+    String key = switch (value(element, "highway")) {
+      case "path", "cycleway", "bridleway", "footway", "corridor", "pedestrian", "steps" -> "highway";
+      default -> null;
+    };
+    if (key == null) {
+      key = switch (value(element, "public_transport")) {
+        case "platform" -> "public_transport";
+        default -> null;
+      };
+    }
+    if (key == null) {
+      key = switch (value(element, "man_made")) {
+        case "bridge", "pier" -> "man_made";
+        default -> null;
+      };
+    }
+    return key;
+  }
+
+  /** Compiled {@link Tables.OsmHighwayPoint#MAPPING}. */
+  private static String osmHighwayPoint(WithTags element, boolean isPoint, boolean canBeLine, boolean canBePolygon) {
+    if (!isPoint) {
+      return null;
+    }
+    String key = switch (value(element, "highway")) {
+      case "motorway_junction" -> "highway";
+      default -> null;
+    };
+    return key;
+  }
+
+  /** Compiled {@link Tables.OsmBuildingPolygon#MAPPING}. */
+  private static String osmBuildingPolygon(WithTags element, boolean isPoint, boolean canBeLine, boolean canBePolygon) {
+    if (!canBePolygon) {
+      return null;
+    }
+    String key = element.hasTag("building:part") ? "building:part" : null;
+    if (key == null) {
+      key = element.hasTag("building") ? "building" : null;
+    }
+    if (key == null) {
+      key = switch (value(element, "aeroway")) {
+        case "terminal", "hangar" -> "aeroway";
+        default -> null;
+      };
+    }
+    if (key == null) {
+      key = switch (value(element, "location")) {
+        case "underground" -> "location";
+        default -> null;
+      };
+    }
+    if (key == null) {
+      return null;
+    }
+    key = switch (value(element, "building")) {
+      case "no", "none", "No" -> null;
+      default -> key;
+    };
+    key = switch (value(element, "building:part")) {
+      case "no", "none", "No" -> null;
+      default -> key;
+    };
+    key = switch (value(element, "man_made")) {
+      case "bridge" -> null;
+      default -> key;
+    };
+    key = switch (value(element, "location")) {
+      case "underground" -> null;
+      default -> key;
+    };
+    return key;
+  }
+
+  /** Compiled {@link Tables.OsmMarinePoint#MAPPING}. */
+  private static String osmMarinePoint(WithTags element, boolean isPoint, boolean canBeLine, boolean canBePolygon) {
+    if (!isPoint) {
+      return null;
+    }
+    String key = switch (value(element, "place")) {
+      case "ocean", "sea" -> "place";
+      default -> null;
+    };
+    if (key == null) {
+      key = switch (value(element, "natural")) {
+        case "bay", "strait" -> "natural";
+        default -> null;
+      };
+    }
+    if (key == null) {
+      return null;
+    }
+    if (!element.hasTag("name")) {
+      return null;
+    }
+    return key;
+  }
+
+  /** Compiled {@link Tables.OsmContinentPoint#MAPPING}. */
+  private static String osmContinentPoint(WithTags element, boolean isPoint, boolean canBeLine, boolean canBePolygon) {
+    if (!isPoint) {
+      return null;
+    }
+    String key = switch (value(element, "place")) {
+      case "continent" -> "place";
+      default -> null;
+    };
+    if (key == null) {
+      return null;
+    }
+    if (!element.hasTag("name")) {
+      return null;
+    }
+    return key;
+  }
+
+  /** Compiled {@link Tables.OsmCountryPoint#MAPPING}. */
+  private static String osmCountryPoint(WithTags element, boolean isPoint, boolean canBeLine, boolean canBePolygon) {
+    if (!isPoint) {
+      return null;
+    }
+    String key = switch (value(element, "place")) {
+      case "country" -> "place";
+      default -> null;
+    };
+    if (key == null) {
+      return null;
+    }
+    if (!element.hasTag("name")) {
+      return null;
+    }
+    return key;
+  }
+
+  /** Compiled {@link Tables.OsmIslandPolygon#MAPPING}. */
+  private static String osmIslandPolygon(WithTags element, boolean isPoint, boolean canBeLine, boolean canBePolygon) {
+    if (!canBePolygon) {
+      return null;
+    }
+    String key = switch (value(element, "place")) {
+      case "island" -> "place";
+      default -> null;
+    };
+    if (key == null) {
+      return null;
+    }
+    if (!element.hasTag("name")) {
+      return null;
+    }
+    return key;
+  }
+
+  /** Compiled {@link Tables.OsmIslandPoint#MAPPING}. */
+  private static String osmIslandPoint(WithTags element, boolean isPoint, boolean canBeLine, boolean canBePolygon) {
+    if (!isPoint) {
+      return null;
+    }
+    String key = switch (value(element, "place")) {
+      case "island" -> "place";
+      default -> null;
+    };
+    if (key == null) {
+      return null;
+    }
+    if (!element.hasTag("name")) {
+      return null;
+    }
+    return key;
+  }
+
+  /** Compiled {@link Tables.OsmStatePoint#MAPPING}. */
+  private static String osmStatePoint(WithTags element, boolean isPoint, boolean canBeLine, boolean canBePolygon) {
+    if (!isPoint) {
+      return null;
+    }
+    String key = switch (value(element, "place")) {
+      case "state", "province" -> "place";
+      default -> null;
+    };
+    if (key == null) {
+      return null;
+    }
+    if (!element.hasTag("name")) {
+      return null;
+    }
+    return key;
+  }
+
+  /** Compiled {@link Tables.OsmCityPoint#MAPPING}. */
+  private static String osmCityPoint(WithTags element, boolean isPoint, boolean canBeLine, boolean canBePolygon) {
+    if (!isPoint) {
+      return null;
+    }
+    String key = switch (value(element, "place")) {
+      case "city", "town", "village", "hamlet", "borough", "suburb", "quarter", "neighbourhood",
+        "isolated_dwelling" -> "place";
+      default -> null;
+    };
+    if (key == null) {
+      return null;
+    }
+    if (!element.hasTag("name")) {
+      return null;
+    }
+    return key;
+  }
+
+  /** Compiled {@link Tables.OsmHousenumberPoint#MAPPING}. */
+  private static String osmHousenumberPoint(WithTags element, boolean isPoint, boolean canBeLine,
+    boolean canBePolygon) {
+    String key = osmHousenumberPoint0(element, isPoint, canBeLine, canBePolygon);
+    if (key == null) {
+      key = osmHousenumberPoint1(element, isPoint, canBeLine, canBePolygon);
+    }
+    return key;
+  }
+
+  private static String osmHousenumberPoint0(WithTags element, boolean isPoint, boolean canBeLine,
+    boolean canBePolygon) {
+    if (!isPoint) {
+      return null;
+    }
+    String key = element.hasTag("addr:housenumber") ? "addr:housenumber" : null;
+    return key;
+  }
+
+  private static String osmHousenumberPoint1(WithTags element, boolean isPoint, boolean canBeLine,
+    boolean canBePolygon) {
+    if (!canBePolygon) {
+      return null;
+    }
+    String key = element.hasTag("addr:housenumber") ? "addr:housenumber" : null;
+    return key;
+  }
+
+  /** Compiled {@link Tables.OsmPoiPoint#MAPPING}. */
+  private static String osmPoiPoint(WithTags element, boolean isPoint, boolean canBeLine, boolean canBePolygon) {
+    if (!isPoint) {
+      return null;
+    }
+    String key = switch (value(element, "aerialway")) {
+      case "station" -> "aerialway";
+      default -> null;
+    };
+    if (key == null) {
+      key = switch (value(element, "amenity")) {
+        case "arts_centre", "atm", "bank", "bar", "bbq", "bicycle_parking", "bicycle_rental", "biergarten",
+          "bus_station", "cafe", "charging_station", "cinema", "clinic", "college", "community_centre", "courthouse",
+          "dentist", "doctors", "drinking_water", "fast_food", "ferry_terminal", "fire_station", "food_court", "fuel",
+          "grave_yard", "hospital", "ice_cream", "kindergarten", "library", "marketplace", "motorcycle_parking",
+          "nightclub", "nursing_home", "parking", "pharmacy", "place_of_worship", "police", "parcel_locker", "post_box",
+          "post_office", "prison", "pub", "public_building", "recycling", "restaurant", "school", "shelter",
+          "swimming_pool", "taxi", "telephone", "theatre", "toilets", "townhall", "university", "veterinary",
+          "waste_basket" -> "amenity";
+        default -> null;
+      };
+    }
+    if (key == null) {
+      key = switch (value(element, "barrier")) {
+        case "bollard", "border_control", "cycle_barrier", "gate", "lift_gate", "sally_port", "stile",
+          "toll_booth" -> "barrier";
+        default -> null;
+      };
+    }
+    if (key == null) {
+      key = switch (value(element, "building")) {
+        case "dormitory" -> "building";
+        default -> null;
+      };
+    }
+    if (key == null) {
+      key = switch (value(element, "highway")) {
+        case "bus_stop" -> "highway";
+        default -> null;
+      };
+    }
+    if (key == null) {
+      key = switch (value(element, "historic")) {
+        case "monument", "castle", "ruins" -> "historic";
+        default -> null;
+      };
+    }
+    if (key == null) {
+      key = switch (value(element, "landuse")) {
+        case "basin", "brownfield", "cemetery", "reservoir", "winter_sports" -> "landuse";
+        default -> null;
+      };
+    }
+    if (key == null) {
+      key = switch (value(element, "leisure")) {
+        case "dog_park", "escape_game", "garden", "golf_course", "ice_rink", "hackerspace", "marina", "miniature_golf",
+          "park", "pitch", "playground", "sports_centre", "stadium", "swimming_area", "swimming_pool",
+          "water_park" -> "leisure";
+        default -> null;
+      };
+    }
+    if (key == null) {
+      key = switch (value(element, "office")) {
+        case "accountant", "advertising_agency", "architect", "association", "bail_bond_agent", "charity", "company",
+          "construction_company", "consulting", "cooperative", "courier", "coworking", "diplomatic",
+          "educational_institution", "employment_agency", "energy_supplier", "engineer", "estate_agent", "financial",
+          "financial_advisor", "forestry", "foundation", "geodesist", "government", "graphic_design", "guide",
+          "harbour_master", "health_insurance", "insurance", "interior_design", "it", "lawyer", "logistics",
+          "marketing", "moving_company", "newspaper", "ngo", "notary", "physician", "political_party",
+          "private_investigator", "property_management", "publisher", "quango", "religion", "research", "security",
+          "surveyor", "tax_advisor", "taxi", "telecommunication", "therapist", "translator", "travel_agent", "tutoring",
+          "union", "university", "water_utility", "web_design", "wedding_planner" -> "office";
+        default -> null;
+      };
+    }
+    if (key == null) {
+      key = switch (value(element, "railway")) {
+        case "halt", "station", "subway_entrance", "train_station_entrance", "tram_stop" -> "railway";
+        default -> null;
+      };
+    }
+    if (key == null) {
+      key = switch (value(element, "shop")) {
+        case "accessories", "alcohol", "antiques", "art", "bag", "bakery", "beauty", "bed", "beverages", "bicycle",
+          "books", "boutique", "butcher", "camera", "car", "car_repair", "car_parts", "carpet", "charity", "chemist",
+          "chocolate", "clothes", "coffee", "computer", "confectionery", "convenience", "copyshop", "cosmetics", "deli",
+          "delicatessen", "department_store", "doityourself", "dry_cleaning", "electronics", "erotic", "fabric",
+          "florist", "frozen_food", "furniture", "garden_centre", "general", "gift", "greengrocer", "hairdresser",
+          "hardware", "hearing_aids", "hifi", "ice_cream", "interior_decoration", "jewelry", "kiosk", "lamps",
+          "laundry", "locksmith", "mall", "massage", "mobile_phone", "motorcycle", "music", "musical_instrument",
+          "newsagent", "optician", "outdoor", "paint", "perfume", "perfumery", "pet", "photo", "second_hand", "shoes",
+          "sports", "stationery", "supermarket", "tailor", "tattoo", "ticket", "tobacco", "toys", "travel_agency",
+          "video", "video_games", "watches", "weapons", "wholesale", "wine" -> "shop";
+        default -> null;
+      };
+    }
+    if (key == null) {
+      key = switch (value(element, "sport")) {
+        case "american_football", "archery", "athletics", "australian_football", "badminton", "baseball", "basketball",
+          "beachvolleyball", "billiards", "bmx", "boules", "bowls", "boxing", "canadian_football", "canoe", "chess",
+          "climbing", "climbing_adventure", "cricket", "cricket_nets", "croquet", "curling", "cycling", "disc_golf",
+          "diving", "dog_racing", "equestrian", "fatsal", "field_hockey", "free_flying", "gaelic_games", "golf",
+          "gymnastics", "handball", "hockey", "horse_racing", "horseshoes", "ice_hockey", "ice_stock", "judo",
+          "karting", "korfball", "long_jump", "model_aerodrome", "motocross", "motor", "multi", "netball",
+          "orienteering", "paddle_tennis", "paintball", "paragliding", "pelota", "racquet", "rc_car", "rowing", "rugby",
+          "rugby_league", "rugby_union", "running", "sailing", "scuba_diving", "shooting", "shooting_range",
+          "skateboard", "skating", "skiing", "soccer", "surfing", "swimming", "table_soccer", "table_tennis",
+          "team_handball", "tennis", "toboggan", "volleyball", "water_ski", "yoga" -> "sport";
+        default -> null;
+      };
+    }
+    if (key == null) {
+      key = switch (value(element, "zoo")) {
+        case "enclosure", "petting_zoo", "aviary", "wildlife_park", "birds", "safari_park", "butterfly", "falconry",
+          "reptile", "terrarium" -> "zoo";
+        default -> null;
+      };
+    }
+    if (key == null) {
+      key = switch (value(element, "tourism")) {
+        case "alpine_hut", "aquarium", "artwork", "attraction", "bed_and_breakfast", "camp_site", "caravan_site",
+          "chalet", "gallery", "guest_house", "hostel", "hotel", "information", "motel", "museum", "picnic_site",
+          "theme_park", "viewpoint", "zoo" -> "tourism";
+        default -> null;
+      };
+    }
+    if (key == null) {
+      key = switch (value(element, "waterway")) {
+        case "dock" -> "waterway";
+        default -> null;
+      };
+    }
+    return key;
+  }
+
+  /** Compiled {@link Tables.OsmPoiPolygon#MAPPING}. */
+  private static String osmPoiPolygon(WithTags element, boolean isPoint, boolean canBeLine, boolean canBePolygon) {
+    if (!canBePolygon) {
+      return null;
+    }
+    String key = switch (value(element, "aerialway")) {
+      case "station" -> "aerialway";
+      default -> null;
+    };
+    if (key == null) {
+      key = switch (value(element, "amenity")) {
+        case "arts_centre", "atm", "bank", "bar", "bbq", "bicycle_parking", "bicycle_rental", "biergarten",
+          "bus_station", "cafe", "charging_station", "cinema", "clinic", "college", "community_centre", "courthouse",
+          "dentist", "doctors", "drinking_water", "fast_food", "ferry_terminal", "fire_station", "food_court", "fuel",
+          "grave_yard", "hospital", "ice_cream", "kindergarten", "library", "marketplace", "motorcycle_parking",
+          "nightclub", "nursing_home", "parking", "pharmacy", "place_of_worship", "police", "parcel_locker", "post_box",
+          "post_office", "prison", "pub", "public_building", "recycling", "restaurant", "school", "shelter",
+          "swimming_pool", "taxi", "telephone", "theatre", "toilets", "townhall", "university", "veterinary",
+          "waste_basket" -> "amenity";
+        default -> null;
+      };
+    }
+    if (key == null) {
+      key = switch (value(element, "barrier")) {
+        case "bollard", "border_control", "cycle_barrier", "gate", "lift_gate", "sally_port", "stile",
+          "toll_booth" -> "barrier";
+        default -> null;
+      };
+    }
+    if (key == null) {
+      key = switch (value(element, "building")) {
+        case "dormitory" -> "building";
+        default -> null;
+      };
+    }
+    if (key == null) {
+      key = switch (value(element, "highway")) {
+        case "bus_stop" -> "highway";
+        default -> null;
+      };
+    }
+    if (key == null) {
+      key = switch (value(element, "historic")) {
+        case "monument", "castle", "ruins" -> "historic";
+        default -> null;
+      };
+    }
+    if (key == null) {
+      key = switch (value(element, "landuse")) {
+        case "basin", "brownfield", "cemetery", "reservoir", "winter_sports" -> "landuse";
+        default -> null;
+      };
+    }
+    if (key == null) {
+      key = switch (value(element, "leisure")) {
+        case "dog_park", "escape_game", "garden", "golf_course", "ice_rink", "hackerspace", "marina", "miniature_golf",
+          "park", "pitch", "playground", "sports_centre", "stadium", "swimming_area", "swimming_pool",
+          "water_park" -> "leisure";
+        default -> null;
+      };
+    }
+    if (key == null) {
+      key = switch (value(element, "office")) {
+        case "accountant", "advertising_agency", "architect", "association", "bail_bond_agent", "charity", "company",
+          "construction_company", "consulting", "cooperative", "courier", "coworking", "diplomatic",
+          "educational_institution", "employment_agency", "energy_supplier", "engineer", "estate_agent", "financial",
+          "financial_advisor", "forestry", "foundation", "geodesist", "government", "graphic_design", "guide",
+          "harbour_master", "health_insurance", "insurance", "interior_design", "it", "lawyer", "logistics",
+          "marketing", "moving_company", "newspaper", "ngo", "notary", "physician", "political_party",
+          "private_investigator", "property_management", "publisher", "quango", "religion", "research", "security",
+          "surveyor", "tax_advisor", "taxi", "telecommunication", "therapist", "translator", "travel_agent", "tutoring",
+          "union", "university", "water_utility", "web_design", "wedding_planner" -> "office";
+        default -> null;
+      };
+    }
+    if (key == null) {
+      key = switch (value(element, "railway")) {
+        case "halt", "station", "subway_entrance", "train_station_entrance", "tram_stop" -> "railway";
+        default -> null;
+      };
+    }
+    if (key == null) {
+      key = switch (value(element, "shop")) {
+        case "accessories", "alcohol", "antiques", "art", "bag", "bakery", "beauty", "bed", "beverages", "bicycle",
+          "books", "boutique", "butcher", "camera", "car", "car_repair", "car_parts", "carpet", "charity", "chemist",
+          "chocolate", "clothes", "coffee", "computer", "confectionery", "convenience", "copyshop", "cosmetics", "deli",
+          "delicatessen", "department_store", "doityourself", "dry_cleaning", "electronics", "erotic", "fabric",
+          "florist", "frozen_food", "furniture", "garden_centre", "general", "gift", "greengrocer", "hairdresser",
+          "hardware", "hearing_aids", "hifi", "ice_cream", "interior_decoration", "jewelry", "kiosk", "lamps",
+          "laundry", "locksmith", "mall", "massage", "mobile_phone", "motorcycle", "music", "musical_instrument",
+          "newsagent", "optician", "outdoor", "paint", "perfume", "perfumery", "pet", "photo", "second_hand", "shoes",
+          "sports", "stationery", "supermarket", "tailor", "tattoo", "ticket", "tobacco", "toys", "travel_agency",
+          "video", "video_games", "watches", "weapons", "wholesale", "wine" -> "shop";
+        default -> null;
+      };
+    }
+    if (key == null) {
+      key = switch (value(element, "sport")) {
+        case "american_football", "archery", "athletics", "australian_football", "badminton", "baseball", "basketball",
+          "beachvolleyball", "billiards", "bmx", "boules", "bowls", "boxing", "canadian_football", "canoe", "chess",
+          "climbing", "climbing_adventure", "cricket", "cricket_nets", "croquet", "curling", "cycling", "disc_golf",
+          "diving", "dog_racing", "equestrian", "fatsal", "field_hockey", "free_flying", "gaelic_games", "golf",
+          "gymnastics", "handball", "hockey", "horse_racing", "horseshoes", "ice_hockey", "ice_stock", "judo",
+          "karting", "korfball", "long_jump", "model_aerodrome", "motocross", "motor", "multi", "netball",
+          "orienteering", "paddle_tennis", "paintball", "paragliding", "pelota", "racquet", "rc_car", "rowing", "rugby",
+          "rugby_league", "rugby_union", "running", "sailing", "scuba_diving", "shooting", "shooting_range",
+          "skateboard", "skating", "skiing", "soccer", "surfing", "swimming", "table_soccer", "table_tennis",
+          "team_handball", "tennis", "toboggan", "volleyball", "water_ski", "yoga" -> "sport";
+        default -> null;
+      };
+    }
+    if (key == null) {
+      key = switch (value(element, "zoo")) {
+        case "enclosure", "petting_zoo", "aviary", "wildlife_park", "birds", "safari_park", "butterfly", "falconry",
+          "reptile", "terrarium" -> "zoo";
+        default -> null;
+      };
+    }
+    if (key == null) {
+      key = switch (value(element, "tourism")) {
+        case "alpine_hut", "aquarium", "artwork", "attraction", "bed_and_breakfast", "camp_site", "caravan_site",
+          "chalet", "gallery", "guest_house", "hostel", "hotel", "information", "motel", "museum", "picnic_site",
+          "theme_park", "viewpoint", "zoo" -> "tourism";
+        default -> null;
+      };
+    }
+    if (key == null) {
+      key = switch (value(element, "waterway")) {
+        case "dock" -> "waterway";
+        default -> null;
+      };
+    }
+    return key;
+  }
+
+  /** Compiled {@link Tables.OsmAerodromeLabelPoint#MAPPING}. */
+  private static String osmAerodromeLabelPoint(WithTags element, boolean isPoint, boolean canBeLine,
+    boolean canBePolygon) {
+    String key = osmAerodromeLabelPoint0(element, isPoint, canBeLine, canBePolygon);
+    if (key == null) {
+      key = osmAerodromeLabelPoint1(element, isPoint, canBeLine, canBePolygon);
+    }
+    return key;
+  }
+
+  private static String osmAerodromeLabelPoint0(WithTags element, boolean isPoint, boolean canBeLine,
+    boolean canBePolygon) {
+    if (!isPoint) {
+      return null;
+    }
+    String key = switch (value(element, "aeroway")) {
+      case "aerodrome" -> "aeroway";
+      default -> null;
+    };
+    return key;
+  }
+
+  private static String osmAerodromeLabelPoint1(WithTags element, boolean isPoint, boolean canBeLine,
+    boolean canBePolygon) {
+    if (!canBePolygon) {
+      return null;
+    }
+    String key = switch (value(element, "aeroway")) {
+      case "aerodrome" -> "aeroway";
+      default -> null;
+    };
+    return key;
+  }
+}
@@ -47,6 +47,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 /**
  * OSM element parsers generated from the <a href="https://github.com/omniscale/imposm3">imposm3</a> table definitions
@@ -64,6 +65,12 @@ public class Tables {
 
     /** Returns the original OSM element. */
     SourceFeature source();
+
+    /**
+     * Returns a new row for the same element that is safe to hold onto after the handler returns, since the profile
+     * passes rows from a {@link RowPool} to handlers and reuses them for the next element.
+     */
+    Row copy();
   }
 
   /** A functional interface that the constructor of a new table row can be coerced to. */
@@ -73,10 +80,23 @@ public class Tables {
     Row create(SourceFeature source, String mappingKey);
   }
 
-  /** The {@code rowClass} of an imposm3 table row and its constructor coerced to a {@link Constructor}. */
+  /** A functional interface that a {@link RowPool} method to reuse a table row can be coerced to. */
+  @FunctionalInterface
+  public interface Reuser {
+
+    Row reuse(RowPool pool, SourceFeature source, String mappingKey);
+  }
+
+  /**
+   * The {@code rowClass} of an imposm3 table row, its constructor coerced to a {@link Constructor}, the
+   * {@link RowPool} method that reuses a row coerced to a {@link Reuser}, and the keys that an element needs at least
+   * one of to appear in the table.
+   */
   public record RowClassAndConstructor(
     Class<? extends Row> rowClass,
-    Constructor create
+    Constructor create,
+    Reuser reuse,
+    List<String> mappingKeys
   ) {}
 
   /** A functional interface that the typed handler method that a layer implementation can be coerced to. */
@@ -92,18 +112,177 @@ public class Tables {
     Class<?> handlerClass,
     RowHandler<T> handler
   ) {}
-  /** An OSM element that would appear in the {@code osm_water_polygon} table generated by imposm3. */
-  public record OsmWaterPolygon(@Override String name, @Override String nameEn, @Override String nameDe,
-    @Override String place, @Override String natural, @Override String landuse, @Override String waterway,
-    @Override String leisure, @Override String water, @Override boolean isIntermittent, @Override boolean isTunnel,
-    @Override boolean isBridge, @Override SourceFeature source)
-    implements Row, WithName, WithNameEn, WithNameDe, WithPlace, WithNatural, WithLanduse, WithWaterway, WithLeisure,
-    WithWater, WithIsIntermittent, WithIsTunnel, WithIsBridge, WithSource {
+  /**
+   * An OSM element that would appear in the {@code osm_water_polygon} table generated by imposm3.
+   * <p>
+   * Columns are parsed from the source element the first time they are accessed, so instances must not be shared
+   * between threads while they are still being read.
+   */
+  public static final class OsmWaterPolygon implements Row, WithName, WithNameEn, WithNameDe, WithPlace, WithNatural,
+    WithLanduse, WithWaterway, WithLeisure, WithWater, WithIsIntermittent, WithIsTunnel, WithIsBridge, WithSource {
+    private SourceFeature source;
+    private String mappingKey;
+    /** Bit {@code i} is set once the {@code i}th lazy column has been parsed. */
+    private int resolved;
+    private String name;
+    private String nameEn;
+    private String nameDe;
+    private String place;
+    private String natural;
+    private String landuse;
+    private String waterway;
+    private String leisure;
+    private String water;
+    private boolean isIntermittent;
+    private boolean isTunnel;
+    private boolean isBridge;
+
     public OsmWaterPolygon(SourceFeature source, String mappingKey) {
-      this(source.getString("name"), source.getString("name:en"), source.getString("name:de"),
-        source.getString("place"), source.getString("natural"), source.getString("landuse"),
-        source.getString("waterway"), source.getString("leisure"), source.getString("water"),
-        source.getBoolean("intermittent"), source.getBoolean("tunnel"), source.getBoolean("bridge"), source);
+      this.source = source;
+      this.mappingKey = mappingKey;
+    }
+
+    private void reset(SourceFeature source, String mappingKey) {
+      this.source = source;
+      this.mappingKey = mappingKey;
+      resolved = 0;
+    }
+
+    @Override
+    public OsmWaterPolygon copy() {
+      return new OsmWaterPolygon(source, mappingKey);
+    }
+
+    @Override
+    public String name() {
+      if ((resolved & (1 << 0)) == 0) {
+        name = source.getString("name");
+        resolved |= (1 << 0);
+      }
+      return name;
+    }
+
+    @Override
+    public String nameEn() {
+      if ((resolved & (1 << 1)) == 0) {
+        nameEn = source.getString("name:en");
+        resolved |= (1 << 1);
+      }
+      return nameEn;
+    }
+
+    @Override
+    public String nameDe() {
+      if ((resolved & (1 << 2)) == 0) {
+        nameDe = source.getString("name:de");
+        resolved |= (1 << 2);
+      }
+      return nameDe;
+    }
+
+    @Override
+    public String place() {
+      if ((resolved & (1 << 3)) == 0) {
+        place = TagDictionary.intern(source.getString("place"));
+        resolved |= (1 << 3);
+      }
+      return place;
+    }
+
+    @Override
+    public String natural() {
+      if ((resolved & (1 << 4)) == 0) {
+        natural = TagDictionary.intern(source.getString("natural"));
+        resolved |= (1 << 4);
+      }
+      return natural;
+    }
+
+    @Override
+    public String landuse() {
+      if ((resolved & (1 << 5)) == 0) {
+        landuse = TagDictionary.intern(source.getString("landuse"));
+        resolved |= (1 << 5);
+      }
+      return landuse;
+    }
+
+    @Override
+    public String waterway() {
+      if ((resolved & (1 << 6)) == 0) {
+        waterway = TagDictionary.intern(source.getString("waterway"));
+        resolved |= (1 << 6);
+      }
+      return waterway;
+    }
+
+    @Override
+    public String leisure() {
+      if ((resolved & (1 << 7)) == 0) {
+        leisure = TagDictionary.intern(source.getString("leisure"));
+        resolved |= (1 << 7);
+      }
+      return leisure;
+    }
+
+    @Override
+    public String water() {
+      if ((resolved & (1 << 8)) == 0) {
+        water = TagDictionary.intern(source.getString("water"));
+        resolved |= (1 << 8);
+      }
+      return water;
+    }
+
+    @Override
+    public boolean isIntermittent() {
+      if ((resolved & (1 << 9)) == 0) {
+        isIntermittent = source.getBoolean("intermittent");
+        resolved |= (1 << 9);
+      }
+      return isIntermittent;
+    }
+
+    @Override
+    public boolean isTunnel() {
+      if ((resolved & (1 << 10)) == 0) {
+        isTunnel = source.getBoolean("tunnel");
+        resolved |= (1 << 10);
+      }
+      return isTunnel;
+    }
+
+    @Override
+    public boolean isBridge() {
+      if ((resolved & (1 << 11)) == 0) {
+        isBridge = source.getBoolean("bridge");
+        resolved |= (1 << 11);
+      }
+      return isBridge;
+    }
+
+    @Override
+    public SourceFeature source() {
+      return source;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof OsmWaterPolygon other && source == other.source &&
+        Objects.equals(mappingKey, other.mappingKey);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(source, mappingKey);
+    }
+
+    @Override
+    public String toString() {
+      return "OsmWaterPolygon[name=" + name() + ", nameEn=" + nameEn() + ", nameDe=" + nameDe() + ", place=" + place() +
+        ", natural=" + natural() + ", landuse=" + landuse() + ", waterway=" + waterway() + ", leisure=" + leisure() +
+        ", water=" + water() + ", isIntermittent=" + isIntermittent() + ", isTunnel=" + isTunnel() + ", isBridge=" +
+        isBridge() + ", source=" + source() + "]";
     }
 
     /** Imposm3 "mapping" to filter OSM elements that should appear in this "table". */
@@ -113,6 +292,9 @@ public class Tables {
         matchAny("water", "river", "stream", "canal", "ditch", "drain", "pond", "basin", "wastewater")),
       not(matchAny("covered", "yes")), matchType("polygon"));
 
+    /** Tag keys that an element needs at least one of to match {@link #MAPPING}. */
+    public static final List<String> MAPPING_KEYS = List.of("landuse", "leisure", "natural", "waterway", "water");
+
     /**
      * Interface for layer implementations to extend to subscribe to OSM elements filtered and parsed as
      * {@link OsmWaterPolygon}.
@@ -121,21 +303,135 @@ public class Tables {
       void process(OsmWaterPolygon element, FeatureCollector features);
     }
   }
-  /** An OSM element that would appear in the {@code osm_waterway_linestring} table generated by imposm3. */
-  public record OsmWaterwayLinestring(@Override String waterway, @Override String name, @Override String nameEn,
-    @Override String nameDe, @Override boolean isTunnel, @Override boolean isBridge, @Override boolean isIntermittent,
-    @Override SourceFeature source) implements Row, WithWaterway, WithName, WithNameEn, WithNameDe, WithIsTunnel,
-    WithIsBridge, WithIsIntermittent, WithSource {
+  /**
+   * An OSM element that would appear in the {@code osm_waterway_linestring} table generated by imposm3.
+   * <p>
+   * Columns are parsed from the source element the first time they are accessed, so instances must not be shared
+   * between threads while they are still being read.
+   */
+  public static final class OsmWaterwayLinestring implements Row, WithWaterway, WithName, WithNameEn, WithNameDe,
+    WithIsTunnel, WithIsBridge, WithIsIntermittent, WithSource {
+    private SourceFeature source;
+    private String mappingKey;
+    /** Bit {@code i} is set once the {@code i}th lazy column has been parsed. */
+    private int resolved;
+    private String waterway;
+    private String name;
+    private String nameEn;
+    private String nameDe;
+    private boolean isTunnel;
+    private boolean isBridge;
+    private boolean isIntermittent;
+
     public OsmWaterwayLinestring(SourceFeature source, String mappingKey) {
-      this(source.getString("waterway"), source.getString("name"), source.getString("name:en"),
-        source.getString("name:de"), source.getBoolean("tunnel"), source.getBoolean("bridge"),
-        source.getBoolean("intermittent"), source);
+      this.source = source;
+      this.mappingKey = mappingKey;
+    }
+
+    private void reset(SourceFeature source, String mappingKey) {
+      this.source = source;
+      this.mappingKey = mappingKey;
+      resolved = 0;
+    }
+
+    @Override
+    public OsmWaterwayLinestring copy() {
+      return new OsmWaterwayLinestring(source, mappingKey);
+    }
+
+    @Override
+    public String waterway() {
+      if ((resolved & (1 << 0)) == 0) {
+        waterway = TagDictionary.intern(source.getString("waterway"));
+        resolved |= (1 << 0);
+      }
+      return waterway;
+    }
+
+    @Override
+    public String name() {
+      if ((resolved & (1 << 1)) == 0) {
+        name = source.getString("name");
+        resolved |= (1 << 1);
+      }
+      return name;
+    }
+
+    @Override
+    public String nameEn() {
+      if ((resolved & (1 << 2)) == 0) {
+        nameEn = source.getString("name:en");
+        resolved |= (1 << 2);
+      }
+      return nameEn;
+    }
+
+    @Override
+    public String nameDe() {
+      if ((resolved & (1 << 3)) == 0) {
+        nameDe = source.getString("name:de");
+        resolved |= (1 << 3);
+      }
+      return nameDe;
+    }
+
+    @Override
+    public boolean isTunnel() {
+      if ((resolved & (1 << 4)) == 0) {
+        isTunnel = source.getBoolean("tunnel");
+        resolved |= (1 << 4);
+      }
+      return isTunnel;
+    }
+
+    @Override
+    public boolean isBridge() {
+      if ((resolved & (1 << 5)) == 0) {
+        isBridge = source.getBoolean("bridge");
+        resolved |= (1 << 5);
+      }
+      return isBridge;
+    }
+
+    @Override
+    public boolean isIntermittent() {
+      if ((resolved & (1 << 6)) == 0) {
+        isIntermittent = source.getBoolean("intermittent");
+        resolved |= (1 << 6);
+      }
+      return isIntermittent;
+    }
+
+    @Override
+    public SourceFeature source() {
+      return source;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof OsmWaterwayLinestring other && source == other.source &&
+        Objects.equals(mappingKey, other.mappingKey);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(source, mappingKey);
+    }
+
+    @Override
+    public String toString() {
+      return "OsmWaterwayLinestring[waterway=" + waterway() + ", name=" + name() + ", nameEn=" + nameEn() +
+        ", nameDe=" + nameDe() + ", isTunnel=" + isTunnel() + ", isBridge=" + isBridge() + ", isIntermittent=" +
+        isIntermittent() + ", source=" + source() + "]";
     }
 
     /** Imposm3 "mapping" to filter OSM elements that should appear in this "table". */
     public static final Expression MAPPING =
       and(matchAny("waterway", "stream", "river", "canal", "drain", "ditch"), matchType("linestring"));
 
+    /** Tag keys that an element needs at least one of to match {@link #MAPPING}. */
+    public static final List<String> MAPPING_KEYS = List.of("waterway");
+
     /**
      * Interface for layer implementations to extend to subscribe to OSM elements filtered and parsed as
      * {@link OsmWaterwayLinestring}.
@@ -144,11 +440,69 @@ public class Tables {
       void process(OsmWaterwayLinestring element, FeatureCollector features);
     }
   }
-  /** An OSM element that would appear in the {@code osm_landcover_polygon} table generated by imposm3. */
-  public record OsmLandcoverPolygon(@Override String subclass, @Override String mappingKey,
-    @Override SourceFeature source) implements Row, WithSubclass, WithMappingKey, WithSource {
+  /**
+   * An OSM element that would appear in the {@code osm_landcover_polygon} table generated by imposm3.
+   * <p>
+   * Columns are parsed from the source element the first time they are accessed, so instances must not be shared
+   * between threads while they are still being read.
+   */
+  public static final class OsmLandcoverPolygon implements Row, WithSubclass, WithMappingKey, WithSource {
+    private SourceFeature source;
+    private String mappingKey;
+    /** Bit {@code i} is set once the {@code i}th lazy column has been parsed. */
+    private int resolved;
+    private String subclass;
+
     public OsmLandcoverPolygon(SourceFeature source, String mappingKey) {
-      this(source.getString(mappingKey), mappingKey, source);
+      this.source = source;
+      this.mappingKey = mappingKey;
+    }
+
+    private void reset(SourceFeature source, String mappingKey) {
+      this.source = source;
+      this.mappingKey = mappingKey;
+      resolved = 0;
+    }
+
+    @Override
+    public OsmLandcoverPolygon copy() {
+      return new OsmLandcoverPolygon(source, mappingKey);
+    }
+
+    @Override
+    public String subclass() {
+      if ((resolved & (1 << 0)) == 0) {
+        subclass = TagDictionary.intern(source.getString(mappingKey));
+        resolved |= (1 << 0);
+      }
+      return subclass;
+    }
+
+    @Override
+    public String mappingKey() {
+      return mappingKey;
+    }
+
+    @Override
+    public SourceFeature source() {
+      return source;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof OsmLandcoverPolygon other && source == other.source &&
+        Objects.equals(mappingKey, other.mappingKey);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(source, mappingKey);
+    }
+
+    @Override
+    public String toString() {
+      return "OsmLandcoverPolygon[subclass=" + subclass() + ", mappingKey=" + mappingKey() + ", source=" + source() +
+        "]";
     }
 
     /** Imposm3 "mapping" to filter OSM elements that should appear in this "table". */
@@ -161,6 +515,9 @@ public class Tables {
         "reedbed", "saltern", "tidalflat", "saltmarsh", "mangrove")),
       matchType("polygon"));
 
+    /** Tag keys that an element needs at least one of to match {@link #MAPPING}. */
+    public static final List<String> MAPPING_KEYS = List.of("landuse", "natural", "leisure", "wetland");
+
     /**
      * Interface for layer implementations to extend to subscribe to OSM elements filtered and parsed as
      * {@link OsmLandcoverPolygon}.
@@ -169,13 +526,115 @@ public class Tables {
       void process(OsmLandcoverPolygon element, FeatureCollector features);
     }
   }
-  /** An OSM element that would appear in the {@code osm_landuse_polygon} table generated by imposm3. */
-  public record OsmLandusePolygon(@Override String landuse, @Override String amenity, @Override String leisure,
-    @Override String tourism, @Override String place, @Override String waterway, @Override SourceFeature source)
-    implements Row, WithLanduse, WithAmenity, WithLeisure, WithTourism, WithPlace, WithWaterway, WithSource {
+  /**
+   * An OSM element that would appear in the {@code osm_landuse_polygon} table generated by imposm3.
+   * <p>
+   * Columns are parsed from the source element the first time they are accessed, so instances must not be shared
+   * between threads while they are still being read.
+   */
+  public static final class OsmLandusePolygon implements Row, WithLanduse, WithAmenity, WithLeisure, WithTourism,
+    WithPlace, WithWaterway, WithSource {
+    private SourceFeature source;
+    private String mappingKey;
+    /** Bit {@code i} is set once the {@code i}th lazy column has been parsed. */
+    private int resolved;
+    private String landuse;
+    private String amenity;
+    private String leisure;
+    private String tourism;
+    private String place;
+    private String waterway;
+
     public OsmLandusePolygon(SourceFeature source, String mappingKey) {
-      this(source.getString("landuse"), source.getString("amenity"), source.getString("leisure"),
-        source.getString("tourism"), source.getString("place"), source.getString("waterway"), source);
+      this.source = source;
+      this.mappingKey = mappingKey;
+    }
+
+    private void reset(SourceFeature source, String mappingKey) {
+      this.source = source;
+      this.mappingKey = mappingKey;
+      resolved = 0;
+    }
+
+    @Override
+    public OsmLandusePolygon copy() {
+      return new OsmLandusePolygon(source, mappingKey);
+    }
+
+    @Override
+    public String landuse() {
+      if ((resolved & (1 << 0)) == 0) {
+        landuse = TagDictionary.intern(source.getString("landuse"));
+        resolved |= (1 << 0);
+      }
+      return landuse;
+    }
+
+    @Override
+    public String amenity() {
+      if ((resolved & (1 << 1)) == 0) {
+        amenity = TagDictionary.intern(source.getString("amenity"));
+        resolved |= (1 << 1);
+      }
+      return amenity;
+    }
+
+    @Override
+    public String leisure() {
+      if ((resolved & (1 << 2)) == 0) {
+        leisure = TagDictionary.intern(source.getString("leisure"));
+        resolved |= (1 << 2);
+      }
+      return leisure;
+    }
+
+    @Override
+    public String tourism() {
+      if ((resolved & (1 << 3)) == 0) {
+        tourism = TagDictionary.intern(source.getString("tourism"));
+        resolved |= (1 << 3);
+      }
+      return tourism;
+    }
+
+    @Override
+    public String place() {
+      if ((resolved & (1 << 4)) == 0) {
+        place = TagDictionary.intern(source.getString("place"));
+        resolved |= (1 << 4);
+      }
+      return place;
+    }
+
+    @Override
+    public String waterway() {
+      if ((resolved & (1 << 5)) == 0) {
+        waterway = TagDictionary.intern(source.getString("waterway"));
+        resolved |= (1 << 5);
+      }
+      return waterway;
+    }
+
+    @Override
+    public SourceFeature source() {
+      return source;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof OsmLandusePolygon other && source == other.source &&
+        Objects.equals(mappingKey, other.mappingKey);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(source, mappingKey);
+    }
+
+    @Override
+    public String toString() {
+      return "OsmLandusePolygon[landuse=" + landuse() + ", amenity=" + amenity() + ", leisure=" + leisure() +
+        ", tourism=" + tourism() + ", place=" + place() + ", waterway=" + waterway() + ", source=" + source() + "]";
     }
 
     /** Imposm3 "mapping" to filter OSM elements that should appear in this "table". */
@@ -187,6 +646,10 @@ public class Tables {
       matchAny("leisure", "stadium", "pitch", "playground", "track"), matchAny("tourism", "theme_park", "zoo"),
       matchAny("place", "suburb", "quarter", "neighbourhood"), matchAny("waterway", "dam")), matchType("polygon"));
 
+    /** Tag keys that an element needs at least one of to match {@link #MAPPING}. */
+    public static final List<String> MAPPING_KEYS = List.of("landuse", "amenity", "leisure", "tourism", "place",
+      "waterway");
+
     /**
      * Interface for layer implementations to extend to subscribe to OSM elements filtered and parsed as
      * {@link OsmLandusePolygon}.
@@ -195,18 +658,112 @@ public class Tables {
       void process(OsmLandusePolygon element, FeatureCollector features);
     }
   }
-  /** An OSM element that would appear in the {@code osm_peak_point} table generated by imposm3. */
-  public record OsmPeakPoint(@Override String name, @Override String nameEn, @Override String nameDe,
-    @Override String ele, @Override String wikipedia, @Override SourceFeature source)
-    implements Row, WithName, WithNameEn, WithNameDe, WithEle, WithWikipedia, WithSource {
+  /**
+   * An OSM element that would appear in the {@code osm_peak_point} table generated by imposm3.
+   * <p>
+   * Columns are parsed from the source element the first time they are accessed, so instances must not be shared
+   * between threads while they are still being read.
+   */
+  public static final class OsmPeakPoint implements Row, WithName, WithNameEn, WithNameDe, WithEle, WithWikipedia,
+    WithSource {
+    private SourceFeature source;
+    private String mappingKey;
+    /** Bit {@code i} is set once the {@code i}th lazy column has been parsed. */
+    private int resolved;
+    private String name;
+    private String nameEn;
+    private String nameDe;
+    private String ele;
+    private String wikipedia;
+
     public OsmPeakPoint(SourceFeature source, String mappingKey) {
-      this(source.getString("name"), source.getString("name:en"), source.getString("name:de"), source.getString("ele"),
-        source.getString("wikipedia"), source);
+      this.source = source;
+      this.mappingKey = mappingKey;
+    }
+
+    private void reset(SourceFeature source, String mappingKey) {
+      this.source = source;
+      this.mappingKey = mappingKey;
+      resolved = 0;
+    }
+
+    @Override
+    public OsmPeakPoint copy() {
+      return new OsmPeakPoint(source, mappingKey);
+    }
+
+    @Override
+    public String name() {
+      if ((resolved & (1 << 0)) == 0) {
+        name = source.getString("name");
+        resolved |= (1 << 0);
+      }
+      return name;
+    }
+
+    @Override
+    public String nameEn() {
+      if ((resolved & (1 << 1)) == 0) {
+        nameEn = source.getString("name:en");
+        resolved |= (1 << 1);
+      }
+      return nameEn;
+    }
+
+    @Override
+    public String nameDe() {
+      if ((resolved & (1 << 2)) == 0) {
+        nameDe = source.getString("name:de");
+        resolved |= (1 << 2);
+      }
+      return nameDe;
+    }
+
+    @Override
+    public String ele() {
+      if ((resolved & (1 << 3)) == 0) {
+        ele = source.getString("ele");
+        resolved |= (1 << 3);
+      }
+      return ele;
+    }
+
+    @Override
+    public String wikipedia() {
+      if ((resolved & (1 << 4)) == 0) {
+        wikipedia = source.getString("wikipedia");
+        resolved |= (1 << 4);
+      }
+      return wikipedia;
+    }
+
+    @Override
+    public SourceFeature source() {
+      return source;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof OsmPeakPoint other && source == other.source && Objects.equals(mappingKey, other.mappingKey);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(source, mappingKey);
+    }
+
+    @Override
+    public String toString() {
+      return "OsmPeakPoint[name=" + name() + ", nameEn=" + nameEn() + ", nameDe=" + nameDe() + ", ele=" + ele() +
+        ", wikipedia=" + wikipedia() + ", source=" + source() + "]";
     }
 
     /** Imposm3 "mapping" to filter OSM elements that should appear in this "table". */
     public static final Expression MAPPING = and(matchAny("natural", "peak", "volcano", "saddle"), matchType("point"));
 
+    /** Tag keys that an element needs at least one of to match {@link #MAPPING}. */
+    public static final List<String> MAPPING_KEYS = List.of("natural");
+
     /**
      * Interface for layer implementations to extend to subscribe to OSM elements filtered and parsed as
      * {@link OsmPeakPoint}.
@@ -215,19 +772,104 @@ public class Tables {
       void process(OsmPeakPoint element, FeatureCollector features);
     }
   }
-  /** An OSM element that would appear in the {@code osm_mountain_linestring} table generated by imposm3. */
-  public record OsmMountainLinestring(@Override String name, @Override String nameEn, @Override String nameDe,
-    @Override String wikipedia, @Override SourceFeature source)
-    implements Row, WithName, WithNameEn, WithNameDe, WithWikipedia, WithSource {
+  /**
+   * An OSM element that would appear in the {@code osm_mountain_linestring} table generated by imposm3.
+   * <p>
+   * Columns are parsed from the source element the first time they are accessed, so instances must not be shared
+   * between threads while they are still being read.
+   */
+  public static final class OsmMountainLinestring implements Row, WithName, WithNameEn, WithNameDe, WithWikipedia,
+    WithSource {
+    private SourceFeature source;
+    private String mappingKey;
+    /** Bit {@code i} is set once the {@code i}th lazy column has been parsed. */
+    private int resolved;
+    private String name;
+    private String nameEn;
+    private String nameDe;
+    private String wikipedia;
+
     public OsmMountainLinestring(SourceFeature source, String mappingKey) {
-      this(source.getString("name"), source.getString("name:en"), source.getString("name:de"),
-        source.getString("wikipedia"), source);
+      this.source = source;
+      this.mappingKey = mappingKey;
+    }
+
+    private void reset(SourceFeature source, String mappingKey) {
+      this.source = source;
+      this.mappingKey = mappingKey;
+      resolved = 0;
+    }
+
+    @Override
+    public OsmMountainLinestring copy() {
+      return new OsmMountainLinestring(source, mappingKey);
+    }
+
+    @Override
+    public String name() {
+      if ((resolved & (1 << 0)) == 0) {
+        name = source.getString("name");
+        resolved |= (1 << 0);
+      }
+      return name;
+    }
+
+    @Override
+    public String nameEn() {
+      if ((resolved & (1 << 1)) == 0) {
+        nameEn = source.getString("name:en");
+        resolved |= (1 << 1);
+      }
+      return nameEn;
+    }
+
+    @Override
+    public String nameDe() {
+      if ((resolved & (1 << 2)) == 0) {
+        nameDe = source.getString("name:de");
+        resolved |= (1 << 2);
+      }
+      return nameDe;
+    }
+
+    @Override
+    public String wikipedia() {
+      if ((resolved & (1 << 3)) == 0) {
+        wikipedia = source.getString("wikipedia");
+        resolved |= (1 << 3);
+      }
+      return wikipedia;
+    }
+
+    @Override
+    public SourceFeature source() {
+      return source;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof OsmMountainLinestring other && source == other.source &&
+        Objects.equals(mappingKey, other.mappingKey);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(source, mappingKey);
+    }
+
+    @Override
+    public String toString() {
+      return "OsmMountainLinestring[name=" + name() + ", nameEn=" + nameEn() + ", nameDe=" + nameDe() + ", wikipedia=" +
+        wikipedia() + ", source=" + source() + "]";
     }
 
     /** Imposm3 "mapping" to filter OSM elements that should appear in this "table". */
     public static final Expression MAPPING =
       and(matchAny("natural", "ridge", "cliff", "arete"), matchType("linestring"));
 
+    /** Tag keys that an element needs at least one of to match {@link #MAPPING}. */
+    public static final List<String> MAPPING_KEYS = List.of("natural");
+
     /**
      * Interface for layer implementations to extend to subscribe to OSM elements filtered and parsed as
      * {@link OsmMountainLinestring}.
@@ -236,499 +878,3268 @@ public class Tables {
       void process(OsmMountainLinestring element, FeatureCollector features);
     }
   }
-  /** An OSM element that would appear in the {@code osm_park_polygon} table generated by imposm3. */
-  public record OsmParkPolygon(@Override String name, @Override String nameEn, @Override String nameDe,
-    @Override String landuse, @Override String leisure, @Override String boundary, @Override String protectedArea,
-    @Override String protectClass, @Override String protectionTitle, @Override String historic,
-    @Override boolean maritime, @Override SourceFeature source)
-    implements Row, WithName, WithNameEn, WithNameDe, WithLanduse, WithLeisure, WithBoundary, WithProtectedArea,
-    WithProtectClass, WithProtectionTitle, WithHistoric, WithMaritime, WithSource {
+  /**
+   * An OSM element that would appear in the {@code osm_park_polygon} table generated by imposm3.
+   * <p>
+   * Columns are parsed from the source element the first time they are accessed, so instances must not be shared
+   * between threads while they are still being read.
+   */
+  public static final class OsmParkPolygon implements Row, WithName, WithNameEn, WithNameDe, WithLanduse, WithLeisure,
+    WithBoundary, WithProtectedArea, WithProtectClass, WithProtectionTitle, WithHistoric, WithMaritime, WithSource {
+    private SourceFeature source;
+    private String mappingKey;
+    /** Bit {@code i} is set once the {@code i}th lazy column has been parsed. */
+    private int resolved;
+    private String name;
+    private String nameEn;
+    private String nameDe;
+    private String landuse;
+    private String leisure;
+    private String boundary;
+    private String protectedArea;
+    private String protectClass;
+    private String protectionTitle;
+    private String historic;
+    private boolean maritime;
+
     public OsmParkPolygon(SourceFeature source, String mappingKey) {
-      this(source.getString("name"), source.getString("name:en"), source.getString("name:de"),
-        source.getString("landuse"), source.getString("leisure"), source.getString("boundary"),
-        source.getString("protected_area"), source.getString("protect_class"), source.getString("protection_title"),
-        source.getString("historic"), source.getBoolean("maritime"), source);
+      this.source = source;
+      this.mappingKey = mappingKey;
     }
 
-    /** Imposm3 "mapping" to filter OSM elements that should appear in this "table". */
-    public static final Expression MAPPING = and(or(matchAny("leisure", "nature_reserve"),
-      matchAny("boundary", "national_park", "protected_area", "aboriginal_lands"),
-      matchAny("historic", "archaeological_site", "battlefield", "district")), matchType("polygon"));
+    private void reset(SourceFeature source, String mappingKey) {
+      this.source = source;
+      this.mappingKey = mappingKey;
+      resolved = 0;
+    }
 
-    /**
-     * Interface for layer implementations to extend to subscribe to OSM elements filtered and parsed as
-     * {@link OsmParkPolygon}.
-     */
-    public interface Handler {
-      void process(OsmParkPolygon element, FeatureCollector features);
+    @Override
+    public OsmParkPolygon copy() {
+      return new OsmParkPolygon(source, mappingKey);
     }
-  }
-  /** An OSM element that would appear in the {@code osm_boundary_polygon} table generated by imposm3. */
-  public record OsmBoundaryPolygon(@Override String name, @Override String boundary, @Override SourceFeature source)
-    implements Row, WithName, WithBoundary, WithSource {
-    public OsmBoundaryPolygon(SourceFeature source, String mappingKey) {
-      this(source.getString("name"), source.getString("boundary"), source);
+
+    @Override
+    public String name() {
+      if ((resolved & (1 << 0)) == 0) {
+        name = source.getString("name");
+        resolved |= (1 << 0);
+      }
+      return name;
     }
 
-    /** Imposm3 "mapping" to filter OSM elements that should appear in this "table". */
-    public static final Expression MAPPING =
-      and(matchAny("boundary", "aboriginal_lands"), matchAny("type", "boundary"), matchType("polygon"));
+    @Override
+    public String nameEn() {
+      if ((resolved & (1 << 1)) == 0) {
+        nameEn = source.getString("name:en");
+        resolved |= (1 << 1);
+      }
+      return nameEn;
+    }
 
-    /**
-     * Interface for layer implementations to extend to subscribe to OSM elements filtered and parsed as
-     * {@link OsmBoundaryPolygon}.
-     */
-    public interface Handler {
-      void process(OsmBoundaryPolygon element, FeatureCollector features);
+    @Override
+    public String nameDe() {
+      if ((resolved & (1 << 2)) == 0) {
+        nameDe = source.getString("name:de");
+        resolved |= (1 << 2);
+      }
+      return nameDe;
     }
-  }
-  /** An OSM element that would appear in the {@code osm_aeroway_polygon} table generated by imposm3. */
-  public record OsmAerowayPolygon(@Override String ref, @Override String aeroway, @Override SourceFeature source)
-    implements Row, WithRef, WithAeroway, WithSource {
-    public OsmAerowayPolygon(SourceFeature source, String mappingKey) {
-      this(source.getString("ref"), source.getString(mappingKey), source);
+
+    @Override
+    public String landuse() {
+      if ((resolved & (1 << 3)) == 0) {
+        landuse = TagDictionary.intern(source.getString("landuse"));
+        resolved |= (1 << 3);
+      }
+      return landuse;
     }
 
-    /** Imposm3 "mapping" to filter OSM elements that should appear in this "table". */
-    public static final Expression MAPPING = and(
-      or(matchAny("aeroway", "aerodrome", "heliport", "runway", "helipad", "taxiway", "apron"),
-        matchAny("area:aeroway", "aerodrome", "heliport", "runway", "helipad", "taxiway", "apron")),
-      matchType("polygon"));
+    @Override
+    public String leisure() {
+      if ((resolved & (1 << 4)) == 0) {
+        leisure = TagDictionary.intern(source.getString("leisure"));
+        resolved |= (1 << 4);
+      }
+      return leisure;
+    }
 
-    /**
-     * Interface for layer implementations to extend to subscribe to OSM elements filtered and parsed as
-     * {@link OsmAerowayPolygon}.
-     */
-    public interface Handler {
-      void process(OsmAerowayPolygon element, FeatureCollector features);
-    }
-  }
-  /** An OSM element that would appear in the {@code osm_aeroway_linestring} table generated by imposm3. */
-  public record OsmAerowayLinestring(@Override String ref, @Override String aeroway, @Override SourceFeature source)
-    implements Row, WithRef, WithAeroway, WithSource {
-    public OsmAerowayLinestring(SourceFeature source, String mappingKey) {
-      this(source.getString("ref"), source.getString("aeroway"), source);
+    @Override
+    public String boundary() {
+      if ((resolved & (1 << 5)) == 0) {
+        boundary = TagDictionary.intern(source.getString("boundary"));
+        resolved |= (1 << 5);
+      }
+      return boundary;
     }
 
-    /** Imposm3 "mapping" to filter OSM elements that should appear in this "table". */
-    public static final Expression MAPPING = and(matchAny("aeroway", "runway", "taxiway"), matchType("linestring"));
+    @Override
+    public String protectedArea() {
+      if ((resolved & (1 << 6)) == 0) {
+        protectedArea = source.getString("protected_area");
+        resolved |= (1 << 6);
+      }
+      return protectedArea;
+    }
 
-    /**
-     * Interface for layer implementations to extend to subscribe to OSM elements filtered and parsed as
-     * {@link OsmAerowayLinestring}.
-     */
-    public interface Handler {
-      void process(OsmAerowayLinestring element, FeatureCollector features);
+    @Override
+    public String protectClass() {
+      if ((resolved & (1 << 7)) == 0) {
+        protectClass = source.getString("protect_class");
+        resolved |= (1 << 7);
+      }
+      return protectClass;
     }
-  }
-  /** An OSM element that would appear in the {@code osm_aeroway_point} table generated by imposm3. */
-  public record OsmAerowayPoint(@Override String ref, @Override String aeroway, @Override SourceFeature source)
-    implements Row, WithRef, WithAeroway, WithSource {
-    public OsmAerowayPoint(SourceFeature source, String mappingKey) {
-      this(source.getString("ref"), source.getString("aeroway"), source);
+
+    @Override
+    public String protectionTitle() {
+      if ((resolved & (1 << 8)) == 0) {
+        protectionTitle = source.getString("protection_title");
+        resolved |= (1 << 8);
+      }
+      return protectionTitle;
     }
 
-    /** Imposm3 "mapping" to filter OSM elements that should appear in this "table". */
-    public static final Expression MAPPING = and(matchAny("aeroway", "gate"), matchType("point"));
+    @Override
+    public String historic() {
+      if ((resolved & (1 << 9)) == 0) {
+        historic = TagDictionary.intern(source.getString("historic"));
+        resolved |= (1 << 9);
+      }
+      return historic;
+    }
 
-    /**
-     * Interface for layer implementations to extend to subscribe to OSM elements filtered and parsed as
-     * {@link OsmAerowayPoint}.
-     */
-    public interface Handler {
-      void process(OsmAerowayPoint element, FeatureCollector features);
+    @Override
+    public boolean maritime() {
+      if ((resolved & (1 << 10)) == 0) {
+        maritime = source.getBoolean("maritime");
+        resolved |= (1 << 10);
+      }
+      return maritime;
     }
-  }
-  /** An OSM element that would appear in the {@code osm_highway_linestring} table generated by imposm3. */
-  public record OsmHighwayLinestring(@Override String highway, @Override String construction,
-    @Override String tracktype, @Override String ref, @Override String network, @Override int zOrder,
-    @Override long layer, @Override long level, @Override boolean indoor, @Override String name,
-    @Override String nameEn, @Override String nameDe, @Override boolean isTunnel, @Override boolean isBridge,
-    @Override boolean isRamp, @Override boolean isFord, @Override int isOneway, @Override boolean isArea,
-    @Override String service, @Override String access, @Override boolean toll, @Override String usage,
-    @Override String publicTransport, @Override String manMade, @Override String bicycle, @Override String foot,
-    @Override String horse, @Override String mtbScale, @Override String sacScale, @Override String operator,
-    @Override String informal, @Override String surface, @Override boolean expressway, @Override SourceFeature source)
-    implements Row, WithHighway, WithConstruction, WithTracktype, WithRef, WithNetwork, WithZOrder, WithLayer,
-    WithLevel, WithIndoor, WithName, WithNameEn, WithNameDe, WithIsTunnel, WithIsBridge, WithIsRamp, WithIsFord,
-    WithIsOneway, WithIsArea, WithService, WithAccess, WithToll, WithUsage, WithPublicTransport, WithManMade,
-    WithBicycle, WithFoot, WithHorse, WithMtbScale, WithSacScale, WithOperator, WithInformal, WithSurface,
-    WithExpressway, WithSource {
-    public OsmHighwayLinestring(SourceFeature source, String mappingKey) {
-      this(source.getString("highway"), source.getString("construction"), source.getString("tracktype"),
-        source.getString("ref"), source.getString("network"), source.getWayZorder(), source.getLong("layer"),
-        source.getLong("level"), source.getBoolean("indoor"), source.getString("name"), source.getString("name:en"),
-        source.getString("name:de"), source.getBoolean("tunnel"), source.getBoolean("bridge"),
-        source.getBoolean("ramp"), source.getBoolean("ford"), source.getDirection("oneway"), source.getBoolean("area"),
-        source.getString("service"), source.getString("access"), source.getBoolean("toll"), source.getString("usage"),
-        source.getString("public_transport"), source.getString("man_made"), source.getString("bicycle"),
-        source.getString("foot"), source.getString("horse"), source.getString("mtb:scale"),
-        source.getString("sac_scale"), source.getString("operator"), source.getString("informal"),
-        source.getString("surface"), source.getBoolean("expressway"), source);
+
+    @Override
+    public SourceFeature source() {
+      return source;
     }
 
-    /** Imposm3 "mapping" to filter OSM elements that should appear in this "table". */
-    public static final Expression MAPPING = and(or(
-      matchAny("highway", "motorway", "motorway_link", "trunk", "trunk_link", "primary", "primary_link", "secondary",
-        "secondary_link", "tertiary", "tertiary_link", "unclassified", "residential", "living_street", "road",
-        "pedestrian", "path", "footway", "cycleway", "steps", "bridleway", "corridor", "service", "track", "raceway",
-        "busway", "bus_guideway", "construction"),
-      matchAny("public_transport", "platform"), matchAny("man_made", "pier"),
-      matchAny("service", "driveway", "parking_aisle")), matchType("linestring"));
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof OsmParkPolygon other && source == other.source &&
+        Objects.equals(mappingKey, other.mappingKey);
+    }
 
-    /**
-     * Interface for layer implementations to extend to subscribe to OSM elements filtered and parsed as
-     * {@link OsmHighwayLinestring}.
-     */
-    public interface Handler {
-      void process(OsmHighwayLinestring element, FeatureCollector features);
+    @Override
+    public int hashCode() {
+      return Objects.hash(source, mappingKey);
     }
-  }
-  /** An OSM element that would appear in the {@code osm_railway_linestring} table generated by imposm3. */
-  public record OsmRailwayLinestring(@Override String railway, @Override String ref, @Override String network,
-    @Override int zOrder, @Override long layer, @Override long level, @Override boolean indoor, @Override String name,
-    @Override String nameEn, @Override String nameDe, @Override boolean isTunnel, @Override boolean isBridge,
-    @Override boolean isRamp, @Override boolean isFord, @Override boolean isArea, @Override String service,
-    @Override String usage, @Override SourceFeature source) implements Row, WithRailway, WithRef, WithNetwork,
-    WithZOrder, WithLayer, WithLevel, WithIndoor, WithName, WithNameEn, WithNameDe, WithIsTunnel, WithIsBridge,
-    WithIsRamp, WithIsFord, WithIsArea, WithService, WithUsage, WithSource {
-    public OsmRailwayLinestring(SourceFeature source, String mappingKey) {
-      this(source.getString("railway"), source.getString("ref"), source.getString("network"), source.getWayZorder(),
-        source.getLong("layer"), source.getLong("level"), source.getBoolean("indoor"), source.getString("name"),
-        source.getString("name:en"), source.getString("name:de"), source.getBoolean("tunnel"),
-        source.getBoolean("bridge"), source.getBoolean("ramp"), source.getBoolean("ford"), source.getBoolean("area"),
-        source.getString("service"), source.getString("usage"), source);
+
+    @Override
+    public String toString() {
+      return "OsmParkPolygon[name=" + name() + ", nameEn=" + nameEn() + ", nameDe=" + nameDe() + ", landuse=" +
+        landuse() + ", leisure=" + leisure() + ", boundary=" + boundary() + ", protectedArea=" + protectedArea() +
+        ", protectClass=" + protectClass() + ", protectionTitle=" + protectionTitle() + ", historic=" + historic() +
+        ", maritime=" + maritime() + ", source=" + source() + "]";
     }
 
     /** Imposm3 "mapping" to filter OSM elements that should appear in this "table". */
-    public static final Expression MAPPING = and(
-      matchAny("railway", "rail", "narrow_gauge", "preserved", "funicular", "subway", "light_rail", "monorail", "tram"),
-      matchType("linestring"));
+    public static final Expression MAPPING = and(or(matchAny("leisure", "nature_reserve"),
+      matchAny("boundary", "national_park", "protected_area", "aboriginal_lands"),
+      matchAny("historic", "archaeological_site", "battlefield", "district")), matchType("polygon"));
+
+    /** Tag keys that an element needs at least one of to match {@link #MAPPING}. */
+    public static final List<String> MAPPING_KEYS = List.of("leisure", "boundary", "historic");
 
     /**
      * Interface for layer implementations to extend to subscribe to OSM elements filtered and parsed as
-     * {@link OsmRailwayLinestring}.
+     * {@link OsmParkPolygon}.
      */
     public interface Handler {
-      void process(OsmRailwayLinestring element, FeatureCollector features);
+      void process(OsmParkPolygon element, FeatureCollector features);
     }
   }
-  /** An OSM element that would appear in the {@code osm_aerialway_linestring} table generated by imposm3. */
-  public record OsmAerialwayLinestring(@Override String aerialway, @Override int zOrder, @Override long layer,
-    @Override String name, @Override String nameEn, @Override String nameDe, @Override boolean isTunnel,
-    @Override boolean isBridge, @Override boolean isRamp, @Override boolean isFord, @Override int isOneway,
-    @Override boolean isArea, @Override String service, @Override String usage, @Override SourceFeature source)
-    implements Row, WithAerialway, WithZOrder, WithLayer, WithName, WithNameEn, WithNameDe, WithIsTunnel, WithIsBridge,
-    WithIsRamp, WithIsFord, WithIsOneway, WithIsArea, WithService, WithUsage, WithSource {
-    public OsmAerialwayLinestring(SourceFeature source, String mappingKey) {
-      this(source.getString("aerialway"), source.getWayZorder(), source.getLong("layer"), source.getString("name"),
-        source.getString("name:en"), source.getString("name:de"), source.getBoolean("tunnel"),
-        source.getBoolean("bridge"), source.getBoolean("ramp"), source.getBoolean("ford"),
-        source.getDirection("oneway"), source.getBoolean("area"), source.getString("service"),
-        source.getString("usage"), source);
+  /**
+   * An OSM element that would appear in the {@code osm_boundary_polygon} table generated by imposm3.
+   * <p>
+   * Columns are parsed from the source element the first time they are accessed, so instances must not be shared
+   * between threads while they are still being read.
+   */
+  public static final class OsmBoundaryPolygon implements Row, WithName, WithBoundary, WithSource {
+    private SourceFeature source;
+    private String mappingKey;
+    /** Bit {@code i} is set once the {@code i}th lazy column has been parsed. */
+    private int resolved;
+    private String name;
+    private String boundary;
+
+    public OsmBoundaryPolygon(SourceFeature source, String mappingKey) {
+      this.source = source;
+      this.mappingKey = mappingKey;
     }
 
-    /** Imposm3 "mapping" to filter OSM elements that should appear in this "table". */
-    public static final Expression MAPPING = and(matchAny("aerialway", "chair_lift", "drag_lift", "platter", "t-bar",
-      "gondola", "cable_car", "j-bar", "mixed_lift"), matchType("linestring"));
+    private void reset(SourceFeature source, String mappingKey) {
+      this.source = source;
+      this.mappingKey = mappingKey;
+      resolved = 0;
+    }
 
-    /**
-     * Interface for layer implementations to extend to subscribe to OSM elements filtered and parsed as
-     * {@link OsmAerialwayLinestring}.
-     */
-    public interface Handler {
-      void process(OsmAerialwayLinestring element, FeatureCollector features);
+    @Override
+    public OsmBoundaryPolygon copy() {
+      return new OsmBoundaryPolygon(source, mappingKey);
     }
-  }
-  /** An OSM element that would appear in the {@code osm_shipway_linestring} table generated by imposm3. */
-  public record OsmShipwayLinestring(@Override String shipway, @Override int zOrder, @Override long layer,
-    @Override String name, @Override String nameEn, @Override String nameDe, @Override boolean isTunnel,
-    @Override boolean isBridge, @Override boolean isRamp, @Override boolean isFord, @Override boolean isArea,
-    @Override String service, @Override String usage, @Override SourceFeature source)
-    implements Row, WithShipway, WithZOrder, WithLayer, WithName, WithNameEn, WithNameDe, WithIsTunnel, WithIsBridge,
-    WithIsRamp, WithIsFord, WithIsArea, WithService, WithUsage, WithSource {
-    public OsmShipwayLinestring(SourceFeature source, String mappingKey) {
-      this(source.getString("route"), source.getWayZorder(), source.getLong("layer"), source.getString("name"),
-        source.getString("name:en"), source.getString("name:de"), source.getBoolean("tunnel"),
-        source.getBoolean("bridge"), source.getBoolean("ramp"), source.getBoolean("ford"), source.getBoolean("area"),
-        source.getString("service"), source.getString("usage"), source);
+
+    @Override
+    public String name() {
+      if ((resolved & (1 << 0)) == 0) {
+        name = source.getString("name");
+        resolved |= (1 << 0);
+      }
+      return name;
     }
 
-    /** Imposm3 "mapping" to filter OSM elements that should appear in this "table". */
-    public static final Expression MAPPING = and(matchAny("route", "ferry"), matchType("linestring"));
+    @Override
+    public String boundary() {
+      if ((resolved & (1 << 1)) == 0) {
+        boundary = TagDictionary.intern(source.getString("boundary"));
+        resolved |= (1 << 1);
+      }
+      return boundary;
+    }
 
-    /**
-     * Interface for layer implementations to extend to subscribe to OSM elements filtered and parsed as
-     * {@link OsmShipwayLinestring}.
-     */
-    public interface Handler {
-      void process(OsmShipwayLinestring element, FeatureCollector features);
+    @Override
+    public SourceFeature source() {
+      return source;
     }
-  }
-  /** An OSM element that would appear in the {@code osm_highway_polygon} table generated by imposm3. */
-  public record OsmHighwayPolygon(@Override String highway, @Override int zOrder, @Override long layer,
-    @Override long level, @Override boolean indoor, @Override boolean isArea, @Override String publicTransport,
-    @Override String manMade, @Override String service, @Override SourceFeature source)
-    implements Row, WithHighway, WithZOrder, WithLayer, WithLevel, WithIndoor, WithIsArea, WithPublicTransport,
-    WithManMade, WithService, WithSource {
-    public OsmHighwayPolygon(SourceFeature source, String mappingKey) {
-      this(source.getString("highway"), source.getWayZorder(), source.getLong("layer"), source.getLong("level"),
-        source.getBoolean("indoor"), source.getBoolean("area"), source.getString("public_transport"),
-        source.getString("man_made"), source.getString("service"), source);
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof OsmBoundaryPolygon other && source == other.source &&
+        Objects.equals(mappingKey, other.mappingKey);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(source, mappingKey);
+    }
+
+    @Override
+    public String toString() {
+      return "OsmBoundaryPolygon[name=" + name() + ", boundary=" + boundary() + ", source=" + source() + "]";
     }
 
     /** Imposm3 "mapping" to filter OSM elements that should appear in this "table". */
     public static final Expression MAPPING =
-      and(or(matchAny("highway", "path", "cycleway", "bridleway", "footway", "corridor", "pedestrian", "steps"),
-        matchAny("public_transport", "platform"), matchAny("man_made", "bridge", "pier")), matchType("polygon"));
+      and(matchAny("boundary", "aboriginal_lands"), matchAny("type", "boundary"), matchType("polygon"));
+
+    /** Tag keys that an element needs at least one of to match {@link #MAPPING}. */
+    public static final List<String> MAPPING_KEYS = List.of("boundary");
 
     /**
      * Interface for layer implementations to extend to subscribe to OSM elements filtered and parsed as
-     * {@link OsmHighwayPolygon}.
+     * {@link OsmBoundaryPolygon}.
      */
     public interface Handler {
-      void process(OsmHighwayPolygon element, FeatureCollector features);
+      void process(OsmBoundaryPolygon element, FeatureCollector features);
     }
   }
-  /** An OSM element that would appear in the {@code osm_highway_point} table generated by imposm3. */
-  public record OsmHighwayPoint(@Override String highway, @Override int zOrder, @Override long layer,
-    @Override long level, @Override String name, @Override String nameEn, @Override String nameDe, @Override String ref,
-    @Override SourceFeature source) implements Row, WithHighway, WithZOrder, WithLayer, WithLevel, WithName, WithNameEn,
-    WithNameDe, WithRef, WithSource {
-    public OsmHighwayPoint(SourceFeature source, String mappingKey) {
-      this(source.getString("highway"), source.getWayZorder(), source.getLong("layer"), source.getLong("level"),
-        source.getString("name"), source.getString("name:en"), source.getString("name:de"), source.getString("ref"),
-        source);
+  /**
+   * An OSM element that would appear in the {@code osm_aeroway_polygon} table generated by imposm3.
+   * <p>
+   * Columns are parsed from the source element the first time they are accessed, so instances must not be shared
+   * between threads while they are still being read.
+   */
+  public static final class OsmAerowayPolygon implements Row, WithRef, WithAeroway, WithSource {
+    private SourceFeature source;
+    private String mappingKey;
+    /** Bit {@code i} is set once the {@code i}th lazy column has been parsed. */
+    private int resolved;
+    private String ref;
+    private String aeroway;
+
+    public OsmAerowayPolygon(SourceFeature source, String mappingKey) {
+      this.source = source;
+      this.mappingKey = mappingKey;
     }
 
-    /** Imposm3 "mapping" to filter OSM elements that should appear in this "table". */
-    public static final Expression MAPPING = and(matchAny("highway", "motorway_junction"), matchType("point"));
+    private void reset(SourceFeature source, String mappingKey) {
+      this.source = source;
+      this.mappingKey = mappingKey;
+      resolved = 0;
+    }
 
-    /**
-     * Interface for layer implementations to extend to subscribe to OSM elements filtered and parsed as
-     * {@link OsmHighwayPoint}.
-     */
-    public interface Handler {
-      void process(OsmHighwayPoint element, FeatureCollector features);
+    @Override
+    public OsmAerowayPolygon copy() {
+      return new OsmAerowayPolygon(source, mappingKey);
     }
-  }
-  /** An OSM element that would appear in the {@code osm_building_polygon} table generated by imposm3. */
-  public record OsmBuildingPolygon(@Override String material, @Override String colour, @Override String building,
-    @Override String buildingpart, @Override String buildingheight, @Override String buildingminHeight,
-    @Override String buildinglevels, @Override String buildingminLevel, @Override String height,
-    @Override String minHeight, @Override String levels, @Override String minLevel, @Override SourceFeature source)
-    implements Row, WithMaterial, WithColour, WithBuilding, WithBuildingpart, WithBuildingheight, WithBuildingminHeight,
-    WithBuildinglevels, WithBuildingminLevel, WithHeight, WithMinHeight, WithLevels, WithMinLevel, WithSource {
-    public OsmBuildingPolygon(SourceFeature source, String mappingKey) {
-      this(source.getString("building:material"), source.getString("building:colour"), source.getString("building"),
-        source.getString("building:part"), source.getString("building:height"), source.getString("building:min_height"),
-        source.getString("building:levels"), source.getString("building:min_level"), source.getString("height"),
-        source.getString("min_height"), source.getString("levels"), source.getString("min_level"), source);
+
+    @Override
+    public String ref() {
+      if ((resolved & (1 << 0)) == 0) {
+        ref = source.getString("ref");
+        resolved |= (1 << 0);
+      }
+      return ref;
+    }
+
+    @Override
+    public String aeroway() {
+      if ((resolved & (1 << 1)) == 0) {
+        aeroway = TagDictionary.intern(source.getString(mappingKey));
+        resolved |= (1 << 1);
+      }
+      return aeroway;
+    }
+
+    @Override
+    public SourceFeature source() {
+      return source;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof OsmAerowayPolygon other && source == other.source &&
+        Objects.equals(mappingKey, other.mappingKey);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(source, mappingKey);
+    }
+
+    @Override
+    public String toString() {
+      return "OsmAerowayPolygon[ref=" + ref() + ", aeroway=" + aeroway() + ", source=" + source() + "]";
     }
 
     /** Imposm3 "mapping" to filter OSM elements that should appear in this "table". */
     public static final Expression MAPPING = and(
-      or(matchField("building:part"), matchField("building"), matchAny("aeroway", "terminal", "hangar"),
-        matchAny("location", "underground")),
-      not(matchAny("building", "no", "none", "No")), not(matchAny("building:part", "no", "none", "No")),
-      not(matchAny("man_made", "bridge")), not(matchAny("location", "underground")), matchType("polygon"));
+      or(matchAny("aeroway", "aerodrome", "heliport", "runway", "helipad", "taxiway", "apron"),
+        matchAny("area:aeroway", "aerodrome", "heliport", "runway", "helipad", "taxiway", "apron")),
+      matchType("polygon"));
+
+    /** Tag keys that an element needs at least one of to match {@link #MAPPING}. */
+    public static final List<String> MAPPING_KEYS = List.of("aeroway", "area:aeroway");
 
     /**
      * Interface for layer implementations to extend to subscribe to OSM elements filtered and parsed as
-     * {@link OsmBuildingPolygon}.
+     * {@link OsmAerowayPolygon}.
      */
     public interface Handler {
-      void process(OsmBuildingPolygon element, FeatureCollector features);
+      void process(OsmAerowayPolygon element, FeatureCollector features);
     }
   }
-  /** An OSM element that would appear in the {@code osm_marine_point} table generated by imposm3. */
-  public record OsmMarinePoint(@Override String name, @Override String nameEn, @Override String nameDe,
-    @Override String place, @Override String natural, @Override long rank, @Override boolean isIntermittent,
-    @Override SourceFeature source)
-    implements Row, WithName, WithNameEn, WithNameDe, WithPlace, WithNatural, WithRank, WithIsIntermittent, WithSource {
-    public OsmMarinePoint(SourceFeature source, String mappingKey) {
-      this(source.getString("name"), source.getString("name:en"), source.getString("name:de"),
-        source.getString("place"), source.getString("natural"), source.getLong("rank"),
-        source.getBoolean("intermittent"), source);
+  /**
+   * An OSM element that would appear in the {@code osm_aeroway_linestring} table generated by imposm3.
+   * <p>
+   * Columns are parsed from the source element the first time they are accessed, so instances must not be shared
+   * between threads while they are still being read.
+   */
+  public static final class OsmAerowayLinestring implements Row, WithRef, WithAeroway, WithSource {
+    private SourceFeature source;
+    private String mappingKey;
+    /** Bit {@code i} is set once the {@code i}th lazy column has been parsed. */
+    private int resolved;
+    private String ref;
+    private String aeroway;
+
+    public OsmAerowayLinestring(SourceFeature source, String mappingKey) {
+      this.source = source;
+      this.mappingKey = mappingKey;
     }
 
-    /** Imposm3 "mapping" to filter OSM elements that should appear in this "table". */
-    public static final Expression MAPPING =
-      and(or(matchAny("place", "ocean", "sea"), matchAny("natural", "bay", "strait")), matchField("name"),
-        matchType("point"));
+    private void reset(SourceFeature source, String mappingKey) {
+      this.source = source;
+      this.mappingKey = mappingKey;
+      resolved = 0;
+    }
 
-    /**
-     * Interface for layer implementations to extend to subscribe to OSM elements filtered and parsed as
-     * {@link OsmMarinePoint}.
-     */
-    public interface Handler {
-      void process(OsmMarinePoint element, FeatureCollector features);
+    @Override
+    public OsmAerowayLinestring copy() {
+      return new OsmAerowayLinestring(source, mappingKey);
     }
-  }
-  /** An OSM element that would appear in the {@code osm_continent_point} table generated by imposm3. */
-  public record OsmContinentPoint(@Override String name, @Override String nameEn, @Override String nameDe,
-    @Override SourceFeature source) implements Row, WithName, WithNameEn, WithNameDe, WithSource {
-    public OsmContinentPoint(SourceFeature source, String mappingKey) {
-      this(source.getString("name"), source.getString("name:en"), source.getString("name:de"), source);
+
+    @Override
+    public String ref() {
+      if ((resolved & (1 << 0)) == 0) {
+        ref = source.getString("ref");
+        resolved |= (1 << 0);
+      }
+      return ref;
     }
 
-    /** Imposm3 "mapping" to filter OSM elements that should appear in this "table". */
-    public static final Expression MAPPING =
-      and(matchAny("place", "continent"), matchField("name"), matchType("point"));
+    @Override
+    public String aeroway() {
+      if ((resolved & (1 << 1)) == 0) {
+        aeroway = TagDictionary.intern(source.getString("aeroway"));
+        resolved |= (1 << 1);
+      }
+      return aeroway;
+    }
 
-    /**
-     * Interface for layer implementations to extend to subscribe to OSM elements filtered and parsed as
-     * {@link OsmContinentPoint}.
-     */
-    public interface Handler {
-      void process(OsmContinentPoint element, FeatureCollector features);
+    @Override
+    public SourceFeature source() {
+      return source;
     }
-  }
-  /** An OSM element that would appear in the {@code osm_country_point} table generated by imposm3. */
-  public record OsmCountryPoint(@Override String name, @Override String nameEn, @Override String nameDe,
-    @Override long rank, @Override String countryCodeIso31661Alpha2, @Override String iso31661Alpha2,
-    @Override String iso31661, @Override SourceFeature source) implements Row, WithName, WithNameEn, WithNameDe,
-    WithRank, WithCountryCodeIso31661Alpha2, WithIso31661Alpha2, WithIso31661, WithSource {
-    public OsmCountryPoint(SourceFeature source, String mappingKey) {
-      this(source.getString("name"), source.getString("name:en"), source.getString("name:de"), source.getLong("rank"),
-        source.getString("country_code_iso3166_1_alpha_2"), source.getString("ISO3166-1:alpha2"),
-        source.getString("ISO3166-1"), source);
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof OsmAerowayLinestring other && source == other.source &&
+        Objects.equals(mappingKey, other.mappingKey);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(source, mappingKey);
+    }
+
+    @Override
+    public String toString() {
+      return "OsmAerowayLinestring[ref=" + ref() + ", aeroway=" + aeroway() + ", source=" + source() + "]";
     }
 
     /** Imposm3 "mapping" to filter OSM elements that should appear in this "table". */
-    public static final Expression MAPPING = and(matchAny("place", "country"), matchField("name"), matchType("point"));
+    public static final Expression MAPPING = and(matchAny("aeroway", "runway", "taxiway"), matchType("linestring"));
+
+    /** Tag keys that an element needs at least one of to match {@link #MAPPING}. */
+    public static final List<String> MAPPING_KEYS = List.of("aeroway");
 
     /**
      * Interface for layer implementations to extend to subscribe to OSM elements filtered and parsed as
-     * {@link OsmCountryPoint}.
+     * {@link OsmAerowayLinestring}.
      */
     public interface Handler {
-      void process(OsmCountryPoint element, FeatureCollector features);
+      void process(OsmAerowayLinestring element, FeatureCollector features);
     }
   }
-  /** An OSM element that would appear in the {@code osm_island_polygon} table generated by imposm3. */
-  public record OsmIslandPolygon(@Override String name, @Override String nameEn, @Override String nameDe,
-    @Override long rank, @Override SourceFeature source)
-    implements Row, WithName, WithNameEn, WithNameDe, WithRank, WithSource {
-    public OsmIslandPolygon(SourceFeature source, String mappingKey) {
-      this(source.getString("name"), source.getString("name:en"), source.getString("name:de"), source.getLong("rank"),
-        source);
+  /**
+   * An OSM element that would appear in the {@code osm_aeroway_point} table generated by imposm3.
+   * <p>
+   * Columns are parsed from the source element the first time they are accessed, so instances must not be shared
+   * between threads while they are still being read.
+   */
+  public static final class OsmAerowayPoint implements Row, WithRef, WithAeroway, WithSource {
+    private SourceFeature source;
+    private String mappingKey;
+    /** Bit {@code i} is set once the {@code i}th lazy column has been parsed. */
+    private int resolved;
+    private String ref;
+    private String aeroway;
+
+    public OsmAerowayPoint(SourceFeature source, String mappingKey) {
+      this.source = source;
+      this.mappingKey = mappingKey;
+    }
+
+    private void reset(SourceFeature source, String mappingKey) {
+      this.source = source;
+      this.mappingKey = mappingKey;
+      resolved = 0;
+    }
+
+    @Override
+    public OsmAerowayPoint copy() {
+      return new OsmAerowayPoint(source, mappingKey);
+    }
+
+    @Override
+    public String ref() {
+      if ((resolved & (1 << 0)) == 0) {
+        ref = source.getString("ref");
+        resolved |= (1 << 0);
+      }
+      return ref;
+    }
+
+    @Override
+    public String aeroway() {
+      if ((resolved & (1 << 1)) == 0) {
+        aeroway = TagDictionary.intern(source.getString("aeroway"));
+        resolved |= (1 << 1);
+      }
+      return aeroway;
+    }
+
+    @Override
+    public SourceFeature source() {
+      return source;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof OsmAerowayPoint other && source == other.source &&
+        Objects.equals(mappingKey, other.mappingKey);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(source, mappingKey);
+    }
+
+    @Override
+    public String toString() {
+      return "OsmAerowayPoint[ref=" + ref() + ", aeroway=" + aeroway() + ", source=" + source() + "]";
     }
 
     /** Imposm3 "mapping" to filter OSM elements that should appear in this "table". */
-    public static final Expression MAPPING = and(matchAny("place", "island"), matchField("name"), matchType("polygon"));
+    public static final Expression MAPPING = and(matchAny("aeroway", "gate"), matchType("point"));
+
+    /** Tag keys that an element needs at least one of to match {@link #MAPPING}. */
+    public static final List<String> MAPPING_KEYS = List.of("aeroway");
 
     /**
      * Interface for layer implementations to extend to subscribe to OSM elements filtered and parsed as
-     * {@link OsmIslandPolygon}.
+     * {@link OsmAerowayPoint}.
      */
     public interface Handler {
-      void process(OsmIslandPolygon element, FeatureCollector features);
+      void process(OsmAerowayPoint element, FeatureCollector features);
     }
   }
-  /** An OSM element that would appear in the {@code osm_island_point} table generated by imposm3. */
-  public record OsmIslandPoint(@Override String name, @Override String nameEn, @Override String nameDe,
-    @Override long rank, @Override SourceFeature source)
-    implements Row, WithName, WithNameEn, WithNameDe, WithRank, WithSource {
-    public OsmIslandPoint(SourceFeature source, String mappingKey) {
-      this(source.getString("name"), source.getString("name:en"), source.getString("name:de"), source.getLong("rank"),
-        source);
+  /**
+   * An OSM element that would appear in the {@code osm_highway_linestring} table generated by imposm3.
+   * <p>
+   * Columns are parsed from the source element the first time they are accessed, so instances must not be shared
+   * between threads while they are still being read.
+   */
+  public static final class OsmHighwayLinestring implements Row, WithHighway, WithConstruction, WithTracktype, WithRef,
+    WithNetwork, WithZOrder, WithLayer, WithLevel, WithIndoor, WithName, WithNameEn, WithNameDe, WithIsTunnel,
+    WithIsBridge, WithIsRamp, WithIsFord, WithIsOneway, WithIsArea, WithService, WithAccess, WithToll, WithUsage,
+    WithPublicTransport, WithManMade, WithBicycle, WithFoot, WithHorse, WithMtbScale, WithSacScale, WithOperator,
+    WithInformal, WithSurface, WithExpressway, WithSource {
+    private SourceFeature source;
+    private String mappingKey;
+    /** Bit {@code i} is set once the {@code i}th lazy column has been parsed. */
+    private long resolved;
+    private String highway;
+    private String construction;
+    private String tracktype;
+    private String ref;
+    private String network;
+    private int zOrder;
+    private long layer;
+    private long level;
+    private boolean indoor;
+    private String name;
+    private String nameEn;
+    private String nameDe;
+    private boolean isTunnel;
+    private boolean isBridge;
+    private boolean isRamp;
+    private boolean isFord;
+    private int isOneway;
+    private boolean isArea;
+    private String service;
+    private String access;
+    private boolean toll;
+    private String usage;
+    private String publicTransport;
+    private String manMade;
+    private String bicycle;
+    private String foot;
+    private String horse;
+    private String mtbScale;
+    private String sacScale;
+    private String operator;
+    private String informal;
+    private String surface;
+    private boolean expressway;
+
+    public OsmHighwayLinestring(SourceFeature source, String mappingKey) {
+      this.source = source;
+      this.mappingKey = mappingKey;
     }
 
-    /** Imposm3 "mapping" to filter OSM elements that should appear in this "table". */
-    public static final Expression MAPPING = and(matchAny("place", "island"), matchField("name"), matchType("point"));
+    private void reset(SourceFeature source, String mappingKey) {
+      this.source = source;
+      this.mappingKey = mappingKey;
+      resolved = 0;
+    }
 
-    /**
-     * Interface for layer implementations to extend to subscribe to OSM elements filtered and parsed as
-     * {@link OsmIslandPoint}.
-     */
-    public interface Handler {
-      void process(OsmIslandPoint element, FeatureCollector features);
+    @Override
+    public OsmHighwayLinestring copy() {
+      return new OsmHighwayLinestring(source, mappingKey);
+    }
+
+    @Override
+    public String highway() {
+      if ((resolved & (1L << 0)) == 0) {
+        highway = TagDictionary.intern(source.getString("highway"));
+        resolved |= (1L << 0);
+      }
+      return highway;
+    }
+
+    @Override
+    public String construction() {
+      if ((resolved & (1L << 1)) == 0) {
+        construction = source.getString("construction");
+        resolved |= (1L << 1);
+      }
+      return construction;
+    }
+
+    @Override
+    public String tracktype() {
+      if ((resolved & (1L << 2)) == 0) {
+        tracktype = source.getString("tracktype");
+        resolved |= (1L << 2);
+      }
+      return tracktype;
+    }
+
+    @Override
+    public String ref() {
+      if ((resolved & (1L << 3)) == 0) {
+        ref = source.getString("ref");
+        resolved |= (1L << 3);
+      }
+      return ref;
+    }
+
+    @Override
+    public String network() {
+      if ((resolved & (1L << 4)) == 0) {
+        network = source.getString("network");
+        resolved |= (1L << 4);
+      }
+      return network;
+    }
+
+    @Override
+    public int zOrder() {
+      if ((resolved & (1L << 5)) == 0) {
+        zOrder = source.getWayZorder();
+        resolved |= (1L << 5);
+      }
+      return zOrder;
+    }
+
+    @Override
+    public long layer() {
+      if ((resolved & (1L << 6)) == 0) {
+        layer = source.getLong("layer");
+        resolved |= (1L << 6);
+      }
+      return layer;
+    }
+
+    @Override
+    public long level() {
+      if ((resolved & (1L << 7)) == 0) {
+        level = source.getLong("level");
+        resolved |= (1L << 7);
+      }
+      return level;
+    }
+
+    @Override
+    public boolean indoor() {
+      if ((resolved & (1L << 8)) == 0) {
+        indoor = source.getBoolean("indoor");
+        resolved |= (1L << 8);
+      }
+      return indoor;
+    }
+
+    @Override
+    public String name() {
+      if ((resolved & (1L << 9)) == 0) {
+        name = source.getString("name");
+        resolved |= (1L << 9);
+      }
+      return name;
+    }
+
+    @Override
+    public String nameEn() {
+      if ((resolved & (1L << 10)) == 0) {
+        nameEn = source.getString("name:en");
+        resolved |= (1L << 10);
+      }
+      return nameEn;
+    }
+
+    @Override
+    public String nameDe() {
+      if ((resolved & (1L << 11)) == 0) {
+        nameDe = source.getString("name:de");
+        resolved |= (1L << 11);
+      }
+      return nameDe;
+    }
+
+    @Override
+    public boolean isTunnel() {
+      if ((resolved & (1L << 12)) == 0) {
+        isTunnel = source.getBoolean("tunnel");
+        resolved |= (1L << 12);
+      }
+      return isTunnel;
+    }
+
+    @Override
+    public boolean isBridge() {
+      if ((resolved & (1L << 13)) == 0) {
+        isBridge = source.getBoolean("bridge");
+        resolved |= (1L << 13);
+      }
+      return isBridge;
+    }
+
+    @Override
+    public boolean isRamp() {
+      if ((resolved & (1L << 14)) == 0) {
+        isRamp = source.getBoolean("ramp");
+        resolved |= (1L << 14);
+      }
+      return isRamp;
+    }
+
+    @Override
+    public boolean isFord() {
+      if ((resolved & (1L << 15)) == 0) {
+        isFord = source.getBoolean("ford");
+        resolved |= (1L << 15);
+      }
+      return isFord;
+    }
+
+    @Override
+    public int isOneway() {
+      if ((resolved & (1L << 16)) == 0) {
+        isOneway = source.getDirection("oneway");
+        resolved |= (1L << 16);
+      }
+      return isOneway;
+    }
+
+    @Override
+    public boolean isArea() {
+      if ((resolved & (1L << 17)) == 0) {
+        isArea = source.getBoolean("area");
+        resolved |= (1L << 17);
+      }
+      return isArea;
+    }
+
+    @Override
+    public String service() {
+      if ((resolved & (1L << 18)) == 0) {
+        service = TagDictionary.intern(source.getString("service"));
+        resolved |= (1L << 18);
+      }
+      return service;
+    }
+
+    @Override
+    public String access() {
+      if ((resolved & (1L << 19)) == 0) {
+        access = source.getString("access");
+        resolved |= (1L << 19);
+      }
+      return access;
+    }
+
+    @Override
+    public boolean toll() {
+      if ((resolved & (1L << 20)) == 0) {
+        toll = source.getBoolean("toll");
+        resolved |= (1L << 20);
+      }
+      return toll;
+    }
+
+    @Override
+    public String usage() {
+      if ((resolved & (1L << 21)) == 0) {
+        usage = source.getString("usage");
+        resolved |= (1L << 21);
+      }
+      return usage;
+    }
+
+    @Override
+    public String publicTransport() {
+      if ((resolved & (1L << 22)) == 0) {
+        publicTransport = TagDictionary.intern(source.getString("public_transport"));
+        resolved |= (1L << 22);
+      }
+      return publicTransport;
+    }
+
+    @Override
+    public String manMade() {
+      if ((resolved & (1L << 23)) == 0) {
+        manMade = TagDictionary.intern(source.getString("man_made"));
+        resolved |= (1L << 23);
+      }
+      return manMade;
+    }
+
+    @Override
+    public String bicycle() {
+      if ((resolved & (1L << 24)) == 0) {
+        bicycle = source.getString("bicycle");
+        resolved |= (1L << 24);
+      }
+      return bicycle;
+    }
+
+    @Override
+    public String foot() {
+      if ((resolved & (1L << 25)) == 0) {
+        foot = source.getString("foot");
+        resolved |= (1L << 25);
+      }
+      return foot;
+    }
+
+    @Override
+    public String horse() {
+      if ((resolved & (1L << 26)) == 0) {
+        horse = source.getString("horse");
+        resolved |= (1L << 26);
+      }
+      return horse;
+    }
+
+    @Override
+    public String mtbScale() {
+      if ((resolved & (1L << 27)) == 0) {
+        mtbScale = source.getString("mtb:scale");
+        resolved |= (1L << 27);
+      }
+      return mtbScale;
+    }
+
+    @Override
+    public String sacScale() {
+      if ((resolved & (1L << 28)) == 0) {
+        sacScale = source.getString("sac_scale");
+        resolved |= (1L << 28);
+      }
+      return sacScale;
+    }
+
+    @Override
+    public String operator() {
+      if ((resolved & (1L << 29)) == 0) {
+        operator = source.getString("operator");
+        resolved |= (1L << 29);
+      }
+      return operator;
+    }
+
+    @Override
+    public String informal() {
+      if ((resolved & (1L << 30)) == 0) {
+        informal = source.getString("informal");
+        resolved |= (1L << 30);
+      }
+      return informal;
+    }
+
+    @Override
+    public String surface() {
+      if ((resolved & (1L << 31)) == 0) {
+        surface = source.getString("surface");
+        resolved |= (1L << 31);
+      }
+      return surface;
+    }
+
+    @Override
+    public boolean expressway() {
+      if ((resolved & (1L << 32)) == 0) {
+        expressway = source.getBoolean("expressway");
+        resolved |= (1L << 32);
+      }
+      return expressway;
+    }
+
+    @Override
+    public SourceFeature source() {
+      return source;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof OsmHighwayLinestring other && source == other.source &&
+        Objects.equals(mappingKey, other.mappingKey);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(source, mappingKey);
+    }
+
+    @Override
+    public String toString() {
+      return "OsmHighwayLinestring[highway=" + highway() + ", construction=" + construction() + ", tracktype=" +
+        tracktype() + ", ref=" + ref() + ", network=" + network() + ", zOrder=" + zOrder() + ", layer=" + layer() +
+        ", level=" + level() + ", indoor=" + indoor() + ", name=" + name() + ", nameEn=" + nameEn() + ", nameDe=" +
+        nameDe() + ", isTunnel=" + isTunnel() + ", isBridge=" + isBridge() + ", isRamp=" + isRamp() + ", isFord=" +
+        isFord() + ", isOneway=" + isOneway() + ", isArea=" + isArea() + ", service=" + service() + ", access=" +
+        access() + ", toll=" + toll() + ", usage=" + usage() + ", publicTransport=" + publicTransport() + ", manMade=" +
+        manMade() + ", bicycle=" + bicycle() + ", foot=" + foot() + ", horse=" + horse() + ", mtbScale=" + mtbScale() +
+        ", sacScale=" + sacScale() + ", operator=" + operator() + ", informal=" + informal() + ", surface=" +
+        surface() + ", expressway=" + expressway() + ", source=" + source() + "]";
+    }
+
+    /** Imposm3 "mapping" to filter OSM elements that should appear in this "table". */
+    public static final Expression MAPPING = and(or(
+      matchAny("highway", "motorway", "motorway_link", "trunk", "trunk_link", "primary", "primary_link", "secondary",
+        "secondary_link", "tertiary", "tertiary_link", "unclassified", "residential", "living_street", "road",
+        "pedestrian", "path", "footway", "cycleway", "steps", "bridleway", "corridor", "service", "track", "raceway",
+        "busway", "bus_guideway", "construction"),
+      matchAny("public_transport", "platform"), matchAny("man_made", "pier"),
+      matchAny("service", "driveway", "parking_aisle")), matchType("linestring"));
+
+    /** Tag keys that an element needs at least one of to match {@link #MAPPING}. */
+    public static final List<String> MAPPING_KEYS = List.of("highway", "public_transport", "man_made", "service");
+
+    /**
+     * Interface for layer implementations to extend to subscribe to OSM elements filtered and parsed as
+     * {@link OsmHighwayLinestring}.
+     */
+    public interface Handler {
+      void process(OsmHighwayLinestring element, FeatureCollector features);
+    }
+  }
+  /**
+   * An OSM element that would appear in the {@code osm_railway_linestring} table generated by imposm3.
+   * <p>
+   * Columns are parsed from the source element the first time they are accessed, so instances must not be shared
+   * between threads while they are still being read.
+   */
+  public static final class OsmRailwayLinestring implements Row, WithRailway, WithRef, WithNetwork, WithZOrder,
+    WithLayer, WithLevel, WithIndoor, WithName, WithNameEn, WithNameDe, WithIsTunnel, WithIsBridge, WithIsRamp,
+    WithIsFord, WithIsArea, WithService, WithUsage, WithSource {
+    private SourceFeature source;
+    private String mappingKey;
+    /** Bit {@code i} is set once the {@code i}th lazy column has been parsed. */
+    private int resolved;
+    private String railway;
+    private String ref;
+    private String network;
+    private int zOrder;
+    private long layer;
+    private long level;
+    private boolean indoor;
+    private String name;
+    private String nameEn;
+    private String nameDe;
+    private boolean isTunnel;
+    private boolean isBridge;
+    private boolean isRamp;
+    private boolean isFord;
+    private boolean isArea;
+    private String service;
+    private String usage;
+
+    public OsmRailwayLinestring(SourceFeature source, String mappingKey) {
+      this.source = source;
+      this.mappingKey = mappingKey;
+    }
+
+    private void reset(SourceFeature source, String mappingKey) {
+      this.source = source;
+      this.mappingKey = mappingKey;
+      resolved = 0;
+    }
+
+    @Override
+    public OsmRailwayLinestring copy() {
+      return new OsmRailwayLinestring(source, mappingKey);
+    }
+
+    @Override
+    public String railway() {
+      if ((resolved & (1 << 0)) == 0) {
+        railway = TagDictionary.intern(source.getString("railway"));
+        resolved |= (1 << 0);
+      }
+      return railway;
+    }
+
+    @Override
+    public String ref() {
+      if ((resolved & (1 << 1)) == 0) {
+        ref = source.getString("ref");
+        resolved |= (1 << 1);
+      }
+      return ref;
+    }
+
+    @Override
+    public String network() {
+      if ((resolved & (1 << 2)) == 0) {
+        network = source.getString("network");
+        resolved |= (1 << 2);
+      }
+      return network;
+    }
+
+    @Override
+    public int zOrder() {
+      if ((resolved & (1 << 3)) == 0) {
+        zOrder = source.getWayZorder();
+        resolved |= (1 << 3);
+      }
+      return zOrder;
+    }
+
+    @Override
+    public long layer() {
+      if ((resolved & (1 << 4)) == 0) {
+        layer = source.getLong("layer");
+        resolved |= (1 << 4);
+      }
+      return layer;
+    }
+
+    @Override
+    public long level() {
+      if ((resolved & (1 << 5)) == 0) {
+        level = source.getLong("level");
+        resolved |= (1 << 5);
+      }
+      return level;
+    }
+
+    @Override
+    public boolean indoor() {
+      if ((resolved & (1 << 6)) == 0) {
+        indoor = source.getBoolean("indoor");
+        resolved |= (1 << 6);
+      }
+      return indoor;
+    }
+
+    @Override
+    public String name() {
+      if ((resolved & (1 << 7)) == 0) {
+        name = source.getString("name");
+        resolved |= (1 << 7);
+      }
+      return name;
+    }
+
+    @Override
+    public String nameEn() {
+      if ((resolved & (1 << 8)) == 0) {
+        nameEn = source.getString("name:en");
+        resolved |= (1 << 8);
+      }
+      return nameEn;
+    }
+
+    @Override
+    public String nameDe() {
+      if ((resolved & (1 << 9)) == 0) {
+        nameDe = source.getString("name:de");
+        resolved |= (1 << 9);
+      }
+      return nameDe;
+    }
+
+    @Override
+    public boolean isTunnel() {
+      if ((resolved & (1 << 10)) == 0) {
+        isTunnel = source.getBoolean("tunnel");
+        resolved |= (1 << 10);
+      }
+      return isTunnel;
+    }
+
+    @Override
+    public boolean isBridge() {
+      if ((resolved & (1 << 11)) == 0) {
+        isBridge = source.getBoolean("bridge");
+        resolved |= (1 << 11);
+      }
+      return isBridge;
+    }
+
+    @Override
+    public boolean isRamp() {
+      if ((resolved & (1 << 12)) == 0) {
+        isRamp = source.getBoolean("ramp");
+        resolved |= (1 << 12);
+      }
+      return isRamp;
+    }
+
+    @Override
+    public boolean isFord() {
+      if ((resolved & (1 << 13)) == 0) {
+        isFord = source.getBoolean("ford");
+        resolved |= (1 << 13);
+      }
+      return isFord;
+    }
+
+    @Override
+    public boolean isArea() {
+      if ((resolved & (1 << 14)) == 0) {
+        isArea = source.getBoolean("area");
+        resolved |= (1 << 14);
+      }
+      return isArea;
+    }
+
+    @Override
+    public String service() {
+      if ((resolved & (1 << 15)) == 0) {
+        service = TagDictionary.intern(source.getString("service"));
+        resolved |= (1 << 15);
+      }
+      return service;
+    }
+
+    @Override
+    public String usage() {
+      if ((resolved & (1 << 16)) == 0) {
+        usage = source.getString("usage");
+        resolved |= (1 << 16);
+      }
+      return usage;
+    }
+
+    @Override
+    public SourceFeature source() {
+      return source;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof OsmRailwayLinestring other && source == other.source &&
+        Objects.equals(mappingKey, other.mappingKey);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(source, mappingKey);
+    }
+
+    @Override
+    public String toString() {
+      return "OsmRailwayLinestring[railway=" + railway() + ", ref=" + ref() + ", network=" + network() + ", zOrder=" +
+        zOrder() + ", layer=" + layer() + ", level=" + level() + ", indoor=" + indoor() + ", name=" + name() +
+        ", nameEn=" + nameEn() + ", nameDe=" + nameDe() + ", isTunnel=" + isTunnel() + ", isBridge=" + isBridge() +
+        ", isRamp=" + isRamp() + ", isFord=" + isFord() + ", isArea=" + isArea() + ", service=" + service() +
+        ", usage=" + usage() + ", source=" + source() + "]";
+    }
+
+    /** Imposm3 "mapping" to filter OSM elements that should appear in this "table". */
+    public static final Expression MAPPING = and(
+      matchAny("railway", "rail", "narrow_gauge", "preserved", "funicular", "subway", "light_rail", "monorail", "tram"),
+      matchType("linestring"));
+
+    /** Tag keys that an element needs at least one of to match {@link #MAPPING}. */
+    public static final List<String> MAPPING_KEYS = List.of("railway");
+
+    /**
+     * Interface for layer implementations to extend to subscribe to OSM elements filtered and parsed as
+     * {@link OsmRailwayLinestring}.
+     */
+    public interface Handler {
+      void process(OsmRailwayLinestring element, FeatureCollector features);
+    }
+  }
+  /**
+   * An OSM element that would appear in the {@code osm_aerialway_linestring} table generated by imposm3.
+   * <p>
+   * Columns are parsed from the source element the first time they are accessed, so instances must not be shared
+   * between threads while they are still being read.
+   */
+  public static final class OsmAerialwayLinestring implements Row, WithAerialway, WithZOrder, WithLayer, WithName,
+    WithNameEn, WithNameDe, WithIsTunnel, WithIsBridge, WithIsRamp, WithIsFord, WithIsOneway, WithIsArea, WithService,
+    WithUsage, WithSource {
+    private SourceFeature source;
+    private String mappingKey;
+    /** Bit {@code i} is set once the {@code i}th lazy column has been parsed. */
+    private int resolved;
+    private String aerialway;
+    private int zOrder;
+    private long layer;
+    private String name;
+    private String nameEn;
+    private String nameDe;
+    private boolean isTunnel;
+    private boolean isBridge;
+    private boolean isRamp;
+    private boolean isFord;
+    private int isOneway;
+    private boolean isArea;
+    private String service;
+    private String usage;
+
+    public OsmAerialwayLinestring(SourceFeature source, String mappingKey) {
+      this.source = source;
+      this.mappingKey = mappingKey;
+    }
+
+    private void reset(SourceFeature source, String mappingKey) {
+      this.source = source;
+      this.mappingKey = mappingKey;
+      resolved = 0;
+    }
+
+    @Override
+    public OsmAerialwayLinestring copy() {
+      return new OsmAerialwayLinestring(source, mappingKey);
+    }
+
+    @Override
+    public String aerialway() {
+      if ((resolved & (1 << 0)) == 0) {
+        aerialway = TagDictionary.intern(source.getString("aerialway"));
+        resolved |= (1 << 0);
+      }
+      return aerialway;
+    }
+
+    @Override
+    public int zOrder() {
+      if ((resolved & (1 << 1)) == 0) {
+        zOrder = source.getWayZorder();
+        resolved |= (1 << 1);
+      }
+      return zOrder;
+    }
+
+    @Override
+    public long layer() {
+      if ((resolved & (1 << 2)) == 0) {
+        layer = source.getLong("layer");
+        resolved |= (1 << 2);
+      }
+      return layer;
+    }
+
+    @Override
+    public String name() {
+      if ((resolved & (1 << 3)) == 0) {
+        name = source.getString("name");
+        resolved |= (1 << 3);
+      }
+      return name;
+    }
+
+    @Override
+    public String nameEn() {
+      if ((resolved & (1 << 4)) == 0) {
+        nameEn = source.getString("name:en");
+        resolved |= (1 << 4);
+      }
+      return nameEn;
+    }
+
+    @Override
+    public String nameDe() {
+      if ((resolved & (1 << 5)) == 0) {
+        nameDe = source.getString("name:de");
+        resolved |= (1 << 5);
+      }
+      return nameDe;
+    }
+
+    @Override
+    public boolean isTunnel() {
+      if ((resolved & (1 << 6)) == 0) {
+        isTunnel = source.getBoolean("tunnel");
+        resolved |= (1 << 6);
+      }
+      return isTunnel;
+    }
+
+    @Override
+    public boolean isBridge() {
+      if ((resolved & (1 << 7)) == 0) {
+        isBridge = source.getBoolean("bridge");
+        resolved |= (1 << 7);
+      }
+      return isBridge;
+    }
+
+    @Override
+    public boolean isRamp() {
+      if ((resolved & (1 << 8)) == 0) {
+        isRamp = source.getBoolean("ramp");
+        resolved |= (1 << 8);
+      }
+      return isRamp;
+    }
+
+    @Override
+    public boolean isFord() {
+      if ((resolved & (1 << 9)) == 0) {
+        isFord = source.getBoolean("ford");
+        resolved |= (1 << 9);
+      }
+      return isFord;
+    }
+
+    @Override
+    public int isOneway() {
+      if ((resolved & (1 << 10)) == 0) {
+        isOneway = source.getDirection("oneway");
+        resolved |= (1 << 10);
+      }
+      return isOneway;
+    }
+
+    @Override
+    public boolean isArea() {
+      if ((resolved & (1 << 11)) == 0) {
+        isArea = source.getBoolean("area");
+        resolved |= (1 << 11);
+      }
+      return isArea;
+    }
+
+    @Override
+    public String service() {
+      if ((resolved & (1 << 12)) == 0) {
+        service = TagDictionary.intern(source.getString("service"));
+        resolved |= (1 << 12);
+      }
+      return service;
+    }
+
+    @Override
+    public String usage() {
+      if ((resolved & (1 << 13)) == 0) {
+        usage = source.getString("usage");
+        resolved |= (1 << 13);
+      }
+      return usage;
+    }
+
+    @Override
+    public SourceFeature source() {
+      return source;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof OsmAerialwayLinestring other && source == other.source &&
+        Objects.equals(mappingKey, other.mappingKey);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(source, mappingKey);
+    }
+
+    @Override
+    public String toString() {
+      return "OsmAerialwayLinestring[aerialway=" + aerialway() + ", zOrder=" + zOrder() + ", layer=" + layer() +
+        ", name=" + name() + ", nameEn=" + nameEn() + ", nameDe=" + nameDe() + ", isTunnel=" + isTunnel() +
+        ", isBridge=" + isBridge() + ", isRamp=" + isRamp() + ", isFord=" + isFord() + ", isOneway=" + isOneway() +
+        ", isArea=" + isArea() + ", service=" + service() + ", usage=" + usage() + ", source=" + source() + "]";
+    }
+
+    /** Imposm3 "mapping" to filter OSM elements that should appear in this "table". */
+    public static final Expression MAPPING = and(matchAny("aerialway", "chair_lift", "drag_lift", "platter", "t-bar",
+      "gondola", "cable_car", "j-bar", "mixed_lift"), matchType("linestring"));
+
+    /** Tag keys that an element needs at least one of to match {@link #MAPPING}. */
+    public static final List<String> MAPPING_KEYS = List.of("aerialway");
+
+    /**
+     * Interface for layer implementations to extend to subscribe to OSM elements filtered and parsed as
+     * {@link OsmAerialwayLinestring}.
+     */
+    public interface Handler {
+      void process(OsmAerialwayLinestring element, FeatureCollector features);
+    }
+  }
+  /**
+   * An OSM element that would appear in the {@code osm_shipway_linestring} table generated by imposm3.
+   * <p>
+   * Columns are parsed from the source element the first time they are accessed, so instances must not be shared
+   * between threads while they are still being read.
+   */
+  public static final class OsmShipwayLinestring implements Row, WithShipway, WithZOrder, WithLayer, WithName,
+    WithNameEn, WithNameDe, WithIsTunnel, WithIsBridge, WithIsRamp, WithIsFord, WithIsArea, WithService, WithUsage,
+    WithSource {
+    private SourceFeature source;
+    private String mappingKey;
+    /** Bit {@code i} is set once the {@code i}th lazy column has been parsed. */
+    private int resolved;
+    private String shipway;
+    private int zOrder;
+    private long layer;
+    private String name;
+    private String nameEn;
+    private String nameDe;
+    private boolean isTunnel;
+    private boolean isBridge;
+    private boolean isRamp;
+    private boolean isFord;
+    private boolean isArea;
+    private String service;
+    private String usage;
+
+    public OsmShipwayLinestring(SourceFeature source, String mappingKey) {
+      this.source = source;
+      this.mappingKey = mappingKey;
+    }
+
+    private void reset(SourceFeature source, String mappingKey) {
+      this.source = source;
+      this.mappingKey = mappingKey;
+      resolved = 0;
+    }
+
+    @Override
+    public OsmShipwayLinestring copy() {
+      return new OsmShipwayLinestring(source, mappingKey);
+    }
+
+    @Override
+    public String shipway() {
+      if ((resolved & (1 << 0)) == 0) {
+        shipway = TagDictionary.intern(source.getString("route"));
+        resolved |= (1 << 0);
+      }
+      return shipway;
+    }
+
+    @Override
+    public int zOrder() {
+      if ((resolved & (1 << 1)) == 0) {
+        zOrder = source.getWayZorder();
+        resolved |= (1 << 1);
+      }
+      return zOrder;
+    }
+
+    @Override
+    public long layer() {
+      if ((resolved & (1 << 2)) == 0) {
+        layer = source.getLong("layer");
+        resolved |= (1 << 2);
+      }
+      return layer;
+    }
+
+    @Override
+    public String name() {
+      if ((resolved & (1 << 3)) == 0) {
+        name = source.getString("name");
+        resolved |= (1 << 3);
+      }
+      return name;
+    }
+
+    @Override
+    public String nameEn() {
+      if ((resolved & (1 << 4)) == 0) {
+        nameEn = source.getString("name:en");
+        resolved |= (1 << 4);
+      }
+      return nameEn;
+    }
+
+    @Override
+    public String nameDe() {
+      if ((resolved & (1 << 5)) == 0) {
+        nameDe = source.getString("name:de");
+        resolved |= (1 << 5);
+      }
+      return nameDe;
+    }
+
+    @Override
+    public boolean isTunnel() {
+      if ((resolved & (1 << 6)) == 0) {
+        isTunnel = source.getBoolean("tunnel");
+        resolved |= (1 << 6);
+      }
+      return isTunnel;
+    }
+
+    @Override
+    public boolean isBridge() {
+      if ((resolved & (1 << 7)) == 0) {
+        isBridge = source.getBoolean("bridge");
+        resolved |= (1 << 7);
+      }
+      return isBridge;
+    }
+
+    @Override
+    public boolean isRamp() {
+      if ((resolved & (1 << 8)) == 0) {
+        isRamp = source.getBoolean("ramp");
+        resolved |= (1 << 8);
+      }
+      return isRamp;
+    }
+
+    @Override
+    public boolean isFord() {
+      if ((resolved & (1 << 9)) == 0) {
+        isFord = source.getBoolean("ford");
+        resolved |= (1 << 9);
+      }
+      return isFord;
+    }
+
+    @Override
+    public boolean isArea() {
+      if ((resolved & (1 << 10)) == 0) {
+        isArea = source.getBoolean("area");
+        resolved |= (1 << 10);
+      }
+      return isArea;
+    }
+
+    @Override
+    public String service() {
+      if ((resolved & (1 << 11)) == 0) {
+        service = TagDictionary.intern(source.getString("service"));
+        resolved |= (1 << 11);
+      }
+      return service;
+    }
+
+    @Override
+    public String usage() {
+      if ((resolved & (1 << 12)) == 0) {
+        usage = source.getString("usage");
+        resolved |= (1 << 12);
+      }
+      return usage;
+    }
+
+    @Override
+    public SourceFeature source() {
+      return source;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof OsmShipwayLinestring other && source == other.source &&
+        Objects.equals(mappingKey, other.mappingKey);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(source, mappingKey);
+    }
+
+    @Override
+    public String toString() {
+      return "OsmShipwayLinestring[shipway=" + shipway() + ", zOrder=" + zOrder() + ", layer=" + layer() + ", name=" +
+        name() + ", nameEn=" + nameEn() + ", nameDe=" + nameDe() + ", isTunnel=" + isTunnel() + ", isBridge=" +
+        isBridge() + ", isRamp=" + isRamp() + ", isFord=" + isFord() + ", isArea=" + isArea() + ", service=" +
+        service() + ", usage=" + usage() + ", source=" + source() + "]";
+    }
+
+    /** Imposm3 "mapping" to filter OSM elements that should appear in this "table". */
+    public static final Expression MAPPING = and(matchAny("route", "ferry"), matchType("linestring"));
+
+    /** Tag keys that an element needs at least one of to match {@link #MAPPING}. */
+    public static final List<String> MAPPING_KEYS = List.of("route");
+
+    /**
+     * Interface for layer implementations to extend to subscribe to OSM elements filtered and parsed as
+     * {@link OsmShipwayLinestring}.
+     */
+    public interface Handler {
+      void process(OsmShipwayLinestring element, FeatureCollector features);
+    }
+  }
+  /**
+   * An OSM element that would appear in the {@code osm_highway_polygon} table generated by imposm3.
+   * <p>
+   * Columns are parsed from the source element the first time they are accessed, so instances must not be shared
+   * between threads while they are still being read.
+   */
+  public static final class OsmHighwayPolygon implements Row, WithHighway, WithZOrder, WithLayer, WithLevel, WithIndoor,
+    WithIsArea, WithPublicTransport, WithManMade, WithService, WithSource {
+    private SourceFeature source;
+    private String mappingKey;
+    /** Bit {@code i} is set once the {@code i}th lazy column has been parsed. */
+    private int resolved;
+    private String highway;
+    private int zOrder;
+    private long layer;
+    private long level;
+    private boolean indoor;
+    private boolean isArea;
+    private String publicTransport;
+    private String manMade;
+    private String service;
+
+    public OsmHighwayPolygon(SourceFeature source, String mappingKey) {
+      this.source = source;
+      this.mappingKey = mappingKey;
+    }
+
+    private void reset(SourceFeature source, String mappingKey) {
+      this.source = source;
+      this.mappingKey = mappingKey;
+      resolved = 0;
+    }
+
+    @Override
+    public OsmHighwayPolygon copy() {
+      return new OsmHighwayPolygon(source, mappingKey);
+    }
+
+    @Override
+    public String highway() {
+      if ((resolved & (1 << 0)) == 0) {
+        highway = TagDictionary.intern(source.getString("highway"));
+        resolved |= (1 << 0);
+      }
+      return highway;
+    }
+
+    @Override
+    public int zOrder() {
+      if ((resolved & (1 << 1)) == 0) {
+        zOrder = source.getWayZorder();
+        resolved |= (1 << 1);
+      }
+      return zOrder;
+    }
+
+    @Override
+    public long layer() {
+      if ((resolved & (1 << 2)) == 0) {
+        layer = source.getLong("layer");
+        resolved |= (1 << 2);
+      }
+      return layer;
+    }
+
+    @Override
+    public long level() {
+      if ((resolved & (1 << 3)) == 0) {
+        level = source.getLong("level");
+        resolved |= (1 << 3);
+      }
+      return level;
+    }
+
+    @Override
+    public boolean indoor() {
+      if ((resolved & (1 << 4)) == 0) {
+        indoor = source.getBoolean("indoor");
+        resolved |= (1 << 4);
+      }
+      return indoor;
+    }
+
+    @Override
+    public boolean isArea() {
+      if ((resolved & (1 << 5)) == 0) {
+        isArea = source.getBoolean("area");
+        resolved |= (1 << 5);
+      }
+      return isArea;
+    }
+
+    @Override
+    public String publicTransport() {
+      if ((resolved & (1 << 6)) == 0) {
+        publicTransport = TagDictionary.intern(source.getString("public_transport"));
+        resolved |= (1 << 6);
+      }
+      return publicTransport;
+    }
+
+    @Override
+    public String manMade() {
+      if ((resolved & (1 << 7)) == 0) {
+        manMade = TagDictionary.intern(source.getString("man_made"));
+        resolved |= (1 << 7);
+      }
+      return manMade;
+    }
+
+    @Override
+    public String service() {
+      if ((resolved & (1 << 8)) == 0) {
+        service = TagDictionary.intern(source.getString("service"));
+        resolved |= (1 << 8);
+      }
+      return service;
+    }
+
+    @Override
+    public SourceFeature source() {
+      return source;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof OsmHighwayPolygon other && source == other.source &&
+        Objects.equals(mappingKey, other.mappingKey);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(source, mappingKey);
+    }
+
+    @Override
+    public String toString() {
+      return "OsmHighwayPolygon[highway=" + highway() + ", zOrder=" + zOrder() + ", layer=" + layer() + ", level=" +
+        level() + ", indoor=" + indoor() + ", isArea=" + isArea() + ", publicTransport=" + publicTransport() +
+        ", manMade=" + manMade() + ", service=" + service() + ", source=" + source() + "]";
+    }
+
+    /** Imposm3 "mapping" to filter OSM elements that should appear in this "table". */
+    public static final Expression MAPPING =
+      and(or(matchAny("highway", "path", "cycleway", "bridleway", "footway", "corridor", "pedestrian", "steps"),
+        matchAny("public_transport", "platform"), matchAny("man_made", "bridge", "pier")), matchType("polygon"));
+
+    /** Tag keys that an element needs at least one of to match {@link #MAPPING}. */
+    public static final List<String> MAPPING_KEYS = List.of("highway", "public_transport", "man_made");
+
+    /**
+     * Interface for layer implementations to extend to subscribe to OSM elements filtered and parsed as
+     * {@link OsmHighwayPolygon}.
+     */
+    public interface Handler {
+      void process(OsmHighwayPolygon element, FeatureCollector features);
+    }
+  }
+  /**
+   * An OSM element that would appear in the {@code osm_highway_point} table generated by imposm3.
+   * <p>
+   * Columns are parsed from the source element the first time they are accessed, so instances must not be shared
+   * between threads while they are still being read.
+   */
+  public static final class OsmHighwayPoint implements Row, WithHighway, WithZOrder, WithLayer, WithLevel, WithName,
+    WithNameEn, WithNameDe, WithRef, WithSource {
+    private SourceFeature source;
+    private String mappingKey;
+    /** Bit {@code i} is set once the {@code i}th lazy column has been parsed. */
+    private int resolved;
+    private String highway;
+    private int zOrder;
+    private long layer;
+    private long level;
+    private String name;
+    private String nameEn;
+    private String nameDe;
+    private String ref;
+
+    public OsmHighwayPoint(SourceFeature source, String mappingKey) {
+      this.source = source;
+      this.mappingKey = mappingKey;
+    }
+
+    private void reset(SourceFeature source, String mappingKey) {
+      this.source = source;
+      this.mappingKey = mappingKey;
+      resolved = 0;
+    }
+
+    @Override
+    public OsmHighwayPoint copy() {
+      return new OsmHighwayPoint(source, mappingKey);
+    }
+
+    @Override
+    public String highway() {
+      if ((resolved & (1 << 0)) == 0) {
+        highway = TagDictionary.intern(source.getString("highway"));
+        resolved |= (1 << 0);
+      }
+      return highway;
+    }
+
+    @Override
+    public int zOrder() {
+      if ((resolved & (1 << 1)) == 0) {
+        zOrder = source.getWayZorder();
+        resolved |= (1 << 1);
+      }
+      return zOrder;
+    }
+
+    @Override
+    public long layer() {
+      if ((resolved & (1 << 2)) == 0) {
+        layer = source.getLong("layer");
+        resolved |= (1 << 2);
+      }
+      return layer;
+    }
+
+    @Override
+    public long level() {
+      if ((resolved & (1 << 3)) == 0) {
+        level = source.getLong("level");
+        resolved |= (1 << 3);
+      }
+      return level;
+    }
+
+    @Override
+    public String name() {
+      if ((resolved & (1 << 4)) == 0) {
+        name = source.getString("name");
+        resolved |= (1 << 4);
+      }
+      return name;
+    }
+
+    @Override
+    public String nameEn() {
+      if ((resolved & (1 << 5)) == 0) {
+        nameEn = source.getString("name:en");
+        resolved |= (1 << 5);
+      }
+      return nameEn;
+    }
+
+    @Override
+    public String nameDe() {
+      if ((resolved & (1 << 6)) == 0) {
+        nameDe = source.getString("name:de");
+        resolved |= (1 << 6);
+      }
+      return nameDe;
+    }
+
+    @Override
+    public String ref() {
+      if ((resolved & (1 << 7)) == 0) {
+        ref = source.getString("ref");
+        resolved |= (1 << 7);
+      }
+      return ref;
+    }
+
+    @Override
+    public SourceFeature source() {
+      return source;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof OsmHighwayPoint other && source == other.source &&
+        Objects.equals(mappingKey, other.mappingKey);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(source, mappingKey);
+    }
+
+    @Override
+    public String toString() {
+      return "OsmHighwayPoint[highway=" + highway() + ", zOrder=" + zOrder() + ", layer=" + layer() + ", level=" +
+        level() + ", name=" + name() + ", nameEn=" + nameEn() + ", nameDe=" + nameDe() + ", ref=" + ref() +
+        ", source=" + source() + "]";
+    }
+
+    /** Imposm3 "mapping" to filter OSM elements that should appear in this "table". */
+    public static final Expression MAPPING = and(matchAny("highway", "motorway_junction"), matchType("point"));
+
+    /** Tag keys that an element needs at least one of to match {@link #MAPPING}. */
+    public static final List<String> MAPPING_KEYS = List.of("highway");
+
+    /**
+     * Interface for layer implementations to extend to subscribe to OSM elements filtered and parsed as
+     * {@link OsmHighwayPoint}.
+     */
+    public interface Handler {
+      void process(OsmHighwayPoint element, FeatureCollector features);
+    }
+  }
+  /**
+   * An OSM element that would appear in the {@code osm_building_polygon} table generated by imposm3.
+   * <p>
+   * Columns are parsed from the source element the first time they are accessed, so instances must not be shared
+   * between threads while they are still being read.
+   */
+  public static final class OsmBuildingPolygon implements Row, WithMaterial, WithColour, WithBuilding, WithBuildingpart,
+    WithBuildingheight, WithBuildingminHeight, WithBuildinglevels, WithBuildingminLevel, WithHeight, WithMinHeight,
+    WithLevels, WithMinLevel, WithSource {
+    private SourceFeature source;
+    private String mappingKey;
+    /** Bit {@code i} is set once the {@code i}th lazy column has been parsed. */
+    private int resolved;
+    private String material;
+    private String colour;
+    private String building;
+    private String buildingpart;
+    private String buildingheight;
+    private String buildingminHeight;
+    private String buildinglevels;
+    private String buildingminLevel;
+    private String height;
+    private String minHeight;
+    private String levels;
+    private String minLevel;
+
+    public OsmBuildingPolygon(SourceFeature source, String mappingKey) {
+      this.source = source;
+      this.mappingKey = mappingKey;
+    }
+
+    private void reset(SourceFeature source, String mappingKey) {
+      this.source = source;
+      this.mappingKey = mappingKey;
+      resolved = 0;
+    }
+
+    @Override
+    public OsmBuildingPolygon copy() {
+      return new OsmBuildingPolygon(source, mappingKey);
+    }
+
+    @Override
+    public String material() {
+      if ((resolved & (1 << 0)) == 0) {
+        material = source.getString("building:material");
+        resolved |= (1 << 0);
+      }
+      return material;
+    }
+
+    @Override
+    public String colour() {
+      if ((resolved & (1 << 1)) == 0) {
+        colour = source.getString("building:colour");
+        resolved |= (1 << 1);
+      }
+      return colour;
+    }
+
+    @Override
+    public String building() {
+      if ((resolved & (1 << 2)) == 0) {
+        building = TagDictionary.intern(source.getString("building"));
+        resolved |= (1 << 2);
+      }
+      return building;
+    }
+
+    @Override
+    public String buildingpart() {
+      if ((resolved & (1 << 3)) == 0) {
+        buildingpart = TagDictionary.intern(source.getString("building:part"));
+        resolved |= (1 << 3);
+      }
+      return buildingpart;
+    }
+
+    @Override
+    public String buildingheight() {
+      if ((resolved & (1 << 4)) == 0) {
+        buildingheight = source.getString("building:height");
+        resolved |= (1 << 4);
+      }
+      return buildingheight;
+    }
+
+    @Override
+    public String buildingminHeight() {
+      if ((resolved & (1 << 5)) == 0) {
+        buildingminHeight = source.getString("building:min_height");
+        resolved |= (1 << 5);
+      }
+      return buildingminHeight;
+    }
+
+    @Override
+    public String buildinglevels() {
+      if ((resolved & (1 << 6)) == 0) {
+        buildinglevels = source.getString("building:levels");
+        resolved |= (1 << 6);
+      }
+      return buildinglevels;
+    }
+
+    @Override
+    public String buildingminLevel() {
+      if ((resolved & (1 << 7)) == 0) {
+        buildingminLevel = source.getString("building:min_level");
+        resolved |= (1 << 7);
+      }
+      return buildingminLevel;
+    }
+
+    @Override
+    public String height() {
+      if ((resolved & (1 << 8)) == 0) {
+        height = source.getString("height");
+        resolved |= (1 << 8);
+      }
+      return height;
+    }
+
+    @Override
+    public String minHeight() {
+      if ((resolved & (1 << 9)) == 0) {
+        minHeight = source.getString("min_height");
+        resolved |= (1 << 9);
+      }
+      return minHeight;
+    }
+
+    @Override
+    public String levels() {
+      if ((resolved & (1 << 10)) == 0) {
+        levels = source.getString("levels");
+        resolved |= (1 << 10);
+      }
+      return levels;
+    }
+
+    @Override
+    public String minLevel() {
+      if ((resolved & (1 << 11)) == 0) {
+        minLevel = source.getString("min_level");
+        resolved |= (1 << 11);
+      }
+      return minLevel;
+    }
+
+    @Override
+    public SourceFeature source() {
+      return source;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof OsmBuildingPolygon other && source == other.source &&
+        Objects.equals(mappingKey, other.mappingKey);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(source, mappingKey);
+    }
+
+    @Override
+    public String toString() {
+      return "OsmBuildingPolygon[material=" + material() + ", colour=" + colour() + ", building=" + building() +
+        ", buildingpart=" + buildingpart() + ", buildingheight=" + buildingheight() + ", buildingminHeight=" +
+        buildingminHeight() + ", buildinglevels=" + buildinglevels() + ", buildingminLevel=" + buildingminLevel() +
+        ", height=" + height() + ", minHeight=" + minHeight() + ", levels=" + levels() + ", minLevel=" + minLevel() +
+        ", source=" + source() + "]";
+    }
+
+    /** Imposm3 "mapping" to filter OSM elements that should appear in this "table". */
+    public static final Expression MAPPING = and(
+      or(matchField("building:part"), matchField("building"), matchAny("aeroway", "terminal", "hangar"),
+        matchAny("location", "underground")),
+      not(matchAny("building", "no", "none", "No")), not(matchAny("building:part", "no", "none", "No")),
+      not(matchAny("man_made", "bridge")), not(matchAny("location", "underground")), matchType("polygon"));
+
+    /** Tag keys that an element needs at least one of to match {@link #MAPPING}. */
+    public static final List<String> MAPPING_KEYS = List.of("building:part", "building", "aeroway", "location");
+
+    /**
+     * Interface for layer implementations to extend to subscribe to OSM elements filtered and parsed as
+     * {@link OsmBuildingPolygon}.
+     */
+    public interface Handler {
+      void process(OsmBuildingPolygon element, FeatureCollector features);
+    }
+  }
+  /**
+   * An OSM element that would appear in the {@code osm_marine_point} table generated by imposm3.
+   * <p>
+   * Columns are parsed from the source element the first time they are accessed, so instances must not be shared
+   * between threads while they are still being read.
+   */
+  public static final class OsmMarinePoint implements Row, WithName, WithNameEn, WithNameDe, WithPlace, WithNatural,
+    WithRank, WithIsIntermittent, WithSource {
+    private SourceFeature source;
+    private String mappingKey;
+    /** Bit {@code i} is set once the {@code i}th lazy column has been parsed. */
+    private int resolved;
+    private String name;
+    private String nameEn;
+    private String nameDe;
+    private String place;
+    private String natural;
+    private long rank;
+    private boolean isIntermittent;
+
+    public OsmMarinePoint(SourceFeature source, String mappingKey) {
+      this.source = source;
+      this.mappingKey = mappingKey;
+    }
+
+    private void reset(SourceFeature source, String mappingKey) {
+      this.source = source;
+      this.mappingKey = mappingKey;
+      resolved = 0;
+    }
+
+    @Override
+    public OsmMarinePoint copy() {
+      return new OsmMarinePoint(source, mappingKey);
+    }
+
+    @Override
+    public String name() {
+      if ((resolved & (1 << 0)) == 0) {
+        name = source.getString("name");
+        resolved |= (1 << 0);
+      }
+      return name;
+    }
+
+    @Override
+    public String nameEn() {
+      if ((resolved & (1 << 1)) == 0) {
+        nameEn = source.getString("name:en");
+        resolved |= (1 << 1);
+      }
+      return nameEn;
+    }
+
+    @Override
+    public String nameDe() {
+      if ((resolved & (1 << 2)) == 0) {
+        nameDe = source.getString("name:de");
+        resolved |= (1 << 2);
+      }
+      return nameDe;
+    }
+
+    @Override
+    public String place() {
+      if ((resolved & (1 << 3)) == 0) {
+        place = TagDictionary.intern(source.getString("place"));
+        resolved |= (1 << 3);
+      }
+      return place;
+    }
+
+    @Override
+    public String natural() {
+      if ((resolved & (1 << 4)) == 0) {
+        natural = TagDictionary.intern(source.getString("natural"));
+        resolved |= (1 << 4);
+      }
+      return natural;
+    }
+
+    @Override
+    public long rank() {
+      if ((resolved & (1 << 5)) == 0) {
+        rank = source.getLong("rank");
+        resolved |= (1 << 5);
+      }
+      return rank;
+    }
+
+    @Override
+    public boolean isIntermittent() {
+      if ((resolved & (1 << 6)) == 0) {
+        isIntermittent = source.getBoolean("intermittent");
+        resolved |= (1 << 6);
+      }
+      return isIntermittent;
+    }
+
+    @Override
+    public SourceFeature source() {
+      return source;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof OsmMarinePoint other && source == other.source &&
+        Objects.equals(mappingKey, other.mappingKey);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(source, mappingKey);
+    }
+
+    @Override
+    public String toString() {
+      return "OsmMarinePoint[name=" + name() + ", nameEn=" + nameEn() + ", nameDe=" + nameDe() + ", place=" + place() +
+        ", natural=" + natural() + ", rank=" + rank() + ", isIntermittent=" + isIntermittent() + ", source=" +
+        source() + "]";
+    }
+
+    /** Imposm3 "mapping" to filter OSM elements that should appear in this "table". */
+    public static final Expression MAPPING =
+      and(or(matchAny("place", "ocean", "sea"), matchAny("natural", "bay", "strait")), matchField("name"),
+        matchType("point"));
+
+    /** Tag keys that an element needs at least one of to match {@link #MAPPING}. */
+    public static final List<String> MAPPING_KEYS = List.of("place", "natural");
+
+    /**
+     * Interface for layer implementations to extend to subscribe to OSM elements filtered and parsed as
+     * {@link OsmMarinePoint}.
+     */
+    public interface Handler {
+      void process(OsmMarinePoint element, FeatureCollector features);
+    }
+  }
+  /**
+   * An OSM element that would appear in the {@code osm_continent_point} table generated by imposm3.
+   * <p>
+   * Columns are parsed from the source element the first time they are accessed, so instances must not be shared
+   * between threads while they are still being read.
+   */
+  public static final class OsmContinentPoint implements Row, WithName, WithNameEn, WithNameDe, WithSource {
+    private SourceFeature source;
+    private String mappingKey;
+    /** Bit {@code i} is set once the {@code i}th lazy column has been parsed. */
+    private int resolved;
+    private String name;
+    private String nameEn;
+    private String nameDe;
+
+    public OsmContinentPoint(SourceFeature source, String mappingKey) {
+      this.source = source;
+      this.mappingKey = mappingKey;
+    }
+
+    private void reset(SourceFeature source, String mappingKey) {
+      this.source = source;
+      this.mappingKey = mappingKey;
+      resolved = 0;
+    }
+
+    @Override
+    public OsmContinentPoint copy() {
+      return new OsmContinentPoint(source, mappingKey);
+    }
+
+    @Override
+    public String name() {
+      if ((resolved & (1 << 0)) == 0) {
+        name = source.getString("name");
+        resolved |= (1 << 0);
+      }
+      return name;
+    }
+
+    @Override
+    public String nameEn() {
+      if ((resolved & (1 << 1)) == 0) {
+        nameEn = source.getString("name:en");
+        resolved |= (1 << 1);
+      }
+      return nameEn;
+    }
+
+    @Override
+    public String nameDe() {
+      if ((resolved & (1 << 2)) == 0) {
+        nameDe = source.getString("name:de");
+        resolved |= (1 << 2);
+      }
+      return nameDe;
+    }
+
+    @Override
+    public SourceFeature source() {
+      return source;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof OsmContinentPoint other && source == other.source &&
+        Objects.equals(mappingKey, other.mappingKey);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(source, mappingKey);
+    }
+
+    @Override
+    public String toString() {
+      return "OsmContinentPoint[name=" + name() + ", nameEn=" + nameEn() + ", nameDe=" + nameDe() + ", source=" +
+        source() + "]";
+    }
+
+    /** Imposm3 "mapping" to filter OSM elements that should appear in this "table". */
+    public static final Expression MAPPING =
+      and(matchAny("place", "continent"), matchField("name"), matchType("point"));
+
+    /** Tag keys that an element needs at least one of to match {@link #MAPPING}. */
+    public static final List<String> MAPPING_KEYS = List.of("place");
+
+    /**
+     * Interface for layer implementations to extend to subscribe to OSM elements filtered and parsed as
+     * {@link OsmContinentPoint}.
+     */
+    public interface Handler {
+      void process(OsmContinentPoint element, FeatureCollector features);
+    }
+  }
+  /**
+   * An OSM element that would appear in the {@code osm_country_point} table generated by imposm3.
+   * <p>
+   * Columns are parsed from the source element the first time they are accessed, so instances must not be shared
+   * between threads while they are still being read.
+   */
+  public static final class OsmCountryPoint implements Row, WithName, WithNameEn, WithNameDe, WithRank,
+    WithCountryCodeIso31661Alpha2, WithIso31661Alpha2, WithIso31661, WithSource {
+    private SourceFeature source;
+    private String mappingKey;
+    /** Bit {@code i} is set once the {@code i}th lazy column has been parsed. */
+    private int resolved;
+    private String name;
+    private String nameEn;
+    private String nameDe;
+    private long rank;
+    private String countryCodeIso31661Alpha2;
+    private String iso31661Alpha2;
+    private String iso31661;
+
+    public OsmCountryPoint(SourceFeature source, String mappingKey) {
+      this.source = source;
+      this.mappingKey = mappingKey;
+    }
+
+    private void reset(SourceFeature source, String mappingKey) {
+      this.source = source;
+      this.mappingKey = mappingKey;
+      resolved = 0;
+    }
+
+    @Override
+    public OsmCountryPoint copy() {
+      return new OsmCountryPoint(source, mappingKey);
+    }
+
+    @Override
+    public String name() {
+      if ((resolved & (1 << 0)) == 0) {
+        name = source.getString("name");
+        resolved |= (1 << 0);
+      }
+      return name;
+    }
+
+    @Override
+    public String nameEn() {
+      if ((resolved & (1 << 1)) == 0) {
+        nameEn = source.getString("name:en");
+        resolved |= (1 << 1);
+      }
+      return nameEn;
+    }
+
+    @Override
+    public String nameDe() {
+      if ((resolved & (1 << 2)) == 0) {
+        nameDe = source.getString("name:de");
+        resolved |= (1 << 2);
+      }
+      return nameDe;
+    }
+
+    @Override
+    public long rank() {
+      if ((resolved & (1 << 3)) == 0) {
+        rank = source.getLong("rank");
+        resolved |= (1 << 3);
+      }
+      return rank;
+    }
+
+    @Override
+    public String countryCodeIso31661Alpha2() {
+      if ((resolved & (1 << 4)) == 0) {
+        countryCodeIso31661Alpha2 = source.getString("country_code_iso3166_1_alpha_2");
+        resolved |= (1 << 4);
+      }
+      return countryCodeIso31661Alpha2;
+    }
+
+    @Override
+    public String iso31661Alpha2() {
+      if ((resolved & (1 << 5)) == 0) {
+        iso31661Alpha2 = source.getString("ISO3166-1:alpha2");
+        resolved |= (1 << 5);
+      }
+      return iso31661Alpha2;
+    }
+
+    @Override
+    public String iso31661() {
+      if ((resolved & (1 << 6)) == 0) {
+        iso31661 = source.getString("ISO3166-1");
+        resolved |= (1 << 6);
+      }
+      return iso31661;
+    }
+
+    @Override
+    public SourceFeature source() {
+      return source;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof OsmCountryPoint other && source == other.source &&
+        Objects.equals(mappingKey, other.mappingKey);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(source, mappingKey);
+    }
+
+    @Override
+    public String toString() {
+      return "OsmCountryPoint[name=" + name() + ", nameEn=" + nameEn() + ", nameDe=" + nameDe() + ", rank=" + rank() +
+        ", countryCodeIso31661Alpha2=" + countryCodeIso31661Alpha2() + ", iso31661Alpha2=" + iso31661Alpha2() +
+        ", iso31661=" + iso31661() + ", source=" + source() + "]";
+    }
+
+    /** Imposm3 "mapping" to filter OSM elements that should appear in this "table". */
+    public static final Expression MAPPING = and(matchAny("place", "country"), matchField("name"), matchType("point"));
+
+    /** Tag keys that an element needs at least one of to match {@link #MAPPING}. */
+    public static final List<String> MAPPING_KEYS = List.of("place");
+
+    /**
+     * Interface for layer implementations to extend to subscribe to OSM elements filtered and parsed as
+     * {@link OsmCountryPoint}.
+     */
+    public interface Handler {
+      void process(OsmCountryPoint element, FeatureCollector features);
+    }
+  }
+  /**
+   * An OSM element that would appear in the {@code osm_island_polygon} table generated by imposm3.
+   * <p>
+   * Columns are parsed from the source element the first time they are accessed, so instances must not be shared
+   * between threads while they are still being read.
+   */
+  public static final class OsmIslandPolygon implements Row, WithName, WithNameEn, WithNameDe, WithRank, WithSource {
+    private SourceFeature source;
+    private String mappingKey;
+    /** Bit {@code i} is set once the {@code i}th lazy column has been parsed. */
+    private int resolved;
+    private String name;
+    private String nameEn;
+    private String nameDe;
+    private long rank;
+
+    public OsmIslandPolygon(SourceFeature source, String mappingKey) {
+      this.source = source;
+      this.mappingKey = mappingKey;
+    }
+
+    private void reset(SourceFeature source, String mappingKey) {
+      this.source = source;
+      this.mappingKey = mappingKey;
+      resolved = 0;
+    }
+
+    @Override
+    public OsmIslandPolygon copy() {
+      return new OsmIslandPolygon(source, mappingKey);
+    }
+
+    @Override
+    public String name() {
+      if ((resolved & (1 << 0)) == 0) {
+        name = source.getString("name");
+        resolved |= (1 << 0);
+      }
+      return name;
+    }
+
+    @Override
+    public String nameEn() {
+      if ((resolved & (1 << 1)) == 0) {
+        nameEn = source.getString("name:en");
+        resolved |= (1 << 1);
+      }
+      return nameEn;
+    }
+
+    @Override
+    public String nameDe() {
+      if ((resolved & (1 << 2)) == 0) {
+        nameDe = source.getString("name:de");
+        resolved |= (1 << 2);
+      }
+      return nameDe;
+    }
+
+    @Override
+    public long rank() {
+      if ((resolved & (1 << 3)) == 0) {
+        rank = source.getLong("rank");
+        resolved |= (1 << 3);
+      }
+      return rank;
+    }
+
+    @Override
+    public SourceFeature source() {
+      return source;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof OsmIslandPolygon other && source == other.source &&
+        Objects.equals(mappingKey, other.mappingKey);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(source, mappingKey);
+    }
+
+    @Override
+    public String toString() {
+      return "OsmIslandPolygon[name=" + name() + ", nameEn=" + nameEn() + ", nameDe=" + nameDe() + ", rank=" + rank() +
+        ", source=" + source() + "]";
+    }
+
+    /** Imposm3 "mapping" to filter OSM elements that should appear in this "table". */
+    public static final Expression MAPPING = and(matchAny("place", "island"), matchField("name"), matchType("polygon"));
+
+    /** Tag keys that an element needs at least one of to match {@link #MAPPING}. */
+    public static final List<String> MAPPING_KEYS = List.of("place");
+
+    /**
+     * Interface for layer implementations to extend to subscribe to OSM elements filtered and parsed as
+     * {@link OsmIslandPolygon}.
+     */
+    public interface Handler {
+      void process(OsmIslandPolygon element, FeatureCollector features);
+    }
+  }
+  /**
+   * An OSM element that would appear in the {@code osm_island_point} table generated by imposm3.
+   * <p>
+   * Columns are parsed from the source element the first time they are accessed, so instances must not be shared
+   * between threads while they are still being read.
+   */
+  public static final class OsmIslandPoint implements Row, WithName, WithNameEn, WithNameDe, WithRank, WithSource {
+    private SourceFeature source;
+    private String mappingKey;
+    /** Bit {@code i} is set once the {@code i}th lazy column has been parsed. */
+    private int resolved;
+    private String name;
+    private String nameEn;
+    private String nameDe;
+    private long rank;
+
+    public OsmIslandPoint(SourceFeature source, String mappingKey) {
+      this.source = source;
+      this.mappingKey = mappingKey;
+    }
+
+    private void reset(SourceFeature source, String mappingKey) {
+      this.source = source;
+      this.mappingKey = mappingKey;
+      resolved = 0;
+    }
+
+    @Override
+    public OsmIslandPoint copy() {
+      return new OsmIslandPoint(source, mappingKey);
+    }
+
+    @Override
+    public String name() {
+      if ((resolved & (1 << 0)) == 0) {
+        name = source.getString("name");
+        resolved |= (1 << 0);
+      }
+      return name;
+    }
+
+    @Override
+    public String nameEn() {
+      if ((resolved & (1 << 1)) == 0) {
+        nameEn = source.getString("name:en");
+        resolved |= (1 << 1);
+      }
+      return nameEn;
+    }
+
+    @Override
+    public String nameDe() {
+      if ((resolved & (1 << 2)) == 0) {
+        nameDe = source.getString("name:de");
+        resolved |= (1 << 2);
+      }
+      return nameDe;
+    }
+
+    @Override
+    public long rank() {
+      if ((resolved & (1 << 3)) == 0) {
+        rank = source.getLong("rank");
+        resolved |= (1 << 3);
+      }
+      return rank;
+    }
+
+    @Override
+    public SourceFeature source() {
+      return source;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof OsmIslandPoint other && source == other.source &&
+        Objects.equals(mappingKey, other.mappingKey);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(source, mappingKey);
+    }
+
+    @Override
+    public String toString() {
+      return "OsmIslandPoint[name=" + name() + ", nameEn=" + nameEn() + ", nameDe=" + nameDe() + ", rank=" + rank() +
+        ", source=" + source() + "]";
+    }
+
+    /** Imposm3 "mapping" to filter OSM elements that should appear in this "table". */
+    public static final Expression MAPPING = and(matchAny("place", "island"), matchField("name"), matchType("point"));
+
+    /** Tag keys that an element needs at least one of to match {@link #MAPPING}. */
+    public static final List<String> MAPPING_KEYS = List.of("place");
+
+    /**
+     * Interface for layer implementations to extend to subscribe to OSM elements filtered and parsed as
+     * {@link OsmIslandPoint}.
+     */
+    public interface Handler {
+      void process(OsmIslandPoint element, FeatureCollector features);
+    }
+  }
+  /**
+   * An OSM element that would appear in the {@code osm_state_point} table generated by imposm3.
+   * <p>
+   * Columns are parsed from the source element the first time they are accessed, so instances must not be shared
+   * between threads while they are still being read.
+   */
+  public static final class OsmStatePoint implements Row, WithName, WithNameEn, WithNameDe, WithPlace, WithIsInCountry,
+    WithIsInCountryCode, WithRef, WithRank, WithSource {
+    private SourceFeature source;
+    private String mappingKey;
+    /** Bit {@code i} is set once the {@code i}th lazy column has been parsed. */
+    private int resolved;
+    private String name;
+    private String nameEn;
+    private String nameDe;
+    private String place;
+    private String isInCountry;
+    private String isInCountryCode;
+    private String ref;
+    private long rank;
+
+    public OsmStatePoint(SourceFeature source, String mappingKey) {
+      this.source = source;
+      this.mappingKey = mappingKey;
+    }
+
+    private void reset(SourceFeature source, String mappingKey) {
+      this.source = source;
+      this.mappingKey = mappingKey;
+      resolved = 0;
+    }
+
+    @Override
+    public OsmStatePoint copy() {
+      return new OsmStatePoint(source, mappingKey);
+    }
+
+    @Override
+    public String name() {
+      if ((resolved & (1 << 0)) == 0) {
+        name = source.getString("name");
+        resolved |= (1 << 0);
+      }
+      return name;
+    }
+
+    @Override
+    public String nameEn() {
+      if ((resolved & (1 << 1)) == 0) {
+        nameEn = source.getString("name:en");
+        resolved |= (1 << 1);
+      }
+      return nameEn;
+    }
+
+    @Override
+    public String nameDe() {
+      if ((resolved & (1 << 2)) == 0) {
+        nameDe = source.getString("name:de");
+        resolved |= (1 << 2);
+      }
+      return nameDe;
+    }
+
+    @Override
+    public String place() {
+      if ((resolved & (1 << 3)) == 0) {
+        place = TagDictionary.intern(source.getString("place"));
+        resolved |= (1 << 3);
+      }
+      return place;
+    }
+
+    @Override
+    public String isInCountry() {
+      if ((resolved & (1 << 4)) == 0) {
+        isInCountry = source.getString("is_in:country");
+        resolved |= (1 << 4);
+      }
+      return isInCountry;
+    }
+
+    @Override
+    public String isInCountryCode() {
+      if ((resolved & (1 << 5)) == 0) {
+        isInCountryCode = source.getString("is_in:country_code");
+        resolved |= (1 << 5);
+      }
+      return isInCountryCode;
+    }
+
+    @Override
+    public String ref() {
+      if ((resolved & (1 << 6)) == 0) {
+        ref = source.getString("ref");
+        resolved |= (1 << 6);
+      }
+      return ref;
+    }
+
+    @Override
+    public long rank() {
+      if ((resolved & (1 << 7)) == 0) {
+        rank = source.getLong("rank");
+        resolved |= (1 << 7);
+      }
+      return rank;
+    }
+
+    @Override
+    public SourceFeature source() {
+      return source;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof OsmStatePoint other && source == other.source && Objects.equals(mappingKey, other.mappingKey);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(source, mappingKey);
+    }
+
+    @Override
+    public String toString() {
+      return "OsmStatePoint[name=" + name() + ", nameEn=" + nameEn() + ", nameDe=" + nameDe() + ", place=" + place() +
+        ", isInCountry=" + isInCountry() + ", isInCountryCode=" + isInCountryCode() + ", ref=" + ref() + ", rank=" +
+        rank() + ", source=" + source() + "]";
+    }
+
+    /** Imposm3 "mapping" to filter OSM elements that should appear in this "table". */
+    public static final Expression MAPPING =
+      and(matchAny("place", "state", "province"), matchField("name"), matchType("point"));
+
+    /** Tag keys that an element needs at least one of to match {@link #MAPPING}. */
+    public static final List<String> MAPPING_KEYS = List.of("place");
+
+    /**
+     * Interface for layer implementations to extend to subscribe to OSM elements filtered and parsed as
+     * {@link OsmStatePoint}.
+     */
+    public interface Handler {
+      void process(OsmStatePoint element, FeatureCollector features);
+    }
+  }
+  /**
+   * An OSM element that would appear in the {@code osm_city_point} table generated by imposm3.
+   * <p>
+   * Columns are parsed from the source element the first time they are accessed, so instances must not be shared
+   * between threads while they are still being read.
+   */
+  public static final class OsmCityPoint implements Row, WithName, WithNameEn, WithNameDe, WithPlace, WithPopulation,
+    WithCapital, WithRank, WithSource {
+    private SourceFeature source;
+    private String mappingKey;
+    /** Bit {@code i} is set once the {@code i}th lazy column has been parsed. */
+    private int resolved;
+    private String name;
+    private String nameEn;
+    private String nameDe;
+    private String place;
+    private long population;
+    private String capital;
+    private long rank;
+
+    public OsmCityPoint(SourceFeature source, String mappingKey) {
+      this.source = source;
+      this.mappingKey = mappingKey;
+    }
+
+    private void reset(SourceFeature source, String mappingKey) {
+      this.source = source;
+      this.mappingKey = mappingKey;
+      resolved = 0;
+    }
+
+    @Override
+    public OsmCityPoint copy() {
+      return new OsmCityPoint(source, mappingKey);
+    }
+
+    @Override
+    public String name() {
+      if ((resolved & (1 << 0)) == 0) {
+        name = source.getString("name");
+        resolved |= (1 << 0);
+      }
+      return name;
+    }
+
+    @Override
+    public String nameEn() {
+      if ((resolved & (1 << 1)) == 0) {
+        nameEn = source.getString("name:en");
+        resolved |= (1 << 1);
+      }
+      return nameEn;
+    }
+
+    @Override
+    public String nameDe() {
+      if ((resolved & (1 << 2)) == 0) {
+        nameDe = source.getString("name:de");
+        resolved |= (1 << 2);
+      }
+      return nameDe;
+    }
+
+    @Override
+    public String place() {
+      if ((resolved & (1 << 3)) == 0) {
+        place = TagDictionary.intern(source.getString("place"));
+        resolved |= (1 << 3);
+      }
+      return place;
+    }
+
+    @Override
+    public long population() {
+      if ((resolved & (1 << 4)) == 0) {
+        population = source.getLong("population");
+        resolved |= (1 << 4);
+      }
+      return population;
+    }
+
+    @Override
+    public String capital() {
+      if ((resolved & (1 << 5)) == 0) {
+        capital = source.getString("capital");
+        resolved |= (1 << 5);
+      }
+      return capital;
+    }
+
+    @Override
+    public long rank() {
+      if ((resolved & (1 << 6)) == 0) {
+        rank = source.getLong("rank");
+        resolved |= (1 << 6);
+      }
+      return rank;
+    }
+
+    @Override
+    public SourceFeature source() {
+      return source;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof OsmCityPoint other && source == other.source && Objects.equals(mappingKey, other.mappingKey);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(source, mappingKey);
+    }
+
+    @Override
+    public String toString() {
+      return "OsmCityPoint[name=" + name() + ", nameEn=" + nameEn() + ", nameDe=" + nameDe() + ", place=" + place() +
+        ", population=" + population() + ", capital=" + capital() + ", rank=" + rank() + ", source=" + source() + "]";
+    }
+
+    /** Imposm3 "mapping" to filter OSM elements that should appear in this "table". */
+    public static final Expression MAPPING = and(matchAny("place", "city", "town", "village", "hamlet", "borough",
+      "suburb", "quarter", "neighbourhood", "isolated_dwelling"), matchField("name"), matchType("point"));
+
+    /** Tag keys that an element needs at least one of to match {@link #MAPPING}. */
+    public static final List<String> MAPPING_KEYS = List.of("place");
+
+    /**
+     * Interface for layer implementations to extend to subscribe to OSM elements filtered and parsed as
+     * {@link OsmCityPoint}.
+     */
+    public interface Handler {
+      void process(OsmCityPoint element, FeatureCollector features);
+    }
+  }
+  /**
+   * An OSM element that would appear in the {@code osm_housenumber_point} table generated by imposm3.
+   * <p>
+   * Columns are parsed from the source element the first time they are accessed, so instances must not be shared
+   * between threads while they are still being read.
+   */
+  public static final class OsmHousenumberPoint implements Row, WithHousenumber, WithStreet, WithBlockNumber,
+    WithHasName, WithSource {
+    private SourceFeature source;
+    private String mappingKey;
+    /** Bit {@code i} is set once the {@code i}th lazy column has been parsed. */
+    private int resolved;
+    private String housenumber;
+    private String street;
+    private String blockNumber;
+    private String hasName;
+
+    public OsmHousenumberPoint(SourceFeature source, String mappingKey) {
+      this.source = source;
+      this.mappingKey = mappingKey;
+    }
+
+    private void reset(SourceFeature source, String mappingKey) {
+      this.source = source;
+      this.mappingKey = mappingKey;
+      resolved = 0;
+    }
+
+    @Override
+    public OsmHousenumberPoint copy() {
+      return new OsmHousenumberPoint(source, mappingKey);
+    }
+
+    @Override
+    public String housenumber() {
+      if ((resolved & (1 << 0)) == 0) {
+        housenumber = source.getString("addr:housenumber");
+        resolved |= (1 << 0);
+      }
+      return housenumber;
+    }
+
+    @Override
+    public String street() {
+      if ((resolved & (1 << 1)) == 0) {
+        street = source.getString("addr:street");
+        resolved |= (1 << 1);
+      }
+      return street;
+    }
+
+    @Override
+    public String blockNumber() {
+      if ((resolved & (1 << 2)) == 0) {
+        blockNumber = source.getString("addr:block_number");
+        resolved |= (1 << 2);
+      }
+      return blockNumber;
+    }
+
+    @Override
+    public String hasName() {
+      if ((resolved & (1 << 3)) == 0) {
+        hasName = source.getString("name");
+        resolved |= (1 << 3);
+      }
+      return hasName;
+    }
+
+    @Override
+    public SourceFeature source() {
+      return source;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof OsmHousenumberPoint other && source == other.source &&
+        Objects.equals(mappingKey, other.mappingKey);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(source, mappingKey);
+    }
+
+    @Override
+    public String toString() {
+      return "OsmHousenumberPoint[housenumber=" + housenumber() + ", street=" + street() + ", blockNumber=" +
+        blockNumber() + ", hasName=" + hasName() + ", source=" + source() + "]";
+    }
+
+    /** Imposm3 "mapping" to filter OSM elements that should appear in this "table". */
+    public static final Expression MAPPING = or(and(matchField("addr:housenumber"), matchType("point")),
+      and(matchField("addr:housenumber"), matchType("polygon")));
+
+    /** Tag keys that an element needs at least one of to match {@link #MAPPING}. */
+    public static final List<String> MAPPING_KEYS = List.of("addr:housenumber");
+
+    /**
+     * Interface for layer implementations to extend to subscribe to OSM elements filtered and parsed as
+     * {@link OsmHousenumberPoint}.
+     */
+    public interface Handler {
+      void process(OsmHousenumberPoint element, FeatureCollector features);
+    }
+  }
+  /**
+   * An OSM element that would appear in the {@code osm_poi_point} table generated by imposm3.
+   * <p>
+   * Columns are parsed from the source element the first time they are accessed, so instances must not be shared
+   * between threads while they are still being read.
+   */
+  public static final class OsmPoiPoint implements Row, WithName, WithNameEn, WithNameDe, WithSubclass, WithMappingKey,
+    WithStation, WithFunicular, WithInformation, WithUicRef, WithRef, WithReligion, WithLevel, WithIndoor, WithLayer,
+    WithSport, WithOperator, WithNetwork, WithBrand, WithSource {
+    private SourceFeature source;
+    private String mappingKey;
+    /** Bit {@code i} is set once the {@code i}th lazy column has been parsed. */
+    private int resolved;
+    private String name;
+    private String nameEn;
+    private String nameDe;
+    private String subclass;
+    private String station;
+    private String funicular;
+    private String information;
+    private String uicRef;
+    private String ref;
+    private String religion;
+    private long level;
+    private boolean indoor;
+    private long layer;
+    private String sport;
+    private String operator;
+    private String network;
+    private String brand;
+
+    public OsmPoiPoint(SourceFeature source, String mappingKey) {
+      this.source = source;
+      this.mappingKey = mappingKey;
+    }
+
+    private void reset(SourceFeature source, String mappingKey) {
+      this.source = source;
+      this.mappingKey = mappingKey;
+      resolved = 0;
+    }
+
+    @Override
+    public OsmPoiPoint copy() {
+      return new OsmPoiPoint(source, mappingKey);
+    }
+
+    @Override
+    public String name() {
+      if ((resolved & (1 << 0)) == 0) {
+        name = source.getString("name");
+        resolved |= (1 << 0);
+      }
+      return name;
+    }
+
+    @Override
+    public String nameEn() {
+      if ((resolved & (1 << 1)) == 0) {
+        nameEn = source.getString("name:en");
+        resolved |= (1 << 1);
+      }
+      return nameEn;
+    }
+
+    @Override
+    public String nameDe() {
+      if ((resolved & (1 << 2)) == 0) {
+        nameDe = source.getString("name:de");
+        resolved |= (1 << 2);
+      }
+      return nameDe;
+    }
+
+    @Override
+    public String subclass() {
+      if ((resolved & (1 << 3)) == 0) {
+        subclass = TagDictionary.intern(source.getString(mappingKey));
+        resolved |= (1 << 3);
+      }
+      return subclass;
+    }
+
+    @Override
+    public String mappingKey() {
+      return mappingKey;
+    }
+
+    @Override
+    public String station() {
+      if ((resolved & (1 << 4)) == 0) {
+        station = source.getString("station");
+        resolved |= (1 << 4);
+      }
+      return station;
+    }
+
+    @Override
+    public String funicular() {
+      if ((resolved & (1 << 5)) == 0) {
+        funicular = source.getString("funicular");
+        resolved |= (1 << 5);
+      }
+      return funicular;
+    }
+
+    @Override
+    public String information() {
+      if ((resolved & (1 << 6)) == 0) {
+        information = source.getString("information");
+        resolved |= (1 << 6);
+      }
+      return information;
+    }
+
+    @Override
+    public String uicRef() {
+      if ((resolved & (1 << 7)) == 0) {
+        uicRef = source.getString("uic_ref");
+        resolved |= (1 << 7);
+      }
+      return uicRef;
+    }
+
+    @Override
+    public String ref() {
+      if ((resolved & (1 << 8)) == 0) {
+        ref = source.getString("ref");
+        resolved |= (1 << 8);
+      }
+      return ref;
+    }
+
+    @Override
+    public String religion() {
+      if ((resolved & (1 << 9)) == 0) {
+        religion = source.getString("religion");
+        resolved |= (1 << 9);
+      }
+      return religion;
     }
-  }
-  /** An OSM element that would appear in the {@code osm_state_point} table generated by imposm3. */
-  public record OsmStatePoint(@Override String name, @Override String nameEn, @Override String nameDe,
-    @Override String place, @Override String isInCountry, @Override String isInCountryCode, @Override String ref,
-    @Override long rank, @Override SourceFeature source) implements Row, WithName, WithNameEn, WithNameDe, WithPlace,
-    WithIsInCountry, WithIsInCountryCode, WithRef, WithRank, WithSource {
-    public OsmStatePoint(SourceFeature source, String mappingKey) {
-      this(source.getString("name"), source.getString("name:en"), source.getString("name:de"),
-        source.getString("place"), source.getString("is_in:country"), source.getString("is_in:country_code"),
-        source.getString("ref"), source.getLong("rank"), source);
+
+    @Override
+    public long level() {
+      if ((resolved & (1 << 10)) == 0) {
+        level = source.getLong("level");
+        resolved |= (1 << 10);
+      }
+      return level;
     }
 
-    /** Imposm3 "mapping" to filter OSM elements that should appear in this "table". */
-    public static final Expression MAPPING =
-      and(matchAny("place", "state", "province"), matchField("name"), matchType("point"));
+    @Override
+    public boolean indoor() {
+      if ((resolved & (1 << 11)) == 0) {
+        indoor = source.getBoolean("indoor");
+        resolved |= (1 << 11);
+      }
+      return indoor;
+    }
 
-    /**
-     * Interface for layer implementations to extend to subscribe to OSM elements filtered and parsed as
-     * {@link OsmStatePoint}.
-     */
-    public interface Handler {
-      void process(OsmStatePoint element, FeatureCollector features);
+    @Override
+    public long layer() {
+      if ((resolved & (1 << 12)) == 0) {
+        layer = source.getLong("layer");
+        resolved |= (1 << 12);
+      }
+      return layer;
     }
-  }
-  /** An OSM element that would appear in the {@code osm_city_point} table generated by imposm3. */
-  public record OsmCityPoint(@Override String name, @Override String nameEn, @Override String nameDe,
-    @Override String place, @Override long population, @Override String capital, @Override long rank,
-    @Override SourceFeature source)
-    implements Row, WithName, WithNameEn, WithNameDe, WithPlace, WithPopulation, WithCapital, WithRank, WithSource {
-    public OsmCityPoint(SourceFeature source, String mappingKey) {
-      this(source.getString("name"), source.getString("name:en"), source.getString("name:de"),
-        source.getString("place"), source.getLong("population"), source.getString("capital"), source.getLong("rank"),
-        source);
+
+    @Override
+    public String sport() {
+      if ((resolved & (1 << 13)) == 0) {
+        sport = TagDictionary.intern(source.getString("sport"));
+        resolved |= (1 << 13);
+      }
+      return sport;
     }
 
-    /** Imposm3 "mapping" to filter OSM elements that should appear in this "table". */
-    public static final Expression MAPPING = and(matchAny("place", "city", "town", "village", "hamlet", "borough",
-      "suburb", "quarter", "neighbourhood", "isolated_dwelling"), matchField("name"), matchType("point"));
+    @Override
+    public String operator() {
+      if ((resolved & (1 << 14)) == 0) {
+        operator = source.getString("operator");
+        resolved |= (1 << 14);
+      }
+      return operator;
+    }
 
-    /**
-     * Interface for layer implementations to extend to subscribe to OSM elements filtered and parsed as
-     * {@link OsmCityPoint}.
-     */
-    public interface Handler {
-      void process(OsmCityPoint element, FeatureCollector features);
+    @Override
+    public String network() {
+      if ((resolved & (1 << 15)) == 0) {
+        network = source.getString("network");
+        resolved |= (1 << 15);
+      }
+      return network;
     }
-  }
-  /** An OSM element that would appear in the {@code osm_housenumber_point} table generated by imposm3. */
-  public record OsmHousenumberPoint(@Override String housenumber, @Override String street, @Override String blockNumber,
-    @Override String hasName, @Override SourceFeature source)
-    implements Row, WithHousenumber, WithStreet, WithBlockNumber, WithHasName, WithSource {
-    public OsmHousenumberPoint(SourceFeature source, String mappingKey) {
-      this(source.getString("addr:housenumber"), source.getString("addr:street"), source.getString("addr:block_number"),
-        source.getString("name"), source);
+
+    @Override
+    public String brand() {
+      if ((resolved & (1 << 16)) == 0) {
+        brand = source.getString("brand");
+        resolved |= (1 << 16);
+      }
+      return brand;
     }
 
-    /** Imposm3 "mapping" to filter OSM elements that should appear in this "table". */
-    public static final Expression MAPPING = or(and(matchField("addr:housenumber"), matchType("point")),
-      and(matchField("addr:housenumber"), matchType("polygon")));
+    @Override
+    public SourceFeature source() {
+      return source;
+    }
 
-    /**
-     * Interface for layer implementations to extend to subscribe to OSM elements filtered and parsed as
-     * {@link OsmHousenumberPoint}.
-     */
-    public interface Handler {
-      void process(OsmHousenumberPoint element, FeatureCollector features);
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof OsmPoiPoint other && source == other.source && Objects.equals(mappingKey, other.mappingKey);
     }
-  }
-  /** An OSM element that would appear in the {@code osm_poi_point} table generated by imposm3. */
-  public record OsmPoiPoint(@Override String name, @Override String nameEn, @Override String nameDe,
-    @Override String subclass, @Override String mappingKey, @Override String station, @Override String funicular,
-    @Override String information, @Override String uicRef, @Override String ref, @Override String religion,
-    @Override long level, @Override boolean indoor, @Override long layer, @Override String sport,
-    @Override String operator, @Override String network, @Override String brand, @Override SourceFeature source)
-    implements Row, WithName, WithNameEn, WithNameDe, WithSubclass, WithMappingKey, WithStation, WithFunicular,
-    WithInformation, WithUicRef, WithRef, WithReligion, WithLevel, WithIndoor, WithLayer, WithSport, WithOperator,
-    WithNetwork, WithBrand, WithSource {
-    public OsmPoiPoint(SourceFeature source, String mappingKey) {
-      this(source.getString("name"), source.getString("name:en"), source.getString("name:de"),
-        source.getString(mappingKey), mappingKey, source.getString("station"), source.getString("funicular"),
-        source.getString("information"), source.getString("uic_ref"), source.getString("ref"),
-        source.getString("religion"), source.getLong("level"), source.getBoolean("indoor"), source.getLong("layer"),
-        source.getString("sport"), source.getString("operator"), source.getString("network"), source.getString("brand"),
-        source);
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(source, mappingKey);
+    }
+
+    @Override
+    public String toString() {
+      return "OsmPoiPoint[name=" + name() + ", nameEn=" + nameEn() + ", nameDe=" + nameDe() + ", subclass=" +
+        subclass() + ", mappingKey=" + mappingKey() + ", station=" + station() + ", funicular=" + funicular() +
+        ", information=" + information() + ", uicRef=" + uicRef() + ", ref=" + ref() + ", religion=" + religion() +
+        ", level=" + level() + ", indoor=" + indoor() + ", layer=" + layer() + ", sport=" + sport() + ", operator=" +
+        operator() + ", network=" + network() + ", brand=" + brand() + ", source=" + source() + "]";
     }
 
     /** Imposm3 "mapping" to filter OSM elements that should appear in this "table". */
@@ -786,6 +4197,10 @@ public class Tables {
         "picnic_site", "theme_park", "viewpoint", "zoo"),
       matchAny("waterway", "dock")), matchType("point"));
 
+    /** Tag keys that an element needs at least one of to match {@link #MAPPING}. */
+    public static final List<String> MAPPING_KEYS = List.of("aerialway", "amenity", "barrier", "building", "highway",
+      "historic", "landuse", "leisure", "office", "railway", "shop", "sport", "zoo", "tourism", "waterway");
+
     /**
      * Interface for layer implementations to extend to subscribe to OSM elements filtered and parsed as
      * {@link OsmPoiPoint}.
@@ -794,22 +4209,233 @@ public class Tables {
       void process(OsmPoiPoint element, FeatureCollector features);
     }
   }
-  /** An OSM element that would appear in the {@code osm_poi_polygon} table generated by imposm3. */
-  public record OsmPoiPolygon(@Override String name, @Override String nameEn, @Override String nameDe,
-    @Override String subclass, @Override String mappingKey, @Override String station, @Override String funicular,
-    @Override String information, @Override String uicRef, @Override String ref, @Override String religion,
-    @Override long level, @Override boolean indoor, @Override long layer, @Override String sport,
-    @Override String operator, @Override String network, @Override String brand, @Override SourceFeature source)
-    implements Row, WithName, WithNameEn, WithNameDe, WithSubclass, WithMappingKey, WithStation, WithFunicular,
-    WithInformation, WithUicRef, WithRef, WithReligion, WithLevel, WithIndoor, WithLayer, WithSport, WithOperator,
-    WithNetwork, WithBrand, WithSource {
+  /**
+   * An OSM element that would appear in the {@code osm_poi_polygon} table generated by imposm3.
+   * <p>
+   * Columns are parsed from the source element the first time they are accessed, so instances must not be shared
+   * between threads while they are still being read.
+   */
+  public static final class OsmPoiPolygon implements Row, WithName, WithNameEn, WithNameDe, WithSubclass,
+    WithMappingKey, WithStation, WithFunicular, WithInformation, WithUicRef, WithRef, WithReligion, WithLevel,
+    WithIndoor, WithLayer, WithSport, WithOperator, WithNetwork, WithBrand, WithSource {
+    private SourceFeature source;
+    private String mappingKey;
+    /** Bit {@code i} is set once the {@code i}th lazy column has been parsed. */
+    private int resolved;
+    private String name;
+    private String nameEn;
+    private String nameDe;
+    private String subclass;
+    private String station;
+    private String funicular;
+    private String information;
+    private String uicRef;
+    private String ref;
+    private String religion;
+    private long level;
+    private boolean indoor;
+    private long layer;
+    private String sport;
+    private String operator;
+    private String network;
+    private String brand;
+
     public OsmPoiPolygon(SourceFeature source, String mappingKey) {
-      this(source.getString("name"), source.getString("name:en"), source.getString("name:de"),
-        source.getString(mappingKey), mappingKey, source.getString("station"), source.getString("funicular"),
-        source.getString("information"), source.getString("uic_ref"), source.getString("ref"),
-        source.getString("religion"), source.getLong("level"), source.getBoolean("indoor"), source.getLong("layer"),
-        source.getString("sport"), source.getString("operator"), source.getString("network"), source.getString("brand"),
-        source);
+      this.source = source;
+      this.mappingKey = mappingKey;
+    }
+
+    private void reset(SourceFeature source, String mappingKey) {
+      this.source = source;
+      this.mappingKey = mappingKey;
+      resolved = 0;
+    }
+
+    @Override
+    public OsmPoiPolygon copy() {
+      return new OsmPoiPolygon(source, mappingKey);
+    }
+
+    @Override
+    public String name() {
+      if ((resolved & (1 << 0)) == 0) {
+        name = source.getString("name");
+        resolved |= (1 << 0);
+      }
+      return name;
+    }
+
+    @Override
+    public String nameEn() {
+      if ((resolved & (1 << 1)) == 0) {
+        nameEn = source.getString("name:en");
+        resolved |= (1 << 1);
+      }
+      return nameEn;
+    }
+
+    @Override
+    public String nameDe() {
+      if ((resolved & (1 << 2)) == 0) {
+        nameDe = source.getString("name:de");
+        resolved |= (1 << 2);
+      }
+      return nameDe;
+    }
+
+    @Override
+    public String subclass() {
+      if ((resolved & (1 << 3)) == 0) {
+        subclass = TagDictionary.intern(source.getString(mappingKey));
+        resolved |= (1 << 3);
+      }
+      return subclass;
+    }
+
+    @Override
+    public String mappingKey() {
+      return mappingKey;
+    }
+
+    @Override
+    public String station() {
+      if ((resolved & (1 << 4)) == 0) {
+        station = source.getString("station");
+        resolved |= (1 << 4);
+      }
+      return station;
+    }
+
+    @Override
+    public String funicular() {
+      if ((resolved & (1 << 5)) == 0) {
+        funicular = source.getString("funicular");
+        resolved |= (1 << 5);
+      }
+      return funicular;
+    }
+
+    @Override
+    public String information() {
+      if ((resolved & (1 << 6)) == 0) {
+        information = source.getString("information");
+        resolved |= (1 << 6);
+      }
+      return information;
+    }
+
+    @Override
+    public String uicRef() {
+      if ((resolved & (1 << 7)) == 0) {
+        uicRef = source.getString("uic_ref");
+        resolved |= (1 << 7);
+      }
+      return uicRef;
+    }
+
+    @Override
+    public String ref() {
+      if ((resolved & (1 << 8)) == 0) {
+        ref = source.getString("ref");
+        resolved |= (1 << 8);
+      }
+      return ref;
+    }
+
+    @Override
+    public String religion() {
+      if ((resolved & (1 << 9)) == 0) {
+        religion = source.getString("religion");
+        resolved |= (1 << 9);
+      }
+      return religion;
+    }
+
+    @Override
+    public long level() {
+      if ((resolved & (1 << 10)) == 0) {
+        level = source.getLong("level");
+        resolved |= (1 << 10);
+      }
+      return level;
+    }
+
+    @Override
+    public boolean indoor() {
+      if ((resolved & (1 << 11)) == 0) {
+        indoor = source.getBoolean("indoor");
+        resolved |= (1 << 11);
+      }
+      return indoor;
+    }
+
+    @Override
+    public long layer() {
+      if ((resolved & (1 << 12)) == 0) {
+        layer = source.getLong("layer");
+        resolved |= (1 << 12);
+      }
+      return layer;
+    }
+
+    @Override
+    public String sport() {
+      if ((resolved & (1 << 13)) == 0) {
+        sport = TagDictionary.intern(source.getString("sport"));
+        resolved |= (1 << 13);
+      }
+      return sport;
+    }
+
+    @Override
+    public String operator() {
+      if ((resolved & (1 << 14)) == 0) {
+        operator = source.getString("operator");
+        resolved |= (1 << 14);
+      }
+      return operator;
+    }
+
+    @Override
+    public String network() {
+      if ((resolved & (1 << 15)) == 0) {
+        network = source.getString("network");
+        resolved |= (1 << 15);
+      }
+      return network;
+    }
+
+    @Override
+    public String brand() {
+      if ((resolved & (1 << 16)) == 0) {
+        brand = source.getString("brand");
+        resolved |= (1 << 16);
+      }
+      return brand;
+    }
+
+    @Override
+    public SourceFeature source() {
+      return source;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof OsmPoiPolygon other && source == other.source && Objects.equals(mappingKey, other.mappingKey);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(source, mappingKey);
+    }
+
+    @Override
+    public String toString() {
+      return "OsmPoiPolygon[name=" + name() + ", nameEn=" + nameEn() + ", nameDe=" + nameDe() + ", subclass=" +
+        subclass() + ", mappingKey=" + mappingKey() + ", station=" + station() + ", funicular=" + funicular() +
+        ", information=" + information() + ", uicRef=" + uicRef() + ", ref=" + ref() + ", religion=" + religion() +
+        ", level=" + level() + ", indoor=" + indoor() + ", layer=" + layer() + ", sport=" + sport() + ", operator=" +
+        operator() + ", network=" + network() + ", brand=" + brand() + ", source=" + source() + "]";
     }
 
     /** Imposm3 "mapping" to filter OSM elements that should appear in this "table". */
@@ -867,6 +4493,10 @@ public class Tables {
         "picnic_site", "theme_park", "viewpoint", "zoo"),
       matchAny("waterway", "dock")), matchType("polygon"));
 
+    /** Tag keys that an element needs at least one of to match {@link #MAPPING}. */
+    public static final List<String> MAPPING_KEYS = List.of("aerialway", "amenity", "barrier", "building", "highway",
+      "historic", "landuse", "leisure", "office", "railway", "shop", "sport", "zoo", "tourism", "waterway");
+
     /**
      * Interface for layer implementations to extend to subscribe to OSM elements filtered and parsed as
      * {@link OsmPoiPolygon}.
@@ -875,21 +4505,155 @@ public class Tables {
       void process(OsmPoiPolygon element, FeatureCollector features);
     }
   }
-  /** An OSM element that would appear in the {@code osm_aerodrome_label_point} table generated by imposm3. */
-  public record OsmAerodromeLabelPoint(@Override String name, @Override String nameEn, @Override String nameDe,
-    @Override String aerodromeType, @Override String aerodrome, @Override String military, @Override String iata,
-    @Override String icao, @Override String ele, @Override SourceFeature source) implements Row, WithName, WithNameEn,
-    WithNameDe, WithAerodromeType, WithAerodrome, WithMilitary, WithIata, WithIcao, WithEle, WithSource {
+  /**
+   * An OSM element that would appear in the {@code osm_aerodrome_label_point} table generated by imposm3.
+   * <p>
+   * Columns are parsed from the source element the first time they are accessed, so instances must not be shared
+   * between threads while they are still being read.
+   */
+  public static final class OsmAerodromeLabelPoint implements Row, WithName, WithNameEn, WithNameDe, WithAerodromeType,
+    WithAerodrome, WithMilitary, WithIata, WithIcao, WithEle, WithSource {
+    private SourceFeature source;
+    private String mappingKey;
+    /** Bit {@code i} is set once the {@code i}th lazy column has been parsed. */
+    private int resolved;
+    private String name;
+    private String nameEn;
+    private String nameDe;
+    private String aerodromeType;
+    private String aerodrome;
+    private String military;
+    private String iata;
+    private String icao;
+    private String ele;
+
     public OsmAerodromeLabelPoint(SourceFeature source, String mappingKey) {
-      this(source.getString("name"), source.getString("name:en"), source.getString("name:de"),
-        source.getString("aerodrome:type"), source.getString("aerodrome"), source.getString("military"),
-        source.getString("iata"), source.getString("icao"), source.getString("ele"), source);
+      this.source = source;
+      this.mappingKey = mappingKey;
+    }
+
+    private void reset(SourceFeature source, String mappingKey) {
+      this.source = source;
+      this.mappingKey = mappingKey;
+      resolved = 0;
+    }
+
+    @Override
+    public OsmAerodromeLabelPoint copy() {
+      return new OsmAerodromeLabelPoint(source, mappingKey);
+    }
+
+    @Override
+    public String name() {
+      if ((resolved & (1 << 0)) == 0) {
+        name = source.getString("name");
+        resolved |= (1 << 0);
+      }
+      return name;
+    }
+
+    @Override
+    public String nameEn() {
+      if ((resolved & (1 << 1)) == 0) {
+        nameEn = source.getString("name:en");
+        resolved |= (1 << 1);
+      }
+      return nameEn;
+    }
+
+    @Override
+    public String nameDe() {
+      if ((resolved & (1 << 2)) == 0) {
+        nameDe = source.getString("name:de");
+        resolved |= (1 << 2);
+      }
+      return nameDe;
+    }
+
+    @Override
+    public String aerodromeType() {
+      if ((resolved & (1 << 3)) == 0) {
+        aerodromeType = source.getString("aerodrome:type");
+        resolved |= (1 << 3);
+      }
+      return aerodromeType;
+    }
+
+    @Override
+    public String aerodrome() {
+      if ((resolved & (1 << 4)) == 0) {
+        aerodrome = source.getString("aerodrome");
+        resolved |= (1 << 4);
+      }
+      return aerodrome;
+    }
+
+    @Override
+    public String military() {
+      if ((resolved & (1 << 5)) == 0) {
+        military = source.getString("military");
+        resolved |= (1 << 5);
+      }
+      return military;
+    }
+
+    @Override
+    public String iata() {
+      if ((resolved & (1 << 6)) == 0) {
+        iata = source.getString("iata");
+        resolved |= (1 << 6);
+      }
+      return iata;
+    }
+
+    @Override
+    public String icao() {
+      if ((resolved & (1 << 7)) == 0) {
+        icao = source.getString("icao");
+        resolved |= (1 << 7);
+      }
+      return icao;
+    }
+
+    @Override
+    public String ele() {
+      if ((resolved & (1 << 8)) == 0) {
+        ele = source.getString("ele");
+        resolved |= (1 << 8);
+      }
+      return ele;
+    }
+
+    @Override
+    public SourceFeature source() {
+      return source;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof OsmAerodromeLabelPoint other && source == other.source &&
+        Objects.equals(mappingKey, other.mappingKey);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(source, mappingKey);
+    }
+
+    @Override
+    public String toString() {
+      return "OsmAerodromeLabelPoint[name=" + name() + ", nameEn=" + nameEn() + ", nameDe=" + nameDe() +
+        ", aerodromeType=" + aerodromeType() + ", aerodrome=" + aerodrome() + ", military=" + military() + ", iata=" +
+        iata() + ", icao=" + icao() + ", ele=" + ele() + ", source=" + source() + "]";
     }
 
     /** Imposm3 "mapping" to filter OSM elements that should appear in this "table". */
     public static final Expression MAPPING = or(and(matchAny("aeroway", "aerodrome"), matchType("point")),
       and(matchAny("aeroway", "aerodrome"), matchType("polygon")));
 
+    /** Tag keys that an element needs at least one of to match {@link #MAPPING}. */
+    public static final List<String> MAPPING_KEYS = List.of("aeroway");
+
     /**
      * Interface for layer implementations to extend to subscribe to OSM elements filtered and parsed as
      * {@link OsmAerodromeLabelPoint}.
@@ -1363,61 +5127,275 @@ public class Tables {
     int zOrder();
   }
 
+  /**
+   * One reusable row for each table that a single worker thread can parse elements into instead of allocating a new
+   * row for every element. A row returned from this pool is only valid until the next call for the same table.
+   */
+  public static final class RowPool {
+    private final OsmWaterPolygon osmWaterPolygon = new OsmWaterPolygon(null, null);
+
+    public OsmWaterPolygon osmWaterPolygon(SourceFeature source, String mappingKey) {
+      osmWaterPolygon.reset(source, mappingKey);
+      return osmWaterPolygon;
+    }
+
+    private final OsmWaterwayLinestring osmWaterwayLinestring = new OsmWaterwayLinestring(null, null);
+
+    public OsmWaterwayLinestring osmWaterwayLinestring(SourceFeature source, String mappingKey) {
+      osmWaterwayLinestring.reset(source, mappingKey);
+      return osmWaterwayLinestring;
+    }
+
+    private final OsmLandcoverPolygon osmLandcoverPolygon = new OsmLandcoverPolygon(null, null);
+
+    public OsmLandcoverPolygon osmLandcoverPolygon(SourceFeature source, String mappingKey) {
+      osmLandcoverPolygon.reset(source, mappingKey);
+      return osmLandcoverPolygon;
+    }
+
+    private final OsmLandusePolygon osmLandusePolygon = new OsmLandusePolygon(null, null);
+
+    public OsmLandusePolygon osmLandusePolygon(SourceFeature source, String mappingKey) {
+      osmLandusePolygon.reset(source, mappingKey);
+      return osmLandusePolygon;
+    }
+
+    private final OsmPeakPoint osmPeakPoint = new OsmPeakPoint(null, null);
+
+    public OsmPeakPoint osmPeakPoint(SourceFeature source, String mappingKey) {
+      osmPeakPoint.reset(source, mappingKey);
+      return osmPeakPoint;
+    }
+
+    private final OsmMountainLinestring osmMountainLinestring = new OsmMountainLinestring(null, null);
+
+    public OsmMountainLinestring osmMountainLinestring(SourceFeature source, String mappingKey) {
+      osmMountainLinestring.reset(source, mappingKey);
+      return osmMountainLinestring;
+    }
+
+    private final OsmParkPolygon osmParkPolygon = new OsmParkPolygon(null, null);
+
+    public OsmParkPolygon osmParkPolygon(SourceFeature source, String mappingKey) {
+      osmParkPolygon.reset(source, mappingKey);
+      return osmParkPolygon;
+    }
+
+    private final OsmBoundaryPolygon osmBoundaryPolygon = new OsmBoundaryPolygon(null, null);
+
+    public OsmBoundaryPolygon osmBoundaryPolygon(SourceFeature source, String mappingKey) {
+      osmBoundaryPolygon.reset(source, mappingKey);
+      return osmBoundaryPolygon;
+    }
+
+    private final OsmAerowayPolygon osmAerowayPolygon = new OsmAerowayPolygon(null, null);
+
+    public OsmAerowayPolygon osmAerowayPolygon(SourceFeature source, String mappingKey) {
+      osmAerowayPolygon.reset(source, mappingKey);
+      return osmAerowayPolygon;
+    }
+
+    private final OsmAerowayLinestring osmAerowayLinestring = new OsmAerowayLinestring(null, null);
+
+    public OsmAerowayLinestring osmAerowayLinestring(SourceFeature source, String mappingKey) {
+      osmAerowayLinestring.reset(source, mappingKey);
+      return osmAerowayLinestring;
+    }
+
+    private final OsmAerowayPoint osmAerowayPoint = new OsmAerowayPoint(null, null);
+
+    public OsmAerowayPoint osmAerowayPoint(SourceFeature source, String mappingKey) {
+      osmAerowayPoint.reset(source, mappingKey);
+      return osmAerowayPoint;
+    }
+
+    private final OsmHighwayLinestring osmHighwayLinestring = new OsmHighwayLinestring(null, null);
+
+    public OsmHighwayLinestring osmHighwayLinestring(SourceFeature source, String mappingKey) {
+      osmHighwayLinestring.reset(source, mappingKey);
+      return osmHighwayLinestring;
+    }
+
+    private final OsmRailwayLinestring osmRailwayLinestring = new OsmRailwayLinestring(null, null);
+
+    public OsmRailwayLinestring osmRailwayLinestring(SourceFeature source, String mappingKey) {
+      osmRailwayLinestring.reset(source, mappingKey);
+      return osmRailwayLinestring;
+    }
+
+    private final OsmAerialwayLinestring osmAerialwayLinestring = new OsmAerialwayLinestring(null, null);
+
+    public OsmAerialwayLinestring osmAerialwayLinestring(SourceFeature source, String mappingKey) {
+      osmAerialwayLinestring.reset(source, mappingKey);
+      return osmAerialwayLinestring;
+    }
+
+    private final OsmShipwayLinestring osmShipwayLinestring = new OsmShipwayLinestring(null, null);
+
+    public OsmShipwayLinestring osmShipwayLinestring(SourceFeature source, String mappingKey) {
+      osmShipwayLinestring.reset(source, mappingKey);
+      return osmShipwayLinestring;
+    }
+
+    private final OsmHighwayPolygon osmHighwayPolygon = new OsmHighwayPolygon(null, null);
+
+    public OsmHighwayPolygon osmHighwayPolygon(SourceFeature source, String mappingKey) {
+      osmHighwayPolygon.reset(source, mappingKey);
+      return osmHighwayPolygon;
+    }
+
+    private final OsmHighwayPoint osmHighwayPoint = new OsmHighwayPoint(null, null);
+
+    public OsmHighwayPoint osmHighwayPoint(SourceFeature source, String mappingKey) {
+      osmHighwayPoint.reset(source, mappingKey);
+      return osmHighwayPoint;
+    }
+
+    private final OsmBuildingPolygon osmBuildingPolygon = new OsmBuildingPolygon(null, null);
+
+    public OsmBuildingPolygon osmBuildingPolygon(SourceFeature source, String mappingKey) {
+      osmBuildingPolygon.reset(source, mappingKey);
+      return osmBuildingPolygon;
+    }
+
+    private final OsmMarinePoint osmMarinePoint = new OsmMarinePoint(null, null);
+
+    public OsmMarinePoint osmMarinePoint(SourceFeature source, String mappingKey) {
+      osmMarinePoint.reset(source, mappingKey);
+      return osmMarinePoint;
+    }
+
+    private final OsmContinentPoint osmContinentPoint = new OsmContinentPoint(null, null);
+
+    public OsmContinentPoint osmContinentPoint(SourceFeature source, String mappingKey) {
+      osmContinentPoint.reset(source, mappingKey);
+      return osmContinentPoint;
+    }
+
+    private final OsmCountryPoint osmCountryPoint = new OsmCountryPoint(null, null);
+
+    public OsmCountryPoint osmCountryPoint(SourceFeature source, String mappingKey) {
+      osmCountryPoint.reset(source, mappingKey);
+      return osmCountryPoint;
+    }
+
+    private final OsmIslandPolygon osmIslandPolygon = new OsmIslandPolygon(null, null);
+
+    public OsmIslandPolygon osmIslandPolygon(SourceFeature source, String mappingKey) {
+      osmIslandPolygon.reset(source, mappingKey);
+      return osmIslandPolygon;
+    }
+
+    private final OsmIslandPoint osmIslandPoint = new OsmIslandPoint(null, null);
+
+    public OsmIslandPoint osmIslandPoint(SourceFeature source, String mappingKey) {
+      osmIslandPoint.reset(source, mappingKey);
+      return osmIslandPoint;
+    }
+
+    private final OsmStatePoint osmStatePoint = new OsmStatePoint(null, null);
+
+    public OsmStatePoint osmStatePoint(SourceFeature source, String mappingKey) {
+      osmStatePoint.reset(source, mappingKey);
+      return osmStatePoint;
+    }
+
+    private final OsmCityPoint osmCityPoint = new OsmCityPoint(null, null);
+
+    public OsmCityPoint osmCityPoint(SourceFeature source, String mappingKey) {
+      osmCityPoint.reset(source, mappingKey);
+      return osmCityPoint;
+    }
+
+    private final OsmHousenumberPoint osmHousenumberPoint = new OsmHousenumberPoint(null, null);
+
+    public OsmHousenumberPoint osmHousenumberPoint(SourceFeature source, String mappingKey) {
+      osmHousenumberPoint.reset(source, mappingKey);
+      return osmHousenumberPoint;
+    }
+
+    private final OsmPoiPoint osmPoiPoint = new OsmPoiPoint(null, null);
+
+    public OsmPoiPoint osmPoiPoint(SourceFeature source, String mappingKey) {
+      osmPoiPoint.reset(source, mappingKey);
+      return osmPoiPoint;
+    }
+
+    private final OsmPoiPolygon osmPoiPolygon = new OsmPoiPolygon(null, null);
+
+    public OsmPoiPolygon osmPoiPolygon(SourceFeature source, String mappingKey) {
+      osmPoiPolygon.reset(source, mappingKey);
+      return osmPoiPolygon;
+    }
+
+    private final OsmAerodromeLabelPoint osmAerodromeLabelPoint = new OsmAerodromeLabelPoint(null, null);
+
+    public OsmAerodromeLabelPoint osmAerodromeLabelPoint(SourceFeature source, String mappingKey) {
+      osmAerodromeLabelPoint.reset(source, mappingKey);
+      return osmAerodromeLabelPoint;
+    }
+  }
+
   /** Index to efficiently choose which imposm3 "tables" an element should appear in based on its attributes. */
   public static final MultiExpression<RowClassAndConstructor> MAPPINGS = MultiExpression.of(List.of(
-    MultiExpression.entry(new RowClassAndConstructor(OsmWaterPolygon.class, OsmWaterPolygon::new),
-      OsmWaterPolygon.MAPPING),
-    MultiExpression.entry(new RowClassAndConstructor(OsmWaterwayLinestring.class, OsmWaterwayLinestring::new),
-      OsmWaterwayLinestring.MAPPING),
-    MultiExpression.entry(new RowClassAndConstructor(OsmLandcoverPolygon.class, OsmLandcoverPolygon::new),
-      OsmLandcoverPolygon.MAPPING),
-    MultiExpression.entry(new RowClassAndConstructor(OsmLandusePolygon.class, OsmLandusePolygon::new),
-      OsmLandusePolygon.MAPPING),
-    MultiExpression.entry(new RowClassAndConstructor(OsmPeakPoint.class, OsmPeakPoint::new), OsmPeakPoint.MAPPING),
-    MultiExpression.entry(new RowClassAndConstructor(OsmMountainLinestring.class, OsmMountainLinestring::new),
-      OsmMountainLinestring.MAPPING),
-    MultiExpression.entry(new RowClassAndConstructor(OsmParkPolygon.class, OsmParkPolygon::new),
-      OsmParkPolygon.MAPPING),
-    MultiExpression.entry(new RowClassAndConstructor(OsmBoundaryPolygon.class, OsmBoundaryPolygon::new),
-      OsmBoundaryPolygon.MAPPING),
-    MultiExpression.entry(new RowClassAndConstructor(OsmAerowayPolygon.class, OsmAerowayPolygon::new),
-      OsmAerowayPolygon.MAPPING),
-    MultiExpression.entry(new RowClassAndConstructor(OsmAerowayLinestring.class, OsmAerowayLinestring::new),
-      OsmAerowayLinestring.MAPPING),
-    MultiExpression.entry(new RowClassAndConstructor(OsmAerowayPoint.class, OsmAerowayPoint::new),
-      OsmAerowayPoint.MAPPING),
-    MultiExpression.entry(new RowClassAndConstructor(OsmHighwayLinestring.class, OsmHighwayLinestring::new),
-      OsmHighwayLinestring.MAPPING),
-    MultiExpression.entry(new RowClassAndConstructor(OsmRailwayLinestring.class, OsmRailwayLinestring::new),
-      OsmRailwayLinestring.MAPPING),
-    MultiExpression.entry(new RowClassAndConstructor(OsmAerialwayLinestring.class, OsmAerialwayLinestring::new),
-      OsmAerialwayLinestring.MAPPING),
-    MultiExpression.entry(new RowClassAndConstructor(OsmShipwayLinestring.class, OsmShipwayLinestring::new),
-      OsmShipwayLinestring.MAPPING),
-    MultiExpression.entry(new RowClassAndConstructor(OsmHighwayPolygon.class, OsmHighwayPolygon::new),
-      OsmHighwayPolygon.MAPPING),
-    MultiExpression.entry(new RowClassAndConstructor(OsmHighwayPoint.class, OsmHighwayPoint::new),
-      OsmHighwayPoint.MAPPING),
-    MultiExpression.entry(new RowClassAndConstructor(OsmBuildingPolygon.class, OsmBuildingPolygon::new),
-      OsmBuildingPolygon.MAPPING),
-    MultiExpression.entry(new RowClassAndConstructor(OsmMarinePoint.class, OsmMarinePoint::new),
-      OsmMarinePoint.MAPPING),
-    MultiExpression.entry(new RowClassAndConstructor(OsmContinentPoint.class, OsmContinentPoint::new),
-      OsmContinentPoint.MAPPING),
-    MultiExpression.entry(new RowClassAndConstructor(OsmCountryPoint.class, OsmCountryPoint::new),
-      OsmCountryPoint.MAPPING),
-    MultiExpression.entry(new RowClassAndConstructor(OsmIslandPolygon.class, OsmIslandPolygon::new),
-      OsmIslandPolygon.MAPPING),
-    MultiExpression.entry(new RowClassAndConstructor(OsmIslandPoint.class, OsmIslandPoint::new),
-      OsmIslandPoint.MAPPING),
-    MultiExpression.entry(new RowClassAndConstructor(OsmStatePoint.class, OsmStatePoint::new), OsmStatePoint.MAPPING),
-    MultiExpression.entry(new RowClassAndConstructor(OsmCityPoint.class, OsmCityPoint::new), OsmCityPoint.MAPPING),
-    MultiExpression.entry(new RowClassAndConstructor(OsmHousenumberPoint.class, OsmHousenumberPoint::new),
-      OsmHousenumberPoint.MAPPING),
-    MultiExpression.entry(new RowClassAndConstructor(OsmPoiPoint.class, OsmPoiPoint::new), OsmPoiPoint.MAPPING),
-    MultiExpression.entry(new RowClassAndConstructor(OsmPoiPolygon.class, OsmPoiPolygon::new), OsmPoiPolygon.MAPPING),
-    MultiExpression.entry(new RowClassAndConstructor(OsmAerodromeLabelPoint.class, OsmAerodromeLabelPoint::new),
-      OsmAerodromeLabelPoint.MAPPING)
+    MultiExpression.entry(new RowClassAndConstructor(OsmWaterPolygon.class, OsmWaterPolygon::new,
+      RowPool::osmWaterPolygon, OsmWaterPolygon.MAPPING_KEYS), OsmWaterPolygon.MAPPING),
+    MultiExpression.entry(new RowClassAndConstructor(OsmWaterwayLinestring.class, OsmWaterwayLinestring::new,
+      RowPool::osmWaterwayLinestring, OsmWaterwayLinestring.MAPPING_KEYS), OsmWaterwayLinestring.MAPPING),
+    MultiExpression.entry(new RowClassAndConstructor(OsmLandcoverPolygon.class, OsmLandcoverPolygon::new,
+      RowPool::osmLandcoverPolygon, OsmLandcoverPolygon.MAPPING_KEYS), OsmLandcoverPolygon.MAPPING),
+    MultiExpression.entry(new RowClassAndConstructor(OsmLandusePolygon.class, OsmLandusePolygon::new,
+      RowPool::osmLandusePolygon, OsmLandusePolygon.MAPPING_KEYS), OsmLandusePolygon.MAPPING),
+    MultiExpression.entry(new RowClassAndConstructor(OsmPeakPoint.class, OsmPeakPoint::new, RowPool::osmPeakPoint,
+      OsmPeakPoint.MAPPING_KEYS), OsmPeakPoint.MAPPING),
+    MultiExpression.entry(new RowClassAndConstructor(OsmMountainLinestring.class, OsmMountainLinestring::new,
+      RowPool::osmMountainLinestring, OsmMountainLinestring.MAPPING_KEYS), OsmMountainLinestring.MAPPING),
+    MultiExpression.entry(new RowClassAndConstructor(OsmParkPolygon.class, OsmParkPolygon::new, RowPool::osmParkPolygon,
+      OsmParkPolygon.MAPPING_KEYS), OsmParkPolygon.MAPPING),
+    MultiExpression.entry(new RowClassAndConstructor(OsmBoundaryPolygon.class, OsmBoundaryPolygon::new,
+      RowPool::osmBoundaryPolygon, OsmBoundaryPolygon.MAPPING_KEYS), OsmBoundaryPolygon.MAPPING),
+    MultiExpression.entry(new RowClassAndConstructor(OsmAerowayPolygon.class, OsmAerowayPolygon::new,
+      RowPool::osmAerowayPolygon, OsmAerowayPolygon.MAPPING_KEYS), OsmAerowayPolygon.MAPPING),
+    MultiExpression.entry(new RowClassAndConstructor(OsmAerowayLinestring.class, OsmAerowayLinestring::new,
+      RowPool::osmAerowayLinestring, OsmAerowayLinestring.MAPPING_KEYS), OsmAerowayLinestring.MAPPING),
+    MultiExpression.entry(new RowClassAndConstructor(OsmAerowayPoint.class, OsmAerowayPoint::new,
+      RowPool::osmAerowayPoint, OsmAerowayPoint.MAPPING_KEYS), OsmAerowayPoint.MAPPING),
+    MultiExpression.entry(new RowClassAndConstructor(OsmHighwayLinestring.class, OsmHighwayLinestring::new,
+      RowPool::osmHighwayLinestring, OsmHighwayLinestring.MAPPING_KEYS), OsmHighwayLinestring.MAPPING),
+    MultiExpression.entry(new RowClassAndConstructor(OsmRailwayLinestring.class, OsmRailwayLinestring::new,
+      RowPool::osmRailwayLinestring, OsmRailwayLinestring.MAPPING_KEYS), OsmRailwayLinestring.MAPPING),
+    MultiExpression.entry(new RowClassAndConstructor(OsmAerialwayLinestring.class, OsmAerialwayLinestring::new,
+      RowPool::osmAerialwayLinestring, OsmAerialwayLinestring.MAPPING_KEYS), OsmAerialwayLinestring.MAPPING),
+    MultiExpression.entry(new RowClassAndConstructor(OsmShipwayLinestring.class, OsmShipwayLinestring::new,
+      RowPool::osmShipwayLinestring, OsmShipwayLinestring.MAPPING_KEYS), OsmShipwayLinestring.MAPPING),
+    MultiExpression.entry(new RowClassAndConstructor(OsmHighwayPolygon.class, OsmHighwayPolygon::new,
+      RowPool::osmHighwayPolygon, OsmHighwayPolygon.MAPPING_KEYS), OsmHighwayPolygon.MAPPING),
+    MultiExpression.entry(new RowClassAndConstructor(OsmHighwayPoint.class, OsmHighwayPoint::new,
+      RowPool::osmHighwayPoint, OsmHighwayPoint.MAPPING_KEYS), OsmHighwayPoint.MAPPING),
+    MultiExpression.entry(new RowClassAndConstructor(OsmBuildingPolygon.class, OsmBuildingPolygon::new,
+      RowPool::osmBuildingPolygon, OsmBuildingPolygon.MAPPING_KEYS), OsmBuildingPolygon.MAPPING),
+    MultiExpression.entry(new RowClassAndConstructor(OsmMarinePoint.class, OsmMarinePoint::new, RowPool::osmMarinePoint,
+      OsmMarinePoint.MAPPING_KEYS), OsmMarinePoint.MAPPING),
+    MultiExpression.entry(new RowClassAndConstructor(OsmContinentPoint.class, OsmContinentPoint::new,
+      RowPool::osmContinentPoint, OsmContinentPoint.MAPPING_KEYS), OsmContinentPoint.MAPPING),
+    MultiExpression.entry(new RowClassAndConstructor(OsmCountryPoint.class, OsmCountryPoint::new,
+      RowPool::osmCountryPoint, OsmCountryPoint.MAPPING_KEYS), OsmCountryPoint.MAPPING),
+    MultiExpression.entry(new RowClassAndConstructor(OsmIslandPolygon.class, OsmIslandPolygon::new,
+      RowPool::osmIslandPolygon, OsmIslandPolygon.MAPPING_KEYS), OsmIslandPolygon.MAPPING),
+    MultiExpression.entry(new RowClassAndConstructor(OsmIslandPoint.class, OsmIslandPoint::new, RowPool::osmIslandPoint,
+      OsmIslandPoint.MAPPING_KEYS), OsmIslandPoint.MAPPING),
+    MultiExpression.entry(new RowClassAndConstructor(OsmStatePoint.class, OsmStatePoint::new, RowPool::osmStatePoint,
+      OsmStatePoint.MAPPING_KEYS), OsmStatePoint.MAPPING),
+    MultiExpression.entry(new RowClassAndConstructor(OsmCityPoint.class, OsmCityPoint::new, RowPool::osmCityPoint,
+      OsmCityPoint.MAPPING_KEYS), OsmCityPoint.MAPPING),
+    MultiExpression.entry(new RowClassAndConstructor(OsmHousenumberPoint.class, OsmHousenumberPoint::new,
+      RowPool::osmHousenumberPoint, OsmHousenumberPoint.MAPPING_KEYS), OsmHousenumberPoint.MAPPING),
+    MultiExpression.entry(new RowClassAndConstructor(OsmPoiPoint.class, OsmPoiPoint::new, RowPool::osmPoiPoint,
+      OsmPoiPoint.MAPPING_KEYS), OsmPoiPoint.MAPPING),
+    MultiExpression.entry(new RowClassAndConstructor(OsmPoiPolygon.class, OsmPoiPolygon::new, RowPool::osmPoiPolygon,
+      OsmPoiPolygon.MAPPING_KEYS), OsmPoiPolygon.MAPPING),
+    MultiExpression.entry(new RowClassAndConstructor(OsmAerodromeLabelPoint.class, OsmAerodromeLabelPoint::new,
+      RowPool::osmAerodromeLabelPoint, OsmAerodromeLabelPoint.MAPPING_KEYS), OsmAerodromeLabelPoint.MAPPING)
   ));
 
   /**
@@ -0,0 +1,128 @@
+/*
+Copyright (c) 2024, MapTiler.com & OpenMapTiles contributors.
+All rights reserved.
+
+Code license: BSD 3-Clause License
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+* Redistributions of source code must retain the above copyright notice, this
+  list of conditions and the following disclaimer.
+
+* Redistributions in binary form must reproduce the above copyright notice,
+  this list of conditions and the following disclaimer in the documentation
+  and/or other materials provided with the distribution.
+
+* Neither the name of the copyright holder nor the names of its
+  contributors may be used to endorse or promote products derived from
+  this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+Design license: CC-BY 4.0
+
+See https://github.com/openmaptiles/openmaptiles/blob/master/LICENSE.md for details on usage
+*/
+// AUTOGENERATED BY Generate.java -- DO NOT MODIFY
+
+package org.openmaptiles.generated;
+
+import org.openmaptiles.util.InternedStrings;
+
+/**
+ * Attribute values from the OpenMapTiles schema and tag keys and values from the imposm3 table mappings, interned so
+ * that table rows and layers share one canonical {@link String} instance for each known value.
+ */
+public class TagDictionary {
+
+  /** Every schema-known string. */
+  private static final InternedStrings STRINGS = new InternedStrings(
+    "AbuMusaIsland", "BaraHotiiValleys", "ChineseClaim", "Crimea", "Demchok", "Dokdo", "IndianClaim-North",
+    "IndianClaimwesternKashmir", "No", "PakistaniClaim", "SamduValleys", "TirpaniValleys", "aboriginal_lands",
+    "accessories", "accountant", "addr:housenumber", "advertising_agency", "aerialway", "aerodrome", "aerodrome_type",
+    "aeroway", "airfield", "alcohol", "alcohol_shop", "alley", "allotments", "alpine_hut", "amenity",
+    "american_football", "antiques", "apron", "aquarium", "archaeological_site", "archery", "architect", "area:aeroway",
+    "arete", "art", "art_gallery", "arts_centre", "artwork", "association", "athletics", "atm", "attraction",
+    "australian_football", "aviary", "badminton", "bag", "bail_bond_agent", "bakery", "bank", "bar", "bare_rock",
+    "barrier", "baseball", "basin", "basketball", "battlefield", "bay", "bbq", "beach", "beachvolleyball", "beauty",
+    "bed", "bed_and_breakfast", "beer", "beverages", "bicycle", "bicycle_parking", "bicycle_rental", "biergarten",
+    "billiards", "birds", "bmx", "bog", "bollard", "books", "border_control", "borough", "boules", "boundary",
+    "boutique", "bowls", "boxing", "bridge", "bridleway", "brownfield", "building", "building:part", "bus",
+    "bus_guideway", "bus_station", "bus_stop", "busway", "butcher", "butterfly", "ca-provincial",
+    "ca-provincial-arterial", "ca-transcanada", "cable_car", "cafe", "camera", "camp_site", "campsite",
+    "canadian_football", "canal", "canoe", "car", "car_parts", "car_repair", "caravan_site", "carpet", "castle",
+    "cemetery", "chair_lift", "chalet", "charging_station", "charity", "chemist", "chess", "chocolate", "cinema",
+    "city", "civil", "cliff", "climbing", "climbing_adventure", "clinic", "clothes", "clothing_store", "coffee",
+    "college", "commercial", "community_centre", "company", "computer", "confectionery", "construction",
+    "construction_company", "consulting", "continent", "convenience", "cooperative", "copyshop", "corridor",
+    "cosmetics", "country", "courier", "courthouse", "covered", "coworking", "cricket", "cricket_nets", "croquet",
+    "crossover", "curling", "cycle_barrier", "cycleway", "cycling", "dam", "deli", "delicatessen", "dentist",
+    "department_store", "diplomatic", "disc_golf", "district", "ditch", "diving", "dock", "doctors", "dog_park",
+    "dog_racing", "doityourself", "dormitory", "drag_lift", "drain", "drinking_water", "driveway", "dry_cleaning",
+    "dune", "educational_institution", "electronics", "employment_agency", "enclosure", "enclosure'", "energy_supplier",
+    "engineer", "entrance", "equestrian", "erotic", "escape_game", "estate_agent", "fabric", "falconry", "farm",
+    "farmland", "fast_food", "fatsal", "fell", "ferry", "ferry_terminal", "field_hockey", "financial",
+    "financial_advisor", "fire_station", "florist", "flowerbed", "food_court", "footway", "ford", "forest", "forestry",
+    "foundation", "free_flying", "frozen_food", "fuel", "funicular", "furniture", "gaelic_games", "gallery", "garages",
+    "garden", "garden_centre", "gate", "gb-motorway", "gb-primary", "gb-trunk", "general", "geodesist", "gift",
+    "glacier", "golf", "golf_course", "gondola", "government", "graphic_design", "grass", "grassland", "grave_yard",
+    "greengrocer", "grocery", "guest_house", "guide", "gymnastics", "hackerspace", "hairdresser", "halt", "hamlet",
+    "handball", "hangar", "harbor", "harbour_master", "hardware", "health_insurance", "hearing_aids", "heath",
+    "helipad", "heliport", "hifi", "highway", "historic", "hockey", "horse_racing", "horseshoes", "hospital", "hostel",
+    "hotel", "ice", "ice_cream", "ice_hockey", "ice_rink", "ice_shelf", "ice_stock", "ie-motorway", "ie-national",
+    "ie-regional", "industrial", "information", "insurance", "interior_decoration", "interior_design", "international",
+    "island", "isolated_dwelling", "it", "j-bar", "jewelry", "judo", "junction", "karting", "kindergarten", "kiosk",
+    "korfball", "lake", "lamps", "landuse", "laundry", "lawyer", "leisure", "library", "lift_gate", "light_rail",
+    "living_street", "location", "locksmith", "lodging", "logistics", "long_jump", "mall", "man_made", "mangrove",
+    "mapping_key", "marina", "marketing", "marketplace", "marsh", "massage", "meadow", "military", "miniature_golf",
+    "minor", "minor_construction", "mixed_lift", "mobile_phone", "model_aerodrome", "monorail", "monument", "motel",
+    "motocross", "motor", "motorcycle", "motorcycle_parking", "motorway", "motorway_construction", "motorway_junction",
+    "motorway_link", "moving_company", "multi", "museum", "music", "musical_instrument", "name", "narrow_gauge",
+    "national_park", "natural", "nature_reserve", "neighbourhood", "netball", "newsagent", "newspaper", "ngo",
+    "nightclub", "no", "none", "notary", "nursing_home", "ocean", "office", "optician", "orchard", "orienteering",
+    "other", "outdoor", "paddle_tennis", "paint", "paintball", "paragliding", "parcel_locker", "park", "parking",
+    "parking_aisle", "path", "path_construction", "paved", "peak", "pedestrian", "pelota", "perfume", "perfumery",
+    "pet", "petting_zoo", "pharmacy", "photo", "physician", "picnic_site", "pier", "pitch", "place", "place_of_worship",
+    "plant_nursery", "platform", "platter", "playground", "police", "political_party", "pond", "post", "post_box",
+    "post_office", "preserved", "primary", "primary_construction", "primary_link", "prison", "private",
+    "private_investigator", "property_management", "protected_area", "province", "pub", "public", "public_building",
+    "public_transport", "publisher", "quango", "quarry", "quarter", "raceway", "raceway_construction", "racquet",
+    "rail", "railway", "rc_car", "recreation_ground", "recycling", "reedbed", "regional", "religion", "reptile",
+    "research", "reservoir", "residential", "restaurant", "retail", "ridge", "river", "road", "rock", "route", "rowing",
+    "rugby", "rugby_league", "rugby_union", "ruins", "running", "runway", "saddle", "safari_park", "sailing",
+    "sally_port", "salt_pond", "saltern", "saltmarsh", "sand", "school", "scree", "scrub", "scuba_diving", "sea",
+    "second_hand", "secondary", "secondary_construction", "secondary_link", "security", "service",
+    "service_construction", "shelter", "shipway", "shoes", "shooting", "shooting_range", "shop", "shrubbery", "siding",
+    "skateboard", "skating", "skiing", "soccer", "sport", "sports", "sports_centre", "spring", "spur", "stadium",
+    "state", "station", "stationery", "steps", "stile", "strait", "stream", "subclass", "suburb", "subway",
+    "subway_entrance", "supermarket", "surfing", "surveyor", "swamp", "swimming", "swimming_area", "swimming_pool",
+    "t-bar", "table_soccer", "table_tennis", "tailor", "tattoo", "tax_advisor", "taxi", "taxiway", "team_handball",
+    "telecommunication", "telephone", "tennis", "terminal", "terrarium", "tertiary", "tertiary_construction",
+    "tertiary_link", "theatre", "theme_park", "therapist", "ticket", "tidalflat", "tobacco", "toboggan", "toilets",
+    "toll_booth", "tourism", "town", "town_hall", "townhall", "toys", "track", "track_construction",
+    "train_station_entrance", "tram", "tram_stop", "transit", "translator", "travel_agency", "travel_agent", "trunk",
+    "trunk_construction", "trunk_link", "tundra", "tunnel", "tutoring", "type", "unclassified", "underground", "union",
+    "university", "unpaved", "us-highway", "us-interstate", "us-state", "veterinary", "video", "video_games",
+    "viewpoint", "village", "village_green", "vineyard", "volcano", "volleyball", "waste_basket", "wastewater",
+    "watches", "water", "water_park", "water_ski", "water_utility", "waterway", "weapons", "web_design",
+    "wedding_planner", "wet_meadow", "wetland", "wholesale", "wildlife_park", "wine", "winter_sports", "wood", "yard",
+    "yes", "yoga", "zoo"
+  );
+
+  private TagDictionary() {}
+
+  /** Returns the canonical instance equal to {@code value}, or {@code value} if it is not a schema-known string. */
+  public static String intern(String value) {
+    return STRINGS.intern(value);
+  }
+}
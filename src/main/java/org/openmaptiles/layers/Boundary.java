@@ -41,6 +41,7 @@ import static com.onthegomap.planetiler.util.MemoryEstimator.estimateSize;
 import static java.util.stream.Collectors.counting;
 import static java.util.stream.Collectors.groupingBy;
 
+import com.carrotsearch.hppc.LongArrayList;
 import com.carrotsearch.hppc.LongObjectMap;
 import com.onthegomap.planetiler.FeatureCollector;
 import com.onthegomap.planetiler.FeatureMerge;
@@ -60,20 +61,33 @@ import com.onthegomap.planetiler.util.MemoryEstimator;
 import com.onthegomap.planetiler.util.Parse;
 import com.onthegomap.planetiler.util.Translations;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.locationtech.jts.algorithm.Orientation;
 import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateSequence;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.LinearRing;
 import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.Polygon;
 import org.locationtech.jts.geom.TopologyException;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequence;
 import org.locationtech.jts.geom.prep.PreparedGeometry;
 import org.locationtech.jts.geom.prep.PreparedGeometryFactory;
 import org.locationtech.jts.operation.linemerge.LineMerger;
@@ -82,6 +96,8 @@ import org.openmaptiles.OpenMapTilesProfile;
 import org.openmaptiles.generated.OpenMapTilesSchema;
 import org.openmaptiles.generated.Tables;
 import org.openmaptiles.util.OmtLanguageUtils;
+import org.openmaptiles.util.PackedLineStore;
+import org.openmaptiles.util.StringDictionary;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -129,9 +145,16 @@ public class Boundary implements
   private final boolean onlyOsmBoundaries;
   // may be updated concurrently by multiple threads
   private final Map<Long, String> regionNames = new ConcurrentHashMap<>();
-  // need to synchronize updates to these shared data structures:
-  private final Map<Long, List<Geometry>> regionGeometries = new HashMap<>();
-  private final Map<CountryBoundaryComponent, List<Geometry>> boundariesToMerge = new HashMap<>();
+  /** De-duplicates the strings that repeat across boundary relations, like {@code claimed_by} and country codes. */
+  private final StringDictionary relationStrings = new StringDictionary();
+  // may be updated concurrently by multiple threads, so use concurrent maps and lock each list of line handles
+  // separately, lines are stored as packed x/y coordinates that are only turned into JTS geometries in finish()
+  private final Map<Long, LongArrayList> regionGeometries = new ConcurrentHashMap<>();
+  private final Map<CountryBoundaryComponent, LongArrayList> boundariesToMerge = new ConcurrentHashMap<>();
+  private final PackedLineStore countryLines;
+  private final boolean spillCountryLines;
+  private final CountrySideMethod countrySides;
+  private final SideStats sideStats = new SideStats();
   private final PlanetilerConfig config;
   private final Translations translations;
 
@@ -149,6 +172,24 @@ public class Boundary implements
     );
     this.stats = stats;
     this.translations = translations;
+    stats.monitorInMemoryObject("omt_boundary_relation_strings", relationStrings);
+    this.spillCountryLines = config.arguments().getBoolean(
+      "boundary_spill_to_disk",
+      "boundary layer: store country boundary lines in a temp file instead of memory until the OSM source finishes",
+      false
+    );
+    this.countrySides = CountrySideMethod.valueOf(config.arguments().getString(
+      "boundary_country_sides",
+      "boundary layer: how to find left/right countries, sample points offset from each line, use the topology of " +
+        "country polygon rings, or compare both and log differences (sample, topology, compare)",
+      "sample"
+    ).toUpperCase(Locale.ROOT));
+    this.countryLines = spillCountryLines ? PackedLineStore.onDisk(config.tmpDir()) : PackedLineStore.onHeap();
+    stats.monitorInMemoryObject("omt_boundary_country_lines", countryLines);
+    stats.counter("omt_boundary_country_lines_disk_bytes", countryLines::diskUsageBytes);
+    stats.counter("omt_boundary_sides_from_rings", sideStats.fromRings::sum);
+    stats.counter("omt_boundary_sides_sampled", sideStats.sampled::sum);
+    stats.counter("omt_boundary_sides_disagreements", sideStats.disagreements::sum);
   }
 
   private static boolean isDisputed(Map<String, Object> tags) {
@@ -165,11 +206,22 @@ public class Boundary implements
       .replace("Extentof", "");
   }
 
+  /**
+   * Returns roughly how many bytes of country boundary lines from an OSM file of {@code osmFileSize} bytes
+   * {@code boundary_spill_to_disk} moves from the heap to disk, or {@code 0} if it is off.
+   */
+  public long estimateSpilledBytes(long osmFileSize) {
+    // admin_level=2 ways are a tiny fraction of OSM data, budget about 170MB of packed coordinates for a 67GB planet
+    return addCountryNames && spillCountryLines ? osmFileSize / 400 : 0;
+  }
+
   @Override
   public void release() {
     regionGeometries.clear();
     boundariesToMerge.clear();
+    countryLines.close();
     regionNames.clear();
+    relationStrings.clear();
   }
 
   @Override
@@ -221,7 +273,7 @@ public class Boundary implements
       relation.hasTag("admin_level") &&
       relation.hasTag("boundary", "administrative")) {
       Integer adminLevelValue = Parse.parseRoundInt(relation.getTag("admin_level"));
-      String code = relation.getString("ISO3166-1:alpha3");
+      String code = relationStrings.intern(relation.getString("ISO3166-1:alpha3"));
       if (adminLevelValue != null && adminLevelValue >= 2 && adminLevelValue <= 10) {
         boolean disputed = isDisputed(relation.tags());
         if (code != null) {
@@ -232,7 +284,7 @@ public class Boundary implements
           adminLevelValue,
           disputed,
           relation.getString("name"),
-          disputed ? relation.getString("claimed_by") : null,
+          disputed ? relationStrings.intern(relation.getString("claimed_by")) : null,
           code
         ));
       }
@@ -249,7 +301,8 @@ public class Boundary implements
     if (!relationInfos.isEmpty()) {
       int minAdminLevel = Integer.MAX_VALUE;
       String disputedName = null, claimedBy = null;
-      Set<Long> regionIds = new HashSet<>();
+      // sorted so groups can be ordered by region without sorting on every comparison
+      SortedSet<Long> regionIds = new TreeSet<>();
       boolean disputed = false;
       // aggregate all borders this way is a part of - take the lowest
       // admin level, and assume it is disputed if any relation is disputed.
@@ -295,19 +348,16 @@ public class Boundary implements
               disputed,
               maritime,
               minzoom,
-              feature.line(),
               regionIds,
               claimedBy,
               disputedName
             );
-            // multiple threads may update this concurrently
-            synchronized (this) {
-              boundariesToMerge.computeIfAbsent(component.groupingKey(), key -> new ArrayList<>()).add(component.line);
-              for (var info : relationInfos) {
-                var rel = info.relation();
-                if (rel.adminLevel <= 2) {
-                  regionGeometries.computeIfAbsent(rel.id, id -> new ArrayList<>()).add(component.line);
-                }
+            long[] lines = storeLines(feature.line());
+            addAll(boundariesToMerge.computeIfAbsent(component, key -> new LongArrayList()), lines);
+            for (var info : relationInfos) {
+              var rel = info.relation();
+              if (rel.adminLevel <= 2) {
+                addAll(regionGeometries.computeIfAbsent(rel.id, id -> new LongArrayList()), lines);
               }
             }
           } catch (GeometryException e) {
@@ -341,46 +391,138 @@ public class Boundary implements
     Consumer<FeatureCollector.Feature> emit) {
     if (OpenMapTilesProfile.OSM_SOURCE.equals(sourceName)) {
       var timer = stats.startStage("boundaries");
-      LongObjectMap<PreparedGeometry> countryBoundaries = prepareRegionPolygons();
-
-      for (var entry : boundariesToMerge.entrySet()) {
-        CountryBoundaryComponent key = entry.getKey();
-        LineMerger merger = new LineMerger();
-        for (Geometry geom : entry.getValue()) {
-          merger.add(geom);
-        }
-        entry.getValue().clear();
-        for (Object merged : merger.getMergedLineStrings()) {
-          if (merged instanceof LineString lineString) {
-            BorderingRegions borderingRegions = getBorderingRegions(countryBoundaries, key.regions, lineString);
-
-            var features = featureCollectors.get(SimpleFeature.fromWorldGeometry(lineString, key.id));
-            var newFeature = features.line(LAYER_NAME).setBufferPixels(BUFFER_SIZE)
-              .setAttr(Fields.ADMIN_LEVEL, key.adminLevel)
-              .setAttr(Fields.DISPUTED, key.disputed ? 1 : 0)
-              .setAttr(Fields.MARITIME, key.maritime ? 1 : 0)
-              .setAttr(Fields.CLAIMED_BY, key.claimedBy)
-              .setAttr(Fields.DISPUTED_NAME, key.disputed ? editName(key.name) : null)
-              .setMinPixelSizeAtAllZooms(0)
-              .setMinZoom(key.minzoom);
-            if (key.adminLevel == 2 && !key.disputed) {
-              // only non-disputed admin 2 boundaries get to have adm0_{l,r}, at zoom 5 and more
-              newFeature
-                .setAttrWithMinzoom(Fields.ADM0_L,
-                  borderingRegions.left == null ? null : regionNames.get(borderingRegions.left), 5)
-                .setAttrWithMinzoom(Fields.ADM0_R,
-                  borderingRegions.right == null ? null : regionNames.get(borderingRegions.right), 5);
-            }
-            for (var feature : features) {
-              emit.accept(feature);
-            }
+      // building polygons and testing which side of each line they are on are independent for each
+      // region and line, so spread them across all worker threads instead of leaving the others idle
+      ForkJoinPool pool = new ForkJoinPool(config.threads());
+      try {
+        long start = System.nanoTime();
+        LongObjectMap<PreparedGeometry> countryBoundaries = pool.submit(this::prepareRegionPolygons).join();
+        // country polygons hold their own copy of the lines now
+        regionGeometries.clear();
+        LOGGER.info("Built country polygons in %.1fs".formatted((System.nanoTime() - start) / 1e9));
+
+        start = System.nanoTime();
+        // sort so the output doesn't depend on the order ways were processed in
+        List<Map.Entry<CountryBoundaryComponent, LongArrayList>> groups =
+          new ArrayList<>(boundariesToMerge.entrySet());
+        groups.sort(Map.Entry.comparingByKey(CountryBoundaryComponent.ORDER));
+        List<List<LineString>> mergedLines = pool.submit(() -> groups.parallelStream()
+          .map(entry -> mergeLines(entry.getValue()))
+          .toList()
+        ).join();
+        LOGGER.info("Merged %d country boundary groups in %.1fs".formatted(groups.size(),
+          (System.nanoTime() - start) / 1e9));
+
+        start = System.nanoTime();
+        Map<Long, Map<Edge, Boolean>> ringSides = countrySides == CountrySideMethod.SAMPLE ? null :
+          pool.submit(() -> indexRingSides(countryBoundaries, groups, mergedLines)).join();
+        List<List<MergedBoundary>> merged = pool.submit(() -> IntStream.range(0, groups.size()).parallel()
+          .mapToObj(i -> mergedLines.get(i).stream()
+            .map(line -> {
+              var key = groups.get(i).getKey();
+              return new MergedBoundary(key, line,
+                getBorderingRegions(countryBoundaries, ringSides, key.regions, line));
+            })
+            .toList())
+          .toList()
+        ).join();
+        LOGGER.info("Found countries on each side of country boundaries in %.1fs (%s)".formatted(
+          (System.nanoTime() - start) / 1e9, sideStats));
+
+        // emit from this thread in sorted order
+        for (var group : merged) {
+          for (var boundary : group) {
+            emit(boundary, featureCollectors, emit);
           }
         }
+        // every line is merged and emitted, don't hold onto them while tiles are written
+        boundariesToMerge.clear();
+        countryLines.close();
+      } finally {
+        pool.shutdown();
       }
       timer.stop();
     }
   }
 
+  /**
+   * Stores the x/y coordinates of each line in {@code geometry} in {@link #countryLines} and returns their handles.
+   */
+  private long[] storeLines(Geometry geometry) {
+    long[] result = new long[geometry.getNumGeometries()];
+    int count = 0;
+    for (int i = 0; i < geometry.getNumGeometries(); i++) {
+      if (geometry.getGeometryN(i) instanceof LineString line) {
+        CoordinateSequence coords = line.getCoordinateSequence();
+        double[] packed = new double[coords.size() * 2];
+        for (int j = 0; j < coords.size(); j++) {
+          packed[j * 2] = coords.getX(j);
+          packed[j * 2 + 1] = coords.getY(j);
+        }
+        result[count++] = countryLines.add(packed);
+      }
+    }
+    return count == result.length ? result : Arrays.copyOf(result, count);
+  }
+
+  private static void addAll(LongArrayList list, long[] handles) {
+    // only threads adding to the same group or region contend on this lock
+    synchronized (list) {
+      list.add(handles);
+    }
+  }
+
+  /** Returns the line stored under {@code handle} in {@link #countryLines}. */
+  private LineString loadLine(long handle) {
+    return GeoUtils.JTS_FACTORY.createLineString(new PackedCoordinateSequence.Double(countryLines.get(handle), 2, 0));
+  }
+
+  /**
+   * Returns the lines in one group merged into as few lines as possible, and removes them from {@link #countryLines}
+   * since each line belongs to only one group.
+   */
+  private List<LineString> mergeLines(LongArrayList lines) {
+    LineMerger merger = new LineMerger();
+    for (int i = 0; i < lines.size(); i++) {
+      merger.add(loadLine(lines.get(i)));
+      countryLines.remove(lines.get(i));
+    }
+    lines.release();
+    List<LineString> result = new ArrayList<>();
+    for (Object merged : merger.getMergedLineStrings()) {
+      if (merged instanceof LineString lineString) {
+        result.add(lineString);
+      }
+    }
+    return result;
+  }
+
+  private void emit(MergedBoundary boundary, FeatureCollector.Factory featureCollectors,
+    Consumer<FeatureCollector.Feature> emit) {
+    var key = boundary.key;
+    var borderingRegions = boundary.borderingRegions;
+    var features = featureCollectors.get(SimpleFeature.fromWorldGeometry(boundary.line, key.id));
+    var newFeature = features.line(LAYER_NAME).setBufferPixels(BUFFER_SIZE)
+      .setAttr(Fields.ADMIN_LEVEL, key.adminLevel)
+      .setAttr(Fields.DISPUTED, key.disputed ? 1 : 0)
+      .setAttr(Fields.MARITIME, key.maritime ? 1 : 0)
+      .setAttr(Fields.CLAIMED_BY, key.claimedBy)
+      .setAttr(Fields.DISPUTED_NAME, key.disputed ? editName(key.name) : null)
+      .setMinPixelSizeAtAllZooms(0)
+      .setMinZoom(key.minzoom);
+    if (key.adminLevel == 2 && !key.disputed) {
+      // only non-disputed admin 2 boundaries get to have adm0_{l,r}, at zoom 5 and more
+      newFeature
+        .setAttrWithMinzoom(Fields.ADM0_L,
+          borderingRegions.left == null ? null : regionNames.get(borderingRegions.left), 5)
+        .setAttrWithMinzoom(Fields.ADM0_R,
+          borderingRegions.right == null ? null : regionNames.get(borderingRegions.right), 5);
+    }
+    for (var feature : features) {
+      emit.accept(feature);
+    }
+  }
+
   @Override
   public List<VectorTile.Feature> postProcess(int zoom, List<VectorTile.Feature> items) {
     // only omit a segment if it is shorter than a pixel
@@ -389,8 +531,81 @@ public class Boundary implements
     return FeatureMerge.mergeLineStrings(items, attrs -> minLength, tolerance, BUFFER_SIZE);
   }
 
-  /** Returns the left and right country for {@code lineString}. */
+  /**
+   * Returns the left and right country for {@code lineString}, using {@code ringSides} from
+   * {@link #indexRingSides(LongObjectMap, List, List)} when it is not {@code null}.
+   */
   private BorderingRegions getBorderingRegions(
+    LongObjectMap<PreparedGeometry> countryBoundaries,
+    Map<Long, Map<Edge, Boolean>> ringSides,
+    Set<Long> allRegions,
+    LineString lineString
+  ) {
+    BorderingRegions result = null;
+    if (ringSides != null) {
+      long start = System.nanoTime();
+      result = getBorderingRegionsFromRings(countryBoundaries, ringSides, allRegions, lineString);
+      sideStats.ringNanos.add(System.nanoTime() - start);
+    }
+    if (result != null) {
+      sideStats.fromRings.increment();
+    }
+    if (result == null || countrySides == CountrySideMethod.COMPARE) {
+      long start = System.nanoTime();
+      BorderingRegions sampled = sampleBorderingRegions(countryBoundaries, allRegions, lineString);
+      sideStats.sampleNanos.add(System.nanoTime() - start);
+      if (result == null) {
+        sideStats.sampled.increment();
+        result = sampled;
+      } else if (!sampled.equals(result)) {
+        sideStats.disagreements.increment();
+        Coordinate point = GeoUtils.worldToLatLonCoords(GeoUtils.pointAlongOffset(lineString, 0.5, 0)).getCoordinate();
+        LOGGER.debug("country sides from polygon rings %s differ from sampled %s around %s"
+          .formatted(result, sampled, Format.osmDebugUrl(10, point)));
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Returns the left and right country for {@code lineString} from the side of the line each country polygon is on, or
+   * {@code null} if the middle of the line is not on the rings of every country polygon it borders or more than one
+   * country polygon is on the same side.
+   */
+  private static BorderingRegions getBorderingRegionsFromRings(
+    LongObjectMap<PreparedGeometry> countryBoundaries,
+    Map<Long, Map<Edge, Boolean>> ringSides,
+    Set<Long> allRegions,
+    LineString lineString
+  ) {
+    Edge edge = middleEdge(lineString);
+    if (edge == null) {
+      return null;
+    }
+    Long left = null, right = null;
+    for (Long regionId : allRegions.stream().sorted().toList()) {
+      if (countryBoundaries.containsKey(regionId)) {
+        Boolean onLeft = ringSides.getOrDefault(regionId, Map.of()).get(edge);
+        if (onLeft == null) {
+          // not on the outline of this region, for example a line between two parts of the same country
+          return null;
+        }
+        // world y coordinates increase going south, so left of the edge in x/y space is right of it on the map
+        if (onLeft ? right != null : left != null) {
+          // overlapping regions on the same side, let sampling pick the one that covers most of it
+          return null;
+        } else if (onLeft) {
+          right = regionId;
+        } else {
+          left = regionId;
+        }
+      }
+    }
+    return left == null && right == null ? null : new BorderingRegions(left, right);
+  }
+
+  /** Returns the left and right country for {@code lineString} by testing points offset to either side of it. */
+  private static BorderingRegions sampleBorderingRegions(
     LongObjectMap<PreparedGeometry> countryBoundaries,
     Set<Long> allRegions,
     LineString lineString
@@ -438,30 +653,122 @@ public class Boundary implements
     return new BorderingRegions(left, right);
   }
 
-  /** Returns a map from region ID to prepared geometry optimized for {@code contains} queries. */
+  /**
+   * Returns, for each region, which side of the middle edge of each merged line that borders it the region's polygon is
+   * on: {@code true} if it is to the left of the edge in x/y space, {@code false} if it is to the right.
+   * <p>
+   * This only needs one pass over the rings of each polygon instead of point-in-polygon tests for every line, and runs
+   * each region in parallel when called from a {@link ForkJoinPool}.
+   */
+  private static Map<Long, Map<Edge, Boolean>> indexRingSides(
+    LongObjectMap<PreparedGeometry> countryBoundaries,
+    List<Map.Entry<CountryBoundaryComponent, LongArrayList>> groups,
+    List<List<LineString>> mergedLines
+  ) {
+    Map<Long, Set<Edge>> edgesByRegion = new HashMap<>();
+    for (int i = 0; i < groups.size(); i++) {
+      for (LineString line : mergedLines.get(i)) {
+        Edge edge = middleEdge(line);
+        if (edge != null) {
+          for (Long regionId : groups.get(i).getKey().regions) {
+            if (countryBoundaries.containsKey(regionId)) {
+              edgesByRegion.computeIfAbsent(regionId, id -> new HashSet<>()).add(edge);
+            }
+          }
+        }
+      }
+    }
+    return edgesByRegion.entrySet().parallelStream().collect(Collectors.toMap(
+      Map.Entry::getKey,
+      entry -> ringSides(countryBoundaries.get(entry.getKey()).getGeometry(), entry.getValue())
+    ));
+  }
+
+  /** Returns the side of {@code polygons} each of {@code edges} that is on one of its rings is on. */
+  private static Map<Edge, Boolean> ringSides(Geometry polygons, Set<Edge> edges) {
+    Map<Edge, Boolean> result = new HashMap<>();
+    for (int i = 0; i < polygons.getNumGeometries(); i++) {
+      if (polygons.getGeometryN(i) instanceof Polygon polygon) {
+        addRingSides(polygon.getExteriorRing(), true, edges, result);
+        for (int j = 0; j < polygon.getNumInteriorRing(); j++) {
+          addRingSides(polygon.getInteriorRingN(j), false, edges, result);
+        }
+      }
+    }
+    return result;
+  }
+
+  private static void addRingSides(LinearRing ring, boolean shell, Set<Edge> edges, Map<Edge, Boolean> result) {
+    CoordinateSequence coords = ring.getCoordinateSequence();
+    // the polygon is left of each edge of a counterclockwise shell or a clockwise hole
+    boolean polygonOnLeft = shell == Orientation.isCCW(coords);
+    for (int i = 0; i < coords.size() - 1; i++) {
+      Edge edge = new Edge(coords.getX(i), coords.getY(i), coords.getX(i + 1), coords.getY(i + 1));
+      if (edges.contains(edge)) {
+        result.put(edge, polygonOnLeft);
+      }
+      Edge reversed = edge.reversed();
+      if (edges.contains(reversed)) {
+        result.put(reversed, !polygonOnLeft);
+      }
+    }
+  }
+
+  /** Returns the first segment with distinct endpoints starting from the middle of {@code line}, or {@code null}. */
+  private static Edge middleEdge(LineString line) {
+    CoordinateSequence coords = line.getCoordinateSequence();
+    int segments = coords.size() - 1;
+    for (int i = 0; i < segments; i++) {
+      int index = (segments / 2 + i) % segments;
+      Edge edge = new Edge(coords.getX(index), coords.getY(index), coords.getX(index + 1), coords.getY(index + 1));
+      if (edge.x1 != edge.x2 || edge.y1 != edge.y2) {
+        return edge;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Returns a map from region ID to prepared geometry optimized for {@code contains} queries.
+   * <p>
+   * Builds each region's polygon in parallel when called from a {@link ForkJoinPool}.
+   */
   private LongObjectMap<PreparedGeometry> prepareRegionPolygons() {
     LOGGER.info("Creating polygons for " + regionGeometries.size() + " boundaries");
+    List<Long> regionIds = regionGeometries.keySet().stream().sorted().toList();
+    List<PreparedGeometry> polygons = regionIds.parallelStream()
+      .map(regionId -> prepareRegionPolygon(regionId, regionGeometries.get(regionId)))
+      .toList();
     LongObjectMap<PreparedGeometry> countryBoundaries = Hppc.newLongObjectHashMap();
-    for (var entry : regionGeometries.entrySet()) {
-      Long regionId = entry.getKey();
-      Polygonizer polygonizer = new Polygonizer();
-      polygonizer.add(entry.getValue());
-      try {
-        Geometry combined = polygonizer.getGeometry().union();
-        if (combined.isEmpty()) {
-          LOGGER.warn("Unable to form closed polygon for OSM relation " + regionId + " (likely missing edges)");
-        } else {
-          countryBoundaries.put(regionId, PreparedGeometryFactory.prepare(combined));
-        }
-      } catch (TopologyException e) {
-        LOGGER
-          .warn("Unable to build boundary polygon for OSM relation " + regionId + ": " + e.getMessage());
+    for (int i = 0; i < regionIds.size(); i++) {
+      if (polygons.get(i) != null) {
+        countryBoundaries.put(regionIds.get(i), polygons.get(i));
       }
     }
     LOGGER.info("Finished creating " + countryBoundaries.size() + " country polygons");
     return countryBoundaries;
   }
 
+  /** Returns the polygon formed by the {@code lines} in a region, or {@code null} if they don't form one. */
+  private PreparedGeometry prepareRegionPolygon(long regionId, LongArrayList lines) {
+    Polygonizer polygonizer = new Polygonizer();
+    for (int i = 0; i < lines.size(); i++) {
+      polygonizer.add(loadLine(lines.get(i)));
+    }
+    try {
+      Geometry combined = polygonizer.getGeometry().union();
+      if (combined.isEmpty()) {
+        LOGGER.warn("Unable to form closed polygon for OSM relation " + regionId + " (likely missing edges)");
+      } else {
+        return PreparedGeometryFactory.prepare(combined);
+      }
+    } catch (TopologyException e) {
+      LOGGER
+        .warn("Unable to build boundary polygon for OSM relation " + regionId + ": " + e.getMessage());
+    }
+    return null;
+  }
+
   /** Returns most frequently-occurring element in {@code list}. */
   private static Long mode(List<Long> list) {
     return list.stream()
@@ -471,6 +778,47 @@ public class Boundary implements
       .orElse(null);
   }
 
+  /** A merged country boundary line and the regions on either side of it. */
+  private record MergedBoundary(CountryBoundaryComponent key, LineString line, BorderingRegions borderingRegions) {}
+
+  /** A line segment from {@code (x1, y1)} to {@code (x2, y2)}, compared by exact coordinates. */
+  private record Edge(double x1, double y1, double x2, double y2) {
+
+    Edge reversed() {
+      return new Edge(x2, y2, x1, y1);
+    }
+  }
+
+  /** Counts how the sides of each merged line were found, to log at the end and export as stats counters. */
+  private record SideStats(
+    LongAdder fromRings,
+    LongAdder sampled,
+    LongAdder disagreements,
+    LongAdder ringNanos,
+    LongAdder sampleNanos
+  ) {
+
+    SideStats() {
+      this(new LongAdder(), new LongAdder(), new LongAdder(), new LongAdder(), new LongAdder());
+    }
+
+    @Override
+    public String toString() {
+      return "%d lines from polygon rings in %.1fs, %d sampled, %.1fs sampling, %d disagreements".formatted(
+        fromRings.sum(), ringNanos.sum() / 1e9, sampled.sum(), sampleNanos.sum() / 1e9, disagreements.sum());
+    }
+  }
+
+  /** How to find the country on each side of a country boundary line. */
+  private enum CountrySideMethod {
+    /** Test which country polygons contain points offset to either side of the line. */
+    SAMPLE,
+    /** Use the direction of the line along the rings of each country polygon, and sample lines that aren't on one. */
+    TOPOLOGY,
+    /** Use {@link #TOPOLOGY}, but also sample every line and count how often the results disagree. */
+    COMPARE
+  }
+
   private record BorderingRegions(Long left, Long right) {
 
     public static BorderingRegions empty() {
@@ -480,6 +828,9 @@ public class Boundary implements
 
   /**
    * Minimal set of information extracted from a boundary relation to be used when processing each way in that relation.
+   * <p>
+   * Strings other than {@code name} come from a {@link StringDictionary} that accounts for their memory, so they are
+   * not included in {@link #estimateMemoryUsageBytes()}.
    */
   private record BoundaryRelation(
     long id,
@@ -493,13 +844,14 @@ public class Boundary implements
     @Override
     public long estimateMemoryUsageBytes() {
       return CLASS_HEADER_BYTES + MemoryEstimator.estimateSizeLong(id) + MemoryEstimator.estimateSizeInt(adminLevel) +
-        estimateSize(disputed) + POINTER_BYTES + estimateSize(name) + POINTER_BYTES + estimateSize(claimedBy) +
-        POINTER_BYTES + estimateSize(iso3166alpha3);
+        estimateSize(disputed) + POINTER_BYTES + estimateSize(name) + POINTER_BYTES + POINTER_BYTES;
     }
   }
 
   /**
    * Information to hold onto from processing a way in a boundary relation to determine the left/right region ID later.
+   * <p>
+   * Ways with the same information are grouped together and their lines are merged before emitting them.
    */
   private record CountryBoundaryComponent(
     long id,
@@ -507,14 +859,27 @@ public class Boundary implements
     boolean disputed,
     boolean maritime,
     int minzoom,
-    Geometry line,
-    Set<Long> regions,
+    SortedSet<Long> regions,
     String claimedBy,
     String name
   ) {
 
-    CountryBoundaryComponent groupingKey() {
-      return new CountryBoundaryComponent(id, adminLevel, disputed, maritime, minzoom, null, regions, claimedBy, name);
+    /** Order to emit groups in, independent of the order the ways were processed. */
+    static final Comparator<CountryBoundaryComponent> ORDER = Comparator
+      .comparingLong(CountryBoundaryComponent::id)
+      .thenComparingInt(CountryBoundaryComponent::adminLevel)
+      .thenComparing(CountryBoundaryComponent::regions, CountryBoundaryComponent::compareRegions);
+
+    private static int compareRegions(SortedSet<Long> a, SortedSet<Long> b) {
+      var iterA = a.iterator();
+      var iterB = b.iterator();
+      while (iterA.hasNext() && iterB.hasNext()) {
+        int result = Long.compare(iterA.next(), iterB.next());
+        if (result != 0) {
+          return result;
+        }
+      }
+      return Boolean.compare(iterA.hasNext(), iterB.hasNext());
     }
   }
 }
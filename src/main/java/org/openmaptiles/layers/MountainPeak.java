@@ -45,7 +45,6 @@ import com.onthegomap.planetiler.VectorTile;
 import com.onthegomap.planetiler.collection.Hppc;
 import com.onthegomap.planetiler.config.PlanetilerConfig;
 import com.onthegomap.planetiler.geo.GeometryException;
-import com.onthegomap.planetiler.reader.SourceFeature;
 import com.onthegomap.planetiler.stats.Stats;
 import com.onthegomap.planetiler.util.Parse;
 import com.onthegomap.planetiler.util.Translations;
@@ -54,9 +53,8 @@ import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.Point;
-import org.locationtech.jts.geom.prep.PreparedGeometry;
-import org.locationtech.jts.geom.prep.PreparedGeometryFactory;
 import org.openmaptiles.OpenMapTilesProfile;
+import org.openmaptiles.RegionLookup;
 import org.openmaptiles.generated.OpenMapTilesSchema;
 import org.openmaptiles.generated.Tables;
 import org.openmaptiles.util.OmtLanguageUtils;
@@ -72,7 +70,7 @@ import org.slf4j.LoggerFactory;
  * sql files</a>.
  */
 public class MountainPeak implements
-  OpenMapTilesProfile.NaturalEarthProcessor,
+  OpenMapTilesProfile.UsesRegionLookup,
   OpenMapTilesSchema.MountainPeak,
   Tables.OsmPeakPoint.Handler,
   Tables.OsmMountainLinestring.Handler,
@@ -89,7 +87,7 @@ public class MountainPeak implements
   private final Translations translations;
   private final Stats stats;
   // keep track of areas that prefer feet to meters to set customary_ft=1 (just U.S.)
-  private PreparedGeometry unitedStates = null;
+  private RegionLookup regions = null;
   private final AtomicBoolean loggedNoUS = new AtomicBoolean(false);
 
   public MountainPeak(Translations translations, PlanetilerConfig config, Stats stats) {
@@ -98,19 +96,8 @@ public class MountainPeak implements
   }
 
   @Override
-  public void processNaturalEarth(String table, SourceFeature feature, FeatureCollector features) {
-    if ("ne_10m_admin_0_countries".equals(table) && feature.hasTag("iso_a2", "US")) {
-      // multiple threads call this method concurrently, US polygon *should* only be found
-      // once, but just to be safe synchronize updates to that field
-      synchronized (this) {
-        try {
-          Geometry boundary = feature.polygon();
-          unitedStates = PreparedGeometryFactory.prepare(boundary);
-        } catch (GeometryException e) {
-          LOGGER.error("Failed to get United States Polygon for mountain_peak layer: " + e);
-        }
-      }
-    }
+  public void setRegionLookup(RegionLookup regions) {
+    this.regions = regions;
   }
 
   @Override
@@ -156,14 +143,14 @@ public class MountainPeak implements
 
   /** Returns true if {@code element} is a point in an area where feet are used insead of meters (the US). */
   private boolean peakInAreaUsingFeet(Tables.OsmPeakPoint element) {
-    if (unitedStates == null) {
+    if (regions == null || !regions.hasCountry("US")) {
       if (!loggedNoUS.get() && loggedNoUS.compareAndSet(false, true)) {
         LOGGER.warn("No US polygon for inferring mountain_peak customary_ft tag");
       }
     } else {
       try {
         Geometry wayGeometry = element.source().worldGeometry();
-        return unitedStates.intersects(wayGeometry);
+        return regions.inCountry(wayGeometry, "US");
       } catch (GeometryException e) {
         e.log(stats, "omt_mountain_peak_us_test",
           "Unable to test mountain_peak against US polygon: " + element.source().id());
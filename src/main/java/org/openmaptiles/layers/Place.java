@@ -49,10 +49,8 @@ import com.onthegomap.planetiler.config.PlanetilerConfig;
 import com.onthegomap.planetiler.geo.GeoUtils;
 import com.onthegomap.planetiler.geo.GeometryException;
 import com.onthegomap.planetiler.geo.PointIndex;
-import com.onthegomap.planetiler.geo.PolygonIndex;
 import com.onthegomap.planetiler.reader.SourceFeature;
 import com.onthegomap.planetiler.stats.Stats;
-import com.onthegomap.planetiler.util.Parse;
 import com.onthegomap.planetiler.util.SortKey;
 import com.onthegomap.planetiler.util.Translations;
 import com.onthegomap.planetiler.util.ZoomFunction;
@@ -69,6 +67,7 @@ import java.util.stream.Stream;
 import org.apache.commons.lang3.StringUtils;
 import org.locationtech.jts.geom.Point;
 import org.openmaptiles.OpenMapTilesProfile;
+import org.openmaptiles.RegionLookup;
 import org.openmaptiles.generated.OpenMapTilesSchema;
 import org.openmaptiles.generated.Tables;
 import org.openmaptiles.util.OmtLanguageUtils;
@@ -83,6 +82,7 @@ import org.openmaptiles.util.OmtLanguageUtils;
 public class Place implements
   OpenMapTilesSchema.Place,
   OpenMapTilesProfile.NaturalEarthProcessor,
+  OpenMapTilesProfile.UsesRegionLookup,
   Tables.OsmContinentPoint.Handler,
   Tables.OsmCountryPoint.Handler,
   Tables.OsmStatePoint.Handler,
@@ -120,9 +120,8 @@ public class Place implements
   private final Translations translations;
   private final Stats stats;
   // spatial indexes for joining natural earth place labels with their corresponding points
-  // from openstreetmap
-  private PolygonIndex<NaturalEarthRegion> countries = PolygonIndex.create();
-  private PolygonIndex<NaturalEarthRegion> states = PolygonIndex.create();
+  // from openstreetmap, country and state polygons are shared with other layers
+  private RegionLookup regions = null;
   private PointIndex<NaturalEarthPoint> cities = PointIndex.create();
 
   public Place(Translations translations, PlanetilerConfig config, Stats stats) {
@@ -154,46 +153,65 @@ public class Place implements
       .get();
   }
 
+  @Override
+  public void setRegionLookup(RegionLookup regions) {
+    this.regions = regions;
+  }
+
   @Override
   public void release() {
-    countries = null;
-    states = null;
     cities = null;
   }
 
+  /** Returns the natural earth country containing or nearest to {@code point}, or {@code null} if none. */
+  private NaturalEarthRegion country(Point point) {
+    var country = regions == null ? null : regions.countryContainingOrNearest(point);
+    return country == null ? null : new NaturalEarthRegion(country.name(), 6,
+      zeroIfNull(country.scalerank()),
+      zeroIfNull(country.labelrank())
+    );
+  }
+
+  /** Returns the first important natural earth state containing {@code point}, or {@code null} if none. */
+  private NaturalEarthRegion state(Point point) {
+    if (regions != null) {
+      for (var state : regions.states(point)) {
+        Double scalerank = state.scalerank();
+        Double labelrank = state.labelrank();
+        if (scalerank != null && scalerank <= 6 && labelrank != null && labelrank <= 7) {
+          return new NaturalEarthRegion(state.name(), 6,
+            scalerank,
+            labelrank,
+            zeroIfNull(state.datarank())
+          );
+        }
+      }
+    }
+    return null;
+  }
+
+  private static double zeroIfNull(Double value) {
+    return value == null ? 0 : value;
+  }
+
   @Override
   public void processNaturalEarth(String table, SourceFeature feature, FeatureCollector features) {
     // store data from natural earth to help with ranks and min zoom levels when actually
-    // emitting features from openstreetmap data.
+    // emitting features from openstreetmap data. Country and state polygons are stored in
+    // the shared region lookup.
+    if (!"ne_10m_populated_places".equals(table)) {
+      return;
+    }
     try {
-      switch (table) {
-        case "ne_10m_admin_0_countries" -> countries.put(feature.worldGeometry(), new NaturalEarthRegion(
-          feature.getString("name"), 6,
-          feature.getLong("scalerank"),
-          feature.getLong("labelrank")
-        ));
-        case "ne_10m_admin_1_states_provinces" -> {
-          Double scalerank = Parse.parseDoubleOrNull(feature.getTag("scalerank"));
-          Double labelrank = Parse.parseDoubleOrNull(feature.getTag("labelrank"));
-          if (scalerank != null && scalerank <= 6 && labelrank != null && labelrank <= 7) {
-            states.put(feature.worldGeometry(), new NaturalEarthRegion(
-              feature.getString("name"), 6,
-              scalerank,
-              labelrank,
-              feature.getLong("datarank")
-            ));
-          }
-        }
-        case "ne_10m_populated_places" -> cities.put(feature.worldGeometry(), new NaturalEarthPoint(
-          feature.getString("name"),
-          feature.getString("wikidataid"),
-          (int) feature.getLong("scalerank"),
-          Stream.of("name", "namealt", "meganame", "name_en", "nameascii").map(feature::getString)
-            .filter(Objects::nonNull)
-            .map(s -> s.toLowerCase(Locale.ROOT))
-            .collect(Collectors.toSet())
-        ));
-      }
+      cities.put(feature.worldGeometry(), new NaturalEarthPoint(
+        feature.getString("name"),
+        feature.getString("wikidataid"),
+        (int) feature.getLong("scalerank"),
+        Stream.of("name", "namealt", "meganame", "name_en", "nameascii").map(feature::getString)
+          .filter(Objects::nonNull)
+          .map(s -> s.toLowerCase(Locale.ROOT))
+          .collect(Collectors.toSet())
+      ));
     } catch (GeometryException e) {
       e.log(stats, "omt_place_ne",
         "Error getting geometry for natural earth feature " + table + " " + feature.getTag("ogc_fid"));
@@ -229,7 +247,7 @@ public class Place implements
       // set country rank to 6, unless there is a match in natural earth that indicates it
       // should be lower
       int rank = 7;
-      NaturalEarthRegion country = countries.get(element.source().worldGeometry().getCentroid());
+      NaturalEarthRegion country = country(element.source().worldGeometry().getCentroid());
       var names = OmtLanguageUtils.getNames(element.source().tags(), translations);
 
       if (country != null) {
@@ -257,9 +275,9 @@ public class Place implements
   @Override
   public void process(Tables.OsmStatePoint element, FeatureCollector features) {
     try {
-      // want the containing (not nearest) state polygon since we pre-filter the states in the polygon index
+      // want the containing (not nearest) state polygon that passes the importance filter in state()
       // use natural earth to filter out any spurious states, and to set the rank field
-      NaturalEarthRegion state = states.getOnlyContaining(element.source().worldGeometry().getCentroid());
+      NaturalEarthRegion state = state(element.source().worldGeometry().getCentroid());
       if (state != null) {
         var names = OmtLanguageUtils.getNames(element.source().tags(), translations);
         if (nullOrEmpty(names.get(Fields.NAME_EN))) {
@@ -56,12 +56,14 @@ import com.onthegomap.planetiler.util.Parse;
 import com.onthegomap.planetiler.util.Translations;
 import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
-import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateXY;
 import org.openmaptiles.OpenMapTilesProfile;
 import org.openmaptiles.generated.OpenMapTilesSchema;
 import org.openmaptiles.generated.Tables;
@@ -120,18 +122,19 @@ public class Poi implements
     "bus_station",
     "bus_stop"
   );
-  private static final Comparator<Tables.OsmPoiPoint> BY_SUBCLASS = Comparator
-    .comparingInt(s -> AGG_STOP_SUBCLASS_ORDER.indexOf(s.subclass()));
   private static final Set<String> BRAND_OPERATOR_REF_SUBCLASSES = Set.of("charging_station", "parcel_locker");
   private final MultiExpression.Index<String> classMapping;
   private final Translations translations;
   private final Stats stats;
-  private final Map<String, List<Tables.OsmPoiPoint>> aggStops = new HashMap<>();
+  // may be updated concurrently by multiple threads, so use a concurrent map and lock each list separately
+  private final Map<String, List<AggStop>> aggStops = new ConcurrentHashMap<>();
+  private final PlanetilerConfig config;
 
   public Poi(Translations translations, PlanetilerConfig config, Stats stats) {
     this.classMapping = FieldMappings.Class.index();
     this.translations = translations;
     this.stats = stats;
+    this.config = config;
   }
 
   static int poiClassRank(String clazz) {
@@ -165,31 +168,26 @@ public class Poi implements
   @Override
   public void process(Tables.OsmPoiPoint element, FeatureCollector features) {
     if (element.uicRef() != null && AGG_STOP_SUBCLASS_ORDER.contains(element.subclass())) {
-      // multiple threads may update this concurrently
       String aggStopKey = element.uicRef()
         .concat(coalesce(nullIfEmpty(element.name()), ""))
         .concat(coalesce(nullIfEmpty(element.network()), ""))
         .concat(coalesce(nullIfEmpty(element.operator()), ""));
-      synchronized (this) {
-        aggStops.computeIfAbsent(aggStopKey, key -> new ArrayList<>()).add(element);
+      try {
+        // only hold onto the location and output attributes, not the whole row and source feature
+        Coordinate coord = element.source().worldGeometry().getCoordinate();
+        var stop = new AggStop(element.source().id(), coord.x, coord.y,
+          AGG_STOP_SUBCLASS_ORDER.indexOf(element.subclass()), poiAttributes(element));
+        var stops = aggStops.computeIfAbsent(aggStopKey, key -> new ArrayList<>());
+        // only threads adding stops to the same group contend on this lock
+        synchronized (stops) {
+          stops.add(stop);
+        }
+      } catch (GeometryException e) {
+        e.log(stats, "agg_stop_geometry_2",
+          "Error getting geometry for the stop " + element.source().id() + " (agg_stop)");
       }
     } else {
-      setupPoiFeature(element, features.point(LAYER_NAME), null);
-    }
-  }
-
-  private void processAggStop(Tables.OsmPoiPoint element, FeatureCollector.Factory featureCollectors,
-    Consumer<FeatureCollector.Feature> emit, Integer aggStop) {
-    try {
-      var features =
-        featureCollectors.get(SimpleFeature.fromWorldGeometry(element.source().worldGeometry(), element.source().id()));
-      setupPoiFeature(element, features.point(LAYER_NAME), aggStop);
-      for (var feature : features) {
-        emit.accept(feature);
-      }
-    } catch (GeometryException e) {
-      e.log(stats, "agg_stop_geometry_2",
-        "Error getting geometry for the stop " + element.source().id() + " (agg_stop)");
+      setupPoiFeature(poiAttributes(element), features.point(LAYER_NAME), null);
     }
   }
 
@@ -210,60 +208,77 @@ public class Poi implements
       var timer = stats.startStage("agg_stop");
       LOGGER.info("Processing {} agg_stop sets", aggStops.size());
 
-      for (var aggStopSet : aggStops.values()) {
-        if (aggStopSet.size() == 1) {
-          processAggStop(aggStopSet.getFirst(), featureCollectors, emit, 1);
-          continue;
-        }
-        Tables.OsmPoiPoint nearest = null;
-        try {
-          // find most important stops based on subclass
-          var firstSubclass = aggStopSet.stream().min(BY_SUBCLASS).get().subclass();
-          var topAggStops =
-            aggStopSet.stream().filter(s -> firstSubclass.equals(s.subclass())).toArray(Tables.OsmPoiPoint[]::new);
-
-          // calculate the centroid and ...
-          List<Point> aggStopPoints = new ArrayList<>(aggStopSet.size());
-          for (var aggStop : aggStopSet) {
-            aggStopPoints.add(aggStop.source().worldGeometry().getCentroid());
-          }
-          var aggStopCentroid = GeoUtils.combinePoints(aggStopPoints).getCentroid();
-
-          // ... find one stop nearest to the centroid
-          double minDistance = Double.MAX_VALUE;
-          for (var aggStop : topAggStops) {
-            double distance = aggStopCentroid.distance(aggStop.source().worldGeometry());
-            if (distance < minDistance || nearest == null ||
-              (distance == minDistance && aggStop.source().id() < nearest.source().id())) {
-              minDistance = distance;
-              nearest = aggStop;
+      // sort so the output doesn't depend on the order stops were processed in
+      List<List<AggStop>> groups = aggStops.entrySet().stream()
+        .sorted(Map.Entry.comparingByKey())
+        .map(Map.Entry::getValue)
+        .toList();
+      // finding the stop nearest to the centroid of each group is independent, so spread it across worker threads
+      ForkJoinPool pool = new ForkJoinPool(config.threads());
+      try {
+        List<AggStop> nearest = pool.submit(() -> groups.parallelStream().map(Poi::nearestToCentroid).toList()).join();
+        // emit from this thread in sorted order
+        for (int i = 0; i < groups.size(); i++) {
+          for (var stop : groups.get(i)) {
+            var features = featureCollectors.get(SimpleFeature.fromWorldGeometry(
+              GeoUtils.JTS_FACTORY.createPoint(new CoordinateXY(stop.x, stop.y)), stop.id));
+            setupPoiFeature(stop.attributes, features.point(LAYER_NAME), stop == nearest.get(i) ? 1 : null);
+            for (var feature : features) {
+              emit.accept(feature);
             }
           }
-        } catch (GeometryException e) {
-          e.log(stats, "agg_stop_geometry_1",
-            "Error getting geometry for some of the stops with UIC ref. " + aggStopSet.getFirst().uicRef() +
-              " (agg_stop)");
-          // we're not able to calculate agg_stop, so simply dump the stops as they are
-          nearest = null;
         }
-
-        // now emit the stops
-        final Tables.OsmPoiPoint nearestFinal = nearest; // final needed for lambda
-        aggStopSet
-          .forEach(s -> processAggStop(s, featureCollectors, emit, s == nearestFinal ? 1 : null));
+      } finally {
+        pool.shutdown();
       }
+      aggStops.clear();
 
       timer.stop();
     }
   }
 
+  /**
+   * Sorts {@code stops} by ID and returns the one of the most important subclass that is nearest to the centroid of all
+   * of them.
+   */
+  private static AggStop nearestToCentroid(List<AggStop> stops) {
+    stops.sort(Comparator.comparingLong(AggStop::id));
+    if (stops.size() == 1) {
+      return stops.getFirst();
+    }
+    // find most important stops based on subclass
+    int firstSubclass = Integer.MAX_VALUE;
+    // calculate the centroid and ...
+    double sumX = 0, sumY = 0;
+    for (var stop : stops) {
+      firstSubclass = Math.min(firstSubclass, stop.subclassOrder);
+      sumX += stop.x;
+      sumY += stop.y;
+    }
+    double centroidX = sumX / stops.size(), centroidY = sumY / stops.size();
+
+    // ... find one stop nearest to the centroid
+    AggStop nearest = null;
+    double minDistance = Double.MAX_VALUE;
+    for (var stop : stops) {
+      if (stop.subclassOrder == firstSubclass) {
+        double distance = Math.hypot(stop.x - centroidX, stop.y - centroidY);
+        if (distance < minDistance || nearest == null) {
+          minDistance = distance;
+          nearest = stop;
+        }
+      }
+    }
+    return nearest;
+  }
+
   @Override
   public void process(Tables.OsmPoiPolygon element, FeatureCollector features) {
-    setupPoiFeature(element, features.centroidIfConvex(LAYER_NAME), null);
+    setupPoiFeature(poiAttributes(element), features.centroidIfConvex(LAYER_NAME), null);
   }
 
-  private <T extends Tables.WithSubclass & Tables.WithStation & Tables.WithFunicular & Tables.WithSport & Tables.WithInformation & Tables.WithReligion & Tables.WithMappingKey & Tables.WithName & Tables.WithIndoor & Tables.WithLayer & Tables.WithSource & Tables.WithOperator & Tables.WithNetwork & Tables.WithBrand & Tables.WithRef> void setupPoiFeature(
-    T element, FeatureCollector.Feature output, Integer aggStop) {
+  private <T extends Tables.WithSubclass & Tables.WithStation & Tables.WithFunicular & Tables.WithSport & Tables.WithInformation & Tables.WithReligion & Tables.WithMappingKey & Tables.WithName & Tables.WithIndoor & Tables.WithLayer & Tables.WithSource & Tables.WithOperator & Tables.WithNetwork & Tables.WithBrand & Tables.WithRef> PoiAttributes poiAttributes(
+    T element) {
     String rawSubclass = element.subclass();
     if ("station".equals(rawSubclass) && "subway".equals(element.station())) {
       rawSubclass = "subway";
@@ -305,23 +320,40 @@ public class Poi implements
     int rankOrder = poiClassRank + ((nullOrEmpty(name)) ? 2000 : 0);
 
     int minzoom = minzoom(element.subclass(), element.mappingKey());
-    if (UNIVERSITY_POI_SUBCLASSES.contains(rawSubclass)) {
-      // universities that are at least 10% of a tile may appear from Z10
-      output.setMinPixelSizeBelowZoom(13, 80); // 80x80px is ~10% of a 256x256px tile
+    // universities that are at least 10% of a tile may appear from Z10
+    boolean university = UNIVERSITY_POI_SUBCLASSES.contains(rawSubclass);
+    if (university) {
       minzoom = 10;
     }
 
+    return new PoiAttributes(
+      poiClass,
+      subclass,
+      nullIfLong(element.layer(), 0),
+      Parse.parseLongOrNull(element.source().getTag("level")),
+      element.indoor(),
+      OmtLanguageUtils.getNames(element.source().tags(), translations),
+      rankOrder,
+      minzoom,
+      university
+    );
+  }
+
+  private static void setupPoiFeature(PoiAttributes attrs, FeatureCollector.Feature output, Integer aggStop) {
+    if (attrs.university) {
+      output.setMinPixelSizeBelowZoom(13, 80); // 80x80px is ~10% of a 256x256px tile
+    }
     output.setBufferPixels(BUFFER_SIZE)
-      .setAttr(Fields.CLASS, poiClass)
-      .setAttr(Fields.SUBCLASS, subclass)
-      .setAttr(Fields.LAYER, nullIfLong(element.layer(), 0))
-      .setAttr(Fields.LEVEL, Parse.parseLongOrNull(element.source().getTag("level")))
-      .setAttr(Fields.INDOOR, element.indoor() ? 1 : null)
+      .setAttr(Fields.CLASS, attrs.poiClass)
+      .setAttr(Fields.SUBCLASS, attrs.subclass)
+      .setAttr(Fields.LAYER, attrs.layer)
+      .setAttr(Fields.LEVEL, attrs.level)
+      .setAttr(Fields.INDOOR, attrs.indoor ? 1 : null)
       .setAttr(Fields.AGG_STOP, aggStop)
-      .putAttrs(OmtLanguageUtils.getNames(element.source().tags(), translations))
+      .putAttrs(attrs.names)
       .setPointLabelGridPixelSize(14, 64)
-      .setSortKey(rankOrder)
-      .setMinZoom(minzoom);
+      .setSortKey(attrs.rankOrder)
+      .setMinZoom(attrs.minzoom);
   }
 
   @Override
@@ -337,4 +369,20 @@ public class Poi implements
     }
     return items;
   }
+
+  /** Output attributes of a POI, computed from its row. */
+  private record PoiAttributes(
+    String poiClass,
+    String subclass,
+    Long layer,
+    Long level,
+    boolean indoor,
+    Map<String, Object> names,
+    int rankOrder,
+    int minzoom,
+    boolean university
+  ) {}
+
+  /** Minimal information to hold onto from a stop until the OSM source finishes to determine {@code agg_stop}. */
+  private record AggStop(long id, double x, double y, int subclassOrder, PoiAttributes attributes) {}
 }
@@ -58,23 +58,26 @@ import com.onthegomap.planetiler.util.MemoryEstimator;
 import com.onthegomap.planetiler.util.Parse;
 import com.onthegomap.planetiler.util.Translations;
 import com.onthegomap.planetiler.util.ZoomFunction;
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.LineString;
-import org.locationtech.jts.geom.prep.PreparedGeometry;
-import org.locationtech.jts.geom.prep.PreparedGeometryFactory;
 import org.openmaptiles.OpenMapTilesProfile;
+import org.openmaptiles.RegionLookup;
 import org.openmaptiles.generated.OpenMapTilesSchema;
 import org.openmaptiles.generated.Tables;
+import org.openmaptiles.util.StringDictionary;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -93,7 +96,7 @@ public class Transportation implements
   Tables.OsmRailwayLinestring.Handler,
   Tables.OsmShipwayLinestring.Handler,
   Tables.OsmHighwayPolygon.Handler,
-  OpenMapTilesProfile.NaturalEarthProcessor,
+  OpenMapTilesProfile.UsesRegionLookup,
   ForwardingProfile.LayerPostProcessor,
   ForwardingProfile.OsmRelationPreprocessor,
   OpenMapTilesProfile.IgnoreWikidata {
@@ -176,6 +179,8 @@ public class Transportation implements
     .thenComparingInt(r -> r.ref().length())
     .thenComparing(RouteRelation::ref);
   private static final Set<Integer> ONEWAY_VALUES = Set.of(-1, 1);
+  /** Also infer GB and IE route networks from refs on roads up to 10km outside the natural earth country polygon. */
+  private static final double ROUTE_NETWORK_COUNTRY_BUFFER = GeoUtils.metersToPixelAtEquator(0, 10_000) / 256d;
   private final Map<String, Integer> MINZOOMS;
   private static final String LIMIT_MERGE_TAG = "__limit_merge";
   private final AtomicBoolean loggedNoGb = new AtomicBoolean(false);
@@ -183,12 +188,25 @@ public class Transportation implements
   private final boolean z13Paths;
   private final Stats stats;
   private final PlanetilerConfig config;
-  private PreparedGeometry greatBritain = null;
-  private PreparedGeometry ireland = null;
+  private RegionLookup regions = null;
+  /**
+   * The route relations of the last highway each thread looked up, since {@link #process}, {@link #getMinzoomAndClass}
+   * and {@link TransportationName} all need them for the same element. Each thread's memo is also kept in
+   * {@link #routeRelationMemos} so {@link #release()} can clear them all.
+   */
+  private final Queue<RouteRelations> routeRelationMemos = new ConcurrentLinkedQueue<>();
+  private final ThreadLocal<RouteRelations> lastRouteRelations = ThreadLocal.withInitial(() -> {
+    RouteRelations memo = new RouteRelations();
+    routeRelationMemos.add(memo);
+    return memo;
+  });
+  /** De-duplicates the strings that repeat across route relations, like {@code network} and {@code colour}. */
+  private final StringDictionary relationStrings = new StringDictionary();
 
   public Transportation(Translations translations, PlanetilerConfig config, Stats stats) {
     this.config = config;
     this.stats = stats;
+    stats.monitorInMemoryObject("omt_transportation_relation_strings", relationStrings);
     z13Paths = config.arguments().getBoolean(
       "transportation_z13_paths",
       "transportation(_name) layer: show all paths on z13",
@@ -317,36 +335,15 @@ public class Transportation implements
   }
 
   @Override
-  public void processNaturalEarth(String table, SourceFeature feature,
-    FeatureCollector features) {
-    if (!"ne_10m_admin_0_countries".equals(table)) {
-      return;
-    }
-    // multiple threads call this method concurrently, GB (or IE) polygon *should* only be found
-    // once, but just to be safe synchronize updates to that field
-    if (feature.hasTag("iso_a2", "GB")) {
-      try {
-        var prepared = PreparedGeometryFactory.prepare(
-          feature.polygon().buffer(GeoUtils.metersToPixelAtEquator(0, 10_000) / 256d)
-        );
-        synchronized (this) {
-          greatBritain = prepared;
-        }
-      } catch (GeometryException e) {
-        LOGGER.error("Failed to get Great Britain Polygon: " + e);
-      }
-    } else if (feature.hasTag("iso_a2", "IE")) {
-      try {
-        var prepared = PreparedGeometryFactory.prepare(
-          feature.polygon().buffer(GeoUtils.metersToPixelAtEquator(0, 10_000) / 256d)
-        );
-        synchronized (this) {
-          ireland = prepared;
-        }
-      } catch (GeometryException e) {
-        LOGGER.error("Failed to get Ireland Polygon: " + e);
-      }
-    }
+  public void setRegionLookup(RegionLookup regions) {
+    this.regions = regions;
+  }
+
+  @Override
+  public void release() {
+    relationStrings.clear();
+    routeRelationMemos.forEach(RouteRelations::clear);
+    routeRelationMemos.clear();
   }
 
   @Override
@@ -397,13 +394,30 @@ public class Transportation implements
 
       if (network != null || rank < 3) {
         return List
-          .of(new RouteRelation(coalesce(ref, ""), network, name, colour, networkType, (byte) rank, relation.id()));
+          .of(new RouteRelation(relationStrings.intern(coalesce(ref, "")), relationStrings.intern(network),
+            name, relationStrings.intern(colour), networkType, (byte) rank, relation.id()));
       }
     }
     return null;
   }
 
+  /**
+   * Returns the route relations that {@code element} is a member of plus the GB/IE routes inferred from its ref, sorted
+   * with the most important first.
+   * <p>
+   * The result is computed once per element and shared by every caller on the same thread, so it must not be modified.
+   */
   List<RouteRelation> getRouteRelations(Tables.OsmHighwayLinestring element) {
+    RouteRelations last = lastRouteRelations.get();
+    SourceFeature source = element.source();
+    if (last.source == null || last.source.get() != source) {
+      last.relations = Collections.unmodifiableList(computeRouteRelations(element));
+      last.source = new WeakReference<>(source);
+    }
+    return last.relations;
+  }
+
+  private List<RouteRelation> computeRouteRelations(Tables.OsmHighwayLinestring element) {
     String ref = element.ref();
     List<OsmReader.RelationMember<RouteRelation>> relations = element.source().relationInfo(RouteRelation.class);
     List<RouteRelation> result = new ArrayList<>(relations.size() + 1);
@@ -419,14 +433,14 @@ public class Transportation implements
       // in GB then use a naming convention instead.
       Matcher refMatcher = GREAT_BRITAIN_REF_NETWORK_PATTERN.matcher(ref);
       if (refMatcher.find()) {
-        if (greatBritain == null) {
+        if (regions == null || !regions.hasCountry("GB")) {
           if (!loggedNoGb.get() && loggedNoGb.compareAndSet(false, true)) {
             LOGGER.warn("No GB polygon for inferring route network types");
           }
         } else {
           try {
             Geometry wayGeometry = element.source().worldGeometry();
-            if (greatBritain.intersects(wayGeometry)) {
+            if (regions.nearCountry(wayGeometry, "GB", ROUTE_NETWORK_COUNTRY_BUFFER)) {
               Transportation.RouteNetwork networkType = switch (element.highway()) {
                 case "motorway" -> Transportation.RouteNetwork.GB_MOTORWAY;
                 case "trunk" -> RouteNetwork.GB_TRUNK;
@@ -447,14 +461,14 @@ public class Transportation implements
       // Similarly Ireland.
       refMatcher = IRELAND_REF_NETWORK_PATTERN.matcher(ref);
       if (refMatcher.find()) {
-        if (ireland == null) {
+        if (regions == null || !regions.hasCountry("IE")) {
           if (!loggedNoIreland.get() && loggedNoIreland.compareAndSet(false, true)) {
             LOGGER.warn("No IE polygon for inferring route network types");
           }
         } else {
           try {
             Geometry wayGeometry = element.source().worldGeometry();
-            if (ireland.intersects(wayGeometry)) {
+            if (regions.nearCountry(wayGeometry, "IE", ROUTE_NETWORK_COUNTRY_BUFFER)) {
               String highway = coalesce(element.highway(), "");
               Transportation.RouteNetwork networkType = switch (highway) {
                 case "motorway" -> Transportation.RouteNetwork.IE_MOTORWAY;
@@ -561,6 +575,21 @@ public class Transportation implements
 
   record MinZoomAndNewClass(int minzoom, ZoomFunction<String> classOverride) {}
 
+  /** Mutable holder for the route relations of the last element a thread looked up. */
+  /**
+   * Memo of the last element's route relations. The element is only weakly referenced so the memo doesn't keep its
+   * geometry and tags alive after the thread moves on.
+   */
+  private static class RouteRelations {
+    WeakReference<SourceFeature> source;
+    List<RouteRelation> relations;
+
+    void clear() {
+      source = null;
+      relations = null;
+    }
+  }
+
   MinZoomAndNewClass getMinzoomAndClass(Tables.OsmHighwayLinestring element, String highwayClass) {
     ZoomFunction<String> highwayClassOverride = null;
     List<RouteRelation> routeRelations = getRouteRelations(element);
@@ -761,7 +790,12 @@ public class Transportation implements
     }
   }
 
-  /** Information extracted from route relations to use when processing ways in that relation. */
+  /**
+   * Information extracted from route relations to use when processing ways in that relation.
+   * <p>
+   * Strings other than {@code name} come from a {@link StringDictionary} that accounts for their memory, so they are
+   * not included in {@link #estimateMemoryUsageBytes()}.
+   */
   record RouteRelation(
     String ref,
     String network,
@@ -776,10 +810,10 @@ public class Transportation implements
     public long estimateMemoryUsageBytes() {
       return CLASS_HEADER_BYTES +
         MemoryEstimator.estimateSize(rank) +
-        POINTER_BYTES + estimateSize(ref) +
-        POINTER_BYTES + estimateSize(network) +
+        POINTER_BYTES + // ref
+        POINTER_BYTES + // network
         POINTER_BYTES + estimateSize(name) +
-        POINTER_BYTES + estimateSize(colour) +
+        POINTER_BYTES + // colour
         POINTER_BYTES + // networkType
         MemoryEstimator.estimateSizeLong(id);
     }
@@ -41,14 +41,10 @@ import static org.openmaptiles.layers.Transportation.isFootwayOrSteps;
 import static org.openmaptiles.util.Utils.*;
 
 import com.carrotsearch.hppc.LongArrayList;
-import com.carrotsearch.hppc.LongByteMap;
-import com.carrotsearch.hppc.LongHashSet;
-import com.carrotsearch.hppc.LongSet;
 import com.onthegomap.planetiler.FeatureCollector;
 import com.onthegomap.planetiler.FeatureMerge;
 import com.onthegomap.planetiler.ForwardingProfile;
 import com.onthegomap.planetiler.VectorTile;
-import com.onthegomap.planetiler.collection.Hppc;
 import com.onthegomap.planetiler.config.PlanetilerConfig;
 import com.onthegomap.planetiler.reader.osm.OsmElement;
 import com.onthegomap.planetiler.stats.Stats;
@@ -65,6 +61,7 @@ import java.util.function.Function;
 import org.openmaptiles.OpenMapTilesProfile;
 import org.openmaptiles.generated.OpenMapTilesSchema;
 import org.openmaptiles.generated.Tables;
+import org.openmaptiles.util.FrozenLongByteMap;
 import org.openmaptiles.util.OmtLanguageUtils;
 
 /**
@@ -119,8 +116,8 @@ public class TransportationName implements
   private final PlanetilerConfig config;
   private final boolean minorRefs;
   private Transportation transportation;
-  private final LongByteMap motorwayJunctionHighwayClasses = Hppc.newLongByteHashMap();
-  private final LongSet motorwayJunctionNodes = new LongHashSet();
+  // node IDs are all added in the node pass, then highway classes are raised without locking in the way pass
+  private final FrozenLongByteMap motorwayJunctionHighwayClasses = new FrozenLongByteMap();
   private final Translations translations;
 
   public TransportationName(Translations translations, PlanetilerConfig config, Stats stats) {
@@ -146,6 +143,8 @@ public class TransportationName implements
       "transportation_name layer: include name and refs from minor road networks if not present on a way",
       false
     );
+    stats.monitorInMemoryObject("omt_motorway_junctions", motorwayJunctionHighwayClasses);
+    stats.counter("omt_motorway_junctions_ignored", motorwayJunctionHighwayClasses::ignoredAdds);
   }
 
   public void needsTransportationLayer(Transportation transportation) {
@@ -156,9 +155,8 @@ public class TransportationName implements
   @Override
   public void preprocessOsmNode(OsmElement.Node node) {
     if (node.hasTag("highway", "motorway_junction")) {
-      synchronized (motorwayJunctionNodes) {
-        motorwayJunctionNodes.add(node.id());
-      }
+      // junctions found after highway classes are read are ignored and counted in omt_motorway_junctions_ignored
+      motorwayJunctionHighwayClasses.add(node.id());
     }
   }
 
@@ -170,16 +168,7 @@ public class TransportationName implements
       if (cls != HighwayClass.UNKNOWN) {
         LongArrayList nodes = way.nodes();
         for (int i = 0; i < nodes.size(); i++) {
-          long node = nodes.get(i);
-          if (motorwayJunctionNodes.contains(node)) {
-            synchronized (motorwayJunctionHighwayClasses) {
-              byte oldValue = motorwayJunctionHighwayClasses.getOrDefault(node, HighwayClass.UNKNOWN.value);
-              byte newValue = cls.value;
-              if (newValue > oldValue) {
-                motorwayJunctionHighwayClasses.put(node, newValue);
-              }
-            }
-          }
+          motorwayJunctionHighwayClasses.max(nodes.get(i), cls.value);
         }
       }
     }
@@ -188,7 +177,7 @@ public class TransportationName implements
   @Override
   public void process(Tables.OsmHighwayPoint element, FeatureCollector features) {
     long id = element.source().id();
-    byte value = motorwayJunctionHighwayClasses.getOrDefault(id, (byte) -1);
+    byte value = motorwayJunctionHighwayClasses.get(id, (byte) -1);
     if (value > 0) {
       HighwayClass cls = HighwayClass.from(value);
       if (cls != HighwayClass.UNKNOWN) {
@@ -48,11 +48,16 @@ import com.onthegomap.planetiler.reader.SourceFeature;
 import com.onthegomap.planetiler.stats.Stats;
 import com.onthegomap.planetiler.util.Translations;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
+import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.prep.PreparedGeometry;
+import org.locationtech.jts.geom.prep.PreparedGeometryFactory;
 import org.locationtech.jts.geom.util.GeometryFixer;
 import org.openmaptiles.OpenMapTilesProfile;
 import org.openmaptiles.generated.OpenMapTilesSchema;
@@ -93,11 +98,19 @@ public class Water implements
   private PolygonIndex<LakeInfo> neLakeIndex = PolygonIndex.create();
   private final Map<String, Map<String, LakeInfo>> neLakeNameMaps = new ConcurrentHashMap<>();
   private final List<LakeInfo> neAllLakeInfos = new ArrayList<>();
+  private final LongAdder intersections = new LongAdder();
+  private final LongAdder intersectionsBounded = new LongAdder();
+  private final LongAdder intersectionsContained = new LongAdder();
 
   public Water(Translations translations, PlanetilerConfig config, Stats stats) {
     this.classMapping = FieldMappings.Class.index();
     this.config = config;
     this.stats = stats;
+    stats.counter("omt_water_ne_intersections", intersections::sum);
+    stats.counter("omt_water_ne_intersections_avoided",
+      () -> intersectionsBounded.sum() + intersectionsContained.sum());
+    stats.counter("omt_water_ne_intersections_bounded", intersectionsBounded::sum);
+    stats.counter("omt_water_ne_intersections_contained", intersectionsContained::sum);
   }
 
   @Override
@@ -129,6 +142,8 @@ public class Water implements
           LOGGER.trace("Fixing geometry of NE lake {}", feature.getLong("ne_id"));
           lakeInfo.geom = GeometryFixer.fix(geom);
         }
+        lakeInfo.prepared = PreparedGeometryFactory.prepare(lakeInfo.geom);
+        lakeInfo.geomArea = lakeInfo.geom.getArea();
         lakeInfo.name = feature.getString("name");
         lakeInfo.neId = feature.getLong("ne_id");
 
@@ -142,7 +157,7 @@ public class Water implements
         if (lakeInfo.name != null) {
           // on name collision, bigger lake gets on the name list
           neLakeNameMap.merge(lakeInfo.name, lakeInfo,
-            (prev, next) -> next.geom.getArea() > prev.geom.getArea() ? next : prev);
+            (prev, next) -> next.geomArea > prev.geomArea ? next : prev);
         }
       } catch (GeometryException e) {
         e.log(stats, "omt_water_ne",
@@ -233,16 +248,31 @@ public class Water implements
    */
   void fillOsmIdIntoNeLake(Tables.OsmWaterPolygon element, Geometry geom, LakeInfo lakeInfo,
     boolean intersetsCheckNeeded) {
-    final Geometry neGeom = lakeInfo.geom;
+    // The intersection can't be bigger than the overlap of the envelopes or either polygon, and this OSM lake can only
+    // replace the current match if its intersection is bigger, so skip computing it when that's impossible.
+    Envelope overlap = lakeInfo.geom.getEnvelopeInternal().intersection(geom.getEnvelopeInternal());
+    double maxArea = Math.min(overlap.getArea(), Math.min(lakeInfo.geomArea, geom.getArea()));
+    if (overlap.isNull() || maxArea <= lakeInfo.area) {
+      intersectionsBounded.increment();
+      return;
+    }
+    final PreparedGeometry neGeom = lakeInfo.prepared;
     if (intersetsCheckNeeded && !neGeom.intersects(geom)) {
       return;
     }
-    final var intersection = neGeom.intersection(geom);
 
     // Should match following in OpenMapTiles: Distinct on keeps just the first occurence -> order by 'area_ratio DESC'
     // With a twist: NE geometry is always the same, hence we can make it a little bit faster by dropping "ratio"
     // and compare only the intersection area: bigger area -> bigger ratio.
-    double area = intersection.getArea();
+    double area;
+    if (neGeom.contains(geom)) {
+      // OSM lakes inside the NE lake are common, and then the intersection is just the OSM lake
+      intersectionsContained.increment();
+      area = geom.getArea();
+    } else {
+      intersections.increment();
+      area = lakeInfo.geom.intersection(geom).getArea();
+    }
     lakeInfo.mergeId(element.source().id(), area);
   }
 
@@ -251,15 +281,21 @@ public class Water implements
     Consumer<FeatureCollector.Feature> emit) {
     if (OpenMapTilesProfile.OSM_SOURCE.equals(sourceName)) {
       var timer = stats.startStage("ne_lakes");
-      for (var item : neAllLakeInfos) {
+      // OSM IDs are all assigned by now, so the lookups can go before emitting anything
+      neLakeNameMaps.clear();
+      neLakeIndex = null;
+      // NE lakes get added from multiple threads, sort so the output doesn't depend on the order they were processed in
+      neAllLakeInfos.sort(LakeInfo.ORDER);
+      for (int i = 0; i < neAllLakeInfos.size(); i++) {
+        var item = neAllLakeInfos.get(i);
         var features = featureCollectors.get(SimpleFeature.fromWorldGeometry(item.geom));
         setupNeWaterFeature(features, item.minZoom, item.maxZoom, item.clazz, item.osmId);
         for (var feature : features) {
           emit.accept(feature);
         }
+        // let each lake geometry get garbage collected as soon as it has been emitted
+        neAllLakeInfos.set(i, null);
       }
-      neLakeNameMaps.clear();
-      neLakeIndex = null;
       neAllLakeInfos.clear();
       timer.stop();
     }
@@ -274,14 +310,21 @@ public class Water implements
    * Information to hold onto from processing an NE lake to determine OSM ID later.
    */
   private static class LakeInfo {
+    static final Comparator<LakeInfo> ORDER = Comparator
+      .comparingInt((LakeInfo lake) -> lake.minZoom)
+      .thenComparingLong(lake -> lake.neId);
+
     String name;
     int minZoom;
     int maxZoom;
     String clazz;
     Geometry geom;
+    PreparedGeometry prepared;
+    double geomArea;
     Long osmId;
     long neId;
-    double area;
+    // read without locking to skip OSM lakes that can't beat the current match
+    volatile double area;
 
     public LakeInfo(int minZoom, int maxZoom, String clazz) {
       this.name = null;
@@ -38,9 +38,7 @@ package org.openmaptiles.layers;
 import static org.openmaptiles.util.Utils.coalesce;
 import static org.openmaptiles.util.Utils.nullIfEmpty;
 
-import com.carrotsearch.hppc.LongObjectMap;
 import com.onthegomap.planetiler.FeatureCollector;
-import com.onthegomap.planetiler.collection.Hppc;
 import com.onthegomap.planetiler.config.PlanetilerConfig;
 import com.onthegomap.planetiler.geo.GeoUtils;
 import com.onthegomap.planetiler.geo.GeometryException;
@@ -48,10 +46,17 @@ import com.onthegomap.planetiler.reader.SourceFeature;
 import com.onthegomap.planetiler.stats.Stats;
 import com.onthegomap.planetiler.util.Parse;
 import com.onthegomap.planetiler.util.Translations;
+import java.util.Comparator;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
 import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.prep.PreparedGeometry;
+import org.locationtech.jts.geom.prep.PreparedGeometryFactory;
+import org.locationtech.jts.operation.distance.IndexedFacetDistance;
 import org.openmaptiles.OpenMapTilesProfile;
 import org.openmaptiles.generated.OpenMapTilesSchema;
 import org.openmaptiles.generated.Tables;
@@ -83,14 +88,15 @@ public class WaterName implements
 
   private static final Logger LOGGER = LoggerFactory.getLogger(WaterName.class);
   private static final Set<String> SEA_OR_OCEAN_PLACE = Set.of("sea", "ocean");
+  private static final Pattern WHITESPACE = Pattern.compile("\\s+");
   private static final double IMPORTANT_MARINE_REGIONS_JOIN_DISTANCE =
     GeoUtils.metersToPixelAtEquator(0, 50_000) / 256d;
   private static final int MINZOOM_BAY = 9;
   private static final int MINZOOM_LAKE = 3;
   private static final int MINZOOM_SEA_AND_OCEAN = 0;
   private final Translations translations;
-  // need to synchronize updates from multiple threads
-  private final LongObjectMap<Geometry> lakeCenterlines = Hppc.newLongObjectHashMap();
+  // may be updated concurrently by multiple threads, centerlines for the same lake are merged under a per-key lock
+  private final Map<Long, Geometry> lakeCenterlines = new ConcurrentHashMap<>();
   // may be updated concurrently by multiple threads
   private final ConcurrentSkipListMap<String, NaturalEarthRegion> importantMarinePoints = new ConcurrentSkipListMap<>();
   private final Stats stats;
@@ -102,7 +108,7 @@ public class WaterName implements
 
   @Override
   public void release() {
-    lakeCenterlines.release();
+    lakeCenterlines.clear();
     importantMarinePoints.clear();
   }
 
@@ -114,16 +120,9 @@ public class WaterName implements
       LOGGER.warn("Bad lake centerline. Tags: {}", feature.tags());
     } else {
       try {
-        // multiple threads call this concurrently
-        synchronized (this) {
-          // if we already have a centerline for this OSM_ID, then merge the existing one with this one
-          var newGeometry = feature.worldGeometry();
-          var oldGeometry = lakeCenterlines.get(osmId);
-          if (oldGeometry != null) {
-            newGeometry = GeoUtils.combine(oldGeometry, newGeometry);
-          }
-          lakeCenterlines.put(osmId, newGeometry);
-        }
+        // if we already have a centerline for this OSM_ID, then merge the existing one with this one
+        lakeCenterlines.merge(osmId, feature.worldGeometry(), (oldGeometry, newGeometry) ->
+          GeoUtils.combine(oldGeometry, newGeometry));
       } catch (GeometryException e) {
         e.log(stats, "omt_water_name_lakeline", "Bad lake centerline: " + feature);
       }
@@ -134,12 +133,13 @@ public class WaterName implements
   public void processNaturalEarth(String table, SourceFeature feature, FeatureCollector features) {
     // use natural earth named polygons just as a source of name to zoom-level mappings for later
     if ("ne_10m_geography_marine_polys".equals(table)) {
-      String name = feature.getString("name");
+      String name = normalizeMarineName(feature.getString("name"));
       Integer scalerank = Parse.parseIntOrNull(feature.getTag("scalerank"));
       if (name != null && scalerank != null) {
-        name = name.replaceAll("\\s+", " ").trim().toLowerCase();
         try {
-          importantMarinePoints.put(name, new NaturalEarthRegion(feature.worldGeometry(), scalerank));
+          // NE features are processed by multiple threads, so pick between regions with the same name deterministically
+          importantMarinePoints.merge(name, new NaturalEarthRegion(feature.worldGeometry(), scalerank),
+            (a, b) -> NaturalEarthRegion.ORDER.compare(a, b) <= 0 ? a : b);
         } catch (GeometryException e) {
           e.log(stats, "ne_marine_polys",
             "Error getting geometry for natural earth feature " + table + " " + feature.getTag("ogc_fid"));
@@ -148,17 +148,27 @@ public class WaterName implements
     }
   }
 
+  /** Returns {@code name} in lower case with runs of whitespace collapsed, independent of the JVM locale. */
+  private static String normalizeMarineName(String name) {
+    String result = name == null ? null : WHITESPACE.matcher(name).replaceAll(" ").trim().toLowerCase(Locale.ROOT);
+    return result == null || result.isEmpty() ? null : result;
+  }
+
   private NaturalEarthRegion getImportantMarineRegion(Tables.OsmMarinePoint element) {
     var source = element.source();
-    String name = element.name().toLowerCase();
+    String name = normalizeMarineName(element.name());
+    if (name == null) {
+      return null;
+    }
     NaturalEarthRegion result = importantMarinePoints.get(name);
     if (result == null) {
-      result = importantMarinePoints.get(source.getString("name:en", "").toLowerCase());
+      result = get(importantMarinePoints, normalizeMarineName(source.getString("name:en")));
     }
     if (result == null) {
-      result = importantMarinePoints.get(source.getString("name:es", "").toLowerCase());
+      result = get(importantMarinePoints, normalizeMarineName(source.getString("name:es")));
     }
     if (result == null) {
+      // the keys are sorted, so the first one at or after the name is the first one that could start with it
       Map.Entry<String, NaturalEarthRegion> next = importantMarinePoints.ceilingEntry(name);
       if (next != null && next.getKey().startsWith(name)) {
         result = next.getValue();
@@ -169,8 +179,7 @@ public class WaterName implements
       return null;
     }
     try {
-      double distance = result.geometry.distance(source.worldGeometry());
-      if (distance <= IMPORTANT_MARINE_REGIONS_JOIN_DISTANCE) {
+      if (result.isWithinDistance(source.worldGeometry(), IMPORTANT_MARINE_REGIONS_JOIN_DISTANCE)) {
         return result;
       }
     } catch (GeometryException e) {
@@ -181,6 +190,10 @@ public class WaterName implements
     return null;
   }
 
+  private static <T> T get(Map<String, T> map, String key) {
+    return key == null ? null : map.get(key);
+  }
+
   @Override
   public void process(Tables.OsmMarinePoint element, FeatureCollector features) {
     if (!element.name().isBlank()) {
@@ -262,8 +275,34 @@ public class WaterName implements
     return output;
   }
 
+  /**
+   * A named NE marine region, with indexes built once so that testing how far each OSM marine point with the same name
+   * is from it doesn't need a full distance computation over the region's geometry.
+   */
   private record NaturalEarthRegion(
     Geometry geometry,
-    int scalerank
-  ) {}
+    int scalerank,
+    PreparedGeometry prepared,
+    IndexedFacetDistance facets
+  ) {
+
+    /** Prefer more important regions, then bigger ones, when several have the same name. */
+    static final Comparator<NaturalEarthRegion> ORDER = Comparator
+      .comparingInt(NaturalEarthRegion::scalerank)
+      .thenComparing(region -> -region.geometry.getArea())
+      .thenComparing(region -> region.geometry.getEnvelopeInternal());
+
+    NaturalEarthRegion(Geometry geometry, int scalerank) {
+      this(geometry, scalerank, PreparedGeometryFactory.prepare(geometry), new IndexedFacetDistance(geometry));
+    }
+
+    /** Returns true if {@code other} is within {@code distance} of this region, like {@link Geometry#distance}. */
+    boolean isWithinDistance(Geometry other, double distance) {
+      if (geometry.getEnvelopeInternal().distance(other.getEnvelopeInternal()) > distance) {
+        return false;
+      }
+      // facet distance only measures to the edges, so check for points inside polygons first
+      return prepared.intersects(other) || facets.isWithinDistance(other, distance);
+    }
+  }
 }
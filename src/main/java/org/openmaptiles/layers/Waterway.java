@@ -35,6 +35,8 @@ See https://github.com/openmaptiles/openmaptiles/blob/master/LICENSE.md for deta
 */
 package org.openmaptiles.layers;
 
+import static com.onthegomap.planetiler.util.MemoryEstimator.CLASS_HEADER_BYTES;
+import static com.onthegomap.planetiler.util.MemoryEstimator.POINTER_BYTES;
 import static org.openmaptiles.util.Utils.nullIfEmpty;
 
 import com.carrotsearch.hppc.LongObjectHashMap;
@@ -51,6 +53,7 @@ import com.onthegomap.planetiler.reader.osm.OsmElement;
 import com.onthegomap.planetiler.reader.osm.OsmReader;
 import com.onthegomap.planetiler.reader.osm.OsmRelationInfo;
 import com.onthegomap.planetiler.stats.Stats;
+import com.onthegomap.planetiler.util.MemoryEstimator;
 import com.onthegomap.planetiler.util.Translations;
 import com.onthegomap.planetiler.util.ZoomFunction;
 import java.util.List;
@@ -59,6 +62,7 @@ import org.openmaptiles.OpenMapTilesProfile;
 import org.openmaptiles.generated.OpenMapTilesSchema;
 import org.openmaptiles.generated.Tables;
 import org.openmaptiles.util.OmtLanguageUtils;
+import org.openmaptiles.util.StringDictionary;
 import org.openmaptiles.util.Utils;
 
 /**
@@ -101,11 +105,19 @@ public class Waterway implements
   private final PlanetilerConfig config;
   private final Stats stats;
   private final LongObjectHashMap<AtomicDouble> riverRelationLengths = Hppc.newLongObjectHashMap();
+  /** De-duplicates the name keys of river relations, like {@code name:en}. */
+  private final StringDictionary relationStrings = new StringDictionary();
 
   public Waterway(Translations translations, PlanetilerConfig config, Stats stats) {
     this.config = config;
     this.translations = translations;
     this.stats = stats;
+    stats.monitorInMemoryObject("omt_waterway_relation_strings", relationStrings);
+  }
+
+  @Override
+  public void release() {
+    relationStrings.clear();
   }
 
   private static final ZoomFunction.MeterToPixelThresholds MIN_PIXEL_LENGTHS = ZoomFunction.meterThresholds()
@@ -138,10 +150,23 @@ public class Waterway implements
 
   // zoom-level 6-8 come from OSM river relations
 
+  /**
+   * Names of a river relation to apply to each member way.
+   * <p>
+   * Name keys come from a {@link StringDictionary} that accounts for their memory, so they are not included in
+   * {@link #estimateMemoryUsageBytes()}.
+   */
   private record WaterwayRelation(
     long id,
     Map<String, Object> names
-  ) implements OsmRelationInfo {}
+  ) implements OsmRelationInfo {
+
+    @Override
+    public long estimateMemoryUsageBytes() {
+      return CLASS_HEADER_BYTES + MemoryEstimator.estimateSizeLong(id) + POINTER_BYTES +
+        StringDictionary.estimateMapSize(names);
+    }
+  }
 
   @Override
   public List<OsmRelationInfo> preprocessOsmRelation(OsmElement.Relation relation) {
@@ -149,7 +174,8 @@ public class Waterway implements
       synchronized (riverRelationLengths) {
         riverRelationLengths.put(relation.id(), new AtomicDouble());
       }
-      return List.of(new WaterwayRelation(relation.id(), OmtLanguageUtils.getNames(relation.tags(), translations)));
+      return List.of(new WaterwayRelation(relation.id(),
+        relationStrings.internKeys(OmtLanguageUtils.getNames(relation.tags(), translations))));
     }
     return null;
   }
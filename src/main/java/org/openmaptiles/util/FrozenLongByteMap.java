@@ -0,0 +1,109 @@
+package org.openmaptiles.util;
+
+import static com.onthegomap.planetiler.util.MemoryEstimator.CLASS_HEADER_BYTES;
+import static com.onthegomap.planetiler.util.MemoryEstimator.POINTER_BYTES;
+
+import com.carrotsearch.hppc.LongArrayList;
+import com.carrotsearch.hppc.LongIntHashMap;
+import com.onthegomap.planetiler.util.MemoryEstimator;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A map from {@code long} keys to {@code byte} values where all keys are added before any are read, and values can then
+ * be raised from many threads without locking.
+ * <p>
+ * The first read freezes the keys into a hash index that is never modified again, so concurrent lookups don't need to
+ * synchronize. Values start at {@code 0} and live in a separate array that {@link #max(long, byte)} updates with
+ * compare-and-set. Keys added after that are ignored and counted by {@link #ignoredAdds()}.
+ */
+public final class FrozenLongByteMap implements MemoryEstimator.HasEstimate {
+
+  private static final VarHandle VALUES = MethodHandles.arrayElementVarHandle(byte[].class);
+  private final LongArrayList pending = new LongArrayList();
+  private final LongAdder ignoredAdds = new LongAdder();
+  private volatile Frozen frozen;
+
+  private record Frozen(LongIntHashMap slots, byte[] values) {}
+
+  /**
+   * Adds {@code key} with a value of {@code 0} and returns {@code true}, or returns {@code false} and ignores it if keys
+   * have already been read.
+   */
+  public boolean add(long key) {
+    synchronized (pending) {
+      if (frozen != null) {
+        ignoredAdds.increment();
+        return false;
+      }
+      pending.add(key);
+      return true;
+    }
+  }
+
+  /** Returns the number of keys that were ignored because they were added after the first read. */
+  public long ignoredAdds() {
+    return ignoredAdds.sum();
+  }
+
+  private Frozen frozen() {
+    Frozen result = frozen;
+    if (result == null) {
+      synchronized (pending) {
+        result = frozen;
+        if (result == null) {
+          LongIntHashMap slots = new LongIntHashMap(pending.size());
+          for (int i = 0; i < pending.size(); i++) {
+            slots.putIfAbsent(pending.get(i), slots.size());
+          }
+          pending.release();
+          result = new Frozen(slots, new byte[slots.size()]);
+          frozen = result;
+        }
+      }
+    }
+    return result;
+  }
+
+  /** Returns the number of distinct keys, freezing the keys. */
+  public int size() {
+    return frozen().values.length;
+  }
+
+  /** Returns {@code true} if {@code key} was added, freezing the keys. */
+  public boolean containsKey(long key) {
+    return frozen().slots.containsKey(key);
+  }
+
+  /** Raises the value of {@code key} to {@code value} if it is larger, or does nothing if {@code key} was not added. */
+  public void max(long key, byte value) {
+    Frozen map = frozen();
+    int slot = map.slots.getOrDefault(key, -1);
+    if (slot >= 0) {
+      byte current;
+      do {
+        current = (byte) VALUES.getVolatile(map.values, slot);
+      } while (value > current && !VALUES.compareAndSet(map.values, slot, current, value));
+    }
+  }
+
+  /** Returns the value of {@code key}, or {@code defaultValue} if it was not added. */
+  public byte get(long key, byte defaultValue) {
+    Frozen map = frozen();
+    int slot = map.slots.getOrDefault(key, -1);
+    return slot < 0 ? defaultValue : (byte) VALUES.getVolatile(map.values, slot);
+  }
+
+  @Override
+  public long estimateMemoryUsageBytes() {
+    Frozen map = frozen;
+    if (map == null) {
+      synchronized (pending) {
+        return CLASS_HEADER_BYTES + POINTER_BYTES * 2L + (long) Long.BYTES * pending.buffer.length;
+      }
+    }
+    return CLASS_HEADER_BYTES + POINTER_BYTES * 2L + (long) Long.BYTES * map.slots.keys.length +
+      (long) Integer.BYTES * map.slots.values.length + map.values.length;
+  }
+}
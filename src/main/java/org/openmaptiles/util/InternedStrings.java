@@ -0,0 +1,77 @@
+package org.openmaptiles.util;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * An immutable dictionary that maps a fixed set of strings to small int codes and canonical {@link String} instances.
+ * <p>
+ * Lookups use an open-addressing table over {@link String#hashCode()}, which each string caches, and check identity
+ * before {@link String#equals(Object)} so that looking up a canonical instance again is cheap. Codes are the index of
+ * each string in the sorted, de-duplicated input.
+ */
+public final class InternedStrings {
+
+  /** Code returned for strings that are not in the dictionary. */
+  public static final int NONE = -1;
+
+  private final String[] strings;
+  /** Open-addressing table of {@code code + 1} for each string, or {@code 0} for empty slots. */
+  private final int[] table;
+  private final int mask;
+
+  public InternedStrings(String... strings) {
+    this.strings = Arrays.stream(strings).distinct().sorted().toArray(String[]::new);
+    int capacity = Integer.highestOneBit(Math.max(this.strings.length, 1) * 2 - 1) << 1;
+    table = new int[capacity];
+    mask = capacity - 1;
+    for (int code = 0; code < this.strings.length; code++) {
+      int slot = slot(this.strings[code].hashCode());
+      while (table[slot] != 0) {
+        slot = (slot + 1) & mask;
+      }
+      table[slot] = code + 1;
+    }
+  }
+
+  public InternedStrings(Collection<String> strings) {
+    this(strings.toArray(String[]::new));
+  }
+
+  private int slot(int hash) {
+    return (hash ^ (hash >>> 16)) & mask;
+  }
+
+  /** Returns the code for {@code value}, or {@link #NONE} if it is {@code null} or not in the dictionary. */
+  public int code(String value) {
+    if (value == null) {
+      return NONE;
+    }
+    int slot = slot(value.hashCode());
+    int entry;
+    while ((entry = table[slot]) != 0) {
+      String string = strings[entry - 1];
+      if (string == value || string.equals(value)) {
+        return entry - 1;
+      }
+      slot = (slot + 1) & mask;
+    }
+    return NONE;
+  }
+
+  /** Returns the canonical instance for {@code code}. */
+  public String string(int code) {
+    return strings[code];
+  }
+
+  /** Returns the canonical instance equal to {@code value}, or {@code value} itself if it is not in the dictionary. */
+  public String intern(String value) {
+    int code = code(value);
+    return code == NONE ? value : strings[code];
+  }
+
+  /** Returns the number of strings in the dictionary. */
+  public int size() {
+    return strings.length;
+  }
+}
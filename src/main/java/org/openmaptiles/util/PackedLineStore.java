@@ -0,0 +1,227 @@
+package org.openmaptiles.util;
+
+import static com.onthegomap.planetiler.util.MemoryEstimator.CLASS_HEADER_BYTES;
+import static com.onthegomap.planetiler.util.MemoryEstimator.POINTER_BYTES;
+
+import com.onthegomap.planetiler.util.DiskBacked;
+import com.onthegomap.planetiler.util.MemoryEstimator;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Append-only storage for lines as packed {@code x, y} coordinate arrays. Each line is stored once and read back later
+ * through the {@code long} handle returned when it was added.
+ * <p>
+ * {@link #onHeap()} keeps the arrays in memory. {@link #onDisk(Path)} writes them to a temporary file, so the heap
+ * holds only the 8-byte handles no matter how many lines are stored.
+ * <p>
+ * Lines can be added from multiple threads concurrently without locking. Reads only see lines added before the threads
+ * that added them were joined.
+ */
+public abstract sealed class PackedLineStore implements Closeable, MemoryEstimator.HasEstimate, DiskBacked {
+
+  /** Returns a store that keeps lines on the heap. */
+  public static PackedLineStore onHeap() {
+    return new OnHeap();
+  }
+
+  /**
+   * Returns a store that writes lines to a temporary file in {@code dir}, which is deleted on {@link #close()}.
+   * <p>
+   * Lines can't be added or read after it is closed.
+   */
+  public static PackedLineStore onDisk(Path dir) {
+    return new OnDisk(dir);
+  }
+
+  /** Stores {@code coords} and returns a handle to read it back with {@link #get(long)}. */
+  public abstract long add(double[] coords);
+
+  /** Returns the coordinates stored under {@code handle}. */
+  public abstract double[] get(long handle);
+
+  /**
+   * Releases the coordinates stored under {@code handle}, which can't be read afterwards. Stores on disk only reclaim
+   * the space when they are closed.
+   */
+  public void remove(long handle) {}
+
+  @Override
+  public long diskUsageBytes() {
+    return 0;
+  }
+
+  @Override
+  public void close() {}
+
+  private static final class OnHeap extends PackedLineStore {
+
+    private static final int CHUNK_BITS = 16;
+    private static final int CHUNK_MASK = (1 << CHUNK_BITS) - 1;
+    private final AtomicLong next = new AtomicLong();
+    private final AtomicLong bytes = new AtomicLong();
+    private final AtomicReferenceArray<double[][]> chunks = new AtomicReferenceArray<>(1 << (31 - CHUNK_BITS));
+
+    @Override
+    public long add(double[] coords) {
+      long handle = next.getAndIncrement();
+      int chunkIndex = Math.toIntExact(handle >>> CHUNK_BITS);
+      double[][] chunk = chunks.get(chunkIndex);
+      if (chunk == null) {
+        if (chunks.compareAndSet(chunkIndex, null, new double[1 << CHUNK_BITS][])) {
+          bytes.addAndGet(CLASS_HEADER_BYTES + Integer.BYTES + ((long) POINTER_BYTES << CHUNK_BITS));
+        }
+        chunk = chunks.get(chunkIndex);
+      }
+      chunk[(int) (handle & CHUNK_MASK)] = coords;
+      bytes.addAndGet(CLASS_HEADER_BYTES + Integer.BYTES + (long) Double.BYTES * coords.length);
+      return handle;
+    }
+
+    @Override
+    public double[] get(long handle) {
+      return chunks.get((int) (handle >>> CHUNK_BITS))[(int) (handle & CHUNK_MASK)];
+    }
+
+    @Override
+    public void remove(long handle) {
+      double[][] chunk = chunks.get((int) (handle >>> CHUNK_BITS));
+      double[] coords = chunk[(int) (handle & CHUNK_MASK)];
+      if (coords != null) {
+        chunk[(int) (handle & CHUNK_MASK)] = null;
+        bytes.addAndGet(-(CLASS_HEADER_BYTES + Integer.BYTES + (long) Double.BYTES * coords.length));
+      }
+    }
+
+    @Override
+    public long estimateMemoryUsageBytes() {
+      return bytes.get();
+    }
+
+    @Override
+    public void close() {
+      for (int i = 0; i < chunks.length(); i++) {
+        chunks.set(i, null);
+      }
+      bytes.set(0);
+    }
+  }
+
+  /**
+   * Writes each line as an {@code int} coordinate count followed by the coordinates, using the file offset as the
+   * handle. Threads reserve space by incrementing the file size, then write to their own region with positional writes
+   * that don't need a lock.
+   */
+  private static final class OnDisk extends PackedLineStore {
+
+    private final Path dir;
+    private final AtomicLong size = new AtomicLong();
+    private volatile FileChannel channel;
+    private Path path;
+    private boolean closed = false;
+
+    private OnDisk(Path dir) {
+      this.dir = dir;
+    }
+
+    private FileChannel channel() throws IOException {
+      FileChannel result = channel;
+      if (result == null) {
+        synchronized (this) {
+          result = channel;
+          if (result == null) {
+            if (closed) {
+              throw new IllegalStateException("Cannot use " + dir + " line store after it was closed");
+            }
+            Files.createDirectories(dir);
+            path = Files.createTempFile(dir, "packed_lines", ".bin");
+            result = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE,
+              StandardOpenOption.DELETE_ON_CLOSE);
+            channel = result;
+          }
+        }
+      }
+      return result;
+    }
+
+    @Override
+    public long add(double[] coords) {
+      ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES + Double.BYTES * coords.length);
+      buffer.putInt(coords.length);
+      for (double coord : coords) {
+        buffer.putDouble(coord);
+      }
+      buffer.flip();
+      long handle = size.getAndAdd(buffer.limit());
+      try {
+        FileChannel file = channel();
+        long position = handle;
+        while (buffer.hasRemaining()) {
+          position += file.write(buffer, position);
+        }
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      return handle;
+    }
+
+    private void read(FileChannel file, ByteBuffer buffer, long position) throws IOException {
+      while (buffer.hasRemaining()) {
+        int read = file.read(buffer, position);
+        if (read < 0) {
+          throw new IOException("Unexpected end of " + path + " at " + position);
+        }
+        position += read;
+      }
+      buffer.flip();
+    }
+
+    @Override
+    public double[] get(long handle) {
+      try {
+        FileChannel file = channel();
+        ByteBuffer header = ByteBuffer.allocate(Integer.BYTES);
+        read(file, header, handle);
+        double[] result = new double[header.getInt()];
+        ByteBuffer data = ByteBuffer.allocate(Double.BYTES * result.length);
+        read(file, data, handle + Integer.BYTES);
+        data.asDoubleBuffer().get(result);
+        return result;
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    @Override
+    public long estimateMemoryUsageBytes() {
+      return 0;
+    }
+
+    @Override
+    public long diskUsageBytes() {
+      return size.get();
+    }
+
+    @Override
+    public synchronized void close() {
+      closed = true;
+      if (channel != null) {
+        try {
+          channel.close();
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+        channel = null;
+        size.set(0);
+      }
+    }
+  }
+}
@@ -0,0 +1,89 @@
+package org.openmaptiles.util;
+
+import static com.onthegomap.planetiler.util.MemoryEstimator.CLASS_HEADER_BYTES;
+import static com.onthegomap.planetiler.util.MemoryEstimator.POINTER_BYTES;
+
+import com.onthegomap.planetiler.util.MemoryEstimator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A thread-safe dictionary that de-duplicates strings read from input data, like the {@code ref} and {@code network}
+ * tags that repeat across many OSM relations, so each distinct value is only held in memory once.
+ * <p>
+ * Each distinct string costs a map entry on top of the string itself, so only intern values that repeat. Interning a
+ * string that is nearly unique, like the {@code name} of a relation, uses more memory than holding it directly.
+ * <p>
+ * Unlike {@link InternedStrings}, the set of strings is not known ahead of time. Objects that hold strings from this
+ * dictionary should leave them out of their own {@link MemoryEstimator.HasEstimate#estimateMemoryUsageBytes()} since
+ * this dictionary accounts for them once.
+ */
+public final class StringDictionary implements MemoryEstimator.HasEstimate {
+
+  /** Approximate size of each {@link ConcurrentHashMap} node and the table slot pointing to it. */
+  private static final long ENTRY_BYTES = CLASS_HEADER_BYTES + 3 * POINTER_BYTES + Integer.BYTES + POINTER_BYTES;
+
+  private final Map<String, String> strings = new ConcurrentHashMap<>();
+  private final AtomicLong bytes = new AtomicLong(CLASS_HEADER_BYTES);
+
+  /** Returns the canonical instance equal to {@code value}, adding it to the dictionary if this is the first time. */
+  public String intern(String value) {
+    if (value == null) {
+      return null;
+    }
+    String existing = strings.putIfAbsent(value, value);
+    if (existing != null) {
+      return existing;
+    }
+    bytes.addAndGet(ENTRY_BYTES + MemoryEstimator.estimateSize(value));
+    return value;
+  }
+
+  /**
+   * Returns an immutable copy of {@code map} without {@code null} values and with every key replaced by its canonical
+   * instance.
+   * <p>
+   * Values are kept as-is since they are usually names that don't repeat.
+   */
+  public Map<String, Object> internKeys(Map<String, Object> map) {
+    Map<String, Object> result = new HashMap<>(map.size() * 2);
+    for (var entry : map.entrySet()) {
+      if (entry.getValue() != null) {
+        result.put(intern(entry.getKey()), entry.getValue());
+      }
+    }
+    // backed by a single array, much smaller than a HashMap
+    return Map.copyOf(result);
+  }
+
+  /** Returns the size of an immutable map from {@link #internKeys(Map)} and its values, excluding the keys it holds. */
+  public static long estimateMapSize(Map<String, Object> map) {
+    // Map.copyOf uses an open-addressing table with 2 slots for each key and value
+    long bytes =
+      CLASS_HEADER_BYTES + POINTER_BYTES + Integer.BYTES + CLASS_HEADER_BYTES + 4L * map.size() * POINTER_BYTES;
+    for (Object value : map.values()) {
+      if (value instanceof String s) {
+        bytes += MemoryEstimator.estimateSize(s);
+      }
+    }
+    return bytes;
+  }
+
+  /** Returns the number of distinct strings in the dictionary. */
+  public int size() {
+    return strings.size();
+  }
+
+  /** Removes every string from the dictionary, objects already holding them keep their references. */
+  public void clear() {
+    strings.clear();
+    bytes.set(CLASS_HEADER_BYTES);
+  }
+
+  @Override
+  public long estimateMemoryUsageBytes() {
+    return bytes.get();
+  }
+}
@@ -224,4 +224,41 @@ class GenerateTest {
       )
     ), parsed);
   }
+
+  @Test
+  void testParseCompiledMappingCondition() {
+    Generate.Cond parsed = Generate.parseImposm3MappingCond(new Generate.Imposm3Table(
+      "polygons",
+      false,
+      List.of(),
+      new Generate.Imposm3Filters(
+        Generate.parseYaml("""
+          reject:
+            - val
+            - val
+          rejectkey: __any__
+          """),
+        Generate.parseYaml("""
+          mustkey: __any__
+          """)
+      ),
+      Generate.parseYaml("""
+        - key: [val1, val2]
+        - __AND__:
+            key2: val3
+        """),
+      null,
+      List.of()
+    ));
+    assertEquals(new Generate.Cond.All(List.of(
+      new Generate.Cond.Any(List.of(
+        new Generate.Cond.Values("key", List.of("val1", "val2")),
+        new Generate.Cond.Values("key2", List.of("val3"))
+      )),
+      new Generate.Cond.Field("mustkey"),
+      new Generate.Cond.Not(new Generate.Cond.Values("reject", List.of("val"))),
+      new Generate.Cond.Not(new Generate.Cond.Field("rejectkey")),
+      new Generate.Cond.Type("polygon")
+    )), parsed);
+  }
 }
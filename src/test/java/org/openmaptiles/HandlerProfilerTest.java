@@ -0,0 +1,123 @@
+package org.openmaptiles;
+
+import static com.onthegomap.planetiler.TestUtils.newPoint;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.onthegomap.planetiler.FeatureCollector;
+import com.onthegomap.planetiler.ForwardingProfile;
+import com.onthegomap.planetiler.VectorTile;
+import com.onthegomap.planetiler.config.Arguments;
+import com.onthegomap.planetiler.config.PlanetilerConfig;
+import com.onthegomap.planetiler.reader.SimpleFeature;
+import com.onthegomap.planetiler.reader.SourceFeature;
+import com.onthegomap.planetiler.stats.Stats;
+import com.onthegomap.planetiler.util.Translations;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.openmaptiles.generated.Tables;
+
+class HandlerProfilerTest {
+
+  private final Stats stats = Stats.inMemory();
+  private final FeatureCollector.Factory featureCollectors =
+    new FeatureCollector.Factory(PlanetilerConfig.defaults(), stats);
+  private final SourceFeature feature = SimpleFeature.create(newPoint(0, 0), Map.of("amenity", "cafe"));
+
+  @Test
+  void testRecordsEverySampledInvocation() {
+    var profiler = new HandlerProfiler(stats, 1);
+    Tables.RowHandler<Tables.Row> handler = profiler.wrap("layer", "Row", (row, features) -> {
+      features.point("layer");
+      features.point("layer");
+    });
+    for (int i = 0; i < 3; i++) {
+      handler.process(null, featureCollectors.get(feature));
+    }
+    var handlerStats = profiler.handler("layer", "Row");
+    assertEquals(3, handlerStats.invocations());
+    assertEquals(3, handlerStats.samples());
+    assertEquals(2, handlerStats.featuresPerInvocation());
+    assertEquals(6, handlerStats.estimatedFeatures());
+    assertTrue(handlerStats.estimatedNanos() > 0);
+    assertEquals(List.of(handlerStats), profiler.handlers());
+  }
+
+  @Test
+  void testOnlyCountsFeaturesEmittedByHandler() {
+    var profiler = new HandlerProfiler(stats, 1);
+    OpenMapTilesProfile.OsmAllProcessor handler = profiler.wrap("layer", (source, features) -> features.point("a"));
+    var features = featureCollectors.get(feature);
+    features.point("before");
+    handler.processAllOsm(feature, features);
+    assertEquals(1, profiler.handler("layer", "OsmAllProcessor").featuresPerInvocation());
+  }
+
+  @Test
+  void testSamplesSubsetOfInvocations() {
+    var profiler = new HandlerProfiler(stats, 1_000);
+    OpenMapTilesProfile.NaturalEarthProcessor handler = profiler.wrap("layer", (table, source, features) -> {
+    });
+    for (int i = 0; i < 10_000; i++) {
+      handler.processNaturalEarth("table", feature, featureCollectors.get(feature));
+    }
+    var handlerStats = profiler.handler("layer", "NaturalEarthProcessor");
+    assertEquals(10_000, handlerStats.invocations());
+    assertTrue(handlerStats.samples() > 0 && handlerStats.samples() < 100, () -> "samples: " + handlerStats.samples());
+  }
+
+  @Test
+  void testPostProcessorKeepsResult() throws Exception {
+    var profiler = new HandlerProfiler(stats, 1);
+    var result = List.<VectorTile.Feature>of();
+    var handler = profiler.wrap(new ForwardingProfile.LayerPostProcessor() {
+      @Override
+      public List<VectorTile.Feature> postProcess(int zoom, List<VectorTile.Feature> items) {
+        return result;
+      }
+
+      @Override
+      public String name() {
+        return "layer";
+      }
+    });
+    assertEquals("layer", handler.name());
+    assertEquals(result, handler.postProcess(14, List.of()));
+    assertEquals(1, profiler.handler("layer", "LayerPostProcessor").samples());
+  }
+
+  @Test
+  void testInvalidSampleInterval() {
+    assertThrows(IllegalArgumentException.class, () -> new HandlerProfiler(stats, 0));
+  }
+
+  @Test
+  void testProfiledProfileEmitsSameFeatures() {
+    var config = PlanetilerConfig.from(Arguments.of(
+      "profile_handlers", "true",
+      "profile_handlers_sample_interval", "1"
+    ));
+    var translations = Translations.defaultProvider(List.of("en"));
+    var profiled = new OpenMapTilesProfile(translations, config, stats);
+    var plain = new OpenMapTilesProfile(translations, PlanetilerConfig.defaults(), stats);
+    var source = SimpleFeature.createFakeOsmFeature(newPoint(0, 0), Map.of("amenity", "cafe", "name", "cafe"),
+      OpenMapTilesProfile.OSM_SOURCE, null, 1, List.of());
+    var profiledFeatures = featureCollectors.get(source);
+    var plainFeatures = featureCollectors.get(source);
+    profiled.processFeature(source, profiledFeatures);
+    plain.processFeature(source, plainFeatures);
+    assertEquals(count(plainFeatures), count(profiledFeatures));
+    assertTrue(count(profiledFeatures) > 0);
+    profiled.logHandlerProfile();
+  }
+
+  private static int count(FeatureCollector features) {
+    int result = 0;
+    for (var ignored : features) {
+      result++;
+    }
+    return result;
+  }
+}
@@ -1,14 +1,18 @@
 package org.openmaptiles;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.onthegomap.planetiler.config.Arguments;
 import com.onthegomap.planetiler.config.PlanetilerConfig;
 import com.onthegomap.planetiler.reader.osm.OsmElement;
 import com.onthegomap.planetiler.stats.Stats;
 import com.onthegomap.planetiler.util.Translations;
 import com.onthegomap.planetiler.util.Wikidata;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import org.junit.jupiter.api.Test;
 
 class OpenMapTilesProfileTest {
@@ -19,6 +23,26 @@ class OpenMapTilesProfileTest {
   private final OpenMapTilesProfile profile = new OpenMapTilesProfile(translations, PlanetilerConfig.defaults(),
     Stats.inMemory());
 
+  private Set<String> requiredSources(String onlyLayers) {
+    return new OpenMapTilesProfile(translations, PlanetilerConfig.from(Arguments.of("only_layers", onlyLayers)),
+      Stats.inMemory()).requiredSources();
+  }
+
+  @Test
+  void testRequiredSources() {
+    assertEquals(Set.of(
+      OpenMapTilesProfile.OSM_SOURCE,
+      OpenMapTilesProfile.NATURAL_EARTH_SOURCE,
+      OpenMapTilesProfile.WATER_POLYGON_SOURCE,
+      OpenMapTilesProfile.LAKE_CENTERLINE_SOURCE
+    ), profile.requiredSources());
+    assertEquals(Set.of(OpenMapTilesProfile.OSM_SOURCE), requiredSources("building,housenumber,poi"));
+    assertEquals(Set.of(OpenMapTilesProfile.OSM_SOURCE, OpenMapTilesProfile.NATURAL_EARTH_SOURCE,
+      OpenMapTilesProfile.LAKE_CENTERLINE_SOURCE), requiredSources("water_name"));
+    assertEquals(Set.of(OpenMapTilesProfile.OSM_SOURCE, OpenMapTilesProfile.NATURAL_EARTH_SOURCE,
+      OpenMapTilesProfile.WATER_POLYGON_SOURCE), requiredSources("water"));
+  }
+
   @Test
   void testCaresAboutWikidata() {
     var node = new OsmElement.Node(1, 1, 1);
@@ -35,4 +59,54 @@ class OpenMapTilesProfileTest {
     way.setTag("highway", "footway");
     assertFalse(profile.caresAboutWikidataTranslation(way));
   }
+
+  @Test
+  void testCaresAboutWikidataByGeometryType() {
+    var tags = Map.<String, Object>of("place", "island", "name", "Island");
+    // osm_island_point and osm_island_polygon
+    assertTrue(profile.caresAboutWikidataTranslation(withTags(new OsmElement.Node(1, 1, 1), tags)));
+    assertTrue(profile.caresAboutWikidataTranslation(withTags(new OsmElement.Way(1), tags)));
+    assertTrue(profile.caresAboutWikidataTranslation(withTags(new OsmElement.Relation(1), tags)));
+    // waterway linestrings can come from ways but not relations
+    tags = Map.of("waterway", "river", "name", "River");
+    assertTrue(profile.caresAboutWikidataTranslation(withTags(new OsmElement.Way(1), tags)));
+    assertFalse(profile.caresAboutWikidataTranslation(withTags(new OsmElement.Relation(1), tags)));
+    assertFalse(profile.caresAboutWikidataTranslation(withTags(new OsmElement.Node(1, 1, 1), tags)));
+  }
+
+  @Test
+  void testCompiledWikidataRelevanceMatchesGenericIndex() {
+    var genericProfile = new OpenMapTilesProfile(translations,
+      PlanetilerConfig.from(Arguments.of("osm_compiled_mappings", "false")), Stats.inMemory());
+    List<Map<String, Object>> tagSets = List.of(
+      Map.of(),
+      Map.of("wikidata", "Q1"),
+      Map.of("aeroway", "gate"),
+      Map.of("aeroway", "aerodrome", "name", "Airport"),
+      Map.of("highway", "primary", "name", "Main Street"),
+      Map.of("highway", "bus_stop", "name", "Stop"),
+      Map.of("building", "yes"),
+      Map.of("building", "no"),
+      Map.of("natural", "water", "covered", "yes"),
+      Map.of("natural", "water", "covered", "no"),
+      Map.of("place", "sea"),
+      Map.of("place", "sea", "name", "Sea"),
+      Map.of("amenity", "cafe", "name", "Cafe"),
+      Map.of("railway", "station", "name", "Station"),
+      Map.of("boundary", "administrative", "admin_level", "2"),
+      Map.of("addr:housenumber", "1")
+    );
+    for (var tags : tagSets) {
+      for (var element : List.of(new OsmElement.Node(1, 1, 1), new OsmElement.Way(1), new OsmElement.Relation(1))) {
+        withTags(element, tags);
+        assertEquals(genericProfile.caresAboutWikidataTranslation(element),
+          profile.caresAboutWikidataTranslation(element), element + " " + tags);
+      }
+    }
+  }
+
+  private static OsmElement withTags(OsmElement element, Map<String, Object> tags) {
+    tags.forEach(element::setTag);
+    return element;
+  }
 }
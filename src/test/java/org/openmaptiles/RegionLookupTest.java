@@ -0,0 +1,116 @@
+package org.openmaptiles;
+
+import static com.onthegomap.planetiler.TestUtils.newLineString;
+import static com.onthegomap.planetiler.TestUtils.newPoint;
+import static com.onthegomap.planetiler.TestUtils.rectangle;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.onthegomap.planetiler.reader.SimpleFeature;
+import com.onthegomap.planetiler.stats.Stats;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Geometry;
+
+class RegionLookupTest {
+
+  private final RegionLookup regions = new RegionLookup(Stats.inMemory());
+
+  private void load(String table, Geometry geometry, Map<String, Object> tags) {
+    regions.processNaturalEarth(table, SimpleFeature.fromWorldGeometry(geometry, tags), null);
+  }
+
+  @Test
+  void testCountryLookup() {
+    load(RegionLookup.COUNTRIES_TABLE, rectangle(0, 0.1), Map.of("iso_a2", "US", "name", "United States"));
+    load(RegionLookup.COUNTRIES_TABLE, rectangle(0.1, 0, 0.2, 0.1), Map.of("iso_a2", "CA", "name", "Canada"));
+
+    assertTrue(regions.hasCountry("US"));
+    assertFalse(regions.hasCountry("GB"));
+    // inside a cell covered by one country
+    assertEquals("US", regions.countryCode(newPoint(0.05, 0.05)));
+    assertEquals("CA", regions.countryCode(newPoint(0.15, 0.05)));
+    // same answer from the cached cell
+    assertEquals("US", regions.countryCode(newPoint(0.05, 0.05)));
+    // in a cell split by the border
+    assertEquals("US", regions.countryCode(newPoint(0.0999, 0.05)));
+    assertEquals("CA", regions.countryCode(newPoint(0.1001, 0.05)));
+    // line across the border spanning many cells
+    var line = newLineString(0.05, 0.05, 0.15, 0.05);
+    assertEquals(List.of("US", "CA"), regions.countries(line).stream().map(RegionLookup.Region::isoA2).toList());
+    assertTrue(regions.inCountry(line, "CA"));
+    // outside any country
+    assertNull(regions.countryCode(newPoint(0.5, 0.5)));
+    assertFalse(regions.inCountry(newPoint(0.5, 0.5), "US"));
+    assertFalse(regions.inCountry(newPoint(0.05, 0.05), "GB"));
+  }
+
+  @Test
+  void testNearCountry() {
+    load(RegionLookup.COUNTRIES_TABLE, rectangle(0, 0.1), Map.of("iso_a2", "GB"));
+    assertTrue(regions.nearCountry(newPoint(0.05, 0.05), "GB", 0.01));
+    assertTrue(regions.nearCountry(newPoint(0.105, 0.05), "GB", 0.01));
+    assertFalse(regions.inCountry(newPoint(0.105, 0.05), "GB"));
+    assertFalse(regions.nearCountry(newPoint(0.2, 0.05), "GB", 0.01));
+    assertFalse(regions.nearCountry(newPoint(0.05, 0.05), "IE", 0.01));
+  }
+
+  @Test
+  void testCodeFromIsoA2Eh() {
+    load(RegionLookup.COUNTRIES_TABLE, rectangle(0, 0.1), Map.of("iso_a2", "-99", "iso_a2_eh", "FR"));
+    assertEquals("FR", regions.countryCode(newPoint(0.05, 0.05)));
+  }
+
+  @Test
+  void testCountryContainingOrNearest() {
+    load(RegionLookup.COUNTRIES_TABLE, newPolygonWithNotch(), Map.of("iso_a2", "US", "name", "United States",
+      "scalerank", 0, "labelrank", 2));
+    var region = regions.countryContainingOrNearest(newPoint(0.05, 0.05));
+    assertEquals(new RegionLookup.Region("US", "United States", 0d, 2d, null), region);
+    // inside the bounding box but not the polygon
+    assertEquals(region, regions.countryContainingOrNearest(newPoint(0.09, 0.09)));
+    assertNull(regions.countryContainingOrNearest(newPoint(0.5, 0.5)));
+  }
+
+  private static Geometry newPolygonWithNotch() {
+    return rectangle(0, 0.1).difference(rectangle(0.08, 0.1));
+  }
+
+  @Test
+  void testStates() {
+    load(RegionLookup.STATES_TABLE, rectangle(0, 0.1), Map.of("iso_a2", "US", "name", "A", "scalerank", 2));
+    load(RegionLookup.STATES_TABLE, rectangle(0.05, 0.1), Map.of("iso_a2", "US", "name", "B", "scalerank", 8));
+    assertEquals(List.of("A"), regions.states(newPoint(0.01, 0.01)).stream().map(RegionLookup.Region::name).toList());
+    assertEquals(List.of("A", "B"),
+      regions.states(newPoint(0.07, 0.07)).stream().map(RegionLookup.Region::name).toList());
+    assertEquals(List.of(), regions.countries(newPoint(0.07, 0.07)));
+  }
+
+  @Test
+  void testRegionsLoadedAfterFirstQuery() {
+    assertNull(regions.countryCode(newPoint(0.05, 0.05)));
+    load(RegionLookup.COUNTRIES_TABLE, rectangle(0, 0.1), Map.of("iso_a2", "US"));
+    assertEquals("US", regions.countryCode(newPoint(0.05, 0.05)));
+  }
+
+  @Test
+  void testOverlappingRegionsOrderedByNaturalEarthId() {
+    load(RegionLookup.COUNTRIES_TABLE, rectangle(0, 0.1), Map.of("iso_a2", "B", "ogc_fid", 2));
+    load(RegionLookup.COUNTRIES_TABLE, rectangle(0.05, 0.1), Map.of("iso_a2", "A", "ogc_fid", 1));
+    load(RegionLookup.COUNTRIES_TABLE, rectangle(0, 0.1), Map.of("iso_a2", "C"));
+    // same order whether the point is in a cached cell or the query spans several cells
+    assertEquals("A", regions.countryCode(newPoint(0.07, 0.07)));
+    assertEquals(List.of("A", "B", "C"),
+      regions.countries(newLineString(0.01, 0.01, 0.07, 0.07)).stream().map(RegionLookup.Region::isoA2).toList());
+  }
+
+  @Test
+  void testIgnoresOtherTables() {
+    load("ne_10m_populated_places", rectangle(0, 0.1), Map.of("iso_a2", "US"));
+    assertFalse(regions.hasCountry("US"));
+    assertNull(regions.countryCode(newPoint(0.05, 0.05)));
+  }
+}
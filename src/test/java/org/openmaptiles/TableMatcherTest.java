@@ -0,0 +1,70 @@
+package org.openmaptiles;
+
+import static com.onthegomap.planetiler.TestUtils.newLineString;
+import static com.onthegomap.planetiler.TestUtils.newPoint;
+import static com.onthegomap.planetiler.expression.Expression.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.onthegomap.planetiler.reader.SimpleFeature;
+import com.onthegomap.planetiler.reader.SourceFeature;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class TableMatcherTest {
+
+  private final TableMatcher<String> matcher = new TableMatcher<>(List.of(
+    new TableMatcher.Table<>(-1, "a", and(or(matchAny("a", "1"), matchAny("b", "1")), matchType("point")),
+      List.of("a", "b")),
+    new TableMatcher.Table<>(-1, "b", and(matchAny("b", "1"), not(matchAny("c", "1"))), List.of("b")),
+    new TableMatcher.Table<>(-1, "c", and(matchField("c"), matchType("linestring")), List.of("c"))
+  ), false);
+  private final TableMatcher.Matches<String> matches = matcher.newMatches();
+
+  private List<String> match(SourceFeature feature) {
+    matcher.match(feature, matches);
+    List<String> result = new ArrayList<>();
+    for (int i = 0; i < matches.size(); i++) {
+      result.add(matches.value(i) + ":" + matches.key(i));
+    }
+    return result;
+  }
+
+  private static SourceFeature point(Map<String, Object> tags) {
+    return SimpleFeature.create(newPoint(0, 0), new HashMap<>(tags));
+  }
+
+  private static SourceFeature line(Map<String, Object> tags) {
+    return SimpleFeature.create(newLineString(0, 0, 1, 1), new HashMap<>(tags));
+  }
+
+  @Test
+  void testNoRelevantKeys() {
+    assertEquals(List.of(), match(point(Map.of())));
+    assertEquals(List.of(), match(point(Map.of("other", "1"))));
+  }
+
+  @Test
+  void testMatchesInTableOrderWithTriggerKey() {
+    assertEquals(List.of("a:b", "b:b"), match(point(Map.of("b", "1"))));
+    assertEquals(List.of("a:a", "b:b"), match(point(Map.of("b", "1", "a", "1"))));
+    assertEquals(List.of("a:a"), match(point(Map.of("b", "1", "a", "1", "c", "1"))));
+    assertEquals(List.of("b:b", "c:c"), match(line(Map.of("b", "1", "c", "2"))));
+  }
+
+  @Test
+  void testBufferIsReused() {
+    assertEquals(List.of("a:b", "b:b"), match(point(Map.of("b", "1"))));
+    assertEquals(List.of(), match(point(Map.of("b", "2"))));
+    assertEquals(List.of("c:c"), match(line(Map.of("c", "1"))));
+  }
+
+  @Test
+  void testCompiledMappingsRequireTableIds() {
+    var tables = List.of(new TableMatcher.Table<>(-1, "a", matchField("a"), List.of("a")));
+    assertThrows(IllegalArgumentException.class, () -> new TableMatcher<>(tables, true));
+  }
+}
@@ -0,0 +1,169 @@
+package org.openmaptiles.generated;
+
+import static com.onthegomap.planetiler.TestUtils.newLineString;
+import static com.onthegomap.planetiler.TestUtils.newPoint;
+import static com.onthegomap.planetiler.TestUtils.rectangle;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.onthegomap.planetiler.expression.MultiExpression;
+import com.onthegomap.planetiler.reader.SimpleFeature;
+import com.onthegomap.planetiler.reader.SourceFeature;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Test;
+import org.openmaptiles.TableMatcher;
+
+/** Cross-checks the generated decision tree against the generic expression index on randomized tag sets. */
+class CompiledMappingsTest {
+
+  private static final Pattern MATCH = Pattern.compile("match(?:Any|Field)\\(\"([^\"]*)\"((?:, \"[^\"]*\")*)\\)");
+  private static final Pattern VALUE = Pattern.compile("\"([^\"]*)\"");
+  private static final List<String> EXTRA_KEYS = List.of("name", "type", "covered", "other");
+  private static final List<String> EXTRA_VALUES = List.of("", "yes", "no", "other");
+  private static final int ITERATIONS = 50_000;
+
+  /** Tag keys and values that appear in any table mapping, to generate tags that are likely to match something. */
+  private final Map<String, List<String>> valuesByKey = new TreeMap<>();
+  private final List<String> keys;
+
+  CompiledMappingsTest() {
+    for (var entry : Tables.MAPPINGS.expressions()) {
+      var matcher = MATCH.matcher(entry.expression().generateJavaCode());
+      while (matcher.find()) {
+        var values = valuesByKey.computeIfAbsent(matcher.group(1), k -> new ArrayList<>(EXTRA_VALUES));
+        var valueMatcher = VALUE.matcher(matcher.group(2));
+        while (valueMatcher.find()) {
+          values.add(valueMatcher.group(1));
+        }
+      }
+    }
+    for (String key : EXTRA_KEYS) {
+      valuesByKey.putIfAbsent(key, EXTRA_VALUES);
+    }
+    keys = List.copyOf(valuesByKey.keySet());
+  }
+
+  private SourceFeature randomFeature(Random random) {
+    Map<String, Object> tags = new HashMap<>();
+    int numTags = random.nextInt(6);
+    for (int i = 0; i < numTags; i++) {
+      String key = keys.get(random.nextInt(keys.size()));
+      List<String> values = valuesByKey.get(key);
+      tags.put(key, values.get(random.nextInt(values.size())));
+    }
+    var geometry = switch (random.nextInt(3)) {
+      case 0 -> newPoint(0, 0);
+      case 1 -> newLineString(0, 0, 1, 1);
+      default -> rectangle(0, 1);
+    };
+    return SimpleFeature.create(geometry, tags);
+  }
+
+  private static Set<String> compiled(SourceFeature feature) {
+    Set<String> result = new HashSet<>();
+    boolean isPoint = feature.isPoint();
+    boolean canBeLine = feature.canBeLine();
+    boolean canBePolygon = feature.canBePolygon();
+    long candidates = CompiledMappings.candidates(feature, isPoint, canBeLine, canBePolygon);
+    for (int id = 0; id < CompiledMappings.NUM_TABLES; id++) {
+      if ((candidates & (1L << id)) != 0) {
+        String key = CompiledMappings.match(id, feature, isPoint, canBeLine, canBePolygon);
+        if (key != null) {
+          result.add(Tables.MAPPINGS.expressions().get(id).result().rowClass().getSimpleName() + ":" + key);
+        }
+      }
+    }
+    return result;
+  }
+
+  private static Set<String> generic(MultiExpression.Index<Tables.RowClassAndConstructor> index,
+    SourceFeature feature) {
+    Set<String> result = new HashSet<>();
+    for (var match : index.getMatchesWithTriggers(feature)) {
+      result.add(match.match().rowClass().getSimpleName() + ":" + match.keys().getFirst());
+    }
+    return result;
+  }
+
+  private static List<String> matches(TableMatcher<String> matcher, TableMatcher.Matches<String> matches,
+    SourceFeature feature) {
+    matcher.match(feature, matches);
+    List<String> result = new ArrayList<>();
+    for (int i = 0; i < matches.size(); i++) {
+      result.add(matches.value(i) + ":" + matches.key(i));
+    }
+    return result;
+  }
+
+  @Test
+  void testCompilesEveryTable() {
+    assertEquals(Tables.MAPPINGS.expressions().size(), CompiledMappings.NUM_TABLES);
+    assertEquals(0L, CompiledMappings.FALLBACK_TABLES);
+  }
+
+  @Test
+  void testMappingKeySetMatchesKeySwitch() {
+    for (String key : keys) {
+      assertEquals(CompiledMappings.tablesWithKey(key) != 0, CompiledMappings.isMappingKey(new String(key)), key);
+    }
+    for (String key : List.of("", "source", "created_by", "name", "highwayx", "highwa")) {
+      assertFalse(CompiledMappings.isMappingKey(key), key);
+    }
+  }
+
+  @Test
+  void testElementsWithoutMappingKeyDoNotMatch() {
+    Random random = new Random(2);
+    for (int i = 0; i < ITERATIONS; i++) {
+      SourceFeature feature = randomFeature(random);
+      if (!CompiledMappings.hasMappingKey(feature)) {
+        assertEquals(Set.of(), compiled(feature), feature.tags()::toString);
+      }
+    }
+    assertFalse(CompiledMappings.hasMappingKey(SimpleFeature.create(newPoint(0, 0), Map.of("source", "survey"))));
+    assertTrue(CompiledMappings.hasMappingKey(SimpleFeature.create(newPoint(0, 0), Map.of("source", "survey",
+      "highway", "primary"))));
+  }
+
+  @Test
+  void testMatchesGenericIndexOnRandomTags() {
+    var index = Tables.MAPPINGS.index();
+    Random random = new Random(0);
+    for (int i = 0; i < ITERATIONS; i++) {
+      SourceFeature feature = randomFeature(random);
+      assertEquals(generic(index, feature), compiled(feature),
+        () -> feature.tags() + " " + feature.getClass().getSimpleName() + " point=" + feature.isPoint() + " line=" +
+          feature.canBeLine() + " polygon=" + feature.canBePolygon());
+    }
+  }
+
+  @Test
+  void testTableMatcherModesAgreeOnRandomTags() {
+    List<TableMatcher.Table<String>> tables = new ArrayList<>();
+    var mappings = Tables.MAPPINGS.expressions();
+    for (int id = 0; id < mappings.size(); id++) {
+      var entry = mappings.get(id);
+      tables.add(new TableMatcher.Table<>(id, entry.result().rowClass().getSimpleName(), entry.expression(),
+        entry.result().mappingKeys()));
+    }
+    var compiledMatcher = new TableMatcher<>(tables, true);
+    var genericMatcher = new TableMatcher<>(tables, false);
+    var compiledMatches = compiledMatcher.newMatches();
+    var genericMatches = genericMatcher.newMatches();
+    Random random = new Random(1);
+    for (int i = 0; i < ITERATIONS; i++) {
+      SourceFeature feature = randomFeature(random);
+      assertEquals(matches(genericMatcher, genericMatches, feature),
+        matches(compiledMatcher, compiledMatches, feature), feature.tags()::toString);
+    }
+  }
+}
@@ -0,0 +1,141 @@
+package org.openmaptiles.generated;
+
+import static com.onthegomap.planetiler.TestUtils.newLineString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.onthegomap.planetiler.reader.SimpleFeature;
+import com.onthegomap.planetiler.reader.SourceFeature;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.openmaptiles.OpenMapTilesProfile;
+
+class TablesTest {
+
+  /** Tag map that records every key that gets looked up. */
+  private static class CountingTags extends HashMap<String, Object> {
+    final List<Object> lookups = new ArrayList<>();
+
+    CountingTags(Map<String, Object> tags) {
+      super(tags);
+    }
+
+    @Override
+    public Object get(Object key) {
+      lookups.add(key);
+      return super.get(key);
+    }
+  }
+
+  private static SourceFeature line(Map<String, Object> tags) {
+    return SimpleFeature.create(newLineString(0, 0, 1, 1), tags, OpenMapTilesProfile.OSM_SOURCE, null, 1);
+  }
+
+  @Test
+  void testColumnsParsedOnFirstAccess() {
+    var tags = new CountingTags(Map.of("highway", "primary", "layer", "1", "bridge", "yes", "name", "Main Street"));
+    var row = new Tables.OsmHighwayLinestring(line(tags), "highway");
+    assertEquals(List.of(), tags.lookups);
+
+    assertEquals("primary", row.highway());
+    assertEquals(1, row.layer());
+    assertTrue(row.isBridge());
+    assertEquals(List.of("highway", "layer", "bridge"), tags.lookups);
+
+    // repeated access is memoized
+    assertEquals("primary", row.highway());
+    assertEquals(1, row.layer());
+    assertTrue(row.isBridge());
+    assertEquals(List.of("highway", "layer", "bridge"), tags.lookups);
+  }
+
+  @Test
+  void testMemoizesMissingAndDefaultValues() {
+    var tags = new CountingTags(Map.of("highway", "primary"));
+    var row = new Tables.OsmHighwayLinestring(line(tags), "highway");
+    assertNull(row.ref());
+    assertNull(row.ref());
+    assertFalse(row.isTunnel());
+    assertFalse(row.isTunnel());
+    assertEquals(0, row.layer());
+    assertEquals(0, row.layer());
+    assertEquals(List.of("ref", "tunnel", "layer"), tags.lookups);
+  }
+
+  @Test
+  void testMoreThan32Columns() {
+    var tags = new HashMap<String, Object>();
+    tags.put("highway", "primary");
+    tags.put("expressway", "yes");
+    tags.put("surface", "paved");
+    var row = new Tables.OsmHighwayLinestring(line(tags), "highway");
+    // expressway is the 33rd lazily-parsed column
+    assertTrue(row.expressway());
+    assertEquals("paved", row.surface());
+    assertEquals("primary", row.highway());
+    assertFalse(row.toll());
+  }
+
+  @Test
+  void testMappingKeyAndValueColumns() {
+    var row = new Tables.OsmLandcoverPolygon(line(new HashMap<>(Map.of("natural", "wood"))), "natural");
+    assertEquals("natural", row.mappingKey());
+    assertEquals("wood", row.subclass());
+  }
+
+  @Test
+  void testRowPoolReusesRowsAndClearsParsedColumns() {
+    var pool = new Tables.RowPool();
+    var first = line(new HashMap<>(Map.of("highway", "primary", "ref", "A1")));
+    var second = line(new HashMap<>(Map.of("highway", "service")));
+
+    var row = pool.osmHighwayLinestring(first, "highway");
+    assertEquals("A1", row.ref());
+    var copy = row.copy();
+
+    var reused = pool.osmHighwayLinestring(second, "highway");
+    assertSame(row, reused);
+    assertSame(second, reused.source());
+    assertEquals("service", reused.highway());
+    assertNull(reused.ref());
+
+    // copies are unaffected by reuse
+    assertNotSame(row, copy);
+    assertSame(first, copy.source());
+    assertEquals("primary", copy.highway());
+    assertEquals("A1", copy.ref());
+  }
+
+  @Test
+  void testColumnsWithKnownValuesAreInterned() {
+    var row = new Tables.OsmHighwayLinestring(line(new HashMap<>(Map.of(
+      "highway", new String("primary"),
+      "service", new String("driveway"),
+      "name", new String("primary")
+    ))), "highway");
+    assertSame(OpenMapTilesSchema.Transportation.FieldValues.SERVICE_DRIVEWAY, row.service());
+    assertSame(TagDictionary.intern("primary"), row.highway());
+    // free-form columns are not looked up
+    assertNotSame(TagDictionary.intern("primary"), row.name());
+    assertEquals("primary", row.name());
+  }
+
+  @Test
+  void testEqualsAndToString() {
+    var source = line(new HashMap<>(Map.of("natural", "wood")));
+    var row = new Tables.OsmLandcoverPolygon(source, "natural");
+    assertEquals(row, new Tables.OsmLandcoverPolygon(source, "natural"));
+    assertEquals(row.hashCode(), new Tables.OsmLandcoverPolygon(source, "natural").hashCode());
+    assertNotEquals(row, new Tables.OsmLandcoverPolygon(source, "landuse"));
+    assertTrue(row.toString().startsWith("OsmLandcoverPolygon[subclass=wood, mappingKey=natural, source="),
+      row.toString());
+  }
+}
@@ -20,11 +20,13 @@ import com.onthegomap.planetiler.reader.osm.OsmRelationInfo;
 import com.onthegomap.planetiler.stats.Stats;
 import com.onthegomap.planetiler.util.Translations;
 import com.onthegomap.planetiler.util.Wikidata;
+import java.lang.reflect.Proxy;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 import java.util.stream.StreamSupport;
 import org.locationtech.jts.geom.Geometry;
 import org.openmaptiles.OpenMapTilesProfile;
@@ -37,11 +39,26 @@ public abstract class AbstractLayerTest {
     .addFallbackTranslationProvider(wikidataTranslations);
 
   final PlanetilerConfig params = PlanetilerConfig.defaults();
+  /** Counters that {@link #profile} registered, by name. */
+  final Map<String, Supplier<Number>> counters = new HashMap<>();
   final OpenMapTilesProfile profile = new OpenMapTilesProfile(translations, PlanetilerConfig.defaults(),
-    Stats.inMemory());
+    recordCounters(counters));
   final Stats stats = Stats.inMemory();
   final FeatureCollector.Factory featureCollectorFactory = new FeatureCollector.Factory(params, stats);
 
+  /** Returns stats that delegate to {@link Stats#inMemory()} and record each counter registered on them. */
+  @SuppressWarnings("unchecked")
+  static Stats recordCounters(Map<String, Supplier<Number>> counters) {
+    Stats delegate = Stats.inMemory();
+    return (Stats) Proxy.newProxyInstance(Stats.class.getClassLoader(), new Class<?>[]{Stats.class},
+      (proxy, method, args) -> {
+        if ("counter".equals(method.getName()) && args.length == 2 && args[1] instanceof Supplier<?> supplier) {
+          counters.put((String) args[0], (Supplier<Number>) supplier);
+        }
+        return method.invoke(delegate, args);
+      });
+  }
+
   static void assertFeatures(int zoom, List<Map<String, Object>> expected, Iterable<FeatureCollector.Feature> actual) {
     // ensure both are sorted by layer
     var expectedList =
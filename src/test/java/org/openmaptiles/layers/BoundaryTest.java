@@ -4,6 +4,7 @@ import static com.onthegomap.planetiler.TestUtils.newLineString;
 import static com.onthegomap.planetiler.TestUtils.rectangle;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.onthegomap.planetiler.FeatureCollector;
 import com.onthegomap.planetiler.config.Arguments;
@@ -15,11 +16,17 @@ import com.onthegomap.planetiler.reader.SourceFeature;
 import com.onthegomap.planetiler.reader.osm.OsmElement;
 import com.onthegomap.planetiler.reader.osm.OsmReader;
 import com.onthegomap.planetiler.stats.Stats;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.openmaptiles.OpenMapTilesProfile;
 
 class BoundaryTest extends AbstractLayerTest {
@@ -482,6 +489,22 @@ class BoundaryTest extends AbstractLayerTest {
   }
 
   private List<FeatureCollector.Feature> setupCountryLeftRightNameTest(Map<String, Object> tags) {
+    return setupCountryLeftRightNameTest(profile, tags);
+  }
+
+  private FeatureCollector process(OpenMapTilesProfile profile, SourceFeature feature) {
+    var collector = featureCollectorFactory.get(feature);
+    profile.processFeature(feature, collector);
+    return collector;
+  }
+
+  private List<FeatureCollector.Feature> setupCountryLeftRightNameTest(OpenMapTilesProfile profile,
+    Map<String, Object> tags) {
+    return setupCountryLeftRightNameTest(profile, tags, false);
+  }
+
+  private List<FeatureCollector.Feature> setupCountryLeftRightNameTest(OpenMapTilesProfile profile,
+    Map<String, Object> tags, boolean reverseSharedEdge) {
     var country1 = new OsmElement.Relation(1);
     country1.setTag("type", "boundary");
     country1.setTag("admin_level", "2");
@@ -494,8 +517,8 @@ class BoundaryTest extends AbstractLayerTest {
     country2.setTag("ISO3166-1:alpha3", "C2");
 
     // shared edge
-    assertFeatures(14, List.of(), process(SimpleFeature.createFakeOsmFeature(
-      newLineString(0, 0, 0, 10),
+    assertFeatures(14, List.of(), process(profile, SimpleFeature.createFakeOsmFeature(
+      reverseSharedEdge ? newLineString(0, 10, 0, 0) : newLineString(0, 0, 0, 10),
       tags,
       OpenMapTilesProfile.OSM_SOURCE,
       null,
@@ -508,7 +531,7 @@ class BoundaryTest extends AbstractLayerTest {
     ));
 
     // other 2 edges of country 1
-    assertFeatures(14, List.of(), process(SimpleFeature.createFakeOsmFeature(
+    assertFeatures(14, List.of(), process(profile, SimpleFeature.createFakeOsmFeature(
       newLineString(0, 0, 5, 10),
       tags,
       OpenMapTilesProfile.OSM_SOURCE,
@@ -518,7 +541,7 @@ class BoundaryTest extends AbstractLayerTest {
         .toList()
     )
     ));
-    assertFeatures(14, List.of(), process(SimpleFeature.createFakeOsmFeature(
+    assertFeatures(14, List.of(), process(profile, SimpleFeature.createFakeOsmFeature(
       newLineString(0, 10, 5, 10),
       tags,
       OpenMapTilesProfile.OSM_SOURCE,
@@ -530,7 +553,7 @@ class BoundaryTest extends AbstractLayerTest {
     ));
 
     // other 2 edges of country 2
-    assertFeatures(14, List.of(), process(SimpleFeature.createFakeOsmFeature(
+    assertFeatures(14, List.of(), process(profile, SimpleFeature.createFakeOsmFeature(
       newLineString(0, 0, -5, 10),
       tags,
       OpenMapTilesProfile.OSM_SOURCE,
@@ -540,7 +563,7 @@ class BoundaryTest extends AbstractLayerTest {
         .toList()
     )
     ));
-    assertFeatures(14, List.of(), process(SimpleFeature.createFakeOsmFeature(
+    assertFeatures(14, List.of(), process(profile, SimpleFeature.createFakeOsmFeature(
       newLineString(0, 10, -5, 10),
       tags,
       OpenMapTilesProfile.OSM_SOURCE,
@@ -595,6 +618,60 @@ class BoundaryTest extends AbstractLayerTest {
     assertNull(sharedEdge.getAttrsAtZoom(4).get("adm0_l"));
   }
 
+  @Test
+  void testCountryLeftRightNameSpilledToDisk(@TempDir Path tempDir) {
+    var spillingProfile = new OpenMapTilesProfile(translations, PlanetilerConfig.from(Arguments.of(
+      "boundary_spill_to_disk", "true",
+      "tmpdir", tempDir.toString()
+    )), Stats.inMemory());
+    var inMemory = setupCountryLeftRightNameTest(Map.of());
+    var spilled = setupCountryLeftRightNameTest(spillingProfile, Map.of());
+    assertEquals(inMemory.size(), spilled.size());
+    for (int i = 0; i < inMemory.size(); i++) {
+      assertEquals(inMemory.get(i).getGeometry(), spilled.get(i).getGeometry());
+      assertEquals(inMemory.get(i).getAttrsAtZoom(5), spilled.get(i).getAttrsAtZoom(5));
+    }
+    assertTrue(spillingProfile.estimateRamRequired(1_000_000_000L) < profile.estimateRamRequired(1_000_000_000L));
+    spillingProfile.release();
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+    "topology, false",
+    "topology, true",
+    "compare, false",
+    "compare, true",
+  })
+  void testCountryLeftRightNameFromPolygonRings(String method, boolean reverseSharedEdge) {
+    Map<String, Supplier<Number>> topologyCounters = new HashMap<>();
+    var topologyProfile = new OpenMapTilesProfile(translations, PlanetilerConfig.from(Arguments.of(
+      "boundary_country_sides", method
+    )), recordCounters(topologyCounters));
+    var sampled = setupCountryLeftRightNameTest(profile, Map.of(), reverseSharedEdge);
+    var fromRings = setupCountryLeftRightNameTest(topologyProfile, Map.of(), reverseSharedEdge);
+    assertEquals(sampled.size(), fromRings.size());
+    for (int i = 0; i < sampled.size(); i++) {
+      assertEquals(sampled.get(i).getGeometry(), fromRings.get(i).getGeometry());
+      assertEquals(sampled.get(i).getAttrsAtZoom(5), fromRings.get(i).getAttrsAtZoom(5));
+    }
+    // every line including the shared edge is on the outline of the countries it borders, in either direction
+    assertEquals(3L, topologyCounters.get("omt_boundary_sides_from_rings").get().longValue());
+    assertEquals(0L, topologyCounters.get("omt_boundary_sides_sampled").get().longValue());
+    assertEquals(0L, topologyCounters.get("omt_boundary_sides_disagreements").get().longValue());
+    topologyProfile.release();
+  }
+
+  @Test
+  void testCountryBoundariesEmittedInWayIdOrder() {
+    List<FeatureCollector.Feature> features = setupCountryLeftRightNameTest(Map.of());
+    assertEquals(3, features.size());
+    // shared edge from way 3 first, then way 4 grouped by the regions it belongs to
+    assertTrue(features.get(0).getAttrsAtZoom(5).containsKey("adm0_l"));
+    assertTrue(features.get(0).getAttrsAtZoom(5).containsKey("adm0_r"));
+    assertTrue(features.get(1).getGeometry().getEnvelopeInternal().getMaxX() > 0.5);
+    assertTrue(features.get(2).getGeometry().getEnvelopeInternal().getMinX() < 0.5);
+  }
+
   @Test
   void testCountryLeftRightNameDisputed() {
     Map<String, Object> tags = Map.of("disputed", 1);
@@ -684,6 +761,42 @@ class BoundaryTest extends AbstractLayerTest {
     )), features);
   }
 
+  @Test
+  void testNestedCountryFromPolygonRings() throws GeometryException {
+    var topologyProfile = new OpenMapTilesProfile(translations, PlanetilerConfig.from(Arguments.of(
+      "boundary_country_sides", "topology"
+    )), Stats.inMemory());
+    var country1 = new OsmElement.Relation(1);
+    country1.setTag("type", "boundary");
+    country1.setTag("admin_level", "2");
+    country1.setTag("boundary", "administrative");
+    country1.setTag("ISO3166-1:alpha3", "C1");
+
+    for (var ring : List.of(rectangle(0, 10), rectangle(1, 9))) {
+      assertFeatures(14, List.of(), process(topologyProfile, SimpleFeature.createFakeOsmFeature(
+        GeoUtils.polygonToLineString(ring),
+        Map.of(),
+        OpenMapTilesProfile.OSM_SOURCE,
+        null,
+        3,
+        topologyProfile.preprocessOsmRelation(country1).stream().map(r -> new OsmReader.RelationMember<>("", r))
+          .toList()
+      )));
+    }
+
+    // the inner ring is not on the outline of the country polygon, so it falls back to sampling
+    List<FeatureCollector.Feature> features = new ArrayList<>();
+    topologyProfile.finish(OpenMapTilesProfile.OSM_SOURCE, new FeatureCollector.Factory(params, stats),
+      features::add);
+    assertFeatures(5, List.of(Map.of(
+      "adm0_l", "C1",
+      "adm0_r", "<null>"
+    ), Map.of(
+      "adm0_r", "C1",
+      "adm0_l", "<null>"
+    )), features);
+  }
+
   @Test
   void testDontLabelBadPolygon() {
     var country1 = new OsmElement.Relation(1);
@@ -230,6 +230,31 @@ class PoiTest extends AbstractLayerTest {
     ), result);
   }
 
+  private static SourceFeature aggStop(long id, String uicRef) {
+    return SimpleFeature.create(newPoint(id, 0), Map.of(
+      "highway", "bus_stop",
+      "name", "station",
+      "name:es", "test " + id,
+      "uic_ref", uicRef
+    ), OpenMapTilesProfile.OSM_SOURCE, null, id);
+  }
+
+  @Test
+  void testAggStopOutputIndependentOfProcessingOrder() {
+    var result = testAggStops(List.of(
+      aggStop(3, "2"),
+      aggStop(2, "1"),
+      aggStop(1, "2"),
+      aggStop(0, "1")
+    ));
+    assertFeatures(14, List.of(
+      Map.of("name:es", "test 0", "agg_stop", 1),
+      Map.of("name:es", "test 2", "agg_stop", "<null>"),
+      Map.of("name:es", "test 1", "agg_stop", 1),
+      Map.of("name:es", "test 3", "agg_stop", "<null>")
+    ), result);
+  }
+
   @ParameterizedTest
   @ValueSource(booleans = {false, true})
   void testPlaceOfWorshipFromReligionTag(boolean area) {
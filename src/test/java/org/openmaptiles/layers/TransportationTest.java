@@ -4,7 +4,9 @@ import static com.onthegomap.planetiler.TestUtils.newLineString;
 import static com.onthegomap.planetiler.TestUtils.newPoint;
 import static com.onthegomap.planetiler.TestUtils.rectangle;
 import static java.util.Map.entry;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import com.onthegomap.planetiler.FeatureCollector;
 import com.onthegomap.planetiler.config.Arguments;
@@ -25,6 +27,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.openmaptiles.OpenMapTilesProfile;
+import org.openmaptiles.generated.Tables;
 
 class TransportationTest extends AbstractLayerTest {
 
@@ -2296,4 +2299,25 @@ class TransportationTest extends AbstractLayerTest {
       )
     ), features);
   }
+
+  @Test
+  void testRouteRelationsComputedOncePerElement() {
+    var transportation = new Transportation(translations, params, stats);
+    var rel = new OsmElement.Relation(1);
+    rel.setTag("type", "route");
+    rel.setTag("route", "road");
+    rel.setTag("network", "US:I");
+    rel.setTag("ref", "90");
+    var member = new Tables.OsmHighwayLinestring(lineFeatureWithRelation(transportation.preprocessOsmRelation(rel),
+      Map.of("highway", "motorway")), "highway");
+    var other = new Tables.OsmHighwayLinestring(lineFeatureWithRelation(List.of(), Map.of("highway", "motorway")),
+      "highway");
+
+    var relations = transportation.getRouteRelations(member);
+    assertEquals(1, relations.size());
+    assertEquals("90", relations.getFirst().ref());
+    assertSame(relations, transportation.getRouteRelations(member));
+    assertEquals(List.of(), transportation.getRouteRelations(other));
+    assertEquals(relations, transportation.getRouteRelations(member));
+  }
 }
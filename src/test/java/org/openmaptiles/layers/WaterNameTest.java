@@ -1,14 +1,19 @@
 package org.openmaptiles.layers;
 
 import static com.onthegomap.planetiler.TestUtils.newLineString;
+import static com.onthegomap.planetiler.TestUtils.newPoint;
 import static com.onthegomap.planetiler.TestUtils.rectangle;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import com.onthegomap.planetiler.TestUtils;
 import com.onthegomap.planetiler.geo.GeoUtils;
 import com.onthegomap.planetiler.reader.SimpleFeature;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
 import org.junit.jupiter.api.Test;
 import org.locationtech.jts.geom.Geometry;
 import org.openmaptiles.OpenMapTilesProfile;
@@ -125,6 +130,36 @@ class WaterNameTest extends AbstractLayerTest {
     )));
   }
 
+  @Test
+  void testWaterNameLakelinesFromMultipleThreads() {
+    IntStream.range(0, 1_000).parallel().forEach(i -> process(SimpleFeature.create(
+      newLineString(i * 0.001, 0, i * 0.001, 1),
+      new HashMap<>(Map.<String, Object>of(
+        "OSM_ID", i % 2 == 0 ? -10 : -11
+      )),
+      OpenMapTilesProfile.LAKE_CENTERLINE_SOURCE,
+      null,
+      0
+    )));
+    for (long id : List.of(10L, 11L)) {
+      var lakelines = StreamSupport.stream(process(SimpleFeature.create(
+        GeoUtils.worldToLatLonCoords(rectangle(0, Math.sqrt(1E-7))),
+        new HashMap<>(Map.<String, Object>of(
+          "name", "waterway",
+          "natural", "water",
+          "water", "pond"
+        )),
+        OpenMapTilesProfile.OSM_SOURCE,
+        null,
+        id
+      )).spliterator(), false)
+        .filter(feature -> feature.getLayer().equals("water_name"))
+        .toList();
+      assertEquals(1, lakelines.size());
+      assertEquals(500, lakelines.getFirst().getGeometry().getNumGeometries());
+    }
+  }
+
   @Test
   void testWaterNameBaySmall() {
     assertFeatures(11, List.of(), process(SimpleFeature.create(
@@ -272,6 +307,52 @@ class WaterNameTest extends AbstractLayerTest {
     ))));
   }
 
+  @Test
+  void testMarinePointNameMatchIndependentOfLocale() {
+    Locale defaultLocale = Locale.getDefault();
+    try {
+      // lower-casing "I" gives a dotless "ı" in Turkish
+      Locale.setDefault(Locale.forLanguageTag("tr"));
+      process(SimpleFeature.create(
+        rectangle(-10, 10),
+        new HashMap<>(Map.<String, Object>of(
+          "scalerank", 2,
+          "name", "Irish   Sea"
+        )),
+        OpenMapTilesProfile.NATURAL_EARTH_SOURCE,
+        "ne_10m_geography_marine_polys",
+        0
+      ));
+
+      // inside the polygon, far from its edges
+      assertFeatures(10, List.of(Map.of(
+        "_layer", "water_name",
+        "_minzoom", 2
+      )), process(pointFeature(Map.of(
+        "rank", 9,
+        "name", "IRISH SEA",
+        "place", "sea"
+      ))));
+      // too far outside the polygon
+      assertFeatures(10, List.of(Map.of(
+        "_layer", "water_name",
+        "_minzoom", 9
+      )), process(SimpleFeature.create(
+        newPoint(20, 0),
+        new HashMap<>(Map.<String, Object>of(
+          "rank", 9,
+          "name", "Irish Sea",
+          "place", "sea"
+        )),
+        OpenMapTilesProfile.OSM_SOURCE,
+        null,
+        0
+      )));
+    } finally {
+      Locale.setDefault(defaultLocale);
+    }
+  }
+
   @Test
   void testSwimmingPoolWithName() {
     assertFeatures(14, List.of(Map.of(
@@ -1,15 +1,20 @@
 package org.openmaptiles.layers;
 
 import static com.onthegomap.planetiler.TestUtils.rectangle;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import com.onthegomap.planetiler.FeatureCollector;
 import com.onthegomap.planetiler.geo.GeoUtils;
 import com.onthegomap.planetiler.reader.SimpleFeature;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.locationtech.jts.geom.Geometry;
 import org.openmaptiles.OpenMapTilesProfile;
 
 class WaterTest extends AbstractLayerTest {
@@ -252,6 +257,73 @@ class WaterTest extends AbstractLayerTest {
     )), features);
   }
 
+  @ParameterizedTest
+  @ValueSource(booleans = {false, true})
+  void testLakeNaturalEarthPicksBiggestIntersectionInAnyOrder(boolean biggestFirst) {
+    process(SimpleFeature.create(
+      rectangle(0, 0.1),
+      Map.of(),
+      OpenMapTilesProfile.NATURAL_EARTH_SOURCE,
+      "ne_10m_lakes",
+      0
+    ));
+    // OSM lakes inside, partially overlapping and covering most of the NE lake
+    List<SimpleFeature> osmLakes = new ArrayList<>(List.of(
+      osmLake(rectangle(0.01, 0.02), 1),
+      osmLake(rectangle(0.05, 0.15), 2),
+      osmLake(rectangle(0.005, 0.095), 3)
+    ));
+    if (biggestFirst) {
+      Collections.reverse(osmLakes);
+    }
+    osmLakes.forEach(this::process);
+
+    List<FeatureCollector.Feature> features = new ArrayList<>();
+    profile.finish(OpenMapTilesProfile.OSM_SOURCE, new FeatureCollector.Factory(params, stats), features::add);
+    assertFeatures(4, List.of(Map.of(
+      "class", "lake",
+      "id", 3L,
+      "_layer", "water"
+    )), features);
+
+    // once the biggest lake matched, the envelopes of the others bound their intersections to less than it, and lakes
+    // inside the NE lake use their own area, so only the partially overlapping lake needs an exact intersection if the
+    // smaller lakes come first
+    assertEquals(biggestFirst ? 2L : 0L, counters.get("omt_water_ne_intersections_bounded").get().longValue());
+    assertEquals(biggestFirst ? 1L : 2L, counters.get("omt_water_ne_intersections_contained").get().longValue());
+    assertEquals(biggestFirst ? 0L : 1L, counters.get("omt_water_ne_intersections").get().longValue());
+  }
+
+  private static SimpleFeature osmLake(Geometry polygon, long id) {
+    return SimpleFeature.create(
+      polygon,
+      new HashMap<>(Map.<String, Object>of(
+        "natural", "water",
+        "water", "reservoir"
+      )),
+      OpenMapTilesProfile.OSM_SOURCE,
+      null,
+      id
+    );
+  }
+
+  @Test
+  void testLakeNaturalEarthEmittedInZoomOrder() {
+    for (String table : List.of("ne_10m_lakes", "ne_110m_lakes", "ne_50m_lakes")) {
+      process(SimpleFeature.create(
+        rectangle(0, 0.1),
+        Map.of("ne_id", 1),
+        OpenMapTilesProfile.NATURAL_EARTH_SOURCE,
+        table,
+        0
+      ));
+    }
+
+    List<FeatureCollector.Feature> features = new ArrayList<>();
+    profile.finish(OpenMapTilesProfile.OSM_SOURCE, new FeatureCollector.Factory(params, stats), features::add);
+    assertEquals(List.of(0, 2, 4), features.stream().map(FeatureCollector.Feature::getMinZoom).toList());
+  }
+
   @Test
   void testLakeNaturalEarthByNameIntersectionMiss() {
     final var polygon1 = rectangle(0, 0.1);
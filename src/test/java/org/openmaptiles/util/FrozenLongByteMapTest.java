@@ -0,0 +1,53 @@
+package org.openmaptiles.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class FrozenLongByteMapTest {
+
+  @Test
+  void testMaxAndGet() {
+    var map = new FrozenLongByteMap();
+    map.add(1);
+    map.add(5);
+    map.add(1);
+    assertEquals(2, map.size());
+    assertTrue(map.containsKey(5));
+    assertFalse(map.containsKey(2));
+
+    assertEquals(0, map.get(1, (byte) -1));
+    map.max(1, (byte) 3);
+    map.max(1, (byte) 2);
+    assertEquals(3, map.get(1, (byte) -1));
+    // keys that weren't added are ignored
+    map.max(2, (byte) 3);
+    assertEquals(-1, map.get(2, (byte) -1));
+  }
+
+  @Test
+  void testIgnoresAddAfterRead() {
+    var map = new FrozenLongByteMap();
+    assertTrue(map.add(1));
+    assertEquals(0, map.get(1, (byte) -1));
+    assertFalse(map.add(2));
+    assertEquals(1, map.ignoredAdds());
+    assertFalse(map.containsKey(2));
+    assertEquals(1, map.size());
+  }
+
+  @Test
+  void testConcurrentMax() {
+    var map = new FrozenLongByteMap();
+    for (long key = 0; key < 1_000; key += 10) {
+      map.add(key);
+    }
+    IntStream.range(0, 100_000).parallel().forEach(i -> map.max(i % 1_000, (byte) (i / 1_000 % 7)));
+    for (long key = 0; key < 1_000; key += 10) {
+      assertEquals(6, map.get(key, (byte) -1));
+    }
+  }
+}
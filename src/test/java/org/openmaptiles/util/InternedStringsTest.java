@@ -0,0 +1,50 @@
+package org.openmaptiles.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class InternedStringsTest {
+
+  @Test
+  void testCodesAreSortedAndDeduplicated() {
+    var strings = new InternedStrings("b", "a", "c", "a");
+    assertEquals(3, strings.size());
+    assertEquals(0, strings.code("a"));
+    assertEquals(1, strings.code("b"));
+    assertEquals(2, strings.code("c"));
+    assertEquals("b", strings.string(1));
+  }
+
+  @Test
+  void testUnknownValues() {
+    var strings = new InternedStrings(List.of("a"));
+    assertEquals(InternedStrings.NONE, strings.code("b"));
+    assertEquals(InternedStrings.NONE, strings.code(null));
+    assertNull(strings.intern(null));
+    String other = new String("b");
+    assertSame(other, strings.intern(other));
+    assertEquals(InternedStrings.NONE, new InternedStrings().code("a"));
+  }
+
+  @Test
+  void testInternReturnsCanonicalInstance() {
+    var strings = new InternedStrings("primary", "secondary");
+    String copy = new String("primary");
+    assertSame("primary", strings.intern(copy));
+    assertEquals(0, strings.code(copy));
+  }
+
+  @Test
+  void testCollidingHashes() {
+    // "Aa" and "BB" have the same hashCode
+    var strings = new InternedStrings("Aa", "BB", "C");
+    assertEquals(0, strings.code(new String("Aa")));
+    assertEquals(1, strings.code(new String("BB")));
+    assertEquals(2, strings.code(new String("C")));
+    assertEquals(InternedStrings.NONE, strings.code("AaBB"));
+  }
+}
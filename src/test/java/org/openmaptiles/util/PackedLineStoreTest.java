@@ -0,0 +1,94 @@
+package org.openmaptiles.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class PackedLineStoreTest {
+
+  @TempDir
+  Path tempDir;
+
+  private static void testRoundTrip(PackedLineStore store) {
+    List<double[]> lines = List.of(
+      new double[]{0, 0, 1, 1},
+      new double[]{},
+      new double[]{0.5, 0.25, 0.75, 0.125, 1, 0}
+    );
+    List<Long> handles = new ArrayList<>();
+    for (double[] line : lines) {
+      handles.add(store.add(line));
+    }
+    for (int i = 0; i < lines.size(); i++) {
+      assertArrayEquals(lines.get(i), store.get(handles.get(i)));
+    }
+  }
+
+  private static void testConcurrentAdds(PackedLineStore store) {
+    var handles = IntStream.range(0, 10_000).parallel()
+      .mapToObj(i -> new long[]{i, store.add(new double[]{i, -i})})
+      .toList();
+    for (long[] handle : handles) {
+      assertArrayEquals(new double[]{handle[0], -handle[0]}, store.get(handle[1]));
+    }
+  }
+
+  @Test
+  void testOnHeap() {
+    try (var store = PackedLineStore.onHeap()) {
+      testRoundTrip(store);
+      testConcurrentAdds(store);
+      assertTrue(store.estimateMemoryUsageBytes() > 10_000 * 2 * Double.BYTES);
+      assertEquals(0, store.diskUsageBytes());
+    }
+  }
+
+  @Test
+  void testOnHeapRemoveAndClose() {
+    var store = PackedLineStore.onHeap();
+    long first = store.add(new double[]{0, 0, 1, 1});
+    long second = store.add(new double[]{0, 0, 1, 1});
+    long both = store.estimateMemoryUsageBytes();
+    store.remove(first);
+    assertTrue(store.estimateMemoryUsageBytes() < both);
+    assertArrayEquals(new double[]{0, 0, 1, 1}, store.get(second));
+    store.close();
+    assertEquals(0, store.estimateMemoryUsageBytes());
+  }
+
+  @Test
+  void testOnDisk() throws IOException {
+    try (var store = PackedLineStore.onDisk(tempDir)) {
+      testRoundTrip(store);
+      testConcurrentAdds(store);
+      assertEquals(0, store.estimateMemoryUsageBytes());
+      assertTrue(store.diskUsageBytes() > 10_000 * 2 * Double.BYTES);
+    }
+    try (var files = Files.list(tempDir)) {
+      assertEquals(0, files.count());
+    }
+  }
+
+  @Test
+  void testOnDiskCannotBeUsedAfterClose() throws IOException {
+    var store = PackedLineStore.onDisk(tempDir);
+    long handle = store.add(new double[]{0, 0, 1, 1});
+    store.close();
+    assertThrows(IllegalStateException.class, () -> store.get(handle));
+    assertThrows(IllegalStateException.class, () -> store.add(new double[]{0, 0}));
+    store.close();
+    try (var files = Files.list(tempDir)) {
+      assertEquals(0, files.count());
+    }
+  }
+}
@@ -0,0 +1,72 @@
+package org.openmaptiles.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class StringDictionaryTest {
+
+  @Test
+  void testInternReturnsCanonicalInstance() {
+    var dictionary = new StringDictionary();
+    String first = new String("US:I");
+    String second = new String("US:I");
+    assertSame(first, dictionary.intern(first));
+    assertSame(first, dictionary.intern(second));
+    assertNull(dictionary.intern((String) null));
+    assertEquals(1, dictionary.size());
+  }
+
+  @Test
+  void testEstimateOnlyGrowsForNewStrings() {
+    var dictionary = new StringDictionary();
+    long empty = dictionary.estimateMemoryUsageBytes();
+    dictionary.intern("a");
+    long one = dictionary.estimateMemoryUsageBytes();
+    assertTrue(one > empty);
+    dictionary.intern(new String("a"));
+    assertEquals(one, dictionary.estimateMemoryUsageBytes());
+    dictionary.intern("b");
+    assertTrue(dictionary.estimateMemoryUsageBytes() > one);
+  }
+
+  @Test
+  void testInternMapKeys() {
+    var dictionary = new StringDictionary();
+    Map<String, Object> input = new HashMap<>();
+    input.put(new String("name"), new String("Rhine"));
+    input.put("name:en", null);
+    input.put("level", 2);
+    var result = dictionary.internKeys(input);
+    assertEquals(Map.of("name", "Rhine", "level", 2), result);
+    assertThrows(UnsupportedOperationException.class, () -> result.put("a", "b"));
+
+    var other = dictionary.internKeys(Map.of(new String("name"), new String("Rhine")));
+    assertSame(keyEqualTo("name", result), keyEqualTo("name", other));
+    // names rarely repeat, so values are not interned
+    assertNotSame(result.get("name"), other.get("name"));
+    assertEquals(2, dictionary.size());
+  }
+
+  private static String keyEqualTo(String key, Map<String, Object> map) {
+    return map.keySet().stream().filter(key::equals).findFirst().orElseThrow();
+  }
+
+  @Test
+  void testClear() {
+    var dictionary = new StringDictionary();
+    long empty = dictionary.estimateMemoryUsageBytes();
+    String first = dictionary.intern(new String("a"));
+    dictionary.clear();
+    assertEquals(0, dictionary.size());
+    assertEquals(empty, dictionary.estimateMemoryUsageBytes());
+    assertNotSame(first, dictionary.intern(new String("a")));
+  }
+}